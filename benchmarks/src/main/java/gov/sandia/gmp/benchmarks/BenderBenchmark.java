@@ -0,0 +1,104 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import gov.sandia.gmp.baseobjects.Receiver;
+import gov.sandia.gmp.baseobjects.Source;
+import gov.sandia.gmp.baseobjects.globals.SeismicPhase;
+import gov.sandia.gmp.baseobjects.interfaces.impl.PredictionRequest;
+import gov.sandia.gmp.bender.Bender;
+import gov.sandia.gmp.bender.ray.RayInfo;
+import gov.sandia.gmp.util.propertiesplus.PropertiesPlus;
+
+/**
+ * Bender.computeFastRays() through the synthetic layered model. The model is written to a
+ * temporary file because Bender loads its model through property benderModel. A fixed set of
+ * source-receiver pairs spanning regional to teleseismic distances is cycled through.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BenderBenchmark {
+
+  private static final int NREQUESTS = 16;
+
+  @Param({"P", "S"})
+  public SeismicPhase phase;
+
+  @Param({"4"})
+  public double edgeLength;
+
+  private Bender bender;
+
+  private PredictionRequest[] requests;
+
+  private int next;
+
+  @Setup
+  public void setup() throws Exception {
+    PropertiesPlus properties = new PropertiesPlus();
+    properties.setProperty(Bender.PROP_MODEL, SyntheticModels
+        .writeTemporaryModel(SyntheticModels.layeredModel(edgeLength)).getCanonicalPath());
+    bender = new Bender(properties);
+
+    // receivers 5 to 80 degrees east of sources at a range of depths
+    double[][] sources = SyntheticModels.randomPositions(NREQUESTS, 200., SyntheticModels.SEED);
+    requests = new PredictionRequest[NREQUESTS];
+    for (int i = 0; i < NREQUESTS; ++i) {
+      double lat = sources[i][0] / 2.;
+      double lon = sources[i][1];
+      requests[i] = new PredictionRequest(new Receiver(lat, lon + 5. + 5. * i, 0., true),
+          new Source(lat, lon, sources[i][2], 0., true), phase);
+    }
+  }
+
+  @Benchmark
+  public RayInfo[] computeFastRays() throws Exception {
+    return bender.computeFastRays(requests[next++ % NREQUESTS]);
+  }
+}
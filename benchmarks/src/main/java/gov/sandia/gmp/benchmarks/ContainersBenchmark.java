@@ -0,0 +1,194 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import gov.sandia.gmp.util.containers.arraylist.ArrayListDouble;
+import gov.sandia.gmp.util.containers.hash.maps.HashMapIntegerDouble;
+import gov.sandia.gmp.util.containers.hash.maps.OpenHashMapIntegerDouble;
+
+/**
+ * Primitive containers against their boxed java.util equivalents. The accumulate benchmarks mimic
+ * the way ray weights are summed: n random model point indices, with repeats, each incremented by
+ * a weight. The list benchmarks append n values and then sum them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainersBenchmark {
+
+  @Param({"100", "10000"})
+  public int n;
+
+  private int[] keys;
+
+  private double[] values;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(SyntheticModels.SEED);
+    keys = new int[n];
+    values = new double[n];
+    for (int i = 0; i < n; ++i) {
+      keys[i] = random.nextInt(n / 2 + 1);
+      values[i] = random.nextDouble();
+    }
+  }
+
+  @Benchmark
+  public double accumulateHashMapIntegerDouble() {
+    HashMapIntegerDouble map = new HashMapIntegerDouble();
+    for (int i = 0; i < n; ++i) {
+      HashMapIntegerDouble.Entry e = map.getEntry(keys[i]);
+      if (e == null)
+        map.put(keys[i], values[i]);
+      else
+        e.setValue(e.getValue() + values[i]);
+    }
+    double sum = 0;
+    HashMapIntegerDouble.Iterator it = map.iterator();
+    while (it.hasNext())
+      sum += it.next();
+    return sum;
+  }
+
+  @Benchmark
+  public double accumulateOpenHashMapIntegerDouble() {
+    OpenHashMapIntegerDouble map = new OpenHashMapIntegerDouble();
+    for (int i = 0; i < n; ++i)
+      map.addTo(keys[i], values[i]);
+    double sum = 0;
+    for (double v : map.getValues())
+      sum += v;
+    return sum;
+  }
+
+  @Benchmark
+  public double accumulateHashMap() {
+    HashMap<Integer, Double> map = new HashMap<>();
+    for (int i = 0; i < n; ++i)
+      map.merge(keys[i], values[i], Double::sum);
+    double sum = 0;
+    for (double v : map.values())
+      sum += v;
+    return sum;
+  }
+
+  @Benchmark
+  public double lookupHashMapIntegerDouble(MapState state) {
+    double sum = 0;
+    for (int i = 0; i < n; ++i)
+      sum += state.hashMapIntegerDouble.get(keys[i]);
+    return sum;
+  }
+
+  @Benchmark
+  public double lookupOpenHashMapIntegerDouble(MapState state) {
+    double sum = 0;
+    for (int i = 0; i < n; ++i)
+      sum += state.openHashMapIntegerDouble.get(keys[i]);
+    return sum;
+  }
+
+  @Benchmark
+  public double lookupHashMap(MapState state) {
+    double sum = 0;
+    for (int i = 0; i < n; ++i)
+      sum += state.hashMap.get(keys[i]);
+    return sum;
+  }
+
+  @Benchmark
+  public double appendAndSumArrayListDouble() {
+    ArrayListDouble list = new ArrayListDouble();
+    for (int i = 0; i < n; ++i)
+      list.add(values[i]);
+    double sum = 0;
+    for (int i = 0; i < list.size(); ++i)
+      sum += list.get(i);
+    return sum;
+  }
+
+  @Benchmark
+  public double appendAndSumArrayList() {
+    ArrayList<Double> list = new ArrayList<>();
+    for (int i = 0; i < n; ++i)
+      list.add(values[i]);
+    double sum = 0;
+    for (int i = 0; i < list.size(); ++i)
+      sum += list.get(i);
+    return sum;
+  }
+
+  /**
+   * Maps populated once with every key in the benchmark, for the lookup benchmarks.
+   */
+  @State(Scope.Thread)
+  public static class MapState {
+
+    HashMapIntegerDouble hashMapIntegerDouble;
+
+    OpenHashMapIntegerDouble openHashMapIntegerDouble;
+
+    HashMap<Integer, Double> hashMap;
+
+    @Setup
+    public void setup(ContainersBenchmark benchmark) {
+      hashMapIntegerDouble = new HashMapIntegerDouble();
+      openHashMapIntegerDouble = new OpenHashMapIntegerDouble();
+      hashMap = new HashMap<>();
+      for (int i = 0; i < benchmark.n; ++i) {
+        hashMapIntegerDouble.put(benchmark.keys[i], benchmark.values[i]);
+        openHashMapIntegerDouble.put(benchmark.keys[i], benchmark.values[i]);
+        hashMap.put(benchmark.keys[i], benchmark.values[i]);
+      }
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import gov.sandia.geotess.GeoTessModel;
+import gov.sandia.geotess.GeoTessPosition;
+import gov.sandia.gmp.util.globals.InterpolatorType;
+
+/**
+ * GeoTessPosition.set() followed by getValue() with linear and natural neighbor horizontal
+ * interpolation. randomPositions jumps to an unrelated point on every call, which defeats the
+ * triangle walk starting from the previous triangle; trackPositions moves a short distance on every
+ * call, which is the access pattern of ray tracing and path integrals.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeoTessPositionBenchmark {
+
+  private static final int NPOINTS = 1 << 12;
+
+  @Param({"LINEAR", "NATURAL_NEIGHBOR"})
+  public InterpolatorType horizontalType;
+
+  @Param({"2", "0.5"})
+  public double edgeLength;
+
+  private GeoTessPosition position;
+
+  private double[][] random;
+
+  private double[][] track;
+
+  private int next;
+
+  @Setup
+  public void setup() throws Exception {
+    GeoTessModel model = SyntheticModels.layeredModel(edgeLength);
+    position = GeoTessPosition.getGeoTessPosition(model, horizontalType);
+
+    random = SyntheticModels.randomPositions(NPOINTS, 700., SyntheticModels.SEED);
+
+    // points about 0.05 degrees apart, rising from 700 km depth to the surface
+    track = new double[NPOINTS][];
+    for (int i = 0; i < NPOINTS; ++i)
+      track[i] = new double[] {30. + 20. * Math.sin(i * 1e-3), -120. + 0.05 * i,
+          700. * (1. - (double) i / NPOINTS)};
+  }
+
+  @Benchmark
+  public double randomPositions() throws Exception {
+    double[] p = random[next++ & (NPOINTS - 1)];
+    return position.set(p[0], p[1], p[2]).getValue(0);
+  }
+
+  @Benchmark
+  public double trackPositions() throws Exception {
+    double[] p = track[next++ & (NPOINTS - 1)];
+    return position.set(p[0], p[1], p[2]).getValue(0);
+  }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import gov.sandia.geotess.GeoTessModel;
+import gov.sandia.gmp.util.containers.arraylist.ArrayListDouble;
+import gov.sandia.gmp.util.containers.arraylist.ArrayListInt;
+import gov.sandia.gmp.util.containers.hash.maps.HashMapIntegerDouble;
+import gov.sandia.gmp.util.containers.hash.maps.OpenHashMapIntegerDouble;
+import gov.sandia.gmp.util.globals.InterpolatorType;
+import gov.sandia.gmp.util.numerical.polygon.GreatCircle;
+
+/**
+ * GeoTessModel.getWeights() and getPathIntegral() along a synthetic 60 degree ray path that dips
+ * to 1000 km depth at its midpoint, sampled every 0.1 degrees.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeoTessWeightsBenchmark {
+
+  @Param({"LINEAR", "NATURAL_NEIGHBOR"})
+  public InterpolatorType horizontalType;
+
+  @Param({"2", "0.5"})
+  public double edgeLength;
+
+  private GeoTessModel model;
+
+  private ArrayList<double[]> rayPath;
+
+  private ArrayListDouble radii;
+
+  private HashMapIntegerDouble weights;
+
+  private OpenHashMapIntegerDouble openWeights;
+
+  @Setup
+  public void setup() throws Exception {
+    model = SyntheticModels.layeredModel(edgeLength);
+
+    GreatCircle greatCircle = new GreatCircle(10., -30., 40., 25., true);
+    int npoints = (int) Math.ceil(Math.toDegrees(greatCircle.getDistance()) / 0.1) + 1;
+    rayPath = greatCircle.getPoints(npoints, false);
+    radii = new ArrayListDouble(npoints);
+    for (int i = 0; i < npoints; ++i)
+      radii.add(model.getEarthShape().getEarthRadius(rayPath.get(i))
+          - 1000. * Math.sin(Math.PI * i / (npoints - 1)));
+
+    weights = new HashMapIntegerDouble(2 * npoints);
+    openWeights = new OpenHashMapIntegerDouble(2 * npoints);
+
+    // weights reused by the path integral benchmark
+    getWeights();
+  }
+
+  @Benchmark
+  public HashMapIntegerDouble getWeights() throws Exception {
+    weights.clear();
+    model.getWeights(rayPath, radii, (ArrayListInt) null, horizontalType,
+        InterpolatorType.LINEAR, weights);
+    return weights;
+  }
+
+  @Benchmark
+  public OpenHashMapIntegerDouble getWeightsOpenHashMap() throws Exception {
+    openWeights.clear();
+    model.getWeights(rayPath, radii, (ArrayListInt) null, horizontalType,
+        InterpolatorType.LINEAR, openWeights);
+    return openWeights;
+  }
+
+  @Benchmark
+  public double getPathIntegral() {
+    return model.getPathIntegral(0, weights);
+  }
+}
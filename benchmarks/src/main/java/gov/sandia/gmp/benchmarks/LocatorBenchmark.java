@@ -0,0 +1,132 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import gov.sandia.gmp.baseobjects.PropertiesPlusGMP;
+import gov.sandia.gmp.baseobjects.Receiver;
+import gov.sandia.gmp.baseobjects.Source;
+import gov.sandia.gmp.baseobjects.geovector.GeoVector;
+import gov.sandia.gmp.baseobjects.globals.GeoAttributes;
+import gov.sandia.gmp.baseobjects.globals.SeismicPhase;
+import gov.sandia.gmp.baseobjects.interfaces.impl.PredictionRequest;
+import gov.sandia.gmp.baseobjects.observation.Observation;
+import gov.sandia.gmp.locoo3d.Event;
+import gov.sandia.gmp.locoo3d.EventParameters;
+import gov.sandia.gmp.locoo3d.SolverLSQ;
+import gov.sandia.gmp.lookupdz.LookupTablesGMP;
+import gov.sandia.gmp.util.globals.Globals;
+import gov.sandia.gmp.util.logmanager.ScreenWriterOutput;
+import gov.sandia.gmp.util.propertiesplus.PropertiesPlus;
+
+/**
+ * SolverLSQ.locateEvent() for a synthetic event recorded by nsta stations at regional to
+ * teleseismic distances, using ak135 lookup table predictions. Observed arrival times are the
+ * ak135 travel times from the true location plus seeded gaussian noise, and every location starts
+ * from the same initial location 1 degree and 5 seconds away from the truth. locateEvent() mutates
+ * the Event, so a fresh Event is built before each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorBenchmark {
+
+  private static final double LAT = 35., LON = 70., DEPTH = 15.;
+
+  @Param({"10", "50"})
+  public int nsta;
+
+  private EventParameters eventParameters;
+
+  private Receiver[] receivers;
+
+  private double[] arrivalTimes;
+
+  private Event event;
+
+  @Setup(Level.Trial)
+  public void setupTrial() throws Exception {
+    PropertiesPlusGMP properties = new PropertiesPlusGMP();
+    properties.setProperty(EventParameters.predictorPropertyName, "lookup2d");
+    ScreenWriterOutput log = new ScreenWriterOutput();
+    eventParameters = new EventParameters(properties, null, log, log);
+
+    LookupTablesGMP predictor = new LookupTablesGMP(new PropertiesPlus());
+    Source truth = new Source(LAT, LON, DEPTH, 0., true);
+    Random random = new Random(SyntheticModels.SEED);
+    receivers = new Receiver[nsta];
+    arrivalTimes = new double[nsta];
+    for (int i = 0; i < nsta; ++i) {
+      // azimuths evenly distributed around the event, distances from 10 to 85 degrees
+      GeoVector position = truth.move(2 * Math.PI * i / nsta,
+          Math.toRadians(10. + 75. * random.nextDouble()));
+      position.setDepth(0.);
+      receivers[i] = new Receiver(String.format("STA%02d", i), position);
+      arrivalTimes[i] = predictor
+          .getPrediction(new PredictionRequest(receivers[i], truth, SeismicPhase.P))
+          .getAttribute(GeoAttributes.TRAVEL_TIME) + 0.5 * random.nextGaussian();
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void setupInvocation() throws Exception {
+    Source source = new Source(LAT + 1., LON - 1., 0., 5., true);
+    for (int i = 0; i < nsta; ++i)
+      source.addObservation(new Observation(i, receivers[i], source, SeismicPhase.P,
+          arrivalTimes[i], 1., true, Globals.NA_VALUE, Globals.NA_VALUE, false, Globals.NA_VALUE,
+          Globals.NA_VALUE, false, true));
+    event = new Event(eventParameters, source);
+  }
+
+  @Benchmark
+  public Event locateEvent() throws Exception {
+    new SolverLSQ().locateEvent(event);
+    return event;
+  }
+}
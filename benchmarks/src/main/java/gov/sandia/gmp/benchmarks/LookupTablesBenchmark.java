@@ -0,0 +1,102 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import gov.sandia.gmp.baseobjects.Receiver;
+import gov.sandia.gmp.baseobjects.Source;
+import gov.sandia.gmp.baseobjects.globals.SeismicPhase;
+import gov.sandia.gmp.baseobjects.interfaces.impl.Prediction;
+import gov.sandia.gmp.baseobjects.interfaces.impl.PredictionRequest;
+import gov.sandia.gmp.lookupdz.LookupTablesGMP;
+import gov.sandia.gmp.util.propertiesplus.PropertiesPlus;
+
+/**
+ * LookupTablesGMP.getPrediction() using the ak135 tables bundled with the software. Requests are
+ * generated once from random sources and receivers and cycled through, so table lookups land in
+ * many different cells.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LookupTablesBenchmark {
+
+  private static final int NREQUESTS = 1 << 10;
+
+  @Param({"P", "S"})
+  public SeismicPhase phase;
+
+  @Param({"true", "false"})
+  public boolean ellipticityCorrections;
+
+  private LookupTablesGMP predictor;
+
+  private PredictionRequest[] requests;
+
+  private int next;
+
+  @Setup
+  public void setup() throws Exception {
+    PropertiesPlus properties = new PropertiesPlus();
+    properties.setProperty(LookupTablesGMP.PROP_USE_ELLIPTICITY_CORR, ellipticityCorrections);
+    predictor = new LookupTablesGMP(properties);
+
+    double[][] sources = SyntheticModels.randomPositions(NREQUESTS, 600., SyntheticModels.SEED);
+    double[][] receivers =
+        SyntheticModels.randomPositions(NREQUESTS, 0., SyntheticModels.SEED + 1);
+    requests = new PredictionRequest[NREQUESTS];
+    for (int i = 0; i < NREQUESTS; ++i)
+      requests[i] = new PredictionRequest(
+          new Receiver(receivers[i][0], receivers[i][1], 0., true),
+          new Source(sources[i][0], sources[i][1], sources[i][2], 0., true), phase);
+  }
+
+  @Benchmark
+  public Prediction getPrediction() throws Exception {
+    return predictor.getPrediction(requests[next++ & (NREQUESTS - 1)]);
+  }
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import gov.sandia.geotess.GeoTessGrid;
+import gov.sandia.geotess.GeoTessMetaData;
+import gov.sandia.geotess.GeoTessModel;
+import gov.sandia.geotessbuilder.GeoTessBuilderMain;
+import gov.sandia.gmp.util.globals.DataType;
+import gov.sandia.gmp.util.globals.GMTFormat;
+
+/**
+ * Reproducible synthetic fixtures shared by the benchmarks. Models are built in memory from a
+ * GeoTessGrid generated by GeoTessBuilder and populated with a simple layered, ak135-like slowness
+ * structure plus a smooth lateral perturbation whose phase is drawn from a fixed seed, so every
+ * fork of every run sees exactly the same model.
+ */
+public final class SyntheticModels {
+
+  /**
+   * Seed used for all pseudo-random fixtures.
+   */
+  public static final long SEED = 20260816L;
+
+  /**
+   * Layer names are the EarthInterface names of the top of each layer so that Bender can use the
+   * model without a benderModelLayerToEarthInterfaceMap.
+   */
+  static final String[] LAYER_NAMES =
+      {"ICB", "CMB", "M660", "M410", "MOHO", "LOWER_CRUST_TOP", "UPPER_CRUST_TOP"};
+
+  /**
+   * Depth in km below the surface of the top of each layer.
+   */
+  private static final double[] LAYER_TOP_DEPTH = {5153.5, 2891.5, 660., 410., 35., 20., 0.};
+
+  /**
+   * P and S velocities (km/sec) at the bottom and top of each layer. S velocity in the outer core
+   * is zero, which is stored as NaN slowness.
+   */
+  private static final double[][] VP =
+      {{11.26, 11.02}, {10.29, 8.00}, {13.66, 10.79}, {10.20, 9.03}, {8.90, 8.04}, {6.50, 6.50},
+          {5.80, 5.80}};
+
+  private static final double[][] VS =
+      {{3.67, 3.50}, {0., 0.}, {7.28, 5.96}, {5.60, 4.87}, {4.76, 4.48}, {3.85, 3.85},
+          {3.46, 3.46}};
+
+  /**
+   * Number of radial nodes in each layer.
+   */
+  private static final int[] NODES = {3, 6, 12, 5, 8, 2, 2};
+
+  private SyntheticModels() {}
+
+  /**
+   * Build a GeoTessGrid with a single tessellation of approximately uniform triangles.
+   * 
+   * @param edgeLength triangle edge length in degrees. Should be a power of 2.
+   * @return GeoTessGrid
+   * @throws Exception
+   */
+  public static GeoTessGrid grid(double edgeLength) throws Exception {
+    return GeoTessBuilderMain.getGrid(edgeLength);
+  }
+
+  /**
+   * Build a 7 layer model with attributes PSLOWNESS and SSLOWNESS on a grid with the specified
+   * triangle edge length. All layers share the same tessellation.
+   * 
+   * @param edgeLength triangle edge length in degrees.
+   * @return a fully populated GeoTessModel
+   * @throws Exception
+   */
+  public static GeoTessModel layeredModel(double edgeLength) throws Exception {
+    GeoTessMetaData metaData = new GeoTessMetaData();
+    metaData.setDescription(
+        String.format("Synthetic layered model for benchmarks, seed = %d%n", SEED));
+    metaData.setLayerNames(LAYER_NAMES);
+    metaData.setLayerTessIds(new int[LAYER_NAMES.length]);
+    metaData.setAttributes("PSLOWNESS; SSLOWNESS", "sec/km; sec/km");
+    metaData.setDataType(DataType.FLOAT);
+    metaData.setModelSoftwareVersion(SyntheticModels.class.getCanonicalName());
+    metaData.setModelGenerationDate(GMTFormat.getNow());
+
+    GeoTessModel model = new GeoTessModel(grid(edgeLength), metaData);
+
+    Random random = new Random(SEED);
+    double phaseLat = random.nextDouble() * 2 * Math.PI;
+    double phaseLon = random.nextDouble() * 2 * Math.PI;
+
+    for (int vertex = 0; vertex < model.getNVertices(); ++vertex) {
+      double[] u = model.getVertex(vertex);
+      double earthRadius = model.getEarthShape().getEarthRadius(u);
+
+      // +/- 2% lateral perturbation that varies smoothly over the surface.
+      double lat = model.getEarthShape().getLat(u);
+      double lon = model.getEarthShape().getLon(u);
+      double scale = 1. + 0.02 * Math.sin(3 * lat + phaseLat) * Math.cos(2 * lon + phaseLon);
+
+      for (int layer = 0; layer < LAYER_NAMES.length; ++layer) {
+        double r0 = layer == 0 ? 0. : earthRadius - LAYER_TOP_DEPTH[layer - 1];
+        double r1 = earthRadius - LAYER_TOP_DEPTH[layer];
+        int n = NODES[layer];
+        float[] radii = new float[n];
+        float[][] values = new float[n][2];
+        for (int i = 0; i < n; ++i) {
+          double f = i / (n - 1.);
+          radii[i] = (float) (r0 + f * (r1 - r0));
+          double vp = VP[layer][0] + f * (VP[layer][1] - VP[layer][0]);
+          double vs = VS[layer][0] + f * (VS[layer][1] - VS[layer][0]);
+          values[i][0] = (float) (1. / (vp * scale));
+          values[i][1] = vs > 0. ? (float) (1. / (vs * scale)) : Float.NaN;
+        }
+        model.setProfile(vertex, layer, radii, values);
+      }
+    }
+    model.setActiveRegion();
+    return model;
+  }
+
+  /**
+   * Write a model to a temporary file that is deleted when the JVM exits. Used for components,
+   * such as Bender, that can only load their model from a file.
+   * 
+   * @param model the model to write
+   * @return the temporary file
+   * @throws IOException
+   */
+  public static File writeTemporaryModel(GeoTessModel model) throws IOException {
+    File f = File.createTempFile("synthetic_model_", ".geotess");
+    f.deleteOnExit();
+    model.writeModel(f);
+    return f;
+  }
+
+  /**
+   * Generate reproducible random positions uniformly distributed on the sphere.
+   * 
+   * @param n number of positions
+   * @param maxDepth positions are uniformly distributed in depth from 0 to maxDepth km.
+   * @param seed random seed
+   * @return n x 3 array of lat (degrees), lon (degrees), depth (km)
+   */
+  public static double[][] randomPositions(int n, double maxDepth, long seed) {
+    Random random = new Random(seed);
+    double[][] positions = new double[n][];
+    for (int i = 0; i < n; ++i)
+      positions[i] = new double[] {Math.toDegrees(Math.asin(2 * random.nextDouble() - 1)),
+          360 * random.nextDouble() - 180, maxDepth * random.nextDouble()};
+    return positions;
+  }
+}
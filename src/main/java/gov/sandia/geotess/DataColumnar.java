@@ -0,0 +1,275 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.geotess;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import gov.sandia.gmp.util.globals.DataType;
+
+/**
+ * A lightweight Data object that holds no values of its own. Instead, it is a view of the values
+ * of a single node stored in a DataColumns object. Reads and writes go straight to the columns.
+ * 
+ * <p>
+ * Instances are created by Profiles whose values are stored in columns (see
+ * GeoTessModel.useColumnarStorage(boolean)) and should not normally be instantiated by
+ * applications. NPOINT Profiles create a new view each time getData() is called, so views should
+ * not be compared by identity.
+ */
+public class DataColumnar extends Data {
+
+  private final DataColumns columns;
+
+  private final int index;
+
+  /**
+   * Constructor.
+   * 
+   * @param columns the columns that store the values.
+   * @param index the storage index of the node in the columns.
+   */
+  DataColumnar(DataColumns columns, int index) {
+    this.columns = columns;
+    this.index = index;
+  }
+
+  /**
+   * Retrieve the storage index of the node in the columns.
+   * 
+   * @return the storage index of the node in the columns.
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Retrieve a reference to the columns that store the values.
+   * 
+   * @return a reference to the columns that store the values.
+   */
+  public DataColumns getColumns() {
+    return columns;
+  }
+
+  @Override
+  public DataType getDataType() {
+    return columns.getDataType();
+  }
+
+  /**
+   * Returns true if other is a Data object of the same DataType, with the same number of
+   * attributes, and all values are == (or both values are NaN).
+   */
+  @Override
+  public boolean equals(Object other) {
+    if (other == null || !(other instanceof Data))
+      return false;
+
+    Data o = (Data) other;
+    if (o.getDataType() != getDataType() || o.size() != size())
+      return false;
+
+    for (int i = 0; i < size(); ++i)
+      if (getDouble(i) != o.getDouble(i) && !(isNaN(i) && o.isNaN(i)))
+        return false;
+    return true;
+  }
+
+  /**
+   * Consistent with equals(): values that are NaN all hash the same, and 0. and -0. hash the same.
+   */
+  @Override
+  public int hashCode() {
+    int h = getDataType().hashCode() * 31 + size();
+    for (int i = 0; i < size(); ++i)
+      h = h * 31 + (isNaN(i) ? 0 : Double.hashCode(getDouble(i) + 0.));
+    return h;
+  }
+
+  @Override
+  public double getDouble(int attributeIndex) {
+    return columns.getDouble(attributeIndex, index);
+  }
+
+  @Override
+  public float getFloat(int attributeIndex) {
+    return columns.getFloat(attributeIndex, index);
+  }
+
+  @Override
+  public long getLong(int attributeIndex) {
+    return columns.getLong(attributeIndex, index);
+  }
+
+  @Override
+  public int getInt(int attributeIndex) {
+    return columns.getInt(attributeIndex, index);
+  }
+
+  @Override
+  public short getShort(int attributeIndex) {
+    return columns.getShort(attributeIndex, index);
+  }
+
+  @Override
+  public byte getByte(int attributeIndex) {
+    return columns.getByte(attributeIndex, index);
+  }
+
+  @Override
+  public Data setValue(int attributeIndex, double value) {
+    columns.setValue(attributeIndex, index, value);
+    return this;
+  }
+
+  @Override
+  public Data setValue(int attributeIndex, float value) {
+    columns.setValue(attributeIndex, index, value);
+    return this;
+  }
+
+  @Override
+  public Data setValue(int attributeIndex, long value) {
+    columns.setValue(attributeIndex, index, value);
+    return this;
+  }
+
+  @Override
+  public Data setValue(int attributeIndex, int value) {
+    columns.setValue(attributeIndex, index, (long) value);
+    return this;
+  }
+
+  @Override
+  public Data setValue(int attributeIndex, short value) {
+    columns.setValue(attributeIndex, index, (long) value);
+    return this;
+  }
+
+  @Override
+  public Data setValue(int attributeIndex, byte value) {
+    columns.setValue(attributeIndex, index, (long) value);
+    return this;
+  }
+
+  @Override
+  public Data fill(Number fillValue) {
+    columns.fill(index, fillValue);
+    return this;
+  }
+
+  @Override
+  public void write(DataOutputStream output) throws IOException {
+    for (int i = 0; i < size(); ++i)
+      switch (getDataType()) {
+        case DOUBLE:
+          output.writeDouble(getDouble(i));
+          break;
+        case FLOAT:
+          output.writeFloat(getFloat(i));
+          break;
+        case LONG:
+          output.writeLong(getLong(i));
+          break;
+        case INT:
+          output.writeInt(getInt(i));
+          break;
+        case SHORT:
+          output.writeShort(getShort(i));
+          break;
+        default:
+          output.writeByte(getByte(i));
+          break;
+      }
+  }
+
+  @Override
+  public int size() {
+    return columns.getNAttributes();
+  }
+
+  @Override
+  public boolean isNaN(int attributeIndex) {
+    return columns.isNaN(attributeIndex, index);
+  }
+
+  @Override
+  public String toString() {
+    StringBuffer buf = new StringBuffer();
+    buf.append(toString(0));
+    for (int i = 1; i < size(); ++i)
+      buf.append(" ").append(toString(i));
+    return buf.toString();
+  }
+
+  @Override
+  public String toString(int attributeIndex) {
+    switch (getDataType()) {
+      case DOUBLE:
+        return Double.toString(getDouble(attributeIndex));
+      case FLOAT:
+        return Float.toString(getFloat(attributeIndex));
+      case LONG:
+        return Long.toString(getLong(attributeIndex));
+      case INT:
+        return Integer.toString(getInt(attributeIndex));
+      case SHORT:
+        return Short.toString(getShort(attributeIndex));
+      default:
+        return Byte.toString(getByte(attributeIndex));
+    }
+  }
+
+  /**
+   * Returns a deep copy of this Data object. The copy is an ordinary heap-based Data object of the
+   * same DataType that is independent of the columns.
+   */
+  @Override
+  public Data copy() {
+    Data copy = Data.getData(getDataType(), size());
+    for (int i = 0; i < size(); ++i)
+      switch (getDataType()) {
+        case DOUBLE:
+          copy.setValue(i, getDouble(i));
+          break;
+        case FLOAT:
+          copy.setValue(i, getFloat(i));
+          break;
+        default:
+          copy.setValue(i, getLong(i));
+          break;
+      }
+    return copy;
+  }
+
+}
@@ -0,0 +1,591 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.geotess;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import gov.sandia.gmp.util.containers.arraylist.ArrayListDouble;
+import gov.sandia.gmp.util.containers.arraylist.ArrayListInt;
+import gov.sandia.gmp.util.globals.DataType;
+
+/**
+ * Columnar storage for all the attribute values stored in a GeoTessModel. Instead of one Data
+ * object per node, each with its own small array of values, DataColumns stores the values of each
+ * attribute in a single contiguous buffer with one element per node in the model. Buffers can be
+ * allocated on the java heap or off-heap (direct buffers), in which case the values do not
+ * contribute to garbage collection overhead at all.
+ * 
+ * <p>
+ * Nodes are stored in the same order that PointMap assigns point indices when the active region
+ * is the entire model: loop over vertices, then layers, then the nodes in each Profile. Hence, when
+ * the active region is global, the storage index of a node is equal to its point index.
+ * 
+ * <p>
+ * Once a model has been converted to columnar storage (see
+ * GeoTessModel.useColumnarStorage(boolean)), NPOINT Profiles hold no Data objects at all. They
+ * read values directly from the columns and hand out lightweight DataColumnar views on demand, so
+ * the Profile/Data api continues to work as before. Profiles with a single node (THIN, CONSTANT,
+ * SURFACE) keep one DataColumnar view each. GeoTessPosition bypasses the Profiles altogether and
+ * reads the columns directly during interpolation.
+ * 
+ * <p>
+ * If a Profile is replaced after the columns were built, using GeoTessModel.setProfile(), or the
+ * Data objects of a Profile are replaced using Profile.setData(), the Profile is detached from the
+ * columns and interpolation falls back to the Profile for that vertex and layer.
+ * 
+ * <p>
+ * Only primitive DataTypes are supported; models with DataType CUSTOM cannot be stored in columns.
+ * Reads are thread-safe. Concurrent writes to the same node are not.
+ */
+public class DataColumns {
+
+  private final DataType dataType;
+
+  private final int nAttributes;
+
+  private final int nNodes;
+
+  /**
+   * Number of bytes occupied by each value (DataType.nbytes).
+   */
+  private final int nbytes;
+
+  /**
+   * True if dataType is DOUBLE or FLOAT.
+   */
+  private final boolean floatingPoint;
+
+  /**
+   * One buffer per attribute, each with nNodes * nbytes bytes.
+   */
+  private final ByteBuffer[] columns;
+
+  /**
+   * Reference to the model's nVertices x nLayers array of Profiles. Used for fallback when a
+   * Profile has been replaced after the columns were built.
+   */
+  private final Profile[][] profiles;
+
+  private final int nLayers;
+
+  /**
+   * For each (vertex, layer) slot, the storage index of the first node in the Profile.
+   */
+  private final int[] offsets;
+
+  /**
+   * For each (vertex, layer) slot, the number of node indices that may be passed to the Profile's
+   * getValue(attribute, nodeIndex) and return a valid value. This equals the number of Data objects
+   * except for ProfileConstant where node indices 0 and 1 both refer to the single Data object.
+   * Equal to -1 if the Profile has been detached from the columns.
+   */
+  private final int[] nodeCounts;
+
+  /**
+   * For each (vertex, layer) slot, the number of Data objects stored in the columns.
+   */
+  private final int[] dataCounts;
+
+  /**
+   * Constructor.
+   * 
+   * @param dataType the type of the values stored in the columns.
+   * @param nAttributes number of attributes.
+   * @param nNodes total number of nodes (Data objects) in the model.
+   * @param profiles the model's nVertices x nLayers array of Profiles.
+   * @param offHeap if true, columns are allocated outside the java heap.
+   */
+  DataColumns(DataType dataType, int nAttributes, int nNodes, Profile[][] profiles,
+      boolean offHeap) {
+    this(dataType, nAttributes, profiles, allocate(dataType, nAttributes, nNodes, offHeap),
+        getCounts(profiles, true), getCounts(profiles, false));
+    if (this.nNodes != nNodes)
+      throw new IllegalArgumentException(
+          String.format("Profiles contain %d nodes but nNodes=%d", this.nNodes, nNodes));
+  }
+
+  /**
+   * Constructor that wraps existing buffers. Each buffer must contain one value of the specified
+   * dataType for every node, starting at position 0 of the buffer. The number of radii and number
+   * of Data objects in every Profile are supplied explicitly so that the columns can be built
+   * before the Profiles that will reference them.
+   * 
+   * @param dataType the type of the values stored in the columns.
+   * @param nAttributes number of attributes.
+   * @param profiles the model's nVertices x nLayers array of Profiles. Elements may still be null
+   *        when this constructor is called.
+   * @param columns one buffer per attribute.
+   * @param nRadii for each (vertex, layer) slot, the number of radii in the Profile.
+   * @param nData for each (vertex, layer) slot, the number of Data objects in the Profile.
+   */
+  DataColumns(DataType dataType, int nAttributes, Profile[][] profiles, ByteBuffer[] columns,
+      int[] nRadii, int[] nData) {
+    if (dataType == DataType.CUSTOM)
+      throw new IllegalArgumentException("DataType CUSTOM cannot be stored in DataColumns");
+    if (columns.length != nAttributes)
+      throw new IllegalArgumentException(
+          String.format("columns.length=%d but nAttributes=%d", columns.length, nAttributes));
+
+    this.dataType = dataType;
+    this.nAttributes = nAttributes;
+    this.nbytes = dataType.nbytes;
+    this.floatingPoint = DataType.floatingPointTypes.contains(dataType);
+    this.columns = columns;
+    this.profiles = profiles;
+    this.nLayers = profiles.length == 0 ? 0 : profiles[0].length;
+
+    int nSlots = profiles.length * nLayers;
+    offsets = new int[nSlots];
+    nodeCounts = new int[nSlots];
+    dataCounts = nData;
+
+    long offset = 0;
+    for (int slot = 0; slot < nSlots; ++slot) {
+      offsets[slot] = (int) offset;
+      // ProfileConstant has 2 radii and one Data object, which is referenced
+      // by node indices 0 and 1.
+      nodeCounts[slot] = nRadii[slot] == 2 && nData[slot] == 1 ? 2 : nData[slot];
+      offset += nData[slot];
+    }
+
+    if (offset > Integer.MAX_VALUE)
+      throw new IllegalArgumentException(offset + " nodes is too many to store in columns");
+    this.nNodes = (int) offset;
+
+    for (ByteBuffer column : columns)
+      if (column.capacity() < (long) nNodes * nbytes)
+        throw new IllegalArgumentException(String.format(
+            "Column capacity is %d bytes but %d are required", column.capacity(),
+            (long) nNodes * nbytes));
+  }
+
+  /**
+   * Retrieve the number of radii (if radii is true) or the number of Data objects (if radii is
+   * false) in each Profile, in (vertex, layer) order.
+   */
+  private static int[] getCounts(Profile[][] profiles, boolean radii) {
+    int nLayers = profiles.length == 0 ? 0 : profiles[0].length;
+    int[] counts = new int[profiles.length * nLayers];
+    for (int vertex = 0; vertex < profiles.length; ++vertex)
+      for (int layer = 0; layer < nLayers; ++layer)
+        counts[vertex * nLayers + layer] = radii ? profiles[vertex][layer].getNRadii()
+            : profiles[vertex][layer].getNData();
+    return counts;
+  }
+
+  private static ByteBuffer[] allocate(DataType dataType, int nAttributes, int nNodes,
+      boolean offHeap) {
+    long size = (long) nNodes * dataType.nbytes;
+    if (size > Integer.MAX_VALUE)
+      throw new IllegalArgumentException(String.format(
+          "Cannot store %d nodes of type %s in a single column", nNodes, dataType));
+    ByteBuffer[] columns = new ByteBuffer[nAttributes];
+    for (int i = 0; i < nAttributes; ++i)
+      columns[i] = (offHeap ? ByteBuffer.allocateDirect((int) size)
+          : ByteBuffer.allocate((int) size)).order(ByteOrder.nativeOrder());
+    return columns;
+  }
+
+  /**
+   * Build columnar storage for all the Data objects in the supplied profiles, copy all the values
+   * into the columns, and attach every Profile to the columns (see Profile.useColumns()).
+   * 
+   * @param profiles nVertices x nLayers array of Profiles
+   * @param metaData model metadata
+   * @param offHeap if true, columns are allocated outside the java heap.
+   * @return the new DataColumns
+   * @throws GeoTessException if the DataType of the model is CUSTOM.
+   */
+  static DataColumns pack(Profile[][] profiles, GeoTessMetaData metaData, boolean offHeap)
+      throws GeoTessException {
+    if (metaData.getDataType() == DataType.CUSTOM)
+      throw new GeoTessException("Models with DataType CUSTOM cannot be stored in columns.");
+
+    long n = 0;
+    for (Profile[] pp : profiles)
+      for (Profile p : pp)
+        n += p.getNData();
+
+    if (n > Integer.MAX_VALUE)
+      throw new GeoTessException(n + " nodes is too many to store in columns");
+
+    DataColumns columns = new DataColumns(metaData.getDataType(), metaData.getNAttributes(),
+        (int) n, profiles, offHeap);
+
+    int index = 0;
+    for (Profile[] pp : profiles)
+      for (Profile p : pp) {
+        for (int node = 0; node < p.getNData(); ++node)
+          columns.set(index + node, p.getData(node));
+        p.useColumns(columns, index);
+        index += p.getNData();
+      }
+    return columns;
+  }
+
+  /**
+   * Copy all the attribute values from the supplied Data object into the columns at the specified
+   * storage index, without casting if the DataTypes agree.
+   * 
+   * @param index storage index
+   * @param data source of the values
+   */
+  void set(int index, Data data) {
+    for (int a = 0; a < nAttributes; ++a)
+      switch (dataType) {
+        case DOUBLE:
+          setValue(a, index, data.getDouble(a));
+          break;
+        case FLOAT:
+          setValue(a, index, data.getFloat(a));
+          break;
+        case LONG:
+          setValue(a, index, data.getLong(a));
+          break;
+        case INT:
+          setValue(a, index, data.getInt(a));
+          break;
+        case SHORT:
+          setValue(a, index, data.getShort(a));
+          break;
+        case BYTE:
+          setValue(a, index, data.getByte(a));
+          break;
+        default:
+          break;
+      }
+  }
+
+  /**
+   * Mark the Profile at the specified vertex and layer as no longer backed by these columns.
+   * Subsequent interpolation requests will be delegated to the Profile.
+   * 
+   * @param vertex
+   * @param layer
+   */
+  void detach(int vertex, int layer) {
+    nodeCounts[vertex * nLayers + layer] = -1;
+  }
+
+  /**
+   * Mark the Profile whose first node is stored at the specified storage index as no longer backed
+   * by these columns. Called by Profiles whose Data objects are replaced with setData(), which do
+   * not know their own vertex and layer.
+   * 
+   * @param index storage index of the first node of the Profile
+   */
+  void detach(int index) {
+    // offsets are in increasing order, but Profiles with no Data objects share the offset of the
+    // next Profile. Find the one slot at this offset that actually stores nodes.
+    int slot = Arrays.binarySearch(offsets, index);
+    if (slot < 0)
+      return;
+    while (slot > 0 && offsets[slot - 1] == index)
+      --slot;
+    for (; slot < offsets.length && offsets[slot] == index; ++slot)
+      if (dataCounts[slot] > 0) {
+        nodeCounts[slot] = -1;
+        return;
+      }
+  }
+
+  /**
+   * Returns true if the Profile at the specified vertex and layer is backed by these columns.
+   * 
+   * @param vertex
+   * @param layer
+   * @return true if the Profile at the specified vertex and layer is backed by these columns.
+   */
+  public boolean isAttached(int vertex, int layer) {
+    return nodeCounts[vertex * nLayers + layer] >= 0;
+  }
+
+  /**
+   * Retrieve the storage index of the first node of the Profile at the specified vertex and layer.
+   * 
+   * @param vertex
+   * @param layer
+   * @return the storage index of the first node of the Profile at the specified vertex and layer.
+   */
+  public int getOffset(int vertex, int layer) {
+    return offsets[vertex * nLayers + layer];
+  }
+
+  /**
+   * Retrieve the value of the specified attribute at the specified node of the Profile at the
+   * specified vertex and layer. Behavior is identical to
+   * model.getProfile(vertex, layer).getValue(attribute, node).
+   * 
+   * @param vertex
+   * @param layer
+   * @param attribute
+   * @param node
+   * @return the value of the specified attribute.
+   */
+  public double getValue(int vertex, int layer, int attribute, int node) {
+    int slot = vertex * nLayers + layer;
+    int n = nodeCounts[slot];
+    if (n < 0)
+      return profiles[vertex][layer].getValue(attribute, node);
+    if (node < 0 || node >= n)
+      return Double.NaN;
+    return getDouble(attribute, offsets[slot] + Math.min(node, dataCounts[slot] - 1));
+  }
+
+  /**
+   * Retrieve the value of the specified attribute computed using the specified node indexes and
+   * interpolation coefficients. Behavior is identical to
+   * model.getProfile(vertex, layer).getValue(nodeIds, coefficients, attribute).
+   * 
+   * @param vertex
+   * @param layer
+   * @param nodeIds
+   * @param coefficients
+   * @param attribute
+   * @return the interpolated value of the specified attribute.
+   */
+  public double getValue(int vertex, int layer, ArrayListInt nodeIds,
+      ArrayListDouble coefficients, int attribute) {
+    int slot = vertex * nLayers + layer;
+    int n = nodeCounts[slot];
+    if (n < 0)
+      return profiles[vertex][layer].getValue(nodeIds, coefficients, attribute);
+
+    int offset = offsets[slot];
+    int last = dataCounts[slot] - 1;
+    int[] nodes = nodeIds.getArray();
+    double[] c = coefficients.getArray();
+    double value = 0;
+    int node;
+    for (int i = 0; i < nodeIds.size(); ++i) {
+      node = nodes[i];
+      value += (node < 0 || node >= n ? Double.NaN
+          : getDouble(attribute, offset + Math.min(node, last))) * c[i];
+    }
+    return value;
+  }
+
+  /**
+   * Retrieve the value of the specified attribute at the specified storage index, cast to double
+   * if necessary.
+   * 
+   * @param attribute
+   * @param index storage index
+   * @return the value of the specified attribute, cast to double if necessary.
+   */
+  public double getDouble(int attribute, int index) {
+    ByteBuffer column = columns[attribute];
+    switch (dataType) {
+      case DOUBLE:
+        return column.getDouble(index * nbytes);
+      case FLOAT:
+        return column.getFloat(index * nbytes);
+      case LONG:
+        return column.getLong(index * nbytes);
+      case INT:
+        return column.getInt(index * nbytes);
+      case SHORT:
+        return column.getShort(index * nbytes);
+      default:
+        return column.get(index);
+    }
+  }
+
+  public float getFloat(int attribute, int index) {
+    return dataType == DataType.FLOAT ? columns[attribute].getFloat(index * nbytes)
+        : (float) getDouble(attribute, index);
+  }
+
+  public long getLong(int attribute, int index) {
+    return dataType == DataType.LONG ? columns[attribute].getLong(index * nbytes)
+        : (long) getDouble(attribute, index);
+  }
+
+  public int getInt(int attribute, int index) {
+    return floatingPoint ? (int) getDouble(attribute, index) : (int) getLong(attribute, index);
+  }
+
+  public short getShort(int attribute, int index) {
+    return floatingPoint ? (short) getDouble(attribute, index)
+        : (short) getLong(attribute, index);
+  }
+
+  public byte getByte(int attribute, int index) {
+    return floatingPoint ? (byte) getDouble(attribute, index) : (byte) getLong(attribute, index);
+  }
+
+  /**
+   * Returns true if the value of the specified attribute at the specified storage index is NaN.
+   * Always false for integer types.
+   * 
+   * @param attribute
+   * @param index
+   * @return true if the value is NaN.
+   */
+  public boolean isNaN(int attribute, int index) {
+    switch (dataType) {
+      case DOUBLE:
+        return Double.isNaN(columns[attribute].getDouble(index * nbytes));
+      case FLOAT:
+        return Float.isNaN(columns[attribute].getFloat(index * nbytes));
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Set the value of the specified attribute at the specified storage index. The value is cast to
+   * the DataType of the columns if necessary.
+   * 
+   * @param attribute
+   * @param index
+   * @param value
+   */
+  public void setValue(int attribute, int index, double value) {
+    ByteBuffer column = columns[attribute];
+    switch (dataType) {
+      case DOUBLE:
+        column.putDouble(index * nbytes, value);
+        break;
+      case FLOAT:
+        column.putFloat(index * nbytes, (float) value);
+        break;
+      case LONG:
+        column.putLong(index * nbytes, (long) value);
+        break;
+      case INT:
+        column.putInt(index * nbytes, (int) value);
+        break;
+      case SHORT:
+        column.putShort(index * nbytes, (short) value);
+        break;
+      default:
+        column.put(index, (byte) value);
+        break;
+    }
+  }
+
+  /**
+   * Set the value of the specified attribute at the specified storage index. Long values are
+   * stored without passing through a double, so no precision is lost for LONG columns.
+   * 
+   * @param attribute
+   * @param index
+   * @param value
+   */
+  public void setValue(int attribute, int index, long value) {
+    if (dataType == DataType.LONG)
+      columns[attribute].putLong(index * nbytes, value);
+    else if (dataType == DataType.DOUBLE || dataType == DataType.FLOAT)
+      setValue(attribute, index, (double) value);
+    else
+      switch (dataType) {
+        case INT:
+          columns[attribute].putInt(index * nbytes, (int) value);
+          break;
+        case SHORT:
+          columns[attribute].putShort(index * nbytes, (short) value);
+          break;
+        default:
+          columns[attribute].put(index, (byte) value);
+          break;
+      }
+  }
+
+  /**
+   * Set all attribute values at the specified storage index to the specified value.
+   * 
+   * @param index
+   * @param fillValue
+   */
+  public void fill(int index, Number fillValue) {
+    for (int a = 0; a < nAttributes; ++a)
+      if (floatingPoint)
+        setValue(a, index, fillValue.doubleValue());
+      else
+        setValue(a, index, fillValue.longValue());
+  }
+
+  public DataType getDataType() {
+    return dataType;
+  }
+
+  public int getNAttributes() {
+    return nAttributes;
+  }
+
+  /**
+   * Retrieve the number of nodes stored in the columns.
+   * 
+   * @return the number of nodes stored in the columns.
+   */
+  public int getNNodes() {
+    return nNodes;
+  }
+
+  /**
+   * Retrieve a read-only view of the buffer that stores the values of the specified attribute.
+   * 
+   * @param attribute
+   * @return a read-only view of the buffer that stores the values of the specified attribute.
+   */
+  public ByteBuffer getColumn(int attribute) {
+    return columns[attribute].asReadOnlyBuffer().order(columns[attribute].order());
+  }
+
+  /**
+   * Returns true if the columns are stored outside the java heap.
+   * 
+   * @return true if the columns are stored outside the java heap.
+   */
+  public boolean isOffHeap() {
+    return nAttributes > 0 && columns[0].isDirect();
+  }
+
+  /**
+   * Retrieve the number of bytes occupied by the attribute values.
+   * 
+   * @return the number of bytes occupied by the attribute values.
+   */
+  public long getMemory() {
+    return (long) nAttributes * nNodes * nbytes;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("DataColumns: %s x %d attributes x %d nodes, %s, %d bytes", dataType,
+        nAttributes, nNodes, isOffHeap() ? "off-heap" : "heap", getMemory());
+  }
+
+}
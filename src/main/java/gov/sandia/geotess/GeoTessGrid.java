@@ -194,6 +194,20 @@ public class GeoTessGrid {
   private HashSetInteger[] connectedVertices;
   private final Object connectedVerticesLock = new Object();
 
+  /**
+   * An nTessellations array of spatial indexes over the unit vectors of the vertices connected
+   * together by triangles on the top level of each tessellation. Lazy evaluation is used.
+   */
+  private SpatialIndex[] vertexSpatialIndex;
+  private final Object vertexSpatialIndexLock = new Object();
+
+  /**
+   * An nTessellations array of indexes that map any unit vector to a deep triangle from which a
+   * walking triangle search can start. Lazy evaluation is used.
+   */
+  private TriangleSeedIndex[] triangleSeedIndex;
+  private final Object triangleSeedIndexLock = new Object();
+
   /**
    * A String ID that uniquely identifies this GeoTessGrid. It must be true that two GeoTessGrid
    * objects that have different geometry or topology also have different uniqueID values. An MD5
@@ -274,6 +288,34 @@ public class GeoTessGrid {
     loadGrid(input);
   }
 
+  /**
+   * Constructor used when a grid is loaded from a memory-mapped model file. The arrays are used
+   * directly (no copies are made). Neighbors and descendants were computed when the file was
+   * written so the searches normally performed by initialize() are skipped.
+   * 
+   * @param gridSoftwareVersion
+   * @param gridGenerationDate
+   * @param gridID
+   * @param tessellations
+   * @param levels
+   * @param triangles
+   * @param vertices
+   * @param neighbors nTriangles x 3 array of edge neighbors.
+   * @param descendants nTriangles array of descendants.
+   */
+  GeoTessGrid(String gridSoftwareVersion, String gridGenerationDate, String gridID,
+      int[][] tessellations, int[][] levels, int[][] triangles, double[][] vertices,
+      int[][] neighbors, int[] descendants) {
+    this.gridSoftwareVersion = gridSoftwareVersion;
+    this.gridGenerationDate = gridGenerationDate;
+    this.gridID = gridID;
+    this.tessellations = tessellations;
+    this.levels = levels;
+    this.triangles = triangles;
+    this.vertices = vertices;
+    initialize(neighbors, descendants);
+  }
+
   // /**
   // * Constructor that loads a grid from a netcdf file.
   // *
@@ -729,6 +771,72 @@ public class GeoTessGrid {
     return getVertexIndices(getLastLevel(tessId));
   }
 
+  /**
+   * Retrieve a spatial index over the unit vectors of all the vertices that are connected together
+   * by triangles on the top level of the specified tessellation, in grid coordinates. The ids
+   * returned by queries on the index are vertex indexes and distances are chord lengths between
+   * unit vectors (see SpatialIndex.angle()). The index is built the first time it is requested and
+   * is thereafter shared by all threads.
+   * 
+   * @param tessId tessellation index
+   * @return spatial index of the vertices on the top level of the specified tessellation.
+   */
+  public SpatialIndex getVertexSpatialIndex(int tessId) {
+    if (vertexSpatialIndex == null || vertexSpatialIndex[tessId] == null) {
+      synchronized (vertexSpatialIndexLock) {
+        if (vertexSpatialIndex == null)
+          vertexSpatialIndex = new SpatialIndex[tessellations.length];
+        if (vertexSpatialIndex[tessId] == null) {
+          HashSetInteger vertexSet = getVertexIndicesTopLevel(tessId);
+          int[] vertexIds = new int[vertexSet.size()];
+          double[][] points = new double[vertexIds.length][];
+          int i = 0;
+          Iterator it = vertexSet.iterator();
+          while (it.hasNext()) {
+            vertexIds[i] = it.next();
+            points[i] = vertices[vertexIds[i]];
+            ++i;
+          }
+          vertexSpatialIndex[tessId] = new SpatialIndex(points, vertexIds, null);
+        }
+      }
+    }
+    return vertexSpatialIndex[tessId];
+  }
+
+  /**
+   * Retrieve an index that maps any unit vector, in grid coordinates, to a triangle deep in the
+   * hierarchy of the specified tessellation from which a walking triangle search for that position
+   * can start. GeoTessPosition uses it when a new position is far from the previous one. The index
+   * is built the first time it is requested and is thereafter shared by all threads.
+   * 
+   * @param tessId tessellation index
+   * @return triangle seed index of the specified tessellation.
+   */
+  public TriangleSeedIndex getTriangleSeedIndex(int tessId) {
+    if (triangleSeedIndex == null || triangleSeedIndex[tessId] == null) {
+      synchronized (triangleSeedIndexLock) {
+        if (triangleSeedIndex == null)
+          triangleSeedIndex = new TriangleSeedIndex[tessellations.length];
+        if (triangleSeedIndex[tessId] == null)
+          triangleSeedIndex[tessId] = new TriangleSeedIndex(this, tessId);
+      }
+    }
+    return triangleSeedIndex[tessId];
+  }
+
+  /**
+   * Find the index of the vertex on the top level of the specified tessellation that is closest to
+   * the specified unit vector.
+   * 
+   * @param tessId tessellation index
+   * @param unitVector the location of interest, in grid coordinates
+   * @return index of the closest vertex.
+   */
+  public int getClosestVertex(int tessId, double[] unitVector) {
+    return getVertexSpatialIndex(tessId).findNearest(unitVector);
+  }
+
   /**
    * Retrieve a set containing the unit vectors of all the vertices that are connected together by
    * triangles on the specified level, in grid coordinates.
@@ -1575,6 +1683,21 @@ public class GeoTessGrid {
    * not call this method.
    */
   protected void initialize() {
+    initialize(null, null);
+  }
+
+  /**
+   * Identify the neighbors and descendants of each triangle. If knownNeighbors and/or
+   * knownDescendants are not null, they are assumed to be correct and the corresponding searches
+   * are skipped. This is used when a grid is loaded from a file that stores the results of a
+   * previous call to initialize().
+   * 
+   * @param knownNeighbors nTriangles x 3 array of the indexes of the triangles on the other side of
+   *        each edge of each triangle, or null.
+   * @param knownDescendants nTriangles array of the index of the descendant of each triangle, or
+   *        null.
+   */
+  protected void initialize(int[][] knownNeighbors, int[] knownDescendants) {
     vtxTriangles = new ArrayListInt[levels.length][vertices.length];
     ArrayListInt[] vtxT;
 
@@ -1593,76 +1716,80 @@ public class GeoTessGrid {
         }
     }
 
-    int[][] neighbors = new int[triangles.length][3];
-
-    // First: find the 3 neighbors of each triangle.
-    // This is an implementation of the "Triangle neighbor identification"
-    // algorithm in Ballard, Hipp and Young, 2009,
-    // Efficient and Accurate Calculation of Ray Theory Seismic Travel
-    // Time through Variable Resolution 3D Earth Models, SRL, 80, 989-999.
+    int[][] neighbors = knownNeighbors;
 
     int n, c, vj, vk;
     int[] corners;
 
-    boolean[] marked = new boolean[triangles.length]; // initial values are
-    // all false
-
-    // loop over all the levels of all tessellations
-    for (int tess = 0; tess < tessellations.length; ++tess)
-      for (int level = tessellations[tess][0]; level < tessellations[tess][1]; ++level) {
-        vtxT = vtxTriangles[level];
-        for (int t = levels[level][0]; t < levels[level][1]; ++t) {
-
-          corners = triangles[t];
-
-          // t is the index of a triangle and corners are the indexes
-          // of the 3 vertices that reside at the corners of triangle
-          // t.
-          // Loop over corners of triangle t
-          for (c = 0; c < 3; ++c) {
-            vj = corners[(c + 1) % 3];
-            vk = corners[(c + 2) % 3];
-            // c is the index of a corner of triangle t (c is one of
-            // 0,1,2).
-            // vj is the index of the vertex (not corner) that is
-            // found by
-            // moving clockwise around t from corner c.
-            // vk is the index of the vertex (not corner) that is
-            // found by
-            // moving clockwise around t from vj
-
-            // indexes of the triangles of which vj is a member
-            ArrayListInt tj = vtxT[vj];
-
-            // indexes of the triangles of which vk is a member
-            ArrayListInt tk = vtxT[vk];
-
-            // mark all the triangles of which vertex vj is a member
-            for (n = 0; n < tj.size(); ++n)
-              marked[tj.get(n)] = true;
-
-            // loop over all the triangles of which vk is a member.
-            // Two of them will be marked. One of the ones that is
-            // marked is triangle t. The other one is the triangle
-            // that resides on the other side of the edge that
-            // connects
-            // vertices vj and vk. That second triangle is the
-            // neighbor
-            // of triangle t.
-            for (n = 0; n < tk.size(); ++n)
-              if (marked[tk.get(n)] && tk.get(n) != t) {
-                neighbors[t][c] = tk.get(n);
-                break;
-              }
-
-            // unmark all the triangles that were recently marked.
-            for (n = 0; n < tj.size(); ++n)
-              marked[tj.get(n)] = false;
+    if (neighbors == null) {
+      neighbors = new int[triangles.length][3];
+
+      // First: find the 3 neighbors of each triangle.
+      // This is an implementation of the "Triangle neighbor identification"
+      // algorithm in Ballard, Hipp and Young, 2009,
+      // Efficient and Accurate Calculation of Ray Theory Seismic Travel
+      // Time through Variable Resolution 3D Earth Models, SRL, 80, 989-999.
+
+      boolean[] marked = new boolean[triangles.length]; // initial values are
+      // all false
+
+      // loop over all the levels of all tessellations
+      for (int tess = 0; tess < tessellations.length; ++tess)
+        for (int level = tessellations[tess][0]; level < tessellations[tess][1]; ++level) {
+          vtxT = vtxTriangles[level];
+          for (int t = levels[level][0]; t < levels[level][1]; ++t) {
+
+            corners = triangles[t];
+
+            // t is the index of a triangle and corners are the indexes
+            // of the 3 vertices that reside at the corners of triangle
+            // t.
+            // Loop over corners of triangle t
+            for (c = 0; c < 3; ++c) {
+              vj = corners[(c + 1) % 3];
+              vk = corners[(c + 2) % 3];
+              // c is the index of a corner of triangle t (c is one of
+              // 0,1,2).
+              // vj is the index of the vertex (not corner) that is
+              // found by
+              // moving clockwise around t from corner c.
+              // vk is the index of the vertex (not corner) that is
+              // found by
+              // moving clockwise around t from vj
+
+              // indexes of the triangles of which vj is a member
+              ArrayListInt tj = vtxT[vj];
+
+              // indexes of the triangles of which vk is a member
+              ArrayListInt tk = vtxT[vk];
+
+              // mark all the triangles of which vertex vj is a member
+              for (n = 0; n < tj.size(); ++n)
+                marked[tj.get(n)] = true;
+
+              // loop over all the triangles of which vk is a member.
+              // Two of them will be marked. One of the ones that is
+              // marked is triangle t. The other one is the triangle
+              // that resides on the other side of the edge that
+              // connects
+              // vertices vj and vk. That second triangle is the
+              // neighbor
+              // of triangle t.
+              for (n = 0; n < tk.size(); ++n)
+                if (marked[tk.get(n)] && tk.get(n) != t) {
+                  neighbors[t][c] = tk.get(n);
+                  break;
+                }
+
+              // unmark all the triangles that were recently marked.
+              for (n = 0; n < tj.size(); ++n)
+                marked[tj.get(n)] = false;
+            }
           }
         }
-      }
-    // done with marked
-    marked = null;
+      // done with marked
+      marked = null;
+    }
 
     // compute the Edges for all the triangles.
     edgeList = new Edge[triangles.length][3];
@@ -1703,6 +1830,11 @@ public class GeoTessGrid {
     // find the descendant of each triangle at the next higher
     // tessellation level.
 
+    if (knownDescendants != null) {
+      descendants = knownDescendants;
+      return;
+    }
+
     // initialize all the descendants to -1.
     descendants = new int[triangles.length];
     Arrays.fill(descendants, -1);
@@ -0,0 +1,508 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.geotess;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import gov.sandia.gmp.util.globals.DataType;
+
+/**
+ * Reads and writes GeoTessModels in a page-aligned binary format that is designed to be loaded
+ * with FileChannel.map() instead of being parsed value by value.
+ * 
+ * <p>
+ * The file starts with a header, written in big-endian order, containing the string
+ * GEOTESSMAPPED, the format version, the byte order of the sections, the model metadata (in the
+ * same format used by binary model files), the grid id strings, array sizes and a table of section
+ * offsets. The header is followed by a series of sections, each one beginning on a page boundary
+ * and written in the byte order recorded in the header:
+ * <ol start=0>
+ * <li>tessellations, int[nTessellations*2]
+ * <li>levels, int[nLevels*2]
+ * <li>vertices, double[nVertices*3]
+ * <li>triangles, int[nTriangles*3]
+ * <li>neighbors, int[nTriangles*3]
+ * <li>descendants, int[nTriangles]
+ * <li>number of radii in each Profile, int[nVertices*nLayers]
+ * <li>number of Data objects in each Profile, int[nVertices*nLayers]
+ * <li>radii of all Profiles, float[nRadii]
+ * <li>one section per attribute containing the value of that attribute at every node, in the
+ * storage order of DataColumns.
+ * </ol>
+ * 
+ * <p>
+ * When a model is loaded, the attribute sections are used directly as the columns of a DataColumns
+ * object without being copied, so multiple processes on the same host that load the same file
+ * share the physical pages through the operating system page cache. The grid arrays and radii are
+ * bulk-copied into the arrays used by GeoTessGrid and the Profiles, but the triangle neighbor and
+ * descendant searches normally performed when a grid is loaded are skipped because their results
+ * are stored in the file.
+ * 
+ * <p>
+ * Only the information managed by the base GeoTessModel class is stored. Models with DataType
+ * CUSTOM are not supported.
+ */
+public class GeoTessMappedFile {
+
+  /**
+   * First bytes of every mapped model file.
+   */
+  public static final String MAGIC = "GEOTESSMAPPED";
+
+  /**
+   * Current format version.
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * Sections start on multiples of this many bytes.
+   */
+  public static final int PAGE_SIZE = 4096;
+
+  private static final int TESSELLATIONS = 0, LEVELS = 1, VERTICES = 2, TRIANGLES = 3,
+      NEIGHBORS = 4, DESCENDANTS = 5, NRADII = 6, NDATA = 7, RADII = 8, COLUMNS = 9;
+
+  private GeoTessMappedFile() {}
+
+  /**
+   * Returns true if the specified file exists and begins with the string GEOTESSMAPPED.
+   * 
+   * @param file
+   * @return true if the specified file is a mapped model file.
+   */
+  public static boolean isMappedFile(File file) {
+    if (!file.isFile() || file.length() < MAGIC.length())
+      return false;
+    try (DataInputStream input = new DataInputStream(
+        Channels.newInputStream(FileChannel.open(file.toPath(), StandardOpenOption.READ)))) {
+      byte[] bytes = new byte[MAGIC.length()];
+      input.readFully(bytes);
+      return MAGIC.equals(new String(bytes));
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Write the supplied model to a mapped model file. The grid is always stored in the same file.
+   * 
+   * @param model the model to write
+   * @param file the output file
+   * @throws IOException
+   */
+  public static void write(GeoTessModel model, File file) throws IOException {
+    GeoTessMetaData metaData = model.getMetaData();
+    GeoTessGrid grid = model.getGrid();
+    DataType dataType = metaData.getDataType();
+    if (dataType == DataType.CUSTOM)
+      throw new IOException("Models with DataType CUSTOM cannot be written to mapped files.");
+
+    Profile[][] profiles = model.getProfiles();
+    int nVertices = grid.getNVertices();
+    int nLayers = metaData.getNLayers();
+    int nAttributes = metaData.getNAttributes();
+    int nTriangles = grid.getNTriangles();
+
+    long nNodes = 0, nRadii = 0;
+    for (Profile[] pp : profiles)
+      for (Profile p : pp) {
+        nNodes += p.getNData();
+        nRadii += p.getNRadii();
+      }
+
+    if (nNodes * dataType.nbytes > Integer.MAX_VALUE || nRadii * 4 > Integer.MAX_VALUE)
+      throw new IOException("Model is too large to be written to a mapped file.");
+
+    ByteOrder order = ByteOrder.nativeOrder();
+
+    long[] lengths = new long[COLUMNS + nAttributes];
+    lengths[TESSELLATIONS] = 8L * grid.getNTessellations();
+    lengths[LEVELS] = 8L * grid.getNLevels();
+    lengths[VERTICES] = 24L * nVertices;
+    lengths[TRIANGLES] = 12L * nTriangles;
+    lengths[NEIGHBORS] = 12L * nTriangles;
+    lengths[DESCENDANTS] = 4L * nTriangles;
+    lengths[NRADII] = 4L * nVertices * nLayers;
+    lengths[NDATA] = 4L * nVertices * nLayers;
+    lengths[RADII] = 4L * nRadii;
+    for (int a = 0; a < nAttributes; ++a)
+      lengths[COLUMNS + a] = nNodes * dataType.nbytes;
+
+    // build the header without the section table to find out how long it is.
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream header = new DataOutputStream(bytes);
+    header.writeBytes(MAGIC);
+    header.writeInt(VERSION);
+    header.writeBoolean(order == ByteOrder.LITTLE_ENDIAN);
+    metaData.writeModelBinary(header, nVertices);
+    GeoTessUtils.writeString(header, grid.getGridSoftwareVersion());
+    GeoTessUtils.writeString(header, grid.getGridGenerationDate());
+    GeoTessUtils.writeString(header, grid.getGridID());
+    header.writeInt(grid.getNTessellations());
+    header.writeInt(grid.getNLevels());
+    header.writeInt(nTriangles);
+    header.writeInt(nVertices);
+    header.writeInt(lengths.length);
+    header.flush();
+
+    long[] offsets = new long[lengths.length];
+    long position = align(bytes.size() + 8L * offsets.length);
+    for (int i = 0; i < offsets.length; ++i) {
+      offsets[i] = position;
+      position = align(position + lengths[i]);
+    }
+    for (long offset : offsets)
+      header.writeLong(offset);
+    header.flush();
+
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      SectionWriter out = new SectionWriter(channel, order);
+      out.put(ByteBuffer.wrap(bytes.toByteArray()));
+
+      out.seek(offsets[TESSELLATIONS]);
+      for (int[] t : grid.getTessellations())
+        for (int k = 0; k < 2; ++k)
+          out.putInt(t[k]);
+
+      out.seek(offsets[LEVELS]);
+      for (int[] level : grid.getLevels())
+        for (int k = 0; k < 2; ++k)
+          out.putInt(level[k]);
+
+      out.seek(offsets[VERTICES]);
+      for (double[] v : grid.getVertices())
+        for (int k = 0; k < 3; ++k)
+          out.putDouble(v[k]);
+
+      out.seek(offsets[TRIANGLES]);
+      for (int[] t : grid.getTriangles())
+        for (int k = 0; k < 3; ++k)
+          out.putInt(t[k]);
+
+      out.seek(offsets[NEIGHBORS]);
+      for (int t = 0; t < nTriangles; ++t)
+        for (int k = 0; k < 3; ++k)
+          out.putInt(grid.getNeighbor(t, k));
+
+      out.seek(offsets[DESCENDANTS]);
+      for (int t = 0; t < nTriangles; ++t)
+        out.putInt(grid.getNeighbor(t, 3));
+
+      out.seek(offsets[NRADII]);
+      for (Profile[] pp : profiles)
+        for (Profile p : pp)
+          out.putInt(p.getNRadii());
+
+      out.seek(offsets[NDATA]);
+      for (Profile[] pp : profiles)
+        for (Profile p : pp)
+          out.putInt(p.getNData());
+
+      out.seek(offsets[RADII]);
+      for (Profile[] pp : profiles)
+        for (Profile p : pp)
+          for (int i = 0; i < p.getNRadii(); ++i)
+            out.putFloat((float) p.getRadius(i));
+
+      for (int a = 0; a < nAttributes; ++a) {
+        out.seek(offsets[COLUMNS + a]);
+        for (Profile[] pp : profiles)
+          for (Profile p : pp)
+            for (int n = 0; n < p.getNData(); ++n)
+              out.putValue(dataType, p.getData(n), a);
+      }
+
+      // make sure the file extends to the end of the last page.
+      out.seek(position);
+      out.flush();
+    }
+  }
+
+  /**
+   * Load a mapped model file into the supplied model. The model's metadata is populated from the
+   * file and the grid, Profiles and columnar data storage are installed in the model.
+   * 
+   * @param model the model to populate
+   * @param file the input file
+   * @param copyOnWrite if false, attribute values are mapped read-only and any attempt to modify
+   *        them will throw a ReadOnlyBufferException. If true, the attribute values are mapped
+   *        privately; modified pages are copied and modifications are never written to the file.
+   *        The file must be writable in this case.
+   * @throws IOException
+   */
+  static void load(GeoTessModel model, File file, boolean copyOnWrite) throws IOException {
+    // private (copy-on-write) mappings require a channel that is open for writing, although
+    // nothing is ever written to the file.
+    try (FileChannel channel = copyOnWrite
+        ? FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)
+        : FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      InputStream stream = new BufferedInputStream(Channels.newInputStream(channel));
+      DataInputStream input = new DataInputStream(stream);
+
+      byte[] bytes = new byte[MAGIC.length()];
+      input.readFully(bytes);
+      if (!MAGIC.equals(new String(bytes)))
+        throw new IOException(String.format("%nExpected %s but found %s%n", MAGIC,
+            new String(bytes)));
+
+      int version = input.readInt();
+      if (version != VERSION)
+        throw new IOException(version + " is not a recognized mapped file format version");
+
+      ByteOrder order = input.readBoolean() ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+
+      GeoTessMetaData metaData = model.getMetaData();
+      metaData.load(input);
+
+      if (metaData.getDataType() == DataType.CUSTOM)
+        throw new IOException("Mapped files with DataType CUSTOM are not supported.");
+
+      String gridSoftwareVersion = GeoTessUtils.readString(input);
+      String gridGenerationDate = GeoTessUtils.readString(input);
+      String gridID = GeoTessUtils.readString(input);
+      int nTessellations = input.readInt();
+      int nLevels = input.readInt();
+      int nTriangles = input.readInt();
+      int nVertices = input.readInt();
+      long[] offsets = new long[input.readInt()];
+      for (int i = 0; i < offsets.length; ++i)
+        offsets[i] = input.readLong();
+
+      int nLayers = metaData.getNLayers();
+      int nAttributes = metaData.getNAttributes();
+      if (offsets.length != COLUMNS + nAttributes)
+        throw new IOException(String.format("File has %d sections but %d were expected",
+            offsets.length, COLUMNS + nAttributes));
+
+      int[][] tessellations =
+          readInts(map(channel, MapMode.READ_ONLY, offsets[TESSELLATIONS], 8L * nTessellations,
+              order).asIntBuffer(), nTessellations, 2);
+      int[][] levels = readInts(
+          map(channel, MapMode.READ_ONLY, offsets[LEVELS], 8L * nLevels, order).asIntBuffer(),
+          nLevels, 2);
+      int[][] triangles = readInts(
+          map(channel, MapMode.READ_ONLY, offsets[TRIANGLES], 12L * nTriangles, order)
+              .asIntBuffer(),
+          nTriangles, 3);
+      int[][] neighbors = readInts(
+          map(channel, MapMode.READ_ONLY, offsets[NEIGHBORS], 12L * nTriangles, order)
+              .asIntBuffer(),
+          nTriangles, 3);
+
+      int[] descendants = new int[nTriangles];
+      map(channel, MapMode.READ_ONLY, offsets[DESCENDANTS], 4L * nTriangles, order).asIntBuffer()
+          .get(descendants);
+
+      double[][] vertices = new double[nVertices][3];
+      DoubleBuffer vbuf =
+          map(channel, MapMode.READ_ONLY, offsets[VERTICES], 24L * nVertices, order)
+              .asDoubleBuffer();
+      for (double[] v : vertices)
+        vbuf.get(v);
+
+      GeoTessGrid grid = new GeoTessGrid(gridSoftwareVersion, gridGenerationDate, gridID,
+          tessellations, levels, triangles, vertices, neighbors, descendants);
+      grid.setGridFile(file);
+
+      int nSlots = nVertices * nLayers;
+      int[] nRadii = new int[nSlots];
+      int[] nData = new int[nSlots];
+      map(channel, MapMode.READ_ONLY, offsets[NRADII], 4L * nSlots, order).asIntBuffer()
+          .get(nRadii);
+      map(channel, MapMode.READ_ONLY, offsets[NDATA], 4L * nSlots, order).asIntBuffer()
+          .get(nData);
+
+      long totalRadii = 0, totalNodes = 0;
+      for (int i = 0; i < nSlots; ++i) {
+        totalRadii += nRadii[i];
+        totalNodes += nData[i];
+      }
+
+      long columnLength = totalNodes * metaData.getDataType().nbytes;
+      if (columnLength > Integer.MAX_VALUE)
+        throw new IOException("Mapped file columns are too large.");
+
+      ByteBuffer[] columns = new ByteBuffer[nAttributes];
+      for (int a = 0; a < nAttributes; ++a)
+        columns[a] = map(channel, copyOnWrite ? MapMode.PRIVATE : MapMode.READ_ONLY,
+            offsets[COLUMNS + a], columnLength, order);
+
+      Profile[][] profiles = new Profile[nVertices][nLayers];
+      DataColumns dataColumns = new DataColumns(metaData.getDataType(), nAttributes, profiles,
+          columns, nRadii, nData);
+
+      FloatBuffer rbuf =
+          map(channel, MapMode.READ_ONLY, offsets[RADII], 4L * totalRadii, order)
+              .asFloatBuffer();
+
+      int node = 0;
+      try {
+        for (int v = 0; v < nVertices; ++v)
+          for (int l = 0; l < nLayers; ++l) {
+            int slot = v * nLayers + l;
+            float[] radii = new float[nRadii[slot]];
+            rbuf.get(radii);
+            profiles[v][l] = Profile.newProfile(radii, nData[slot], dataColumns, node);
+            node += nData[slot];
+          }
+      } catch (GeoTessException e) {
+        throw new IOException(e);
+      }
+
+      model.setMappedContents(grid, profiles, dataColumns);
+    }
+  }
+
+  /**
+   * Map a section of the file. The mapping remains valid after the channel is closed.
+   */
+  private static ByteBuffer map(FileChannel channel, MapMode mode, long offset, long length,
+      ByteOrder order) throws IOException {
+    if (length > Integer.MAX_VALUE)
+      throw new IOException("Section of length " + length + " is too large to map.");
+    return channel.map(mode, offset, length).order(order);
+  }
+
+  private static int[][] readInts(IntBuffer buffer, int n, int m) {
+    int[][] a = new int[n][m];
+    for (int[] row : a)
+      buffer.get(row);
+    return a;
+  }
+
+  private static long align(long position) {
+    return (position + PAGE_SIZE - 1) / PAGE_SIZE * PAGE_SIZE;
+  }
+
+  /**
+   * Writes primitive values to a FileChannel through a small buffer, in a specified byte order.
+   */
+  private static class SectionWriter {
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    SectionWriter(FileChannel channel, ByteOrder order) {
+      this.channel = channel;
+      this.buffer = ByteBuffer.allocate(1 << 16).order(order);
+    }
+
+    void ensure(int n) throws IOException {
+      if (buffer.remaining() < n)
+        flush();
+    }
+
+    void flush() throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining())
+        channel.write(buffer);
+      buffer.clear();
+    }
+
+    /**
+     * Move to the specified absolute position in the file, padding with zeros.
+     */
+    void seek(long position) throws IOException {
+      flush();
+      long current = channel.position();
+      if (position < current)
+        throw new IOException("Cannot seek backward from " + current + " to " + position);
+      while (current < position) {
+        int n = (int) Math.min(buffer.capacity(), position - current);
+        buffer.put(new byte[n]);
+        flush();
+        current += n;
+      }
+    }
+
+    void put(ByteBuffer bytes) throws IOException {
+      flush();
+      while (bytes.hasRemaining())
+        channel.write(bytes);
+    }
+
+    void putInt(int value) throws IOException {
+      ensure(4);
+      buffer.putInt(value);
+    }
+
+    void putFloat(float value) throws IOException {
+      ensure(4);
+      buffer.putFloat(value);
+    }
+
+    void putDouble(double value) throws IOException {
+      ensure(8);
+      buffer.putDouble(value);
+    }
+
+    void putValue(DataType dataType, Data data, int attribute) throws IOException {
+      ensure(8);
+      switch (dataType) {
+        case DOUBLE:
+          buffer.putDouble(data.getDouble(attribute));
+          break;
+        case FLOAT:
+          buffer.putFloat(data.getFloat(attribute));
+          break;
+        case LONG:
+          buffer.putLong(data.getLong(attribute));
+          break;
+        case INT:
+          buffer.putInt(data.getInt(attribute));
+          break;
+        case SHORT:
+          buffer.putShort(data.getShort(attribute));
+          break;
+        default:
+          buffer.put(data.getByte(attribute));
+          break;
+      }
+    }
+  }
+
+}
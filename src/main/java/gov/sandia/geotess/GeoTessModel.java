@@ -62,6 +62,7 @@ import gov.sandia.geotess.extensions.siteterms.GeoTessModelSiteData;
 import gov.sandia.gmp.util.containers.arraylist.ArrayListDouble;
 import gov.sandia.gmp.util.containers.arraylist.ArrayListInt;
 import gov.sandia.gmp.util.containers.hash.maps.HashMapIntegerDouble;
+import gov.sandia.gmp.util.containers.hash.maps.OpenHashMapIntegerDouble;
 import gov.sandia.gmp.util.containers.hash.sets.HashSetInteger;
 import gov.sandia.gmp.util.containers.hash.sets.HashSetInteger.Iterator;
 import gov.sandia.gmp.util.globals.DataType;
@@ -179,6 +180,13 @@ public class GeoTessModel {
    */
   private PointMap pointMap;
 
+  /**
+   * Optional columnar storage of all the attribute values in the model. Null unless
+   * useColumnarStorage() has been called. When not null, every Profile reads its values from these
+   * columns.
+   */
+  private DataColumns dataColumns;
+
   /**
    * Grid reuse map enabling multiple models to use the same grid instantiation.
    */
@@ -384,6 +392,7 @@ public class GeoTessModel {
       grid.getRefCount().incrementAndGet();
 
       profiles = new Profile[grid.getNVertices()][metaData.getNLayers()];
+      dataColumns = null;
     } catch (GeoTessException e) {
       throw new IOException(e);
     }
@@ -448,6 +457,7 @@ public class GeoTessModel {
    */
   protected void initializeProfiles() {
     profiles = new Profile[grid.getNVertices()][metaData.getNLayers()];
+    dataColumns = null;
   }
 
   /**
@@ -1311,6 +1321,9 @@ public class GeoTessModel {
     Data data = Data.getData(dataType, attributeNames.length);
     data.fill(fillValue);
 
+    // the data objects are about to be replaced with new heap-based objects.
+    dataColumns = null;
+
     // loop over all profiles and all data objects within the profiles and reset
     // their data to a copy of the the data object initialized with the fill
     // value.
@@ -1376,6 +1389,7 @@ public class GeoTessModel {
     //@formatter:off
 		if (newDataType != oldDataType || nAttributesNew != nAttributesOld)
 		{
+			dataColumns = null;
 			Profile[] pp;
 			Profile p;
 			Data oldData, newData;
@@ -1487,6 +1501,52 @@ public class GeoTessModel {
     return pointMap;
   }
 
+  /**
+   * Convert the storage of all the attribute values in this model to columnar storage. All the
+   * values of each attribute are packed into a single contiguous buffer, indexed by the point
+   * index that the global PointMap assigns to each node. NPOINT Profiles discard their Data
+   * objects and read values directly from the columns, handing out DataColumnar views only when
+   * getData() is called. The Profile/Data api continues to work as before, but the model consists
+   * of far fewer objects, and GeoTessPosition interpolation reads values directly from the columns.
+   * 
+   * <p>
+   * If offHeap is true, the columns are allocated outside the java heap so that the values are not
+   * managed by the garbage collector at all.
+   * 
+   * <p>
+   * Calling this method on a model that is already stored in columns repacks the data.
+   * 
+   * @param offHeap if true, columns are allocated outside the java heap.
+   * @return a reference to this.
+   * @throws GeoTessException if the DataType of the model is CUSTOM.
+   */
+  public synchronized GeoTessModel useColumnarStorage(boolean offHeap) throws GeoTessException {
+    if (profiles == null)
+      throw new GeoTessException("\nAttempting to pack model data before \n"
+          + "before Profiles have been specified.\n");
+    dataColumns = DataColumns.pack(profiles, metaData, offHeap);
+    return this;
+  }
+
+  /**
+   * Retrieve a reference to the columnar storage of the attribute values in this model, or null if
+   * useColumnarStorage() has not been called.
+   * 
+   * @return the columnar storage of the attribute values in this model, or null.
+   */
+  public DataColumns getDataColumns() {
+    return dataColumns;
+  }
+
+  /**
+   * Returns true if the attribute values of this model are stored in columns.
+   * 
+   * @return true if the attribute values of this model are stored in columns.
+   */
+  public boolean isColumnarStorage() {
+    return dataColumns != null;
+  }
+
   /**
    * Query whether or not the PointMap is currently populated
    * 
@@ -1580,16 +1640,7 @@ public class GeoTessModel {
       throws GeoTessException {
     GeoTessPosition pos = getGeoTessPosition(InterpolatorType.LINEAR, InterpolatorType.LINEAR);
     pos.set(layerIndex, location, radius);
-    Map<Integer, Double> weights = new HashMap<Integer, Double>();
-    pos.getWeights(weights, 1.);
-    int closestPoint = -1;
-    double maxWeight = -1;
-    for (Map.Entry<Integer, Double> entry : weights.entrySet())
-      if (entry.getValue() > maxWeight) {
-        maxWeight = entry.getValue();
-        closestPoint = entry.getKey();
-      }
-    return closestPoint;
+    return pos.getClosestPoint();
   }
 
   /**
@@ -1603,10 +1654,26 @@ public class GeoTessModel {
    *         closest to the supplied location.
    */
   public int[] getClosestNode(double[] location, double radius, int layerIndex) {
-    int[] map = new int[3];
+    return getClosestNode(location, radius, layerIndex, new int[3]);
+  }
+
+  /**
+   * Find the [vertex, layer, node] of the point in this model that is closest to the supplied
+   * location, without allocating memory. The candidates are the vertices of the triangle on the top
+   * level of the layer's tessellation that contains location. The walking triangle search starts
+   * from the tessellation's triangle seed index (see GeoTessGrid.getTriangleSeedIndex()).
+   * 
+   * @param location
+   * @param radius
+   * @param layerIndex
+   * @param map on output, the [vertex, layer, node] of the point in this model that is closest to
+   *        the supplied location. Must have length &gt;= 3.
+   * @return map
+   */
+  public int[] getClosestNode(double[] location, double radius, int layerIndex, int[] map) {
+    TriangleSeedIndex seeds = grid.getTriangleSeedIndex(metaData.getTessellation(layerIndex));
+    int triangle = grid.getTriangle(seeds.getTriangle(seeds.getBucket(location)), location);
 
-    int triangle =
-        grid.getTriangle(grid.getFirstTriangle(metaData.getTessellation(layerIndex), 0), location);
     double distance, minDistance = Double.POSITIVE_INFINITY;
     Profile p;
     for (int vertex : grid.getTriangles()[triangle]) {
@@ -1795,6 +1862,57 @@ public class GeoTessModel {
     return !weights.contains(-1);
   }
 
+  /**
+   * Compute the weights on each model point that results from interpolating positions along the
+   * specified ray path. Identical to getWeights(ArrayList&lt;double[]&gt;, ArrayListDouble,
+   * ArrayListInt, InterpolatorType, InterpolatorType, HashMapIntegerDouble) but populates an
+   * OpenHashMapIntegerDouble, which does not allocate an entry object per model point and can be
+   * cleared and reused for many rays.
+   * 
+   * @param vectors an ordered list of unit vectors that define a ray path.
+   * @param radii the radii of the points along the ray path
+   * @param layerIds input array of layer indices that specifies the layer in which increment i
+   *        resides where increment i is the path increment between points i and i+1. If layerIds[i]
+   *        is &lt; 0, then the layer index will be determined based on the radius of the midpoint
+   *        of the i'th path increment.
+   * @param horizontalType InterpolatorType.LINEAR or InterpolatorType.NATURAL_NEIGHBOR
+   * @param radialType InterpolatorType.LINEAR or InterpolatorType.CUBIC_SPLINE
+   * @param weights a map from the pointIndex of a point in the model to the weight that accrued to
+   *        that point from the ray path. The input map is NOT cleared before population with new
+   *        values.
+   * @return true if all of the points touched by the rayPath are active. If any of the points are
+   *         inactive, then weights will contain a key == -1.
+   * @throws GeoTessException
+   */
+  public boolean getWeights(ArrayList<double[]> vectors, ArrayListDouble radii,
+      ArrayListInt layerIds, InterpolatorType horizontalType, InterpolatorType radialType,
+      OpenHashMapIntegerDouble weights) throws GeoTessException {
+    GeoTessPosition pos = getGeoTessPosition(horizontalType, radialType);
+
+    double[] v1, v2, v = new double[3];
+    double dist, r1, r2;
+    int layer;
+
+    for (int i = 1; i < vectors.size(); ++i) {
+      v1 = vectors.get(i - 1);
+      v2 = vectors.get(i);
+      r1 = radii.get(i - 1);
+      r2 = radii.get(i);
+      dist = GeoTessUtils.getDistance3D(v1, r1, v2, r2);
+      if (dist > 1e-4) {
+        v[0] = v1[0] + v2[0];
+        v[1] = v1[1] + v2[1];
+        v[2] = v1[2] + v2[2];
+        GeoTessUtils.normalize(v);
+        layer =
+            (layerIds == null || layerIds.get(i - 1) != layerIds.get(i)) ? -1 : layerIds.get(i - 1);
+        pos.set(layer, v, (r1 + r2) / 2.);
+        pos.getWeights(weights, dist);
+      }
+    }
+    return !weights.contains(-1);
+  }
+
   /**
    * Compute the weights on each model point that results from interpolating positions along the
    * specified great circle ray path.
@@ -2501,6 +2619,9 @@ public class GeoTessModel {
     }
 
     profiles[vertex][layer] = profile;
+
+    if (dataColumns != null)
+      dataColumns.detach(vertex, layer);
   }
 
   /**
@@ -2827,6 +2948,8 @@ public class GeoTessModel {
 
       if (inputFile.getName().endsWith(".ascii"))
         loadModelAscii(inputFile, relGridFilePath);
+      else if (GeoTessMappedFile.isMappedFile(inputFile))
+        GeoTessMappedFile.load(this, inputFile, false);
       else
         loadModelBinary(inputFile, relGridFilePath);
 
@@ -3107,6 +3230,7 @@ public class GeoTessModel {
     int nLayers = metaData.getNLayers();
 
     profiles = new Profile[nVertices][nLayers];
+    dataColumns = null;
 
     // loop over all the vertices of the 2D grid and load the data
     for (int i = 0; i < nVertices; ++i)
@@ -3361,6 +3485,78 @@ public class GeoTessModel {
     output.flush();
   }
 
+  /**
+   * Load a model from a file written by writeModelMapped(). Attribute values are not copied into
+   * the java heap; they are accessed directly from memory-mapped pages of the file, which are
+   * shared with every other process on the same host that maps the same file. The model uses
+   * columnar storage (see useColumnarStorage()).
+   * 
+   * <p>
+   * Mapped model files are also recognized automatically by the constructors and loadModel()
+   * methods, in which case the attribute values are mapped read-only.
+   * 
+   * @param inputFile the mapped model file
+   * @param copyOnWrite if false, attribute values are read-only and attempts to modify them throw
+   *        a ReadOnlyBufferException. If true, modified pages are copied privately and changes are
+   *        never written back to the file.
+   * @return a reference to this.
+   * @throws IOException
+   */
+  protected GeoTessModel loadModelMapped(File inputFile, boolean copyOnWrite) throws IOException {
+    metaData.setInputModelFile(inputFile);
+    long timer = System.nanoTime();
+    GeoTessMappedFile.load(this, inputFile, copyOnWrite);
+    metaData.setLoadTimeModel((System.nanoTime() - timer) * 1e-9);
+    return this;
+  }
+
+  /**
+   * Write this model, including the grid, to a page-aligned binary file that can be loaded with
+   * loadModelMapped(). See GeoTessMappedFile for a description of the format. Only the information
+   * managed by the base GeoTessModel class is written, so this method throws an exception when
+   * called on a derived class.
+   * 
+   * @param outputFile the file to receive the model.
+   * @throws IOException
+   */
+  public void writeModelMapped(File outputFile) throws IOException {
+    if (getClass() != GeoTessModel.class)
+      throw new IOException(getClass().getSimpleName()
+          + " stores information that cannot be written to a mapped model file.");
+    try {
+      testModelIntegrity();
+    } catch (GeoTessException e) {
+      throw new IOException(e);
+    }
+    GeoTessMappedFile.write(this, outputFile);
+  }
+
+  /**
+   * Install the grid, Profiles and columnar data storage read from a mapped model file.
+   * 
+   * @param newGrid
+   * @param newProfiles
+   * @param columns
+   */
+  void setMappedContents(GeoTessGrid newGrid, Profile[][] newProfiles, DataColumns columns) {
+    profiles = newProfiles;
+    dataColumns = columns;
+
+    synchronized (reuseGridMap) {
+      grid = metaData.isGridReuseOn() ? reuseGridMap.get(newGrid.getGridID()) : null;
+      if (grid == null) {
+        grid = newGrid;
+        if (metaData.isGridReuseOn())
+          reuseGridMap.put(grid.getGridID(), grid);
+      }
+      metaData.setGridInputFileName("*");
+      grid.getRefCount().incrementAndGet();
+      metaData.getProperties().put("gridID", grid.getGridID());
+    }
+
+    pointMap = new PointMap(this);
+  }
+
   /**
    * Load a model (3D grid and data) from an ascii File.
    * <p>
@@ -3409,6 +3605,7 @@ public class GeoTessModel {
     int nLayers = metaData.getNLayers();
 
     profiles = new Profile[nVertices][nLayers];
+    dataColumns = null;
 
     // loop over all the vertices of the 2D grid
     for (int i = 0; i < nVertices; ++i)
@@ -3662,6 +3859,21 @@ public class GeoTessModel {
     return new GeoTessModel(input, pathToGridDir);
   }
 
+  /**
+   * Static factory method that loads a model from a file written by writeModelMapped(). See
+   * loadModelMapped() for a description of the copyOnWrite option.
+   * 
+   * @param input the mapped model file
+   * @param copyOnWrite if true, attribute values can be modified in memory without affecting the
+   *        file. If false, attribute values are read-only.
+   * @return a new GeoTessModel
+   * @throws IOException
+   */
+  public static GeoTessModel getGeoTessModelMapped(File input, boolean copyOnWrite)
+      throws IOException {
+    return new GeoTessModel().loadModelMapped(input, copyOnWrite);
+  }
+
   /**
    * Static factory method to instantiate a new GeoTessModel or derived class. The class of the
    * returned model is determined by querying the metaData object for the class name. Data
@@ -3760,6 +3972,10 @@ public class GeoTessModel {
     if (GeoTessGrid.isGeoTessGrid(inputFile))
       return "GeoTessGrid";
 
+    // only the base class can be written to mapped model files.
+    if (GeoTessMappedFile.isMappedFile(inputFile))
+      return "GeoTessModel";
+
     String className = "?";
     int formatVersion = -1;
     if (inputFile.getName().endsWith(".ascii")) {
@@ -177,28 +177,32 @@ public class GeoTessModelUtils {
 
     GeoTessPosition pos = GeoTessPosition.getGeoTessPosition(model, horizontalType, radialType);
 
-    if (layerId >= 0)
-      for (int i = 0; i < nlat; ++i)
-        for (int j = 0; j < nlon; ++j) {
-          pos.set(layerId, latitudes[i], longitudes[j], depth);
-          for (int k = 0; k < attributes.length; ++k)
-            map[i][j][k] =
-                reciprocal ? 1. / pos.getValue(attributes[k]) : pos.getValue(attributes[k]);
-        }
-    else {
-      for (int i = 0; i < nlat; ++i)
-        for (int j = 0; j < nlon; ++j) {
-          pos.set(latitudes[i], longitudes[j], depth);
-          double radius = pos.getEarthRadius() - depth;
-          if (radius < pos.getRadiusBottom(0) || radius > pos.getRadiusTop(pos.getNLayers() - 1))
-            for (int k = 0; k < attributes.length; ++k)
-              map[i][j][k] = Double.NaN;
-          else
-            for (int k = 0; k < attributes.length; ++k)
-              map[i][j][k] =
-                  reciprocal ? 1. / pos.getValue(attributes[k]) : pos.getValue(attributes[k]);
-        }
+    int n = nlat * nlon;
+    double[] lats = new double[n];
+    double[] lons = new double[n];
+    double[] depths = new double[n];
+    for (int i = 0; i < nlat; ++i)
+      for (int j = 0; j < nlon; ++j) {
+        lats[i * nlon + j] = latitudes[i];
+        lons[i * nlon + j] = longitudes[j];
+        depths[i * nlon + j] = depth;
+      }
+
+    int[] layerIds = null;
+    if (layerId >= 0) {
+      layerIds = new int[n];
+      Arrays.fill(layerIds, layerId);
     }
+
+    double[] values = new double[n * attributes.length];
+    pos.getValues(layerIds, lats, lons, depths, attributes, layerId < 0, values);
+
+    for (int i = 0; i < nlat; ++i)
+      for (int j = 0; j < nlon; ++j)
+        for (int k = 0; k < attributes.length; ++k) {
+          double value = values[(i * nlon + j) * attributes.length + k];
+          map[i][j][k] = reciprocal ? 1. / value : value;
+        }
     return map;
   }
 
@@ -323,9 +327,17 @@ public class GeoTessModelUtils {
     double[][] vlat;
     double[] vradii;
 
-    double dr, rbot;
+    // positions are interpolated in batches of one longitude at a time.
+    int n = nlat * nradii;
+    double[][] batchVectors = new double[n][];
+    double[] batchRadii = new double[n];
+    int[] batchLayers = new int[n];
+    double[] batchValues = new double[n * attributes.length];
+
+    double dr, rbot, r;
     for (int i = 0; i < nlon; ++i) {
       vlon = values[i];
+      n = 0;
       for (int j = 0; j < nlat; ++j) {
         vlat = vlon[j];
 
@@ -339,7 +351,10 @@ public class GeoTessModelUtils {
           for (int k = 0; k < pointsPerLayer[layer]; ++k) {
             vradii = vlat[nradii++];
 
-            pos.set(layer, map[i][j], rbot + k * dr);
+            r = rbot + k * dr;
+            batchVectors[n] = map[i][j];
+            batchRadii[n] = r;
+            batchLayers[n++] = layer;
 
             switch (rdim) {
               case 0:
@@ -349,20 +364,28 @@ public class GeoTessModelUtils {
                 break;
               case 1:
                 // set radial dimension value to depth in km.
-                vradii[0] = pos.getDepth();
+                vradii[0] = pos.getEarthRadius() - r;
                 break;
               default:
                 // set radial dimension value to radius in km.
-                vradii[0] = pos.getRadius();
+                vradii[0] = r;
                 break;
             }
-
-            for (int a = 0; a < attributes.length; ++a)
-              vradii[a + 1] =
-                  reciprocal ? 1. / pos.getValue(attributes[a]) : pos.getValue(attributes[a]);
           }
         }
       }
+
+      pos.getValues(batchLayers, batchVectors, batchRadii, attributes, false, batchValues);
+
+      n = 0;
+      for (int j = 0; j < nlat; ++j)
+        for (int k = 0; k < vlon[j].length; ++k, ++n) {
+          vradii = vlon[j][k];
+          for (int a = 0; a < attributes.length; ++a) {
+            double value = batchValues[n * attributes.length + a];
+            vradii[a + 1] = reciprocal ? 1. / value : value;
+          }
+        }
     }
     return values;
   }
@@ -41,6 +41,7 @@ import java.util.Map.Entry;
 import gov.sandia.gmp.util.containers.arraylist.ArrayListDouble;
 import gov.sandia.gmp.util.containers.arraylist.ArrayListInt;
 import gov.sandia.gmp.util.containers.hash.maps.HashMapIntegerDouble;
+import gov.sandia.gmp.util.containers.hash.maps.OpenHashMapIntegerDouble;
 import gov.sandia.gmp.util.globals.InterpolatorType;
 import gov.sandia.gmp.util.numerical.polygon.GreatCircle;
 import gov.sandia.gmp.util.numerical.vector.EarthShape;
@@ -565,9 +566,15 @@ public abstract class GeoTessPosition {
             radiusOutOfRangeAllowed) * h[i];
     else {
       updateRadialCoefficients(layerId, tessid);
-      for (int i = 0; i < vertices.get(tessid).size(); ++i)
-        value += model.getProfile(v[i], layerId).getValue(radialIndexes.get(i),
-            radialCoefficients.get(i), attribute) * h[i];
+      DataColumns columns = model.getDataColumns();
+      if (columns != null)
+        for (int i = 0; i < vertices.get(tessid).size(); ++i)
+          value += columns.getValue(v[i], layerId, radialIndexes.get(i),
+              radialCoefficients.get(i), attribute) * h[i];
+      else
+        for (int i = 0; i < vertices.get(tessid).size(); ++i)
+          value += model.getProfile(v[i], layerId).getValue(radialIndexes.get(i),
+              radialCoefficients.get(i), attribute) * h[i];
     }
 
     return Double.isNaN(value) ? getErrorValue() : value;
@@ -588,6 +595,155 @@ public abstract class GeoTessPosition {
     return attributes;
   }
 
+  /**
+   * Interpolate the values of a set of attributes at a batch of positions specified by geographic
+   * latitude and longitude in degrees and depth in km below the surface of the ellipsoid. The
+   * result for point i and attribute k is stored in values[i * attributes.length + k].
+   * <p>
+   * Each point is evaluated exactly as if set(layerIds[i], lats[i], lons[i], depths[i]) had been
+   * called, followed by getValue(attributes[k]). If layerIds is null, or layerIds[i] is negative,
+   * the position is not constrained to a layer. Points are visited in an order that keeps
+   * consecutive points spatially close to each other so that the walking triangle search starts
+   * from a nearby triangle; no objects are allocated per point.
+   * <p>
+   * When this method returns, this GeoTessPosition is set to the last point visited, which is
+   * generally not the last point in the input arrays.
+   * 
+   * @param layerIds the layer index of each point, or null.
+   * @param lats latitudes in degrees.
+   * @param lons longitudes in degrees.
+   * @param depths depths in km.
+   * @param attributes indexes of the attributes to interpolate.
+   * @param nanOutsideModel if true, points that are not constrained to a layer and whose radius is
+   *        below the bottom of the deepest layer or above the top of the shallowest layer are
+   *        assigned Double.NaN.
+   * @param values output array with at least lats.length * attributes.length elements.
+   * @throws GeoTessException
+   */
+  public void getValues(int[] layerIds, double[] lats, double[] lons, double[] depths,
+      int[] attributes, boolean nanOutsideModel, double[] values) throws GeoTessException {
+    int n = lats.length;
+    checkBatch(n, layerIds, lons.length, depths.length, attributes.length, values.length);
+
+    double[] u = new double[3];
+    double[] vectors = new double[3 * n];
+    long[] order = new long[n];
+    for (int i = 0; i < n; ++i) {
+      GeoMath.getVectorDegrees(lats[i], lons[i], u);
+      vectors[3 * i] = u[0];
+      vectors[3 * i + 1] = u[1];
+      vectors[3 * i + 2] = u[2];
+      order[i] = spatialKey(u, i);
+    }
+    Arrays.sort(order);
+
+    for (int j = 0; j < n; ++j) {
+      int i = (int) order[j];
+      u[0] = vectors[3 * i];
+      u[1] = vectors[3 * i + 1];
+      u[2] = vectors[3 * i + 2];
+      int layer = layerIds == null ? -1 : layerIds[i];
+      double r = getEarthShape().getEarthRadius(u) - depths[i];
+      if (layer < 0)
+        set(u, r);
+      else {
+        updatePosition2D(layer, u);
+        updateRadius(layer, r);
+      }
+      this.depthSpecified = true;
+      getBatchValues(i, layer, r, attributes, nanOutsideModel, values);
+    }
+  }
+
+  /**
+   * Interpolate the values of a set of attributes at a batch of positions specified by
+   * Earth-centered unit vectors and radii in km. The result for point i and attribute k is stored
+   * in values[i * attributes.length + k].
+   * <p>
+   * Each point is evaluated exactly as if set(layerIds[i], unitVectors[i], radii[i]) had been
+   * called, followed by getValue(attributes[k]). If layerIds is null, or layerIds[i] is negative,
+   * the position is not constrained to a layer. Points are visited in an order that keeps
+   * consecutive points spatially close to each other so that the walking triangle search starts
+   * from a nearby triangle; no objects are allocated per point.
+   * <p>
+   * When this method returns, this GeoTessPosition is set to the last point visited, which is
+   * generally not the last point in the input arrays.
+   * 
+   * @param layerIds the layer index of each point, or null.
+   * @param unitVectors Earth-centered unit vectors.
+   * @param radii radii in km.
+   * @param attributes indexes of the attributes to interpolate.
+   * @param nanOutsideModel if true, points that are not constrained to a layer and whose radius is
+   *        below the bottom of the deepest layer or above the top of the shallowest layer are
+   *        assigned Double.NaN.
+   * @param values output array with at least unitVectors.length * attributes.length elements.
+   * @throws GeoTessException
+   */
+  public void getValues(int[] layerIds, double[][] unitVectors, double[] radii, int[] attributes,
+      boolean nanOutsideModel, double[] values) throws GeoTessException {
+    int n = unitVectors.length;
+    checkBatch(n, layerIds, n, radii.length, attributes.length, values.length);
+
+    long[] order = new long[n];
+    for (int i = 0; i < n; ++i)
+      order[i] = spatialKey(unitVectors[i], i);
+    Arrays.sort(order);
+
+    for (int j = 0; j < n; ++j) {
+      int i = (int) order[j];
+      int layer = layerIds == null ? -1 : layerIds[i];
+      set(layer, unitVectors[i], radii[i]);
+      getBatchValues(i, layer, radii[i], attributes, nanOutsideModel, values);
+    }
+  }
+
+  /**
+   * Store the interpolated values of the specified attributes at the current position in
+   * values[point * attributes.length + k].
+   */
+  private void getBatchValues(int point, int layer, double r, int[] attributes,
+      boolean nanOutsideModel, double[] values) throws GeoTessException {
+    int offset = point * attributes.length;
+    if (nanOutsideModel && layer < 0
+        && (r < getRadiusBottom(0) || r > getRadiusTop(getNLayers() - 1)))
+      Arrays.fill(values, offset, offset + attributes.length, Double.NaN);
+    else
+      for (int k = 0; k < attributes.length; ++k)
+        values[offset + k] = getValue(attributes[k]);
+  }
+
+  private static void checkBatch(int n, int[] layerIds, int n1, int n2, int nAttributes,
+      int nValues) throws GeoTessException {
+    if (n1 != n || n2 != n || (layerIds != null && layerIds.length != n))
+      throw new GeoTessException("Batch input arrays must all have the same length.");
+    if (nValues < n * nAttributes)
+      throw new GeoTessException(String.format(
+          "Batch output array has %d elements but %d points x %d attributes were requested.",
+          nValues, n, nAttributes));
+  }
+
+  /**
+   * Compute a sort key that orders points along a 3D Morton (Z-order) curve of their unit vectors,
+   * with the point index in the low 32 bits. Each component is quantized to 10 bits, which is a
+   * resolution of about 0.1 degrees.
+   */
+  private static long spatialKey(double[] u, int index) {
+    return (spreadBits((int) ((u[0] + 1.) * 511.5)) | spreadBits((int) ((u[1] + 1.) * 511.5)) << 1
+        | spreadBits((int) ((u[2] + 1.) * 511.5)) << 2) << 32 | index;
+  }
+
+  /**
+   * Spread the lowest 10 bits of v so that there are two zero bits between each of them.
+   */
+  private static long spreadBits(int v) {
+    long x = v & 0x3ff;
+    x = (x | x << 16) & 0x30000ffL;
+    x = (x | x << 8) & 0x300f00fL;
+    x = (x | x << 4) & 0x30c30c3L;
+    x = (x | x << 2) & 0x9249249L;
+    return x;
+  }
+
   /**
    * Retrieve an interpolated value of the specified model attribute.
    * 
@@ -611,9 +767,15 @@ public abstract class GeoTessPosition {
             radiusOutOfRangeAllowed) * h[i];
     else {
       updateRadialCoefficients(layer, tid);
-      for (int i = 0; i < vertices.get(tid).size(); ++i)
-        value += model.getProfile(v[i], layer).getValue(radialIndexes.get(i),
-            radialCoefficients.get(i), attribute) * h[i];
+      DataColumns columns = model.getDataColumns();
+      if (columns != null)
+        for (int i = 0; i < vertices.get(tid).size(); ++i)
+          value += columns.getValue(v[i], layer, radialIndexes.get(i),
+              radialCoefficients.get(i), attribute) * h[i];
+      else
+        for (int i = 0; i < vertices.get(tid).size(); ++i)
+          value += model.getProfile(v[i], layer).getValue(radialIndexes.get(i),
+              radialCoefficients.get(i), attribute) * h[i];
     }
 
     return Double.isNaN(value) ? getErrorValue() : value;
@@ -1258,12 +1420,10 @@ public abstract class GeoTessPosition {
 
       // 0.961261696 is cos(16 degrees)
       // if new position is more than 16 degrees away from current
-      // position then start walk from triangle zero, otherwise,
-      // start walk from current triangle
-      if (triangle[tessid] < 0 || GeoTessUtils.dot(uVector, unitVector) < 0.961261696) {
-        triangle[tessid] = model.getGrid().getTriangle(tessid, 0, 0);
-        tessLevels[tessid] = 0;
-      }
+      // position then start walk from the grid's triangle seed index,
+      // otherwise, start walk from current triangle
+      if (triangle[tessid] >= 0 && GeoTessUtils.dot(uVector, unitVector) < 0.961261696)
+        triangle[tessid] = -1;
 
       unitVector[0] = uVector[0];
       unitVector[1] = uVector[1];
@@ -1310,11 +1470,8 @@ public abstract class GeoTessPosition {
    * @throws GeoTessException
    */
   private void checkTessellation(int tessid) throws GeoTessException {
-    if (triangle[tessid] < 0) {
-      tessLevels[tessid] = 0;
-      triangle[tessid] = model.getGrid().getTriangle(tessid, 0, 0);
+    if (triangle[tessid] < 0)
       getContainingTriangle(tessid);
-    }
   }
 
   /**
@@ -1407,6 +1564,20 @@ public abstract class GeoTessPosition {
     if (model.getMetaData().getEulerModelToGrid() != null)
       u = VectorUnit.eulerRotation(u, model.getMetaData().getEulerModelToGrid());
 
+    if (t < 0) {
+      // no current triangle. Start the walk from a triangle near u, deep in the
+      // hierarchy, unless that is deeper than maxTessLevel.
+      TriangleSeedIndex seeds = model.getGrid().getTriangleSeedIndex(tessid);
+      int bucket = seeds.getBucket(u);
+      tessLevel = seeds.getLevel(bucket);
+      if (tessLevel <= maxTess)
+        t = seeds.getTriangle(bucket);
+      else {
+        t = model.getGrid().getTriangle(tessid, 0, 0);
+        tessLevel = 0;
+      }
+    }
+
     while (true) {
       c[0] = GeoTessUtils.dot(gridEdges[t][0].normal, u);
       if (c[0] > -1e-15) {
@@ -2402,6 +2573,43 @@ public abstract class GeoTessPosition {
     }
   }
 
+  /**
+   * Add the interpolation weights of this position, multiplied by dkm, to the weights accumulated
+   * in the input map. Identical to getWeights(HashMapIntegerDouble, double) but accumulates into
+   * an open addressing map, which does not allocate an entry object per model point.
+   * 
+   * @param weights map from point index to accumulated weight.
+   * @param dkm the length of the path increment, in km, represented by this position.
+   * @throws GeoTessException
+   */
+  public void getWeights(OpenHashMapIntegerDouble weights, double dkm) throws GeoTessException {
+    if (radialInterpolatorType == InterpolatorType.CUBIC_SPLINE)
+      throw new GeoTessException(
+          "\nCannot compute radial coefficients for InterpolatorType.CUBIC_SPLINE");
+
+    model.getPointMap();
+
+    Profile p;
+    double w;
+
+    int[] v = vertices.get(tessid).getArray();
+    double[] h = hCoefficients.get(tessid).getArray();
+    int[] ri;
+    double[] ci;
+
+    updateRadialCoefficients(layerId, tessid);
+    for (int i = 0; i < vertices.get(tessid).size(); ++i) {
+      p = model.getProfile(v[i], layerId);
+      ri = radialIndexes.get(i).getArray();
+      ci = radialCoefficients.get(i).getArray();
+      for (int j = 0; j < radialIndexes.get(i).size(); ++j) {
+        w = dkm * ci[j] * h[i];
+        if (Math.abs(w) > 1e-9)
+          weights.addTo(p.getPointIndex(ri[j]), w);
+      }
+    }
+  }
+
   /**
    * Returns true if the radius-out-of-range-allowed flag is true.
    * 
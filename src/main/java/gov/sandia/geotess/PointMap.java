@@ -34,9 +34,7 @@ package gov.sandia.geotess;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import gov.sandia.gmp.util.containers.arraylist.ArrayListInt;
 import gov.sandia.gmp.util.globals.InterpolatorType;
 import gov.sandia.gmp.util.numerical.polygon.Horizon;
@@ -108,6 +106,12 @@ public class PointMap {
 
   private Polygon polygon;
 
+  /**
+   * Spatial index over the positions of the points in pointMap, grouped by layer index. Built the
+   * first time it is requested and discarded whenever the active region changes.
+   */
+  private volatile SpatialIndex spatialIndex;
+
   /**
    * Constructor. PointMap is initialized but not populated by this method.
    */
@@ -121,6 +125,8 @@ public class PointMap {
   private void clear() {
     pointMap.clear();
 
+    spatialIndex = null;
+
     polygon = null;
 
     populated = populatedGlobal = false;
@@ -201,13 +207,17 @@ public class PointMap {
     Profile[] pp;
     Profile p;
 
+    // evaluate all the vertices in one bulk call
+    boolean[] contained = new boolean[model.getGrid().getNVertices()];
+    polygon.contains(model.getVertices(), contained);
+
     if (polygon instanceof Polygon3D) {
       Horizon bottom = ((Polygon3D) polygon).getBottom();
       Horizon top = ((Polygon3D) polygon).getTop();
       double rBottom, rTop;
       double[] layerRadii = new double[model.getMetaData().getNLayers() + 1];
       for (int vertex = 0; vertex < model.getGrid().getNVertices(); ++vertex)
-        if (polygon.contains(model.getVertex(vertex))) {
+        if (contained[vertex]) {
           pp = model.getProfiles()[vertex];
           layerRadii[0] = pp[0].getRadiusBottom();
           for (int l = 0; l < model.getMetaData().getNLayers(); ++l)
@@ -225,7 +235,7 @@ public class PointMap {
         }
     } else {
       for (int vertex = 0; vertex < model.getGrid().getNVertices(); ++vertex)
-        if (polygon.contains(model.getVertex(vertex))) {
+        if (contained[vertex]) {
           pp = model.getProfiles()[vertex];
           for (int layer = 0; layer < model.getMetaData().getNLayers(); ++layer) {
             p = pp[layer];
@@ -255,8 +265,10 @@ public class PointMap {
     Profile p;
     double rBottom, rTop;
     double[] layerRadii = new double[model.getMetaData().getNLayers() + 1];
+    boolean[] contained = new boolean[model.getGrid().getNVertices()];
+    polygon.contains(model.getVertices(), contained);
     for (int vertex = 0; vertex < model.getGrid().getNVertices(); ++vertex) {
-      if (polygon.contains(model.getVertex(vertex))) {
+      if (contained[vertex]) {
         pp = model.getProfiles()[vertex];
         layerRadii[0] = pp[0].getRadiusBottom();
         for (int l = 0; l < model.getMetaData().getNLayers(); ++l)
@@ -342,16 +354,90 @@ public class PointMap {
     GeoTessPosition pos =
         model.getGeoTessPosition(InterpolatorType.LINEAR, InterpolatorType.LINEAR);
     pos.set(layerIndex, location, radius);
-    HashMap<Integer, Double> weights = new HashMap<Integer, Double>();
-    pos.getWeights(weights, 1.);
-    int closestPoint = -1;
-    double maxWeight = -1;
-    for (Map.Entry<Integer, Double> entry : weights.entrySet())
-      if (entry.getValue() > maxWeight) {
-        maxWeight = entry.getValue();
-        closestPoint = entry.getKey();
+    return pos.getClosestPoint();
+  }
+
+  /**
+   * Retrieve a spatial index over the positions of all the points in this PointMap. Ids returned
+   * by queries on the index are pointIndexes, groups are layer indexes and distances are in km.
+   * The index is built the first time it is requested and is rebuilt after the active region
+   * changes. It reflects node radii at the time it was built.
+   * 
+   * @return spatial index over the points in this PointMap.
+   */
+  public SpatialIndex getSpatialIndex() {
+    SpatialIndex index = spatialIndex;
+    if (index == null)
+      synchronized (this) {
+        if (!populated)
+          setActiveRegion();
+        index = spatialIndex;
+        if (index == null) {
+          double[][] points = new double[pointMap.size()][];
+          int[] layers = new int[points.length];
+          for (int i = 0; i < points.length; ++i) {
+            points[i] = getPointVector(i);
+            layers[i] = pointMap.get(i)[1];
+          }
+          spatialIndex = index = new SpatialIndex(points, null, layers);
+        }
       }
-    return closestPoint;
+    return index;
+  }
+
+  /**
+   * Find the pointIndex of the point in this PointMap that is closest, in straight-line distance,
+   * to the supplied location. Unlike findClosestPoint(), which returns the point with the largest
+   * interpolation coefficient and -1 if that point is not in the active region, this method
+   * always returns an active point and does not allocate any memory.
+   * 
+   * @param location unit vector of the location of interest
+   * @param radius radius of the location of interest, in km
+   * @param layerIndex only points in this layer are considered. Ignored if &lt; 0.
+   * @return the pointIndex of the closest point, or -1 if there are no points in layerIndex.
+   */
+  public int findNearestPoint(double[] location, double radius, int layerIndex) {
+    return getSpatialIndex().findNearest(location[0] * radius, location[1] * radius,
+        location[2] * radius, layerIndex);
+  }
+
+  /**
+   * Find the k points in this PointMap that are closest, in straight-line distance, to the supplied
+   * location. Does not allocate any memory.
+   * 
+   * @param location unit vector of the location of interest
+   * @param radius radius of the location of interest, in km
+   * @param layerIndex only points in this layer are considered. Ignored if &lt; 0.
+   * @param k number of points to find
+   * @param pointIndices on output, the pointIndexes of the closest points in order of increasing
+   *        distance. Must have length &gt;= k.
+   * @param distances on output, distances in km to the closest points. Must have length &gt;= k.
+   * @return the number of points found, which is less than k only if there are fewer than k
+   *         points in the layer.
+   */
+  public int findNearestPoints(double[] location, double radius, int layerIndex, int k,
+      int[] pointIndices, double[] distances) {
+    return getSpatialIndex().findNearest(location[0] * radius, location[1] * radius,
+        location[2] * radius, k, layerIndex, pointIndices, distances);
+  }
+
+  /**
+   * Find all the points in this PointMap that are within the specified straight-line distance of
+   * the supplied location. The pointIndexes are appended to pointIndices, in no particular order.
+   * No memory is allocated unless pointIndices has to grow.
+   * 
+   * @param location unit vector of the location of interest
+   * @param radius radius of the location of interest, in km
+   * @param layerIndex only points in this layer are considered. Ignored if &lt; 0.
+   * @param distance maximum distance in km.
+   * @param pointIndices the pointIndexes of the points found are appended to this list. It is not
+   *        cleared.
+   * @return the number of points found.
+   */
+  public int findPointsWithin(double[] location, double radius, int layerIndex, double distance,
+      ArrayListInt pointIndices) {
+    return getSpatialIndex().findWithin(location[0] * radius, location[1] * radius,
+        location[2] * radius, distance, layerIndex, pointIndices);
   }
 
   /**
@@ -625,6 +711,9 @@ public class PointMap {
   public void setPointData(int pointIndex, Data data) {
     int[] map = pointMap.get(pointIndex);
     model.getProfiles()[map[0]][map[1]].setData(map[2], data);
+    // the replaced Data object is no longer backed by columnar storage
+    if (model.getDataColumns() != null)
+      model.getDataColumns().detach(map[0], map[1]);
   }
 
   /**
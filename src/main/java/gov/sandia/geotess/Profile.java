@@ -120,6 +120,60 @@ public abstract class Profile {
         radii.length, data.length));
   }
 
+  /**
+   * Construct a Profile whose values are stored in columns, starting at storage index offset.
+   * NPOINT profiles hold no Data objects and serve values directly from the columns. Other profile
+   * types hold a DataColumnar view of their single node.
+   * 
+   * @param radii the radii of the profile
+   * @param nData the number of nodes in the profile
+   * @param columns the columns that store the values
+   * @param offset storage index in columns of the first node of the profile
+   * @return a new Profile
+   * @throws GeoTessException
+   */
+  static Profile newProfile(float[] radii, int nData, DataColumns columns, int offset)
+      throws GeoTessException {
+    if (radii.length >= 2 && nData == radii.length) {
+      for (int i = 1; i < radii.length; ++i)
+        if (radii[i - 1] > radii[i])
+          throw new GeoTessException(
+              "radii are not monotonically increasing\nradii=  " + Arrays.toString(radii));
+      return new ProfileNPoint(radii, columns, offset);
+    }
+
+    Data[] data = new Data[nData];
+    for (int i = 0; i < nData; ++i)
+      data[i] = new DataColumnar(columns, offset + i);
+    return newProfile(radii, data);
+  }
+
+  /**
+   * Store the values of this Profile in the supplied columns, starting at storage index offset.
+   * The values must already have been copied into the columns. Every Data object is replaced with
+   * a DataColumnar view; ProfileNPoint overrides this to drop its Data objects altogether.
+   * 
+   * @param columns the columns that store the values
+   * @param offset storage index in columns of the first node of this profile
+   */
+  void useColumns(DataColumns columns, int offset) {
+    for (int node = 0; node < getNData(); ++node)
+      setData(node, new DataColumnar(columns, offset + node));
+  }
+
+  /**
+   * Called by Profiles with a single Data object before it is replaced. If the current Data object
+   * is a view of a node stored in columns, the columns stop serving values for this Profile so
+   * that interpolation picks up the replacement.
+   * 
+   * @param current the Data object about to be replaced
+   * @param replacement the new Data object
+   */
+  static void detachColumns(Data current, Data replacement) {
+    if (current instanceof DataColumnar && current != replacement)
+      ((DataColumnar) current).getColumns().detach(((DataColumnar) current).getIndex());
+  }
+
   public static Profile newProfile(float[] radii, double[][] values) throws GeoTessException {
     Data[] data = new Data[values.length];
     for (int i = 0; i < data.length; ++i)
@@ -219,6 +219,7 @@ public class ProfileConstant extends Profile {
 
   @Override
   public void setData(Data... data) {
+    detachColumns(this.data, data[0]);
     this.data = data[0];
   }
 
@@ -231,8 +232,10 @@ public class ProfileConstant extends Profile {
    */
   @Override
   public void setData(int index, Data data) {
-    if (index == 0)
+    if (index == 0) {
+      detachColumns(this.data, data);
       this.data = data;
+    }
     else
       throw new ArrayIndexOutOfBoundsException();
   }
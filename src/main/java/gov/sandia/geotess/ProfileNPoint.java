@@ -59,10 +59,23 @@ public class ProfileNPoint extends Profile {
   protected float[] radii;
 
   /**
-   * nPoints array containing the Data objects associated with each node on this profile.
+   * nPoints array containing the Data objects associated with each node on this profile. Null if
+   * the values of this profile are stored in columns.
    */
   protected Data[] data;
 
+  /**
+   * If not null, the values of this profile are stored in these columns, starting at storage index
+   * columnOffset, and data is null. Data objects returned by getData() are then DataColumnar views
+   * that are created on demand.
+   */
+  private DataColumns columns;
+
+  /**
+   * Storage index in columns of the first node of this profile.
+   */
+  private int columnOffset;
+
   /**
    * nAttributes x nPoints array containing the second derivatives at the node points. Used when
    * doing cubic spline interpolation. Lazy evaluation is used, so elements of this variable are
@@ -125,6 +138,20 @@ public class ProfileNPoint extends Profile {
     this.data = data;
   }
 
+  /**
+   * Constructor for a profile whose values are stored in columns. This Profile keeps a reference
+   * to the supplied radii (no copy is made) and holds no Data objects of its own.
+   * 
+   * @param radii 2 or more monotonically increasing radius values
+   * @param columns the columns that store the values of this profile.
+   * @param columnOffset storage index in columns of the first node of this profile.
+   * @throws GeoTessException if radii.length &lt; 2 or radii are not monotonically increasing.
+   */
+  ProfileNPoint(float[] radii, DataColumns columns, int columnOffset) throws GeoTessException {
+    this(radii, new Data[radii.length]);
+    useColumns(columns, columnOffset);
+  }
+
   /**
    * Constructor that loads required information from an ascii file.
    * 
@@ -166,7 +193,8 @@ public class ProfileNPoint extends Profile {
   protected void write(Writer output) throws IOException {
     output.write(String.format("%d %d%n", getType().ordinal(), radii.length));
     for (int i = 0; i < radii.length; ++i)
-      output.append(Float.toString(radii[i])).append(" ").append(data[i].toString()).append('\n');
+      output.append(Float.toString(radii[i])).append(" ").append(getData(i).toString())
+          .append('\n');
   }
 
   @Override
@@ -175,7 +203,7 @@ public class ProfileNPoint extends Profile {
     output.writeInt(radii.length);
     for (int i = 0; i < radii.length; ++i) {
       output.writeFloat(radii[i]);
-      data[i].write(output);
+      getData(i).write(output);
     }
   }
 
@@ -189,25 +217,76 @@ public class ProfileNPoint extends Profile {
     if (other == null || !(other instanceof ProfileNPoint))
       return false;
 
-    if (radii.length != ((ProfileNPoint) other).radii.length
-        || data.length != ((ProfileNPoint) other).data.length)
+    if (radii.length != ((ProfileNPoint) other).radii.length)
       return false;
 
     for (int i = 0; i < radii.length; ++i)
       if (radii[i] != ((ProfileNPoint) other).radii[i]
-          || !data[i].equals(((ProfileNPoint) other).data[i]))
+          || !getData(i).equals(((ProfileNPoint) other).getData(i)))
         return false;
     return true;
   }
 
   @Override
   public Data[] getData() {
-    return data.clone();
+    if (columns == null)
+      return data.clone();
+    Data[] d = new Data[radii.length];
+    for (int i = 0; i < d.length; ++i)
+      d[i] = new DataColumnar(columns, columnOffset + i);
+    return d;
   }
 
+  /**
+   * Retrieve a reference to the i'th Data object. If the values of this profile are stored in
+   * columns, a new DataColumnar view of the i'th node is returned.
+   */
   @Override
   public Data getData(int i) {
-    return data[i];
+    if (columns == null)
+      return data[i];
+    if (i < 0 || i >= radii.length)
+      throw new java.lang.ArrayIndexOutOfBoundsException();
+    return new DataColumnar(columns, columnOffset + i);
+  }
+
+  /**
+   * Drop the Data objects of this profile and serve values directly from the supplied columns,
+   * which must already contain the values of this profile.
+   */
+  @Override
+  void useColumns(DataColumns columns, int offset) {
+    this.columns = columns;
+    this.columnOffset = offset;
+    this.data = null;
+  }
+
+  /**
+   * If the values of this profile are stored in columns, copy them into new heap-based Data
+   * objects owned by this profile and tell the columns to stop serving values for this profile,
+   * so that GeoTessPosition interpolates the new values from this profile.
+   */
+  private void detachColumns() {
+    if (columns != null) {
+      Data[] d = new Data[radii.length];
+      for (int i = 0; i < d.length; ++i)
+        d[i] = getData(i).copy();
+      data = d;
+      columns.detach(columnOffset);
+      columns = null;
+    }
+  }
+
+  /**
+   * Retrieve the value of the specified attribute at the specified node, without range checking.
+   */
+  private double value(int nodeIndex, int attributeIndex) {
+    return columns == null ? data[nodeIndex].getDouble(attributeIndex)
+        : columns.getDouble(attributeIndex, columnOffset + nodeIndex);
+  }
+
+  private int getNAttributes() {
+    return columns == null ? data[0].size() : columns.getNAttributes();
   }
 
   /**
@@ -219,6 +298,10 @@ public class ProfileNPoint extends Profile {
   public void setData(Data... data) {
     if (data.length != radii.length)
       throw new IllegalArgumentException("data.length != radii.length");
+    if (columns != null) {
+      columns.detach(columnOffset);
+      columns = null;
+    }
     this.data = data;
   }
 
@@ -231,6 +314,7 @@ public class ProfileNPoint extends Profile {
    */
   @Override
   public void setData(int index, Data data) {
+    detachColumns();
     if (index < this.data.length)
       this.data[index] = data;
     else
@@ -255,7 +339,7 @@ public class ProfileNPoint extends Profile {
 
   @Override
   public Data getDataTop() {
-    return data[data.length - 1];
+    return getData(radii.length - 1);
   }
 
   @Override
@@ -265,7 +349,7 @@ public class ProfileNPoint extends Profile {
 
   @Override
   public Data getDataBottom() {
-    return data[0];
+    return getData(0);
   }
 
   @Override
@@ -275,7 +359,7 @@ public class ProfileNPoint extends Profile {
 
   @Override
   public int getNData() {
-    return data.length;
+    return radii.length;
   }
 
   @Override
@@ -303,16 +387,16 @@ public class ProfileNPoint extends Profile {
     int index = getRadiusIndex(radius);
 
     if (index < 0)
-      return data[0].getDouble(attributeIndex);
+      return value(0, attributeIndex);
 
     if (index >= radii.length - 1)
-      return data[radii.length - 1].getDouble(attributeIndex);
+      return value(radii.length - 1, attributeIndex);
 
     double r0 = radii[index];
-    double v0 = data[index].getDouble(attributeIndex);
+    double v0 = value(index, attributeIndex);
 
     double r1 = radii[index + 1];
-    double v1 = data[index + 1].getDouble(attributeIndex);
+    double v1 = value(index + 1, attributeIndex);
 
     if (radius >= r1)
       return v1;
@@ -347,13 +431,14 @@ public class ProfileNPoint extends Profile {
    */
   @Override
   public double getValue(int attributeIndex, int nodeIndex) {
-    return nodeIndex >= 0 && nodeIndex < data.length ? data[nodeIndex].getDouble(attributeIndex)
+    return nodeIndex >= 0 && nodeIndex < radii.length ? value(nodeIndex, attributeIndex)
         : Double.NaN;
   }
 
   @Override
   public boolean isNaN(int nodeIndex, int attributeIndex) {
-    return data[nodeIndex].isNaN(attributeIndex);
+    return columns == null ? data[nodeIndex].isNaN(attributeIndex)
+        : columns.isNaN(attributeIndex, columnOffset + nodeIndex);
   }
 
   /**
@@ -363,7 +448,7 @@ public class ProfileNPoint extends Profile {
    * @return the value of the specified attribute at the top of the layer.
    */
   public double getValueTop(int attributeIndex) {
-    return data[data.length - 1].getDouble(attributeIndex);
+    return value(radii.length - 1, attributeIndex);
   }
 
   /**
@@ -380,8 +465,8 @@ public class ProfileNPoint extends Profile {
    */
   public Data getData(InterpolatorType interpType, double radius, boolean allowOutOfRange)
       throws GeoTessException {
-    Data newData = Data.getData(data[0].getDataType(), data[0].size());
-    for (int i = 0; i < data[0].size(); ++i)
+    Data newData = Data.getData(getDataBottom().getDataType(), getNAttributes());
+    for (int i = 0; i < getNAttributes(); ++i)
       newData.setValue(i, getValue(interpType, i, radius, allowOutOfRange));
 
     return newData;
@@ -455,12 +540,12 @@ public class ProfileNPoint extends Profile {
 
   synchronized private void check(int attributeIndex) {
     if (y2 == null)
-      y2 = new double[data[0].size()][];
+      y2 = new double[getNAttributes()][];
     if (y2[attributeIndex] == null)
-      y2[attributeIndex] = spline(radii, data, attributeIndex, 1e30, 1e30);
+      y2[attributeIndex] = spline(radii, attributeIndex, 1e30, 1e30);
   }
 
-  private double[] spline(float[] x, Data[] y, int attributeIndex, double yp1, double ypn) {
+  private double[] spline(float[] x, int attributeIndex, double yp1, double ypn) {
     int i, k;
     double p, qn, sig, un;
 
@@ -472,16 +557,15 @@ public class ProfileNPoint extends Profile {
     else {
       y2[0] = -0.5;
       u[0] = (3.0 / (x[1] - x[0]))
-          * ((y[1].getDouble(attributeIndex) - y[0].getDouble(attributeIndex)) / (x[1] - x[0])
-              - yp1);
+          * ((value(1, attributeIndex) - value(0, attributeIndex)) / (x[1] - x[0]) - yp1);
     }
     for (i = 1; i < n - 1; i++) {
       sig = (x[i] - x[i - 1]) / (x[i + 1] - x[i - 1]);
       p = sig * y2[i - 1] + 2.0;
       y2[i] = (sig - 1.0) / p;
       u[i] =
-          (y[i + 1].getDouble(attributeIndex) - y[i].getDouble(attributeIndex)) / (x[i + 1] - x[i])
-              - (y[i].getDouble(attributeIndex) - y[i - 1].getDouble(attributeIndex))
+          (value(i + 1, attributeIndex) - value(i, attributeIndex)) / (x[i + 1] - x[i])
+              - (value(i, attributeIndex) - value(i - 1, attributeIndex))
                   / (x[i] - x[i - 1]);
       u[i] = (6.0 * u[i] / (x[i + 1] - x[i - 1]) - sig * u[i - 1]) / p;
     }
@@ -490,7 +574,7 @@ public class ProfileNPoint extends Profile {
     else {
       qn = 0.5;
       un = (3.0 / (x[n - 1] - x[n - 2]))
-          * (ypn - (y[n - 1].getDouble(attributeIndex) - y[n - 2].getDouble(attributeIndex))
+          * (ypn - (value(n - 1, attributeIndex) - value(n - 2, attributeIndex))
               / (x[n - 1] - x[n - 2]));
     }
     y2[n - 1] = (un - qn * u[n - 2]) / (qn * y2[n - 2] + 1.0);
@@ -529,7 +613,7 @@ public class ProfileNPoint extends Profile {
       if (pointIndex < 0)
         return;
 
-      pointIndices = new int[data.length];
+      pointIndices = new int[radii.length];
       Arrays.fill(pointIndices, -1);
     }
     pointIndices[nodeIndex] = pointIndex;
@@ -628,7 +712,7 @@ public class ProfileNPoint extends Profile {
       buf.append("      " + String.format("%3d  %7d", i, pointIndices[i]) + NL);
     buf.append("    Data: " + NL);
     for (int i = 0; i < radii.length; ++i)
-      buf.append("      " + String.format("%3d  %s", i, data[i].toString()) + NL);
+      buf.append("      " + String.format("%3d  %s", i, getData(i).toString()) + NL);
     buf.append("    Layer Normal: " + vectorString(layerNormal) + NL);
     if (gradients == null)
       buf.append("    Gradients: [undefined]" + NL);
@@ -652,9 +736,9 @@ public class ProfileNPoint extends Profile {
    */
   @Override
   public Profile copy() throws GeoTessException {
-    Data[] d = new Data[data.length];
+    Data[] d = new Data[radii.length];
     for (int i = 0; i < d.length; ++i)
-      d[i] = data[i].copy();
+      d[i] = getData(i).copy();
     ProfileNPoint pnp = new ProfileNPoint(radii.clone(), d);
 
     if (pointIndices != null)
@@ -689,12 +773,12 @@ public class ProfileNPoint extends Profile {
     if (reciprocal) {
       for (int i = 1; i < radii.length; ++i)
         integral += (radii[i] - radii[i - 1])
-            / (data[i].getDouble(attributeIndex) + data[i - 1].getDouble(attributeIndex));
+            / (value(i, attributeIndex) + value(i - 1, attributeIndex));
       return integral * 2;
     } else {
       for (int i = 1; i < radii.length; ++i)
         integral += (radii[i] - radii[i - 1])
-            * (data[i].getDouble(attributeIndex) + data[i - 1].getDouble(attributeIndex));
+            * (value(i, attributeIndex) + value(i - 1, attributeIndex));
       return integral / 2;
     }
   }
@@ -716,8 +800,8 @@ public class ProfileNPoint extends Profile {
       double[] unitVector, int layerId, boolean reciprocal) throws GeoTessException {
     // create gradients array for each attribute if null
     if (gradients == null) {
-      gradients = new double[data[0].size()][][];
-      gradientReciprocal = new boolean[data[0].size()];
+      gradients = new double[getNAttributes()][][];
+      gradientReciprocal = new boolean[getNAttributes()];
     }
 
     // create requested attribute entry if null or the reciprocal flag has
@@ -193,6 +193,7 @@ public class ProfileSurface extends Profile {
 
   @Override
   public void setData(Data... data) {
+    detachColumns(this.data, data[0]);
     this.data = data[0];
   }
 
@@ -205,8 +206,10 @@ public class ProfileSurface extends Profile {
    */
   @Override
   public void setData(int index, Data data) {
-    if (index == 0)
+    if (index == 0) {
+      detachColumns(this.data, data);
       this.data = data;
+    }
     else
       throw new ArrayIndexOutOfBoundsException();
   }
@@ -213,6 +213,7 @@ public class ProfileThin extends Profile {
 
   @Override
   public void setData(Data... data) {
+    detachColumns(this.data, data[0]);
     this.data = data[0];
   }
 
@@ -225,8 +226,10 @@ public class ProfileThin extends Profile {
    */
   @Override
   public void setData(int index, Data data) {
-    if (index == 0)
+    if (index == 0) {
+      detachColumns(this.data, data);
       this.data = data;
+    }
     else
       throw new ArrayIndexOutOfBoundsException();
   }
@@ -0,0 +1,353 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.geotess;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import gov.sandia.gmp.util.containers.arraylist.ArrayListDouble;
+import gov.sandia.gmp.util.containers.arraylist.ArrayListInt;
+import gov.sandia.gmp.util.containers.hash.maps.OpenHashMapIntegerDouble;
+import gov.sandia.gmp.util.globals.InterpolatorType;
+import gov.sandia.gmp.util.numerical.intrinsicsort.IntrinsicSort;
+import gov.sandia.gmp.util.numerical.sparse.SparseMatrixHugeWriter;
+import gov.sandia.gmp.util.numerical.sparse.SparseMatrixStandard;
+
+/**
+ * Builds tomographic sensitivity matrices from batches of ray paths. Row i of the matrix holds the
+ * weights that ray path i accrues on the model points it touches, exactly as computed by
+ * GeoTessModel.getWeights(); column indices are model pointIndex values. Ray paths are processed
+ * in parallel, in blocks, in the common ForkJoinPool. Each thread reuses its own GeoTessPosition
+ * and weights map, and the weights of each block are written straight into Compressed Sparse Row
+ * (CSR) arrays, so no per-ray map or sparse vector objects are created.
+ * 
+ * <p>
+ * Ray paths are specified with primitive arrays. For ray path i:
+ * <ul>
+ * <li>vectors[i] holds the unit vectors of the points along the path, packed as x0, y0, z0, x1,
+ * y1, z1, ...
+ * <li>radii[i] holds the radii of the points, in km.
+ * <li>layerIds[i], which may be null, holds the layer index of each point. Path increment j, from
+ * point j to point j+1, is constrained to layer layerIds[i][j] if both points have the same layer
+ * index; otherwise the layer is determined from the radius of the midpoint of the increment.
+ * </ul>
+ * 
+ * <p>
+ * Model points that are not active in the model's PointMap have pointIndex -1. Weights on such
+ * points are not included in the matrix; the complete array passed to the build methods records
+ * which rays touched only active points.
+ * 
+ * <p>
+ * For matrices too large to be held in memory, build(..., SparseMatrixHugeWriter) appends the rows
+ * to a file that can be loaded with SparseMatrixHuge. It can be called repeatedly with successive
+ * batches of rays.
+ */
+public class SensitivityMatrixBuilder {
+
+  private final GeoTessModel model;
+
+  private final InterpolatorType horizontalType;
+
+  private final InterpolatorType radialType;
+
+  /**
+   * Number of rays processed by a single task.
+   */
+  private int raysPerBlock = 256;
+
+  /**
+   * Maximum number of blocks that are held in memory at one time by
+   * build(..., SparseMatrixHugeWriter).
+   */
+  private int blocksPerWrite = 64;
+
+  /**
+   * Constructor.
+   * 
+   * @param model the model whose points are the columns of the matrix.
+   * @param horizontalType InterpolatorType.LINEAR or InterpolatorType.NATURAL_NEIGHBOR
+   * @param radialType InterpolatorType.LINEAR or InterpolatorType.CUBIC_SPLINE
+   * @throws GeoTessException if the interpolator types are not supported.
+   */
+  public SensitivityMatrixBuilder(GeoTessModel model, InterpolatorType horizontalType,
+      InterpolatorType radialType) throws GeoTessException {
+    this.model = model;
+    this.horizontalType = horizontalType;
+    this.radialType = radialType;
+    // fail now rather than inside a worker thread
+    model.getGeoTessPosition(horizontalType, radialType);
+  }
+
+  /**
+   * Specify the number of rays processed by a single parallel task. Default is 256.
+   * 
+   * @param raysPerBlock the number of rays per task.
+   * @return this
+   */
+  public SensitivityMatrixBuilder setRaysPerBlock(int raysPerBlock) {
+    this.raysPerBlock = Math.max(1, raysPerBlock);
+    return this;
+  }
+
+  /**
+   * Specify the maximum number of blocks of rays that build(..., SparseMatrixHugeWriter) holds in
+   * memory before writing them out. Default is 64.
+   * 
+   * @param blocksPerWrite the maximum number of blocks held in memory.
+   * @return this
+   */
+  public SensitivityMatrixBuilder setBlocksPerWrite(int blocksPerWrite) {
+    this.blocksPerWrite = Math.max(1, blocksPerWrite);
+    return this;
+  }
+
+  public GeoTessModel getModel() {
+    return model;
+  }
+
+  public InterpolatorType getHorizontalType() {
+    return horizontalType;
+  }
+
+  public InterpolatorType getRadialType() {
+    return radialType;
+  }
+
+  /**
+   * Build a sensitivity matrix in memory. Row i of the returned matrix corresponds to ray path i
+   * and the number of columns is the number of points in the model. The matrix is returned in CSR
+   * form with the column indices of each row in increasing order.
+   * 
+   * @param vectors vectors[i] holds the unit vectors of the points along ray path i, packed as
+   *        x0, y0, z0, x1, y1, z1, ...
+   * @param radii radii[i] holds the radii, in km, of the points along ray path i.
+   * @param layerIds layerIds[i] holds the layer index of the points along ray path i. May be
+   *        null, as may any layerIds[i].
+   * @param complete if not null, on output complete[i] is false if ray path i touched any model
+   *        point that is not active.
+   * @return the sensitivity matrix.
+   * @throws GeoTessException if the matrix has more than Integer.MAX_VALUE entries, in which case
+   *         build(..., SparseMatrixHugeWriter) has to be used.
+   */
+  public SparseMatrixStandard build(double[][] vectors, double[][] radii, int[][] layerIds,
+      boolean[] complete) throws GeoTessException {
+    int nBlocks = (vectors.length + raysPerBlock - 1) / raysPerBlock;
+    List<Block> blocks = computeBlocks(vectors, radii, layerIds, complete, 0, nBlocks);
+
+    // offsets of the blocks in the output arrays
+    long nEntries = 0;
+    long[] offsets = new long[nBlocks];
+    for (int b = 0; b < nBlocks; ++b) {
+      offsets[b] = nEntries;
+      nEntries += blocks.get(b).cols.size();
+    }
+    if (nEntries > Integer.MAX_VALUE - 8)
+      throw new GeoTessException(String.format("%nSensitivity matrix has %d entries, which is too "
+          + "many for a SparseMatrixStandard.%nUse build(..., SparseMatrixHugeWriter) instead.",
+          nEntries));
+
+    int[] rowsPtrs = new int[vectors.length + 1];
+    int[] cols = new int[(int) nEntries];
+    double[] vals = new double[(int) nEntries];
+    IntStream.range(0, nBlocks).parallel().forEach(b -> {
+      Block block = blocks.get(b);
+      int offset = (int) offsets[b];
+      int firstRow = b * raysPerBlock;
+      System.arraycopy(block.cols.getArray(), 0, cols, offset, block.cols.size());
+      System.arraycopy(block.vals.getArray(), 0, vals, offset, block.vals.size());
+      for (int r = 0; r < block.rowsPtrs.size() - 1; ++r)
+        rowsPtrs[firstRow + r + 1] = offset + block.rowsPtrs.get(r + 1);
+    });
+
+    ArrayListInt rowsPtrsList = new ArrayListInt();
+    rowsPtrsList.setArray(rowsPtrs);
+    ArrayListInt colsList = new ArrayListInt();
+    colsList.setArray(cols);
+    ArrayListDouble valsList = new ArrayListDouble();
+    valsList.setArray(vals);
+    return new SparseMatrixStandard(rowsPtrsList, colsList, valsList, model.getNPoints());
+  }
+
+  /**
+   * Compute the sensitivity matrix rows of a batch of ray paths and append them to a matrix being
+   * written to disk. Rays are processed in groups of blocksPerWrite blocks so that only those
+   * blocks are held in memory at any time. May be called repeatedly; rows are appended in order.
+   * 
+   * @param vectors vectors[i] holds the unit vectors of the points along ray path i, packed as
+   *        x0, y0, z0, x1, y1, z1, ...
+   * @param radii radii[i] holds the radii, in km, of the points along ray path i.
+   * @param layerIds layerIds[i] holds the layer index of the points along ray path i. May be
+   *        null, as may any layerIds[i].
+   * @param complete if not null, on output complete[i] is false if ray path i touched any model
+   *        point that is not active.
+   * @param writer the writer to which the rows are appended.
+   * @throws GeoTessException
+   * @throws IOException
+   */
+  public void build(double[][] vectors, double[][] radii, int[][] layerIds, boolean[] complete,
+      SparseMatrixHugeWriter writer) throws GeoTessException, IOException {
+    writer.setColumnCount(model.getNPoints());
+    int nBlocks = (vectors.length + raysPerBlock - 1) / raysPerBlock;
+    for (int first = 0; first < nBlocks; first += blocksPerWrite)
+      for (Block block : computeBlocks(vectors, radii, layerIds, complete, first,
+          Math.min(nBlocks, first + blocksPerWrite)))
+        for (int r = 0; r < block.rowsPtrs.size() - 1; ++r)
+          writer.addRow(block.cols.getArray(), block.vals.getArray(), block.rowsPtrs.get(r),
+              block.rowsPtrs.get(r + 1) - block.rowsPtrs.get(r));
+  }
+
+  /**
+   * Compute blocks firstBlock to lastBlock-1 in parallel. Scratch space is shared by the blocks of
+   * this call only: each block borrows a Scratch from the pool and returns it when done, so no
+   * more Scratch objects are created than there are threads, and none outlive the call.
+   */
+  private List<Block> computeBlocks(double[][] vectors, double[][] radii, int[][] layerIds,
+      boolean[] complete, int firstBlock, int lastBlock) throws GeoTessException {
+    ConcurrentLinkedQueue<Scratch> pool = new ConcurrentLinkedQueue<>();
+    try {
+      return IntStream.range(firstBlock, lastBlock).parallel().mapToObj(b -> {
+        Scratch s = pool.poll();
+        try {
+          if (s == null)
+            s = new Scratch(model.getGeoTessPosition(horizontalType, radialType));
+          return computeBlock(s, vectors, radii, layerIds, complete, b * raysPerBlock,
+              Math.min(vectors.length, (b + 1) * raysPerBlock));
+        } catch (GeoTessException e) {
+          throw new CompletionException(e);
+        } finally {
+          if (s != null)
+            pool.add(s);
+        }
+      }).collect(Collectors.toList());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof GeoTessException)
+        throw (GeoTessException) e.getCause();
+      throw e;
+    }
+  }
+
+  /**
+   * Compute the rows of rays from to to-1.
+   */
+  private Block computeBlock(Scratch s, double[][] vectors, double[][] radii, int[][] layerIds,
+      boolean[] complete, int from, int to) throws GeoTessException {
+    Block block = new Block(to - from);
+    for (int ray = from; ray < to; ++ray) {
+      s.weights.clear();
+      getWeights(s, vectors[ray], radii[ray], layerIds == null ? null : layerIds[ray]);
+
+      int start = block.cols.size();
+      s.cursor.reset();
+      while (s.cursor.next())
+        if (s.cursor.key() >= 0) {
+          block.cols.add(s.cursor.key());
+          block.vals.add(s.cursor.value());
+        }
+      IntrinsicSort.sort(block.cols.getArray(), block.vals.getArray(), start,
+          block.cols.size() - start);
+      block.rowsPtrs.add(block.cols.size());
+
+      if (complete != null)
+        complete[ray] = !s.weights.contains(-1);
+    }
+    return block;
+  }
+
+  /**
+   * Accumulate the weights of one ray path into s.weights. Identical to
+   * GeoTessModel.getWeights(ArrayList, ArrayListDouble, ArrayListInt, InterpolatorType,
+   * InterpolatorType, OpenHashMapIntegerDouble) but reads the ray path from primitive arrays. A
+   * ray path with no points contributes no weights, so its row is empty.
+   */
+  private void getWeights(Scratch s, double[] vectors, double[] radii, int[] layerIds)
+      throws GeoTessException {
+    if (radii.length == 0)
+      return;
+
+    double[] v1 = s.v1, v2 = s.v2, v = s.v;
+    double dist, r1, r2;
+    int layer;
+
+    v2[0] = vectors[0];
+    v2[1] = vectors[1];
+    v2[2] = vectors[2];
+    for (int i = 1; i < radii.length; ++i) {
+      v1[0] = v2[0];
+      v1[1] = v2[1];
+      v1[2] = v2[2];
+      v2[0] = vectors[3 * i];
+      v2[1] = vectors[3 * i + 1];
+      v2[2] = vectors[3 * i + 2];
+      r1 = radii[i - 1];
+      r2 = radii[i];
+      dist = GeoTessUtils.getDistance3D(v1, r1, v2, r2);
+      if (dist > 1e-4) {
+        v[0] = v1[0] + v2[0];
+        v[1] = v1[1] + v2[1];
+        v[2] = v1[2] + v2[2];
+        GeoTessUtils.normalize(v);
+        layer = (layerIds == null || layerIds[i - 1] != layerIds[i]) ? -1 : layerIds[i - 1];
+        s.position.set(layer, v, (r1 + r2) / 2.);
+        s.position.getWeights(s.weights, dist);
+      }
+    }
+  }
+
+  private static class Scratch {
+    final GeoTessPosition position;
+    final OpenHashMapIntegerDouble weights = new OpenHashMapIntegerDouble(256);
+    final OpenHashMapIntegerDouble.Cursor cursor = weights.cursor();
+    final double[] v1 = new double[3], v2 = new double[3], v = new double[3];
+
+    Scratch(GeoTessPosition position) {
+      this.position = position;
+    }
+  }
+
+  /**
+   * The CSR rows of a contiguous block of rays. rowsPtrs are relative to the start of the block.
+   */
+  private static class Block {
+    final ArrayListInt rowsPtrs;
+    final ArrayListInt cols = new ArrayListInt(4096);
+    final ArrayListDouble vals = new ArrayListDouble(4096);
+
+    Block(int nRows) {
+      rowsPtrs = new ArrayListInt(nRows + 1);
+      rowsPtrs.add(0);
+    }
+  }
+}
@@ -0,0 +1,443 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.geotess;
+
+import gov.sandia.gmp.util.containers.arraylist.ArrayListInt;
+
+/**
+ * A static k-d tree over a set of points in 3D Cartesian space, supporting nearest, k-nearest and
+ * fixed radius queries. The tree is balanced and stored implicitly in flat arrays, so it is compact
+ * and queries perform no memory allocation. Once constructed, a SpatialIndex is immutable and may
+ * be queried concurrently from multiple threads.
+ * 
+ * <p>
+ * Each point carries an integer id, returned by the queries, and optionally an integer group.
+ * Queries that specify a group &gt;= 0 only consider points in that group. GeoTessGrid uses the
+ * index with unit vectors to find grid vertices, and PointMap with points scaled by radius (km) and
+ * grouped by layer index to find model points.
+ * 
+ * <p>
+ * Distances are straight-line distances in the units of the points. For points on the unit sphere,
+ * use chordLength() and angle() to convert between chord lengths and angular separations.
+ */
+public final class SpatialIndex {
+
+  /**
+   * Number of points in the index.
+   */
+  private final int n;
+
+  /**
+   * x,y,z coordinates of the points, in tree order.
+   */
+  private final double[] xyz;
+
+  /**
+   * Point ids, in tree order.
+   */
+  private final int[] ids;
+
+  /**
+   * Point groups, in tree order, or null if no groups were specified.
+   */
+  private final int[] groups;
+
+  /**
+   * The dimension (0, 1 or 2) along which the tree is split at each node.
+   */
+  private final byte[] splitDim;
+
+  /**
+   * Build an index where the id of each point is its index in points.
+   * 
+   * @param points n x 3 array of point coordinates.
+   */
+  public SpatialIndex(double[][] points) {
+    this(points, null, null);
+  }
+
+  /**
+   * Build an index.
+   * 
+   * @param points n x 3 array of point coordinates.
+   * @param pointIds the id of each point, returned by the queries. If null, the id of each point is
+   *        its index in points.
+   * @param pointGroups the group of each point. May be null, in which case group filters specified
+   *        in queries are ignored.
+   */
+  public SpatialIndex(double[][] points, int[] pointIds, int[] pointGroups) {
+    n = points.length;
+    xyz = new double[3 * n];
+    ids = new int[n];
+    groups = pointGroups == null ? null : new int[n];
+    splitDim = new byte[n];
+
+    int[] order = new int[n];
+    for (int i = 0; i < n; ++i)
+      order[i] = i;
+
+    build(points, order, 0, n);
+
+    for (int i = 0; i < n; ++i) {
+      double[] p = points[order[i]];
+      xyz[3 * i] = p[0];
+      xyz[3 * i + 1] = p[1];
+      xyz[3 * i + 2] = p[2];
+      ids[i] = pointIds == null ? order[i] : pointIds[order[i]];
+      if (groups != null)
+        groups[i] = pointGroups[order[i]];
+    }
+  }
+
+  /**
+   * Number of points in the index.
+   * 
+   * @return number of points in the index.
+   */
+  public int size() {
+    return n;
+  }
+
+  /**
+   * Find the point closest to the specified location.
+   * 
+   * @param location x,y,z coordinates
+   * @return the id of the closest point, or -1 if the index is empty.
+   */
+  public int findNearest(double[] location) {
+    return findNearest(location[0], location[1], location[2], -1);
+  }
+
+  /**
+   * Find the point in the specified group closest to the specified location.
+   * 
+   * @param location x,y,z coordinates
+   * @param group only points in this group are considered. Ignored if &lt; 0.
+   * @return the id of the closest point, or -1 if there is no point in the group.
+   */
+  public int findNearest(double[] location, int group) {
+    return findNearest(location[0], location[1], location[2], group);
+  }
+
+  /**
+   * Find the point in the specified group closest to the specified location.
+   * 
+   * @param x x coordinate
+   * @param y y coordinate
+   * @param z z coordinate
+   * @param group only points in this group are considered. Ignored if &lt; 0.
+   * @return the id of the closest point, or -1 if there is no point in the group.
+   */
+  public int findNearest(double x, double y, double z, int group) {
+    int best = nearest(0, n, x, y, z, group < 0 || groups == null ? -1 : group, -1);
+    return best < 0 ? -1 : ids[best];
+  }
+
+  /**
+   * Find the k points in the specified group closest to the specified location.
+   * 
+   * @param location x,y,z coordinates
+   * @param k the number of points to find.
+   * @param group only points in this group are considered. Ignored if &lt; 0.
+   * @param pointIds on output, the ids of the closest points, in order of increasing distance.
+   *        Must have length &gt;= k.
+   * @param distances on output, the distances to the closest points. Must have length &gt;= k.
+   * @return the number of points found, which is less than k only if there are fewer than k
+   *         points in the group.
+   */
+  public int findNearest(double[] location, int k, int group, int[] pointIds, double[] distances) {
+    return findNearest(location[0], location[1], location[2], k, group, pointIds, distances);
+  }
+
+  /**
+   * Find the k points in the specified group closest to the specified location.
+   * 
+   * @param x x coordinate
+   * @param y y coordinate
+   * @param z z coordinate
+   * @param k the number of points to find.
+   * @param group only points in this group are considered. Ignored if &lt; 0.
+   * @param pointIds on output, the ids of the closest points, in order of increasing distance.
+   *        Must have length &gt;= k.
+   * @param distances on output, the distances to the closest points. Must have length &gt;= k.
+   * @return the number of points found, which is less than k only if there are fewer than k
+   *         points in the group.
+   */
+  public int findNearest(double x, double y, double z, int k, int group, int[] pointIds,
+      double[] distances) {
+    if (k <= 0)
+      return 0;
+    // pointIds holds tree positions and distances holds squared distances until the search is done.
+    int count = nearest(0, n, x, y, z, group < 0 || groups == null ? -1 : group, k, pointIds,
+        distances, 0);
+    for (int i = 0; i < count; ++i) {
+      pointIds[i] = ids[pointIds[i]];
+      distances[i] = Math.sqrt(distances[i]);
+    }
+    return count;
+  }
+
+  /**
+   * Find all the points in the specified group within the specified distance of a location. The
+   * ids of the points are appended to pointIds, in no particular order.
+   * 
+   * @param location x,y,z coordinates
+   * @param distance maximum distance.
+   * @param group only points in this group are considered. Ignored if &lt; 0.
+   * @param pointIds the ids of the points found are appended to this list. It is not cleared.
+   * @return the number of points found.
+   */
+  public int findWithin(double[] location, double distance, int group, ArrayListInt pointIds) {
+    return findWithin(location[0], location[1], location[2], distance, group, pointIds);
+  }
+
+  /**
+   * Find all the points in the specified group within the specified distance of a location. The
+   * ids of the points are appended to pointIds, in no particular order.
+   * 
+   * @param x x coordinate
+   * @param y y coordinate
+   * @param z z coordinate
+   * @param distance maximum distance.
+   * @param group only points in this group are considered. Ignored if &lt; 0.
+   * @param pointIds the ids of the points found are appended to this list. It is not cleared.
+   * @return the number of points found.
+   */
+  public int findWithin(double x, double y, double z, double distance, int group,
+      ArrayListInt pointIds) {
+    if (distance < 0.)
+      return 0;
+    return within(0, n, x, y, z, group < 0 || groups == null ? -1 : group, distance * distance,
+        pointIds);
+  }
+
+  /**
+   * Convert an angular separation between two unit vectors to the straight-line distance between
+   * them.
+   * 
+   * @param angle angular separation in radians
+   * @return chord length
+   */
+  public static double chordLength(double angle) {
+    return 2. * Math.sin(Math.min(angle, Math.PI) / 2.);
+  }
+
+  /**
+   * Convert the straight-line distance between two unit vectors to the angular separation between
+   * them.
+   * 
+   * @param chordLength straight-line distance
+   * @return angular separation in radians
+   */
+  public static double angle(double chordLength) {
+    return 2. * Math.asin(Math.min(chordLength, 2.) / 2.);
+  }
+
+  /**
+   * Arrange order[lo..hi) so that the median along the dimension with the greatest spread is at
+   * the middle position, smaller values are before it and larger values after it, then recurse on
+   * both halves.
+   */
+  private void build(double[][] points, int[] order, int lo, int hi) {
+    while (hi - lo > 1) {
+      double[] min = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY};
+      double[] max = {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+      for (int i = lo; i < hi; ++i) {
+        double[] p = points[order[i]];
+        for (int d = 0; d < 3; ++d) {
+          if (p[d] < min[d])
+            min[d] = p[d];
+          if (p[d] > max[d])
+            max[d] = p[d];
+        }
+      }
+      int dim = 0;
+      for (int d = 1; d < 3; ++d)
+        if (max[d] - min[d] > max[dim] - min[dim])
+          dim = d;
+
+      int mid = (lo + hi) >>> 1;
+      select(points, order, lo, hi - 1, mid, dim);
+      splitDim[mid] = (byte) dim;
+
+      build(points, order, lo, mid);
+      lo = mid + 1;
+    }
+  }
+
+  /**
+   * Quickselect: partially sort order[left..right] so that position k holds the element that
+   * would be there if the range were sorted along dimension dim.
+   */
+  private static void select(double[][] points, int[] order, int left, int right, int k,
+      int dim) {
+    while (right > left) {
+      // median of three pivot
+      int m = (left + right) >>> 1;
+      if (points[order[m]][dim] < points[order[left]][dim])
+        swap(order, m, left);
+      if (points[order[right]][dim] < points[order[left]][dim])
+        swap(order, right, left);
+      if (points[order[right]][dim] < points[order[m]][dim])
+        swap(order, right, m);
+      double pivot = points[order[m]][dim];
+
+      int i = left, j = right;
+      while (i <= j) {
+        while (points[order[i]][dim] < pivot)
+          ++i;
+        while (points[order[j]][dim] > pivot)
+          --j;
+        if (i <= j)
+          swap(order, i++, j--);
+      }
+      if (k <= j)
+        right = j;
+      else if (k >= i)
+        left = i;
+      else
+        return;
+    }
+  }
+
+  private static void swap(int[] a, int i, int j) {
+    int t = a[i];
+    a[i] = a[j];
+    a[j] = t;
+  }
+
+  private double distanceSquared(int position, double x, double y, double z) {
+    int i = 3 * position;
+    double dx = x - xyz[i], dy = y - xyz[i + 1], dz = z - xyz[i + 2];
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  /**
+   * Nearest neighbor search of tree positions [lo, hi). Returns the tree position of the closest
+   * point found so far, starting from best (-1 if none yet).
+   */
+  private int nearest(int lo, int hi, double x, double y, double z, int group, int best) {
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (group < 0 || groups[mid] == group)
+        if (best < 0 || distanceSquared(mid, x, y, z) < distanceSquared(best, x, y, z))
+          best = mid;
+
+      int dim = splitDim[mid];
+      double delta = (dim == 0 ? x : dim == 1 ? y : z) - xyz[3 * mid + dim];
+      if (delta < 0.) {
+        best = nearest(lo, mid, x, y, z, group, best);
+        if (best >= 0 && delta * delta >= distanceSquared(best, x, y, z))
+          break;
+        lo = mid + 1;
+      } else {
+        best = nearest(mid + 1, hi, x, y, z, group, best);
+        if (best >= 0 && delta * delta >= distanceSquared(best, x, y, z))
+          break;
+        hi = mid;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * k nearest neighbor search of tree positions [lo, hi). positions and d2 hold the count closest
+   * points found so far, sorted by squared distance. Returns the new count.
+   */
+  private int nearest(int lo, int hi, double x, double y, double z, int group, int k,
+      int[] positions, double[] d2, int count) {
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (group < 0 || groups[mid] == group) {
+        double d = distanceSquared(mid, x, y, z);
+        if (count < k || d < d2[count - 1]) {
+          // insertion into the sorted list, dropping the farthest if the list is full
+          int i = count < k ? count++ : count - 1;
+          while (i > 0 && d2[i - 1] > d) {
+            positions[i] = positions[i - 1];
+            d2[i] = d2[i - 1];
+            --i;
+          }
+          positions[i] = mid;
+          d2[i] = d;
+        }
+      }
+
+      int dim = splitDim[mid];
+      double delta = (dim == 0 ? x : dim == 1 ? y : z) - xyz[3 * mid + dim];
+      if (delta < 0.) {
+        count = nearest(lo, mid, x, y, z, group, k, positions, d2, count);
+        if (count == k && delta * delta >= d2[count - 1])
+          break;
+        lo = mid + 1;
+      } else {
+        count = nearest(mid + 1, hi, x, y, z, group, k, positions, d2, count);
+        if (count == k && delta * delta >= d2[count - 1])
+          break;
+        hi = mid;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Fixed radius search of tree positions [lo, hi). Returns the number of points appended to
+   * pointIds.
+   */
+  private int within(int lo, int hi, double x, double y, double z, int group, double r2,
+      ArrayListInt pointIds) {
+    int count = 0;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if ((group < 0 || groups[mid] == group) && distanceSquared(mid, x, y, z) <= r2) {
+        pointIds.add(ids[mid]);
+        ++count;
+      }
+
+      int dim = splitDim[mid];
+      double delta = (dim == 0 ? x : dim == 1 ? y : z) - xyz[3 * mid + dim];
+      if (delta < 0.) {
+        count += within(lo, mid, x, y, z, group, r2, pointIds);
+        if (delta * delta > r2)
+          break;
+        lo = mid + 1;
+      } else {
+        count += within(mid + 1, hi, x, y, z, group, r2, pointIds);
+        if (delta * delta > r2)
+          break;
+        hi = mid;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,270 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.geotess;
+
+import java.util.stream.IntStream;
+
+/**
+ * A coarse spherical lookup table that maps any unit vector to a triangle, deep in the hierarchy of
+ * one tessellation of a GeoTessGrid, from which the walking triangle search can start. Without it,
+ * a search for a position that is far from the previous one has to start at level 0 and walk down
+ * through every level of the tessellation.
+ * 
+ * <p>
+ * The unit sphere is divided into buckets by projecting it onto the 6 faces of a cube, each face
+ * divided into n x n cells of equal angular width. For each bucket, the index stores the triangle
+ * on the deepest level such that each corner of the bucket lies inside the triangle that contains
+ * the center of the bucket, or inside one of its 3 neighbors. A walk that starts at that triangle
+ * reaches the containing triangle on that level within a step or two and then only has to descend
+ * through the remaining levels.
+ * 
+ * <p>
+ * Once constructed, a TriangleSeedIndex is immutable and may be queried concurrently from multiple
+ * threads. Instances are obtained from GeoTessGrid.getTriangleSeedIndex(tessId), which builds the
+ * index for each tessellation the first time it is requested.
+ */
+public final class TriangleSeedIndex {
+
+  /**
+   * Maximum number of buckets along each side of a cube face.
+   */
+  private static final int MAX_FACE_SIZE = 256;
+
+  /**
+   * Number of buckets along each side of a cube face.
+   */
+  private final int n;
+
+  /**
+   * The triangle from which to start the walk, for each of the 6*n*n buckets.
+   */
+  private final int[] triangles;
+
+  /**
+   * The tessellation level of each triangle, relative to the first level of the tessellation.
+   */
+  private final byte[] levels;
+
+  /**
+   * Build the index for the specified tessellation. The number of buckets is scaled to the number of
+   * triangles on the top level of the tessellation, so that buckets are somewhat smaller than the
+   * smallest triangles of a uniform grid.
+   * 
+   * @param grid the grid
+   * @param tessId tessellation index
+   */
+  TriangleSeedIndex(GeoTessGrid grid, int tessId) {
+    int nTop = grid.getNTriangles(tessId, grid.getNLevels(tessId) - 1);
+    n = Math.max(4, Math.min(MAX_FACE_SIZE, (int) Math.ceil(Math.sqrt(nTop * 4. / 6.))));
+    triangles = new int[6 * n * n];
+    levels = new byte[6 * n * n];
+
+    IntStream.range(0, 6 * n).parallel().forEach(row -> {
+      double[] center = new double[3];
+      double[][] corners = new double[4][3];
+      int start = grid.getTriangle(tessId, 0, 0);
+      for (int j = 0; j < n; ++j) {
+        int bucket = row * n + j;
+        int face = row / n;
+        int i = row % n;
+        vector(face, i + 0.5, j + 0.5, center);
+        vector(face, i, j, corners[0]);
+        vector(face, i + 1, j, corners[1]);
+        vector(face, i, j + 1, corners[2]);
+        vector(face, i + 1, j + 1, corners[3]);
+        start = seed(grid, tessId, start, center, corners, bucket);
+      }
+    });
+  }
+
+  /**
+   * Find the bucket that contains the specified unit vector.
+   * 
+   * @param u a unit vector, in grid coordinates
+   * @return bucket index
+   */
+  public int getBucket(double[] u) {
+    double ax = Math.abs(u[0]), ay = Math.abs(u[1]), az = Math.abs(u[2]);
+    int face;
+    double a, b;
+    if (ax >= ay && ax >= az) {
+      face = u[0] >= 0 ? 0 : 1;
+      a = u[1] / ax;
+      b = u[2] / ax;
+    } else if (ay >= az) {
+      face = u[1] >= 0 ? 2 : 3;
+      a = u[2] / ay;
+      b = u[0] / ay;
+    } else {
+      face = u[2] >= 0 ? 4 : 5;
+      a = u[0] / az;
+      b = u[1] / az;
+    }
+    return (face * n + cell(a)) * n + cell(b);
+  }
+
+  /**
+   * Retrieve the triangle from which to start a walking triangle search for a position in the
+   * specified bucket.
+   * 
+   * @param bucket bucket index returned by getBucket()
+   * @return triangle index
+   */
+  public int getTriangle(int bucket) {
+    return triangles[bucket];
+  }
+
+  /**
+   * Retrieve the tessellation level of the triangle returned by getTriangle(bucket), relative to the
+   * first level of the tessellation.
+   * 
+   * @param bucket bucket index returned by getBucket()
+   * @return tessellation level
+   */
+  public int getLevel(int bucket) {
+    return levels[bucket];
+  }
+
+  /**
+   * Retrieve the number of buckets along each side of a cube face.
+   * 
+   * @return the number of buckets along each side of a cube face.
+   */
+  public int getFaceSize() {
+    return n;
+  }
+
+  /**
+   * Descend through the levels of the tessellation, following the bucket center, and record the
+   * deepest triangle that is close to all 4 corners of the bucket.
+   * 
+   * @return the level 0 triangle that contains the bucket center, a good place to start the search
+   *         for the next bucket.
+   */
+  private int seed(GeoTessGrid grid, int tessId, int start, double[] center, double[][] corners,
+      int bucket) {
+    Edge[][] edges = grid.getEdgeList();
+    int[] descendants = grid.getDescendants();
+    int nLevels = grid.getNLevels(tessId);
+
+    int t = walk(edges, start, center);
+    int level0 = t;
+    triangles[bucket] = t;
+    levels[bucket] = 0;
+    for (int level = 0; level < nLevels && level <= Byte.MAX_VALUE; ++level) {
+      if (level > 0)
+        t = walk(edges, t, center);
+      for (double[] corner : corners)
+        if (!near(edges, t, corner))
+          return level0;
+      triangles[bucket] = t;
+      levels[bucket] = (byte) level;
+      if (descendants[t] < 0)
+        break;
+      t = descendants[t];
+    }
+    return level0;
+  }
+
+  /**
+   * Walk from triangle t to the triangle on the same level that contains u.
+   */
+  private static int walk(Edge[][] edges, int t, double[] u) {
+    while (true) {
+      if (GeoTessUtils.dot(edges[t][0].normal, u) <= -1e-15)
+        t = edges[t][0].tLeft;
+      else if (GeoTessUtils.dot(edges[t][1].normal, u) <= -1e-15)
+        t = edges[t][1].tLeft;
+      else if (GeoTessUtils.dot(edges[t][2].normal, u) <= -1e-15)
+        t = edges[t][2].tLeft;
+      else
+        return t;
+    }
+  }
+
+  /**
+   * Return true if u is inside triangle t or one of its 3 neighbors.
+   */
+  private static boolean near(Edge[][] edges, int t, double[] u) {
+    if (inside(edges, t, u))
+      return true;
+    for (int k = 0; k < 3; ++k)
+      if (inside(edges, edges[t][k].tLeft, u))
+        return true;
+    return false;
+  }
+
+  private static boolean inside(Edge[][] edges, int t, double[] u) {
+    return GeoTessUtils.dot(edges[t][0].normal, u) > -1e-15
+        && GeoTessUtils.dot(edges[t][1].normal, u) > -1e-15
+        && GeoTessUtils.dot(edges[t][2].normal, u) > -1e-15;
+  }
+
+  /**
+   * Map a cube face coordinate in [-1, 1] to a cell index along that side of the face. Cells have
+   * equal angular width.
+   */
+  private int cell(double a) {
+    int i = (int) ((Math.atan(a) / (Math.PI / 4) + 1.) * 0.5 * n);
+    return i < 0 ? 0 : (i >= n ? n - 1 : i);
+  }
+
+  /**
+   * Compute the unit vector at fractional cell coordinates (i, j) on the specified cube face.
+   */
+  private void vector(int face, double i, double j, double[] u) {
+    double a = Math.tan((2. * i / n - 1.) * Math.PI / 4);
+    double b = Math.tan((2. * j / n - 1.) * Math.PI / 4);
+    double m = (face & 1) == 0 ? 1. : -1.;
+    switch (face >> 1) {
+      case 0:
+        u[0] = m;
+        u[1] = a;
+        u[2] = b;
+        break;
+      case 1:
+        u[1] = m;
+        u[2] = a;
+        u[0] = b;
+        break;
+      default:
+        u[2] = m;
+        u[0] = a;
+        u[1] = b;
+    }
+    double len = Math.sqrt(u[0] * u[0] + u[1] * u[1] + u[2] * u[2]);
+    u[0] /= len;
+    u[1] /= len;
+    u[2] /= len;
+  }
+}
@@ -41,14 +41,20 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import gov.sandia.geotess.GeoTessModel;
 import gov.sandia.geotess.GeoTessPosition;
 import gov.sandia.gmp.parallelutils.ParallelBroker;
@@ -221,16 +227,55 @@ public class LibCorr3D {
   ArrayList<File> modelFiles;
 
   /**
-   * An array of all the unique models that are available in <code>rootDirectory</code>. The
-   * dimensions of the <code>models</code> array and the <code>modelFiles</code> array are the same.
-   * Not all models necessarily reside in memory at once. Models that are not in memory will have a
-   * null entry in the <code>models</code> array. Models that have not been recently referenced may
-   * be deleted from memory to satisfy the <code>maxModels</code> constraint.
+   * The size in bytes of each file in <code>modelFiles</code>, used as an estimate of the memory
+   * occupied by the corresponding model when it is loaded.
    */
-  ArrayList<LibCorr3DModel> models;
+  private long[] modelSizes;
 
+  /**
+   * The models that are currently in memory, or are in the process of being loaded, keyed by
+   * handle. Concurrent requests for a model that is being loaded wait on the same future, so each
+   * model is read from disk only once. Models that have not been recently referenced may be removed
+   * to satisfy the <code>maxModels</code> and <code>maxMemory</code> constraints.
+   */
+  private final ConcurrentHashMap<Integer, CompletableFuture<LibCorr3DModel>> models =
+      new ConcurrentHashMap<>();
+
+  /**
+   * For each handle, the value of <code>accessClock</code> the last time the model was requested.
+   * Used to find the least recently used models when memory must be freed.
+   */
+  private AtomicLongArray lastAccess;
+
+  private final AtomicLong accessClock = new AtomicLong();
+
+  /**
+   * Sum of <code>modelSizes</code> of all the models currently in memory.
+   */
+  private final AtomicLong memoryInUse = new AtomicLong();
+
+  /**
+   * Only one thread at a time removes models from memory. Threads that only retrieve models never
+   * acquire this lock.
+   */
+  private final Object evictionLock = new Object();
+
+  /**
+   * Executes background model loads requested by prefetch(). Created when first needed.
+   */
+  private ExecutorService prefetchExecutor;
+
+  /**
+   * Retrieve a list of all the models supported by this library, with null entries for models that
+   * are not currently in memory.
+   * 
+   * @return list of models indexed by handle.
+   */
   protected ArrayList<LibCorr3DModel> getModels() {
-    return models;
+    ArrayList<LibCorr3DModel> list = new ArrayList<>(modelFiles.size());
+    for (int handle = 0; handle < modelFiles.size(); ++handle)
+      list.add(getModelIfLoaded(handle));
+    return list;
   }
 
   /**
@@ -248,16 +293,6 @@ public class LibCorr3D {
    */
   Map<SiteInterface, Map<String, Map<String, Integer>>> modelInfoMap;
 
-  /**
-   * A stack containing the indices of the libcorr models, in order of how recently the model was
-   * requested by a call to method <code>getModel(handle)</code>. The first element is the index of
-   * the model most recently requested by a call to method <code>getModel(handle)</code>. When the
-   * size of the stack exceeds <code>maxModels</code>, the last handle in <code>modelStack</code> is
-   * popped off the end of the stack and the corresponding model in the <code>models</code> array is
-   * removed from memory (set to null).
-   */
-  LinkedList<Integer> modelStack;
-
   /**
    * Angular separation in km of two sites such that if they are separated by less than this, they
    * can be considered a match.
@@ -280,7 +315,12 @@ public class LibCorr3D {
   /**
    * Maximum number of models that can be in memory at one time.
    */
-  private int maxModels;
+  private volatile int maxModels;
+
+  /**
+   * Maximum estimated memory, in bytes, that the models in memory can occupy at one time.
+   */
+  private volatile long maxMemory = Long.MAX_VALUE;
 
   /**
    * If the model grids reside outside the models, then this is the relative path from the model
@@ -357,6 +397,8 @@ public class LibCorr3D {
    * <li>&lt;prefix&gt;MaxSiteSeparation (defaults to 10 km)
    * <li>&lt;prefix&gt;MatchOnRefsta (defaults to false)
    * </ol>
+   * Property &lt;prefix&gt;MaxMemory (megabytes, defaults to no limit) limits the estimated memory
+   * occupied by the models in memory; see {@link #setMaxMemory(long)}.
    * 
    * @param prefix
    * @param properties
@@ -365,7 +407,8 @@ public class LibCorr3D {
    */
   static public LibCorr3D getLibCorr3D(String prefix, Properties properties,
       ScreenWriterOutput logger) throws Exception {
-    return getLibCorr3D(new File(getProperty(properties, prefix, "PathCorrectionsRoot", null)),
+    LibCorr3D libcorr3d =
+        getLibCorr3D(new File(getProperty(properties, prefix, "PathCorrectionsRoot", null)),
 
         getProperty(properties, prefix, "PathCorrectionsRelativeGridPath", "."),
 
@@ -387,6 +430,13 @@ public class LibCorr3D {
         Integer.valueOf(getProperty(properties, prefix, "MaxProcessors", "1")),
 
         logger);
+
+    // maximum estimated memory of the models in memory, in megabytes.
+    double maxMemory = Double.valueOf(getProperty(properties, prefix, "MaxMemory", "-1"));
+    if (maxMemory >= 0)
+      libcorr3d.setMaxMemory((long) (maxMemory * 1024 * 1024));
+
+    return libcorr3d;
   }
 
   /**
@@ -418,10 +468,10 @@ public class LibCorr3D {
     this.maxSiteSeparationKm = 10.; // km
     this.maxModels = Integer.MAX_VALUE;
 
-    models = new ArrayList<>();
     modelFiles = new ArrayList<File>();
-    modelStack = new LinkedList<Integer>();
-    supportMap = new HashMap<>();
+    modelSizes = new long[0];
+    lastAccess = new AtomicLongArray(0);
+    supportMap = new ConcurrentHashMap<>();
     modelInfoMap = new HashMap<>();
     supportedAttributes = new LinkedHashSet<>();
     supportedPhases = new HashSet<>();
@@ -467,9 +517,10 @@ public class LibCorr3D {
 
     this.maxModels = nModels < 0 ? Integer.MAX_VALUE : nModels;
 
-    models.ensureCapacity(modelFiles.size());
+    modelSizes = new long[modelFiles.size()];
     for (int handle = 0; handle < modelFiles.size(); ++handle)
-      models.add(null);
+      modelSizes[handle] = modelFiles.get(handle).length();
+    lastAccess = new AtomicLongArray(modelFiles.size());
 
     if (maxProcessors == 1) {
       filesPerTask = modelFiles.size();
@@ -515,10 +566,8 @@ public class LibCorr3D {
     while ((taskResult = (ReadModelTaskResult) parallelBroker.getResultWait()) != null) {
       for (int i = 0; i < taskResult.size(); ++i) {
         int handle = taskResult.getHandle(i);
-        if (taskResult.getModel(i) != null) {
-          modelStack.add(handle);
-          models.set(handle, taskResult.getModel(i));
-        }
+        if (taskResult.getModel(i) != null)
+          addModel(handle, taskResult.getModel(i));
 
         // add the required model into to the modelInfoMap, which is a map
         // from modelSite -> modelPhase -> modelAttribute -> handle
@@ -648,12 +697,10 @@ public class LibCorr3D {
    * @param attribute
    * @return
    */
-  synchronized public int getHandle(SiteInterface userSite, String phase, String attribute) {
-    // see if site is already supported
-    Map<String, Map<String, Integer>> siteMap = supportMap.get(userSite);
-    if (siteMap == null)
-      // site has never been evaluated. do so now.
-      supportMap.put(userSite, siteMap = searchModels(userSite));
+  public int getHandle(SiteInterface userSite, String phase, String attribute) {
+    // see if site is already supported. If site has never been evaluated, do so now.
+    Map<String, Map<String, Integer>> siteMap =
+        supportMap.computeIfAbsent(userSite, this::searchModels);
     Map<String, Integer> phaseMap = siteMap.get(phase);
     if (phaseMap != null) {
       Integer modelInfo = phaseMap.get(attributeTranslationMap.get(attribute));
@@ -714,45 +761,164 @@ public class LibCorr3D {
 
   /**
    * Retrieve the model with the specified index (handle). If the requested model is not currently
-   * loaded in memory, it is loaded from disk. A check is performed to ensure that the number of
-   * models currently in memory does not exceed <code>maxModels</code> and the least-recently used
-   * model is deleted if it is.
+   * loaded in memory, it is loaded from disk. If another thread is already loading the same model,
+   * this thread waits for that load to finish rather than reading the file again. Threads that
+   * request models that are already in memory do not block one another.
+   * <p>
+   * After a model is loaded, if the number of models in memory exceeds <code>maxModels</code>, or
+   * their estimated memory exceeds <code>maxMemory</code>, the least recently used models are
+   * removed from memory.
    * 
    * @param handle
    * @return
    * @throws Exception
    */
-  synchronized public LibCorr3DModel getModel(int handle) throws Exception {
-    if (handle < 0 || handle >= models.size())
+  public LibCorr3DModel getModel(int handle) throws Exception {
+    if (handle < 0 || handle >= modelFiles.size())
       return null;
 
-    LibCorr3DModel model = models.get(handle);
+    lastAccess.set(handle, accessClock.incrementAndGet());
+
+    CompletableFuture<LibCorr3DModel> future = models.get(handle);
+    if (future == null) {
+      CompletableFuture<LibCorr3DModel> newFuture = new CompletableFuture<>();
+      future = models.putIfAbsent(handle, newFuture);
+      if (future == null) {
+        // this thread won the race to load the model.
+        future = newFuture;
+        try {
+          LibCorr3DModel model = new LibCorr3DModel(modelFiles.get(handle), relGridPath);
+          memoryInUse.addAndGet(modelSizes[handle]);
+          future.complete(model);
+        } catch (Exception ex) {
+          models.remove(handle, future);
+          future.completeExceptionally(ex);
+          throw ex;
+        }
+        evictModels(handle);
+      }
+    }
 
-    // if the requested model is not currently loaded in memory, load it.
-    if (model == null) {
-      model = new LibCorr3DModel(modelFiles.get(handle), relGridPath);
+    try {
+      return future.get();
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof Exception)
+        throw (Exception) ex.getCause();
+      throw ex;
+    }
+  }
 
-      models.set(handle, model);
+  /**
+   * Retrieve the model with the specified handle if it is currently in memory, otherwise null. Does
+   * not load the model and does not affect which models are least recently used.
+   * 
+   * @param handle
+   * @return the model or null.
+   */
+  public LibCorr3DModel getModelIfLoaded(int handle) {
+    CompletableFuture<LibCorr3DModel> future = models.get(handle);
+    return future != null && future.isDone() && !future.isCompletedExceptionally()
+        ? future.join()
+        : null;
+  }
+
+  /**
+   * Add a model that has already been loaded, for example by the constructor when models are
+   * preloaded.
+   */
+  private void addModel(int handle, LibCorr3DModel model) throws Exception {
+    if (models.putIfAbsent(handle, CompletableFuture.completedFuture(model)) == null) {
+      lastAccess.set(handle, accessClock.incrementAndGet());
+      memoryInUse.addAndGet(modelSizes[handle]);
+      evictModels(handle);
     }
+  }
 
-    // now check to see if maximum allowed number of models are currently in memory.
-    // If maxModels is >= models.size() then it is permissible for all available models to
-    // to be loaded at the same time and therefore no checks are necessary
-    if (maxModels < models.size()) {
-      // remove handle from the stack (if currently there) and push it onto the front
-      Integer i = Integer.valueOf(handle);
-      modelStack.remove(i);
-      modelStack.addFirst(i);
-      // if the stack is full, pop the oldest, least recently used, model
-      // off the end of the stack and remove the corresponding model from memory.
-      while (modelStack.size() > maxModels) {
-        // get index of least recently used model
-        i = modelStack.removeLast();
-        models.get(i).close();
-        models.set(i, null);
+  /**
+   * Remove least recently used models from memory until the number of models in memory does not
+   * exceed <code>maxModels</code> and their estimated memory does not exceed
+   * <code>maxMemory</code>. Models that are still loading and the model with handle
+   * <code>keep</code> are never removed.
+   * 
+   * @param keep handle of a model that must not be removed, or -1.
+   * @throws Exception
+   */
+  private void evictModels(int keep) throws Exception {
+    if (models.size() <= maxModels && memoryInUse.get() <= maxMemory)
+      return;
+
+    synchronized (evictionLock) {
+      // snapshot {access time, handle} pairs so that prediction threads updating lastAccess
+      // cannot change the order while it is being sorted
+      ArrayList<long[]> candidates = new ArrayList<>(models.size());
+      for (Entry<Integer, CompletableFuture<LibCorr3DModel>> e : models.entrySet())
+        if (e.getKey() != keep && e.getValue().isDone())
+          candidates.add(new long[] {lastAccess.get(e.getKey()), e.getKey()});
+      candidates.sort(Comparator.comparingLong(c -> c[0]));
+
+      for (long[] candidate : candidates) {
+        if (models.size() <= maxModels && memoryInUse.get() <= maxMemory)
+          break;
+        int handle = (int) candidate[1];
+        CompletableFuture<LibCorr3DModel> future = models.remove(handle);
+        if (future != null && !future.isCompletedExceptionally()) {
+          memoryInUse.addAndGet(-modelSizes[handle]);
+          future.join().close();
+        }
       }
     }
-    return models.get(handle);
+  }
+
+  /**
+   * Load, in background threads, all the models that support any combination of the specified
+   * sites, phases and attributes, so that they are in memory before they are needed. Models that
+   * are already in memory are marked as recently used. Sites, phases or attributes that are not
+   * supported are ignored.
+   * <p>
+   * If the prefetched models do not all fit within <code>maxModels</code> and
+   * <code>maxMemory</code>, the least recently used ones will be removed again, so callers should
+   * prefetch only what the next batch of work needs.
+   * 
+   * @param sites
+   * @param phases
+   * @param attributes attribute names such as TT, AZ, SH or TT_PATH_CORRECTION.
+   * @return a future that completes when all the models have been loaded. It completes
+   *         exceptionally if any model could not be loaded.
+   */
+  public CompletableFuture<Void> prefetch(Collection<? extends SiteInterface> sites,
+      Collection<String> phases, Collection<String> attributes) {
+    LinkedHashSet<Integer> handles = new LinkedHashSet<>();
+    for (SiteInterface site : sites)
+      for (String phase : phases)
+        for (String attribute : attributes) {
+          int handle = getHandle(site, phase, attribute);
+          if (handle >= 0)
+            handles.add(handle);
+        }
+
+    ExecutorService executor = getPrefetchExecutor();
+    ArrayList<CompletableFuture<Void>> futures = new ArrayList<>(handles.size());
+    for (int handle : handles)
+      futures.add(CompletableFuture.runAsync(() -> {
+        try {
+          getModel(handle);
+        } catch (Exception ex) {
+          throw new CompletionException(ex);
+        }
+      }, executor));
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+  }
+
+  private synchronized ExecutorService getPrefetchExecutor() {
+    if (prefetchExecutor == null)
+      prefetchExecutor =
+          Executors.newFixedThreadPool(Math.min(4, Runtime.getRuntime().availableProcessors()),
+              r -> {
+                Thread t = new Thread(r, "LibCorr3D-prefetch");
+                t.setDaemon(true);
+                return t;
+              });
+    return prefetchExecutor;
   }
 
   public LibCorr3DModel getModel(SiteInterface station, String phase, String attribute)
@@ -883,7 +1049,7 @@ public class LibCorr3D {
   }
 
   public boolean isEmpty() {
-    return models == null || models.isEmpty();
+    return modelFiles == null || modelFiles.isEmpty();
   }
 
   public String getRelGridPath() {
@@ -897,7 +1063,7 @@ public class LibCorr3D {
    * @return
    */
   public int getNModels() {
-    return models.size();
+    return modelFiles.size();
   }
 
   /**
@@ -907,12 +1073,22 @@ public class LibCorr3D {
    */
   public int getNModelsInMemory() {
     int n = 0;
-    for (int i = 0; i < models.size(); ++i)
-      if (models.get(i) != null)
+    for (int handle = 0; handle < modelFiles.size(); ++handle)
+      if (getModelIfLoaded(handle) != null)
         ++n;
     return n;
   }
 
+  /**
+   * Retrieve the estimated memory occupied by the models currently in memory, in bytes. The
+   * estimate is the sum of the sizes of the model files.
+   * 
+   * @return estimated memory in bytes.
+   */
+  public long getMemoryInUse() {
+    return memoryInUse.get();
+  }
+
   /**
    * Find all the files in the specified directory and all subdirectories
    * 
@@ -1046,13 +1222,28 @@ public class LibCorr3D {
   }
 
   public void setMaxModels(int maxModels) throws Exception {
-    while (modelStack.size() > this.maxModels) {
-      // get index of least recently used model
-      Integer i = modelStack.removeLast();
-      models.get(i).close();
-      models.set(i, null);
-    }
-    this.maxModels = maxModels;
+    this.maxModels = maxModels < 0 ? Integer.MAX_VALUE : maxModels;
+    evictModels(-1);
+  }
+
+  /**
+   * @return maximum estimated memory, in bytes, that models in memory may occupy.
+   */
+  public long getMaxMemory() {
+    return maxMemory;
+  }
+
+  /**
+   * Set the maximum estimated memory, in bytes, that models in memory may occupy. The memory of a
+   * model is estimated by the size of its file. Least recently used models are removed from memory
+   * when the limit is exceeded. A value &lt; 0 removes the limit.
+   * 
+   * @param maxMemory in bytes.
+   * @throws Exception
+   */
+  public void setMaxMemory(long maxMemory) throws Exception {
+    this.maxMemory = maxMemory < 0 ? Long.MAX_VALUE : maxMemory;
+    evictModels(-1);
   }
 
   public InterpolatorType getInterpTypeHorz() {
@@ -1070,9 +1261,16 @@ public class LibCorr3D {
    * @throws Exception
    */
   public void close() throws Exception {
-    for (int i = 0; i < models.size(); ++i)
-      if (models.get(i) != null)
-        models.get(i).close();
+    synchronized (this) {
+      if (prefetchExecutor != null)
+        prefetchExecutor.shutdown();
+      prefetchExecutor = null;
+    }
+    for (int handle = 0; handle < modelFiles.size(); ++handle) {
+      LibCorr3DModel model = getModelIfLoaded(handle);
+      if (model != null)
+        model.close();
+    }
     libcorr3dMap.clear();
   }
 
@@ -61,6 +61,7 @@ import gov.sandia.gmp.baseobjects.globals.WaveType;
 import gov.sandia.gmp.baseobjects.interfaces.PredictorType;
 import gov.sandia.gmp.baseobjects.sasc.SASC_Library;
 import gov.sandia.gmp.util.containers.hash.maps.HashMapIntegerDouble;
+import gov.sandia.gmp.util.containers.hash.maps.OpenHashMapIntegerDouble;
 import gov.sandia.gmp.util.filebuffer.FileInputBuffer;
 import gov.sandia.gmp.util.filebuffer.FileOutputBuffer;
 import gov.sandia.gmp.util.globals.GMTFormat;
@@ -80,7 +81,7 @@ import gov.sandia.gnem.dbtabledefs.nnsa_kb_core_extended.AssocExtended;
  * getters and setters. This class, and other classes derived off of it, are appropriate for
  * serialization and transmission across networks.
  */
-public class Prediction implements Serializable {
+public class Prediction implements Serializable, Cloneable {
   private static final long serialVersionUID = -6015387032594709889L;
 
   private PredictionRequest predictionRequest;
@@ -183,6 +184,13 @@ public class Prediction implements Serializable {
    */
   private Map<WaveType, HashMapIntegerDouble> rayWeights = new LinkedHashMap<>();
 
+  /**
+   * Per-thread map used to accumulate ray weights in processRayPath(). It is cleared, not
+   * reallocated, for each ray so the accumulation itself generates no garbage.
+   */
+  private static final ThreadLocal<OpenHashMapIntegerDouble> weightAccumulator =
+      ThreadLocal.withInitial(() -> new OpenHashMapIntegerDouble(1024));
+
   private Map<WaveType, Double> rayWeightsInactive = new LinkedHashMap<>();
 
   /**
@@ -455,6 +463,31 @@ public class Prediction implements Serializable {
     return predictionRequest;
   }
 
+  /**
+   * Return a copy of this Prediction, of the same class, that refers to a different
+   * PredictionRequest. The maps of attribute values and uncertainty types are copied so that they
+   * can be modified independently. The ray path, ray weights and other large objects are shared
+   * with this Prediction and should be treated as read-only.
+   * 
+   * @param request the PredictionRequest associated with the copy.
+   * @return a copy of this Prediction.
+   */
+  public Prediction copy(PredictionRequest request) {
+    try {
+      Prediction p = (Prediction) super.clone();
+      p.predictionRequest = request;
+      p.valuesDouble = new EnumMap<>(valuesDouble);
+      p.valuesLong = new EnumMap<>(valuesLong);
+      p.valuesBoolean = new EnumMap<>(valuesBoolean);
+      p.valuesString = new EnumMap<>(valuesString);
+      p.uncertaintyTypes = new EnumMap<>(uncertaintyTypes);
+      return p;
+    } catch (CloneNotSupportedException e) {
+      // cannot happen since Prediction implements Cloneable.
+      throw new IllegalStateException(e);
+    }
+  }
+
   public String getModelName() {
     return modelName;
   }
@@ -1185,13 +1218,12 @@ public class Prediction implements Serializable {
       rayWeightsInactive.clear();
 
       for (WaveType waveType : WaveType.values()) {
-        HashMapIntegerDouble weights = getWeights(pos, rayPath, waveType);
+        OpenHashMapIntegerDouble weights = getWeights(pos, rayPath, waveType);
         if (weights.size() > 0) {
           // remove the entry for inactive nodes and add weight of inactive nodes to
           // rayWeightsInactive.
-          HashMapIntegerDouble.Entry e = weights.remove(-1);
-          rayWeightsInactive.put(waveType, e == null ? 0. : e.getValue());
-          rayWeights.put(waveType, weights);
+          rayWeightsInactive.put(waveType, weights.contains(-1) ? weights.remove(-1) : 0.);
+          rayWeights.put(waveType, weights.toHashMapIntegerDouble());
         }
       }
 
@@ -1256,12 +1288,15 @@ public class Prediction implements Serializable {
    * @return weights a map from the pointIndex of a point in the model to the weight that accrued to
    *         that point from the ray path. The sum of all the weights in the map will equal the
    *         length in km of the portion of the ray where wavetype is equal to specified value.
-   *         Might be empty but will not be null.
+   *         Might be empty but will not be null. The map is owned by the calling thread and is
+   *         cleared by the next call to this method, so its contents must be copied out before
+   *         then.
    * @throws GeoTessException
    */
-  private HashMapIntegerDouble getWeights(GeoTessPosition pos, ArrayList<GeoVector> vectors,
+  private OpenHashMapIntegerDouble getWeights(GeoTessPosition pos, ArrayList<GeoVector> vectors,
       WaveType waveType) throws GeoTessException {
-    HashMapIntegerDouble weights = new HashMapIntegerDouble(100);
+    OpenHashMapIntegerDouble weights = weightAccumulator.get();
+    weights.clear();
 
 
     GeoVectorRay vn, v = (GeoVectorRay) vectors.get(0);
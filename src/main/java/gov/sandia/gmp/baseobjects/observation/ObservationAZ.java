@@ -220,14 +220,16 @@ public class ObservationAZ extends ObservationComponent implements Serializable,
 
   @Override
   public void updateResidual() {
-    if (predictionValid()) {
-      // ensure residual >= 0 and < TWO_PI, then adjust to range >= -PI and < PI
-      residual = (getObserved() - getPredicted() + TWO_PI) % TWO_PI;
-      if (residual >= PI)
-        residual -= TWO_PI;
-    } else
-      residual = Globals.NA_VALUE;
+    residual = predictionValid() ? computeResidual(getPredicted()) : Globals.NA_VALUE;
+  }
 
+  @Override
+  public double computeResidual(double predicted) {
+    // ensure residual >= 0 and < TWO_PI, then adjust to range >= -PI and < PI
+    double residual = (getObserved() - predicted + TWO_PI) % TWO_PI;
+    if (residual >= PI)
+      residual -= TWO_PI;
+    return residual;
   }
 
 
@@ -500,37 +500,25 @@ public abstract class ObservationComponent implements Serializable, Cloneable {
 
     errorMessage = "";
 
-    // if any one of the observed value, observed uncertainty, predicted value or predicted
-    // uncertainty
-    // is na_value, then this observation component is invalid.
-    if (getObserved() == Globals.NA_VALUE)
-      errorMessage = String.format("observed %s value == Globals.NA_VALUE", getObsType());
-    else if (getObsUncertainty() <= 0.)
-      errorMessage = String.format("observed uncertainty %s <= 0.", getObsUncertaintyType());
-    else if (observation.getPredictionDouble(getObsType()) == Globals.NA_VALUE)
-      errorMessage = observation.getPredictionErrorMessage();
-    else if (useModelUncertainty() && getModelUncertainty() <= 0.)
-      errorMessage =
-          String.format("predicted %s is == Globals.NA_VALUE", getModelUncertaintyType());
+    String invalid =
+        getInvalidReason(observation.getPredictionDouble(getObsType()), getModelUncertainty());
+    errorMessage = invalid == null ? "" : invalid;
 
     // insert SASC corrections and model uncertainties
     if (getSascCorrection() != Globals.NA_VALUE) {
       observation.setPredictionDouble(getObsType(),
-          observation.getPredictionDouble(getObsType()) + getSascCorrection());
+          applySascCorrection(observation.getPredictionDouble(getObsType())));
       observation.setPredictionDouble(getPathCorrType(), getSascCorrection());
     }
 
     if (getSascModelUncertainty() != Globals.NA_VALUE)
-      setModelUncertainty(getSascModelUncertainty());
+      setModelUncertainty(applySascModelUncertainty(getModelUncertainty()));
 
     updateResidual();
 
     if (errorMessage.length() == 0) {
 
-      if (useModelUncertainty())
-        setWeight(1. / sqrt(pow(getModelUncertainty(), 2.) + pow(getObsUncertainty(), 2.)));
-      else
-        setWeight(1. / getObsUncertainty());
+      setWeight(computeWeight(getModelUncertainty()));
 
       weightedResidual = getResidual() * getWeight();
 
@@ -574,6 +562,79 @@ public abstract class ObservationComponent implements Serializable, Cloneable {
     }
   }
 
+  /**
+   * Check whether this component can contribute to a solution given a predicted value and model
+   * uncertainty that have not yet had SASC corrections applied. If any one of the observed value,
+   * observed uncertainty, predicted value or model uncertainty is invalid, then this observation
+   * component is invalid.
+   * <p>
+   * Used by setPrediction() and by callers that evaluate trial predictions without storing them
+   * in the Observation.
+   * 
+   * @param predicted the predicted value
+   * @param modelUncertainty the model uncertainty
+   * @return the reason this component is invalid, or null if it is valid.
+   */
+  public String getInvalidReason(double predicted, double modelUncertainty) {
+    if (getObserved() == Globals.NA_VALUE)
+      return String.format("observed %s value == Globals.NA_VALUE", getObsType());
+    if (getObsUncertainty() <= 0.)
+      return String.format("observed uncertainty %s <= 0.", getObsUncertaintyType());
+    if (predicted == Globals.NA_VALUE) {
+      String detail = observation.getPredictionErrorMessage();
+      return detail == null || detail.trim().isEmpty()
+          ? String.format("predicted %s == Globals.NA_VALUE", getObsType())
+          : String.format("predicted %s == Globals.NA_VALUE: %s", getObsType(), detail.trim());
+    }
+    if (useModelUncertainty() && modelUncertainty <= 0.)
+      return String.format("predicted %s is == Globals.NA_VALUE", getModelUncertaintyType());
+    return null;
+  }
+
+  /**
+   * Add the SASC correction, if there is one, to a predicted value.
+   * 
+   * @param predicted the predicted value
+   * @return the corrected predicted value
+   */
+  public double applySascCorrection(double predicted) {
+    return getSascCorrection() == Globals.NA_VALUE ? predicted : predicted + getSascCorrection();
+  }
+
+  /**
+   * Replace a model uncertainty with the SASC model uncertainty, if there is one.
+   * 
+   * @param modelUncertainty the model uncertainty
+   * @return the SASC model uncertainty, or modelUncertainty if there is none.
+   */
+  public double applySascModelUncertainty(double modelUncertainty) {
+    return getSascModelUncertainty() == Globals.NA_VALUE ? modelUncertainty
+        : getSascModelUncertainty();
+  }
+
+  /**
+   * Weight of this component given a model uncertainty, i.e. the inverse of the total
+   * uncertainty.
+   * 
+   * @param modelUncertainty the model uncertainty, ignored if model uncertainty is not used.
+   * @return the weight
+   */
+  public double computeWeight(double modelUncertainty) {
+    if (useModelUncertainty())
+      return 1. / sqrt(pow(modelUncertainty, 2.) + pow(getObsUncertainty(), 2.));
+    return 1. / getObsUncertainty();
+  }
+
+  /**
+   * Observed value minus a predicted value that already includes all corrections.
+   * 
+   * @param predicted the corrected predicted value
+   * @return the residual
+   */
+  public double computeResidual(double predicted) {
+    return getObserved() - predicted;
+  }
+
   public String observationString(Predictor predictor) {
     StringBuffer cout = new StringBuffer();
     try {
@@ -220,7 +220,7 @@ public class ObservationSH extends ObservationComponent implements Serializable,
 
   @Override
   public void updateResidual() {
-    super.residual = predictionValid() ? getObserved() - getPredicted() : Globals.NA_VALUE;
+    super.residual = predictionValid() ? computeResidual(getPredicted()) : Globals.NA_VALUE;
   }
 
   @Override
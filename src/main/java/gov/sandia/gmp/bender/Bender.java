@@ -567,6 +567,75 @@ public class Bender extends Predictor implements BrentsFunction, SimplexFunction
     return timeToAbort;
   }
 
+  /**
+   * Cache of the levels at which recently computed rays bottomed out, shared by all Benders that
+   * use the same model and layer level settings. Holds at most benderWarmStartCacheSize (default
+   * 100000) receiver/phase entries. Used to warm start rays whose source is within warmStartDistance km of the
+   * source of a cached ray to the same receiver. Null if warm starts are disabled (property
+   * benderWarmStartDistance is not &gt; 0).
+   */
+  protected RayCache rayCache = null;
+
+  /**
+   * Maximum distance in km between the source of a request and the source of a cached ray for the
+   * cached ray to be used to warm start the request.
+   */
+  protected double warmStartDistance = 0.;
+
+  /**
+   * When a ray is warm started, only levels within this many levels of the level at which the
+   * cached ray bottomed out are searched.
+   */
+  protected int warmStartLevelWindow = 1;
+
+  /**
+   * Range of layer levels, inclusive, that RayBranchBottomLevels should build while the current ray
+   * is being warm started, otherwise null.
+   */
+  protected int[] warmStartLevels = null;
+
+  /**
+   * Number of inner (bending) iterations performed, summed over all branches and levels, since the
+   * start of the current call to computeFastRays().
+   */
+  protected long innerIterationCount = 0;
+
+  /**
+   * Retrieve the range of layer levels, inclusive, that should be searched for the bottom of the
+   * ray currently being computed, or null if all levels should be searched.
+   * 
+   * @return range of layer levels or null.
+   */
+  public int[] getWarmStartLevels() {
+    return warmStartLevels;
+  }
+
+  /**
+   * Called by RayBranch each time an inner iteration is performed.
+   */
+  public void incrementInnerIterationCount() {
+    ++innerIterationCount;
+  }
+
+  /**
+   * Retrieve the number of inner (bending) iterations performed by the last call to
+   * computeFastRays(), summed over all branches and levels.
+   * 
+   * @return number of inner iterations.
+   */
+  public long getInnerIterationCount() {
+    return innerIterationCount;
+  }
+
+  /**
+   * Retrieve the RayCache used to warm start rays, or null if warm starts are disabled.
+   * 
+   * @return the RayCache or null.
+   */
+  public RayCache getRayCache() {
+    return rayCache;
+  }
+
   // X protected ArrayList<Ray> rays = new ArrayList<Ray>();
   protected ArrayList<Ray> rays = new ArrayList<Ray>();
 
@@ -696,6 +765,10 @@ public class Bender extends Predictor implements BrentsFunction, SimplexFunction
     setProperties(properties);
     changeNotifier = new ChangeNotifier(this);
 
+    if (warmStartDistance > 0.)
+      rayCache = RayCache.getRayCache(benderModelFile, modelInterfaceRemap,
+          phaseLayerLevelThickness, properties.getInt(PROP_WARM_START_CACHE_SIZE, 100000));
+
     // Fix incorrect legacy properties
     if (properties.containsKey("benderUncertaintyType"))
       properties.setProperty(PROP_UNCERTAINTY_TYPE,
@@ -844,6 +917,10 @@ public class Bender extends Predictor implements BrentsFunction, SimplexFunction
 
     setMaxCalcTime(properties.getDouble(PROP_MAX_CALC_TIME, defaultMaxEllapsedTime));
 
+    warmStartDistance = properties.getDouble(PROP_WARM_START_DISTANCE, warmStartDistance);
+    warmStartLevelWindow =
+        properties.getInt(PROP_WARM_START_LEVEL_WINDOW, warmStartLevelWindow);
+
     // if (properties.getProperty("benderOptimizeWithSnellsLaw") != null)
     // this.optimizeSnellsLaw = properties.getBoolean("benderOptimizeWithSnellsLaw", false);
   }
@@ -949,6 +1026,55 @@ public class Bender extends Predictor implements BrentsFunction, SimplexFunction
       this.maxEllapsedTime = (long) (maxCalcTime * 1e3);
   }
 
+  /**
+   * Compute a single branch ray from currentReceiverProfile to currentSourceProfile. If warm
+   * starts are enabled and a ray from a nearby source to the same receiver is in the RayCache, only
+   * the bottom levels within warmStartLevelWindow of the level at which the cached ray bottomed out
+   * are built and optimized. If the fastest of those levels lies on the edge of the window, or the
+   * warm started ray fails for any reason, the ray is recomputed searching all levels.
+   * 
+   * @param request
+   * @return the optimized Ray.
+   * @throws Exception
+   */
+  private Ray computeSimpleRay(PredictionRequest request) throws Exception {
+    if (rayCache == null)
+      return new Ray(this, currentReceiverProfile, currentSourceProfile, true);
+
+    long nIterations = innerIterationCount;
+    Ray ray = null;
+    RayCache.Entry entry = rayCache.get(request.getReceiver(), request.getPhase(),
+        request.getSource(), warmStartDistance);
+    if (entry != null) {
+      warmStartLevels = new int[] {entry.layerLevel - warmStartLevelWindow,
+          entry.layerLevel + warmStartLevelWindow};
+      try {
+        ray = new Ray(this, currentReceiverProfile, currentSourceProfile, true);
+        if (ray.getRayType() == RayType.ERROR || ray.getRayType() == RayType.INVALID
+            || ray.isFastestBottomLayerLevelOnWindowEdge())
+          ray = null;
+      } catch (Exception ex) {
+        // the restricted set of levels could not produce a ray. Recompute from scratch, which
+        // will report the error again if it is genuine.
+        ray = null;
+      } finally {
+        warmStartLevels = null;
+      }
+      if (ray == null)
+        rayCache.fallback();
+    }
+
+    if (ray == null)
+      ray = new Ray(this, currentReceiverProfile, currentSourceProfile, true);
+
+    rayCache.addIterations(entry != null, innerIterationCount - nIterations);
+
+    int level = ray.getFastestBottomLayerLevel();
+    if (level >= 0 && ray.getRayType() != RayType.ERROR && ray.getRayType() != RayType.INVALID)
+      rayCache.put(request.getReceiver(), request.getPhase(), request.getSource(), level);
+    return ray;
+  }
+
   /**
    * @throws Exception Find the fastest ray for the specified receiver-source pair that honors the
    *         specified phase. Returns the fastest refracted/diffracted/reflected ray. If all rays
@@ -1604,6 +1730,7 @@ public class Bender extends Predictor implements BrentsFunction, SimplexFunction
     // will be added to the RayInfo object that is returned by this method.
 
     errorMessages = new StringBuilder();
+    innerIterationCount = 0;
 
     // make sure the phase ray branch list and wave speed interface list are defined.
 
@@ -1799,7 +1926,7 @@ public class Bender extends Predictor implements BrentsFunction, SimplexFunction
             }
           }
         } else // simple 1 branch ray
-          fastRay = new Ray(this, currentReceiverProfile, currentSourceProfile, true);
+          fastRay = computeSimpleRay(request);
       } catch (BenderException rayEx) {
         if (rayEx.getErrorCode() == ErrorCode.FATAL)
           throw rayEx;
@@ -6636,6 +6763,12 @@ public class Bender extends Predictor implements BrentsFunction, SimplexFunction
   @Property
   public static final String PROP_MAX_CALC_TIME = "benderMaxCalcTime";
   @Property
+  public static final String PROP_WARM_START_DISTANCE = "benderWarmStartDistance";
+  @Property
+  public static final String PROP_WARM_START_LEVEL_WINDOW = "benderWarmStartLevelWindow";
+  @Property
+  public static final String PROP_WARM_START_CACHE_SIZE = "benderWarmStartCacheSize";
+  @Property
   public static final String PROP_MODEL = "benderModel";
   @Property(type = File.class)
   public static final String PROP_TAUP_TK_MODEL = "tauptoolkitModel";
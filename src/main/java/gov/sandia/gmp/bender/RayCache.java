@@ -0,0 +1,298 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.bender;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gov.sandia.gmp.baseobjects.geovector.GeoVector;
+import gov.sandia.gmp.baseobjects.globals.SeismicPhase;
+
+/**
+ * Remembers, for each receiver and phase, where the last converged ray computed by Bender bottomed
+ * out. During event location successive iterations move the hypocenter by only a few km, so the
+ * ray from the previous iteration is an excellent predictor of the new one. When a new request has
+ * a source within a specified distance of the cached source, Bender only builds and optimizes the
+ * bottom-branch levels adjacent to the level of the cached fastest ray, rather than every level
+ * permitted by the phase definition.
+ * <p>
+ * A RayCache is shared by all the Bender instances that use the same model and the same settings
+ * that define the layer levels of the phases (benderModelLayerToEarthIfaceMap and
+ * benderPhaseLevelThickness), so that instances borrowed from PredictorFactory's pool by
+ * different threads benefit from one another's rays. Benders whose levels are defined differently
+ * get different RayCaches, since the level indices they cache are not interchangeable. It is
+ * thread safe.
+ * <p>
+ * At most MAX_RAY_CACHES RayCaches are retained, and each holds at most the number of entries
+ * specified when it was created (property benderWarmStartCacheSize of the first Bender that
+ * requested it). The least recently used ones are discarded beyond that.
+ * <p>
+ * Statistics are accumulated so that the hit rate and the number of inner (bending) iterations
+ * saved can be reported.
+ */
+public class RayCache {
+
+  /**
+   * Maximum number of RayCaches retained, i.e., of distinct Bender configurations.
+   */
+  public static final int MAX_RAY_CACHES = 100;
+
+  /**
+   * Mimics a Map from Bender configuration (see getRayCache()) -> RayCache.
+   */
+  private static final Cache<String, RayCache> rayCaches =
+      Caffeine.newBuilder().maximumSize(MAX_RAY_CACHES).build();
+
+  /**
+   * Retrieve the RayCache shared by all Benders with the same model and layer level settings.
+   * 
+   * @param modelFile the Bender model
+   * @param layerToEarthIfaceMap value of property benderModelLayerToEarthIfaceMap
+   * @param phaseLevelThickness value of property benderPhaseLevelThickness
+   * @param maxEntries maximum number of receiver/phase entries, used only if the RayCache does not
+   *        exist yet.
+   * @return the RayCache.
+   * @throws IOException
+   */
+  static RayCache getRayCache(File modelFile, String layerToEarthIfaceMap,
+      double phaseLevelThickness, long maxEntries) throws IOException {
+    String key = String.format("%s [%s=%s, %s=%s]", modelFile.getCanonicalPath(),
+        Bender.PROP_MODEL_LAYER_TO_EARTH_IFACE_MAP, layerToEarthIfaceMap,
+        Bender.PROP_PHASE_LEVEL_THICKNESS, phaseLevelThickness);
+    return rayCaches.get(key, k -> new RayCache(maxEntries));
+  }
+
+  /**
+   * Retrieve all the RayCaches in this JVM, keyed by the model and layer level settings they
+   * serve.
+   * 
+   * @return an unmodifiable view of the RayCaches.
+   */
+  public static Map<String, RayCache> getRayCaches() {
+    return Collections.unmodifiableMap(rayCaches.asMap());
+  }
+
+  /**
+   * Discard all RayCaches.
+   */
+  public static void clearRayCaches() {
+    rayCaches.invalidateAll();
+  }
+
+  /**
+   * The last converged ray for a receiver and phase.
+   */
+  static final class Entry {
+    /**
+     * Earth centered source position in km.
+     */
+    final double[] source;
+
+    /**
+     * Index of the layer level at which the bottom branch of the fastest ray bottomed out.
+     */
+    final int layerLevel;
+
+    private Entry(double[] source, int layerLevel) {
+      this.source = source;
+      this.layerLevel = layerLevel;
+    }
+  }
+
+  private final Cache<Key, Entry> entries;
+
+  private final AtomicLong nRequests = new AtomicLong();
+  private final AtomicLong nHits = new AtomicLong();
+  private final AtomicLong nFallbacks = new AtomicLong();
+  private final AtomicLong coldIterations = new AtomicLong();
+  private final AtomicLong nCold = new AtomicLong();
+  private final AtomicLong warmIterations = new AtomicLong();
+  private final AtomicLong nWarm = new AtomicLong();
+
+  private RayCache(long maxEntries) {
+    entries = Caffeine.newBuilder().maximumSize(maxEntries).build();
+  }
+
+  /**
+   * Find the cached ray for the specified receiver and phase, if its source is no farther than
+   * maxDistance km from the specified source.
+   * 
+   * @param receiver
+   * @param phase
+   * @param source
+   * @param maxDistance in km
+   * @return the cached entry or null.
+   */
+  Entry get(GeoVector receiver, SeismicPhase phase, GeoVector source, double maxDistance) {
+    nRequests.incrementAndGet();
+    Entry entry = entries.getIfPresent(new Key(receiver, phase));
+    if (entry == null)
+      return null;
+    double[] s = position(source);
+    double dx = s[0] - entry.source[0], dy = s[1] - entry.source[1], dz = s[2] - entry.source[2];
+    if (dx * dx + dy * dy + dz * dz > maxDistance * maxDistance)
+      return null;
+    nHits.incrementAndGet();
+    return entry;
+  }
+
+  /**
+   * Remember the level at which the fastest converged ray from source to receiver bottomed out.
+   * 
+   * @param receiver
+   * @param phase
+   * @param source
+   * @param layerLevel
+   */
+  void put(GeoVector receiver, SeismicPhase phase, GeoVector source, int layerLevel) {
+    entries.put(new Key(receiver, phase), new Entry(position(source), layerLevel));
+  }
+
+  /**
+   * Record that a warm started ray had to be recomputed from scratch because the fastest level
+   * was at the edge of the levels that were searched.
+   */
+  void fallback() {
+    nFallbacks.incrementAndGet();
+  }
+
+  /**
+   * Record the number of inner iterations performed to compute a ray.
+   * 
+   * @param warm true if the ray was warm started.
+   * @param nIterations
+   */
+  void addIterations(boolean warm, long nIterations) {
+    if (warm) {
+      nWarm.incrementAndGet();
+      warmIterations.addAndGet(nIterations);
+    } else {
+      nCold.incrementAndGet();
+      coldIterations.addAndGet(nIterations);
+    }
+  }
+
+  /**
+   * @return earth centered position of v in km.
+   */
+  private static double[] position(GeoVector v) {
+    double[] u = v.getUnitVector();
+    double r = v.getRadius();
+    return new double[] {u[0] * r, u[1] * r, u[2] * r};
+  }
+
+  public long size() {
+    return entries.estimatedSize();
+  }
+
+  public void clear() {
+    entries.invalidateAll();
+  }
+
+  public long getRequestCount() {
+    return nRequests.get();
+  }
+
+  public long getHitCount() {
+    return nHits.get();
+  }
+
+  /**
+   * @return number of hits whose warm started ray had to be recomputed from scratch.
+   */
+  public long getFallbackCount() {
+    return nFallbacks.get();
+  }
+
+  public double getHitRate() {
+    return nRequests.get() == 0 ? 0. : (double) nHits.get() / nRequests.get();
+  }
+
+  /**
+   * @return mean number of inner iterations, summed over all bottom-branch levels, for rays that
+   *         were computed from scratch.
+   */
+  public double getMeanColdIterations() {
+    return nCold.get() == 0 ? Double.NaN : (double) coldIterations.get() / nCold.get();
+  }
+
+  /**
+   * @return mean number of inner iterations, summed over all bottom-branch levels, for rays that
+   *         were warm started.
+   */
+  public double getMeanWarmIterations() {
+    return nWarm.get() == 0 ? Double.NaN : (double) warmIterations.get() / nWarm.get();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "RayCache: entries=%d requests=%d hits=%d (%1.1f%%) fallbacks=%d "
+            + "mean inner iterations cold=%1.1f warm=%1.1f",
+        size(), getRequestCount(), getHitCount(), 100. * getHitRate(), getFallbackCount(),
+        getMeanColdIterations(), getMeanWarmIterations());
+  }
+
+  /**
+   * Receiver position and phase.
+   */
+  private static final class Key {
+    private final double[] receiver;
+    private final SeismicPhase phase;
+    private final int hash;
+
+    Key(GeoVector receiver, SeismicPhase phase) {
+      this.receiver = position(receiver);
+      this.phase = phase;
+      this.hash = 31 * Arrays.hashCode(this.receiver) + phase.ordinal();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key))
+        return false;
+      Key other = (Key) o;
+      return phase == other.phase && Arrays.equals(receiver, other.receiver);
+    }
+  }
+}
@@ -1831,6 +1831,42 @@ public class Ray implements Comparable<Object> {
     return rayBranches;
   }
 
+  /**
+   * Returns the RayBranchBottomLevels of the first bottom branch of this ray, or null if this ray
+   * has no bottom branch with multiple levels.
+   */
+  private RayBranchBottomLevels getFirstRayBranchBottomLevels() {
+    for (RayBranch branch : rayBranches)
+      if (branch instanceof RayBranchBottom
+          && ((RayBranchBottom) branch).rayBranchBottomLevels != null)
+        return ((RayBranchBottom) branch).rayBranchBottomLevels;
+    return null;
+  }
+
+  /**
+   * Returns the layer level of the fastest level of the first bottom branch of this ray, or -1 if
+   * this ray has no bottom branch. Used by Bender to warm start subsequent rays.
+   * 
+   * @return the layer level of the fastest level of the first bottom branch.
+   */
+  public int getFastestBottomLayerLevel() {
+    RayBranchBottomLevels rbbl = getFirstRayBranchBottomLevels();
+    if (rbbl == null || rbbl.validRayBranchBottomLevelList.isEmpty())
+      return -1;
+    return rbbl.getFastestRayBranchBottom().getCurrentLayerLevel();
+  }
+
+  /**
+   * Returns true if this ray was warm started and its fastest bottom level lies on the edge of the
+   * warm start window, in which case a faster ray may exist at a level that was not searched.
+   * 
+   * @return true if the fastest level is on the edge of the warm start window.
+   */
+  public boolean isFastestBottomLayerLevelOnWindowEdge() {
+    RayBranchBottomLevels rbbl = getFirstRayBranchBottomLevels();
+    return rbbl != null && rbbl.isFastestOnWindowEdge();
+  }
+
   /**
    * Returns list of defining "bottom" branches.
    * 
@@ -969,6 +969,7 @@ public abstract class RayBranch {
       return true;
 
     ++nInner;
+    owningRay.bender.incrementInnerIterationCount();
 
     if (System.currentTimeMillis() >= owningRay.bender.getTimeToAbort()) {
       owningRay.setInvalid();
@@ -70,6 +70,12 @@ public class RayBranchBottomLevels {
    */
   protected int bottomLayerLevel = -1;
 
+  /**
+   * True if levels below or above the warm start window requested by Bender were discarded (see
+   * Bender.getWarmStartLevels()).
+   */
+  protected boolean levelsBelowWindowDiscarded, levelsAboveWindowDiscarded;
+
   public RayBranchBottomLevels(Ray ray, GeoTessPosition firstPnt, GeoTessPosition lastPnt,
       PhaseLayerLevelDefinition levelStructure, int branchIndex, int branchBottomIndex)
       throws Exception {
@@ -124,9 +130,60 @@ public class RayBranchBottomLevels {
       }
     }
 
+    applyWarmStartWindow();
     validateLevelRays();
   }
 
+  /**
+   * If Bender has requested a warm start, discard all the levels outside the requested window so
+   * that they are not optimized. If no valid level lies within the window, all levels are
+   * retained.
+   */
+  private void applyWarmStartWindow() {
+    int[] window = owningRay.bender.getWarmStartLevels();
+    if (window == null)
+      return;
+
+    ArrayList<RayBranchBottom> levels = new ArrayList<RayBranchBottom>(window[1] - window[0] + 1);
+    ArrayList<RayBranchBottom> validLevels = new ArrayList<RayBranchBottom>(levels.size());
+    boolean below = false, above = false;
+    for (RayBranchBottom rbb : rayBranchBottomLevelList)
+      if (rbb.currentLayerLevel < window[0])
+        below = true;
+      else if (rbb.currentLayerLevel > window[1])
+        above = true;
+      else {
+        levels.add(rbb);
+        if (!rbb.isInvalid())
+          validLevels.add(rbb);
+      }
+
+    if (validLevels.isEmpty())
+      return;
+
+    rayBranchBottomLevelList = levels;
+    validRayBranchBottomLevelList = validLevels;
+    levelsBelowWindowDiscarded = below;
+    levelsAboveWindowDiscarded = above;
+  }
+
+  /**
+   * Returns true if levels were discarded to satisfy a warm start window and the fastest level is
+   * the deepest or shallowest level retained on a side where levels were discarded. In that case a
+   * faster ray may exist at one of the discarded levels.
+   * 
+   * @return true if the fastest level lies on the edge of a warm start window.
+   */
+  protected boolean isFastestOnWindowEdge() {
+    if (validRayBranchBottomLevelList.isEmpty())
+      return false;
+    int level = getFastestRayBranchBottom().currentLayerLevel;
+    return (levelsBelowWindowDiscarded
+        && level == rayBranchBottomLevelList.get(0).currentLayerLevel)
+        || (levelsAboveWindowDiscarded && level == rayBranchBottomLevelList
+            .get(rayBranchBottomLevelList.size() - 1).currentLayerLevel);
+  }
+
   private void reloadValidLevelRayList() {
     validRayBranchBottomLevelList.clear();
     for (int i = 0; i < rayBranchBottomLevelList.size(); ++i) {
@@ -265,7 +322,11 @@ public class RayBranchBottomLevels {
   }
 
   protected RayBranchBottom getRayBranchBottomLevel(int level) {
-    return rayBranchBottomLevelList.get(getLevelIndexFromLayerLevel(level));
+    // levels may be missing if they could not be built or were outside a warm start window.
+    for (RayBranchBottom rbb : rayBranchBottomLevelList)
+      if (rbb.currentLayerLevel == level)
+        return rbb;
+    return null;
   }
 
   protected boolean isFastestRayBranchBottom(RayBranchBottom rbb) {
@@ -0,0 +1,168 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.bender.ray;
+
+import java.util.Arrays;
+import java.util.List;
+import gov.sandia.geotess.GeoTessException;
+import gov.sandia.geotess.GeoTessPosition;
+
+/**
+ * Flat, index addressable view of the nodes of a RaySegmentBend used by the bending sweeps. The
+ * GeoTessPosition objects remain the owners of the interpolated model state, but their 3D
+ * positions are mirrored into one contiguous primitive array and the slowness at each node is
+ * computed at most once between modifications. This lets the bend loop address previous, node and
+ * next by index, compute midpoints without temporary arrays, and avoid repeating the
+ * same interpolation for neighbor nodes that have not moved.
+ * 
+ * <p>
+ * A store is owned by a single segment and reused across calls to bend(), so its arrays are only
+ * reallocated when the number of nodes grows.
+ */
+final class RayNodeStore {
+  /**
+   * The nodes of the segment, in order.
+   */
+  private GeoTessPosition[] positions = new GeoTessPosition[32];
+
+  /**
+   * Earth-centered 3D vectors of the nodes, in km, stored as x,y,z triplets.
+   */
+  private double[] vectors = new double[96];
+
+  /**
+   * Cached slowness at each node. Valid only where valid[i] is true.
+   */
+  private double[] slowness = new double[32];
+
+  private boolean[] valid = new boolean[32];
+
+  /**
+   * The number of nodes currently loaded.
+   */
+  private int size;
+
+  /**
+   * Load the nodes of a segment into this store, discarding anything previously loaded.
+   * 
+   * @param nodes the nodes of the segment, in order.
+   */
+  void load(List<GeoTessPosition> nodes) {
+    size = nodes.size();
+    if (positions.length < size) {
+      int n = Math.max(size, 2 * positions.length);
+      positions = new GeoTessPosition[n];
+      vectors = new double[3 * n];
+      slowness = new double[n];
+      valid = new boolean[n];
+    }
+
+    int i = 0;
+    for (GeoTessPosition node : nodes) {
+      positions[i] = node;
+      System.arraycopy(node.get3DVector(), 0, vectors, 3 * i, 3);
+      ++i;
+    }
+    Arrays.fill(valid, 0, size, false);
+  }
+
+  /**
+   * Release references to the loaded nodes.
+   */
+  void clear() {
+    Arrays.fill(positions, 0, size, null);
+    size = 0;
+  }
+
+  /**
+   * @return the number of nodes currently loaded.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * @param i node index.
+   * @return the GeoTessPosition of the i'th node.
+   */
+  GeoTessPosition get(int i) {
+    return positions[i];
+  }
+
+  /**
+   * Refresh the cached state of node i after its position has been modified.
+   * 
+   * @param i node index.
+   */
+  void update(int i) {
+    System.arraycopy(positions[i].get3DVector(), 0, vectors, 3 * i, 3);
+    valid[i] = false;
+  }
+
+  /**
+   * Retrieve the slowness at node i, interpolating it only if node i has moved since it was last
+   * requested.
+   * 
+   * @param i node index.
+   * @param attributeIndex the slowness attribute.
+   * @param layer the major layer index in which the value is interpolated.
+   * @return the slowness at node i.
+   * @throws GeoTessException
+   */
+  double getSlowness(int i, int attributeIndex, int layer) throws GeoTessException {
+    if (!valid[i]) {
+      slowness[i] = positions[i].getValue(attributeIndex, layer);
+      valid[i] = true;
+    }
+    return slowness[i];
+  }
+
+  /**
+   * Compute the 3D vector that lies the fractional distance f along the straight line from node
+   * i0 to node i1. The arithmetic is the same as GeoTessPosition.setIntermediatePosition().
+   * 
+   * @param i0 index of the node where f = 0.
+   * @param i1 index of the node where f = 1.
+   * @param f the fractional distance.
+   * @param v receives the 3D vector.
+   */
+  void intermediate(int i0, int i1, double f, double[] v) {
+    int j0 = 3 * i0, j1 = 3 * i1;
+    v[0] = vectors[j0];
+    v[1] = vectors[j0 + 1];
+    v[2] = vectors[j0 + 2];
+    v[0] += (vectors[j1] - v[0]) * f;
+    v[1] += (vectors[j1 + 1] - v[1]) * f;
+    v[2] += (vectors[j1 + 2] - v[2]) * f;
+  }
+}
@@ -34,9 +34,9 @@ package gov.sandia.gmp.bender.ray;
 
 import static java.lang.Math.sqrt;
 import java.util.LinkedList;
-import java.util.ListIterator;
 import gov.sandia.geotess.GeoTessException;
 import gov.sandia.geotess.GeoTessPosition;
+import gov.sandia.geotess.GeoTessUtils;
 import gov.sandia.gmp.baseobjects.globals.RayType;
 import gov.sandia.gmp.bender.BenderConstants.GradientCalculationMode;
 import gov.sandia.gmp.bender.BenderConstants.RayDirection;
@@ -71,6 +71,16 @@ public class RaySegmentBend extends RaySegment {
   private double[] x = new double[3];
   private double[] n = new double[3];
   private double[] vn = new double[3];
+  private double[] mid = new double[3];
+  protected double[] avg = new double[3];
+
+  /**
+   * Primitive view of the nodes of this segment used by bend(). While bend() is sweeping the
+   * nodes, nodeIndex is the index of node in the store; otherwise it is -1 and previous, node and
+   * next are accessed directly.
+   */
+  private final RayNodeStore store = new RayNodeStore();
+  protected int nodeIndex = -1;
 
   private double vmid, dot, xlen, c, rc;
   protected double rtop, rbottom;
@@ -137,7 +147,7 @@ public class RaySegmentBend extends RaySegment {
    */
   protected void bend3nodes() throws GeoTessException {
     // position node half way in between previous and next
-    node.setIntermediatePosition(previous, next, 0.5);
+    setNodeMidpoint();
 
     // check aboveModel and next/previous separation distance
     if (homogeneousConstantVelocityLayer || bendNodeCheckRadius())
@@ -149,11 +159,11 @@ public class RaySegmentBend extends RaySegment {
     else if (thickness >= maxLayerThicknessOnlyBend)
       bendNode(); // bend only
     else {
-      GeoTessPosition avgNode = node.deepClone();
+      System.arraycopy(node.get3DVector(), 0, avg, 0, 3);
       bendNode();
       double f = (thickness - minLayerThicknessNoBend)
           / (maxLayerThicknessOnlyBend - minLayerThicknessNoBend);
-      node.setIntermediatePosition(avgNode, node, f);
+      setNodeIntermediatePosition(avg, f);
     }
 
     // make sure node is in major layer
@@ -204,8 +214,12 @@ public class RaySegmentBend extends RaySegment {
       // normalize n to unit vector.
       VectorUnit.normalize(n);
 
-      c = 0.5 * previous.getValue(attributeIndex, majorLayerIndex)
-          + 0.5 * next.getValue(attributeIndex, majorLayerIndex);
+      if (nodeIndex < 0)
+        c = 0.5 * previous.getValue(attributeIndex, majorLayerIndex)
+            + 0.5 * next.getValue(attributeIndex, majorLayerIndex);
+      else
+        c = 0.5 * store.getSlowness(nodeIndex - 1, attributeIndex, majorLayerIndex)
+            + 0.5 * store.getSlowness(nodeIndex + 1, attributeIndex, majorLayerIndex);
 
       rc = (c * vmid + 1) / (4. * c * VectorUnit.dot(n, gradient));
 
@@ -215,7 +229,7 @@ public class RaySegmentBend extends RaySegment {
       // get the full vector (unit vector * radius) and
       // add offset to full vector (vn += rc * n)
 
-      vn = node.get3DVector().clone();
+      System.arraycopy(node.get3DVector(), 0, vn, 0, 3);
       Vector3D.multIncrement(vn, rc, n);
       // for (int i = 0; i < 3; ++i)
       // vn[i] += n[i] * rc;
@@ -226,6 +240,39 @@ public class RaySegmentBend extends RaySegment {
     }
   }
 
+  /**
+   * Move node to the midpoint of the straight line between previous and next. Equivalent to
+   * node.setIntermediatePosition(previous, next, 0.5) but, while bend() is sweeping the nodes,
+   * the midpoint is computed from the node store without allocating a temporary vector.
+   * 
+   * @throws GeoTessException
+   */
+  protected void setNodeMidpoint() throws GeoTessException {
+    if (nodeIndex < 0)
+      node.setIntermediatePosition(previous, next, 0.5);
+    else {
+      store.intermediate(nodeIndex - 1, nodeIndex + 1, 0.5, mid);
+      node.set(mid, GeoTessUtils.normalize(mid));
+    }
+  }
+
+  /**
+   * Move node to the fractional distance f along the straight line from the 3D vector v0 to the
+   * current position of node. Equivalent to node.setIntermediatePosition(gtp0, node, f) where gtp0
+   * is a copy of node taken at v0, without the copy.
+   * 
+   * @param v0 the 3D vector where f = 0.
+   * @param f the fractional distance.
+   * @throws GeoTessException
+   */
+  protected void setNodeIntermediatePosition(double[] v0, double f) throws GeoTessException {
+    double[] v1 = node.get3DVector();
+    mid[0] = v0[0] + (v1[0] - v0[0]) * f;
+    mid[1] = v0[1] + (v1[1] - v0[1]) * f;
+    mid[2] = v0[2] + (v1[2] - v0[2]) * f;
+    node.set(mid, GeoTessUtils.normalize(mid));
+  }
+
   /**
    * Check the radius of the node to be bent and make sure it lies in the model (not above) and
    * within the major layer. Also, check the separation distance between the next and previous nodes
@@ -293,81 +340,70 @@ public class RaySegmentBend extends RaySegment {
         decCnt = 1; // even node count
       int n = nodes.size() / 2;
       boolean bendFromMiddleOut = true;
-      if (bendFromMiddleOut) {
-        iterator = nodes.listIterator(n - 1);
-        bendNodesForward(n - decCnt, iterator);
-        iterator = nodes.listIterator(n + 1);
-        bendNodesBackward(n - 1, iterator);
-      } else // bend nodes from ends toward middle
-      {
-        iterator = nodes.listIterator(nodes.size());
-        bendNodesBackward(n - 1, iterator);
-        iterator = nodes.listIterator();
-        bendNodesForward(n - decCnt, iterator);
+      store.load(nodes);
+      try {
+        if (bendFromMiddleOut) {
+          bendNodesForward(n - decCnt, n);
+          bendNodesBackward(n - 1, n - 1);
+        } else // bend nodes from ends toward middle
+        {
+          bendNodesBackward(n - 1, nodes.size() - 2);
+          bendNodesForward(n - decCnt, 1);
+        }
+      } finally {
+        nodeIndex = -1;
+        store.clear();
       }
     }
   }
 
   /**
-   * Bends the next n nodes pointed to by the input ListIterator (nodeIterator) beginning with the
-   * iterators input position + 1 and ending with input position + n. The list iterator must be
-   * setting on the node just before the first node to be bent on entry. On exit the iterator will
-   * be setting on the position of the last node bent.
+   * Bends n nodes of the node store in order of increasing index, beginning with node index first
+   * and ending with node index first + n - 1. Each node is bent using its current neighbors, so
+   * neighbor index first - 1 must already be in its final position.
    * 
    * @param n The number of nodes to be bent.
-   * @param nodeIterator The node iterator setting on the position just before the first node to be
-   *        bent on entry.
+   * @param first The index of the first node to be bent.
    * @throws GeoTessException
    */
-  private void bendNodesForward(int n, ListIterator<GeoTessPosition> nodeIterator)
-      throws GeoTessException {
-    for (int i = 0; i < n; ++i) {
-      // get the next three nodes
-      previous = nodeIterator.next();
-      node = nodeIterator.next();
-      next = nodeIterator.next();
-
-      // back up two
-      nodeIterator.previous();
-      nodeIterator.previous();
-
-      // bend node
-      // if(nodeMovementStats != null)
-      // this.bend3nodesSaveMovement();
-      // else
-      bend3nodes();
-    }
+  private void bendNodesForward(int n, int first) throws GeoTessException {
+    for (int i = 0; i < n; ++i)
+      bendStoreNode(first + i);
   }
 
   /**
-   * Bends the previous n nodes pointed to by the input ListIterator (nodeIterator) beginning with
-   * the iterators input position - 2 and ending with input position - n - 1. The list iterator must
-   * be setting on the node two after the first node to be bent on entry. On exit the iterator will
-   * be setting on the position of the node after the last node bent.
+   * Bends n nodes of the node store in order of decreasing index, beginning with node index first
+   * and ending with node index first - n + 1. Each node is bent using its current neighbors, so
+   * neighbor index first + 1 must already be in its final position.
    * 
    * @param n The number of nodes to be bent.
-   * @param nodeIterator The node iterator setting on the position two after the first node to be
-   *        bent on entry.
+   * @param first The index of the first node to be bent.
    * @throws GeoTessException
    */
-  private void bendNodesBackward(int n, ListIterator<GeoTessPosition> nodeIterator)
-      throws GeoTessException {
-    for (int i = 0; i < n; ++i) {
-      // get previous three nodes
-      next = nodeIterator.previous();
-      node = nodeIterator.previous();
-      previous = nodeIterator.previous();
-
-      // step forward two
-      nodeIterator.next();
-      nodeIterator.next();
-
-      // bend node
-      // if(nodeMovementStats != null)
-      // this.bend3nodesSaveMovement();
-      // else
-      bend3nodes();
-    }
+  private void bendNodesBackward(int n, int first) throws GeoTessException {
+    for (int i = 0; i < n; ++i)
+      bendStoreNode(first - i);
+  }
+
+  /**
+   * Bend node index i of the node store between its two neighbors and refresh its cached state.
+   * 
+   * @param i The index of the node to be bent.
+   * @throws GeoTessException
+   */
+  private void bendStoreNode(int i) throws GeoTessException {
+    nodeIndex = i;
+    previous = store.get(i - 1);
+    node = store.get(i);
+    next = store.get(i + 1);
+
+    // bend node
+    // if(nodeMovementStats != null)
+    // this.bend3nodesSaveMovement();
+    // else
+    bend3nodes();
+
+    store.update(i);
   }
 
   /**
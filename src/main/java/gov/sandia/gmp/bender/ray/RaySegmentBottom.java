@@ -313,7 +313,7 @@ public class RaySegmentBottom extends RaySegmentBend {
   protected void bend3nodes() throws GeoTessException {
     // position node half way in between previous and next
     // if (node != middle)
-    node.setIntermediatePosition(previous, next, 0.5);
+    setNodeMidpoint();
     // else
     // node.setIntermediateUnitVectorPosition(previous, next, 0.5);
 
@@ -327,11 +327,11 @@ public class RaySegmentBottom extends RaySegmentBend {
     if (thickness < minLayerThicknessNoBend)
       return; // node already averaged.
     else if (thickness < maxLayerThicknessOnlyBend) {
-      GeoTessPosition avgNode = node.deepClone();
+      System.arraycopy(node.get3DVector(), 0, avg, 0, 3);
       bendNode();
       double f = (thickness - minLayerThicknessNoBend)
           / (maxLayerThicknessOnlyBend - minLayerThicknessNoBend);
-      node.setIntermediatePosition(avgNode, node, f);
+      setNodeIntermediatePosition(avg, f);
     } else
       bendNode(); // bend only
 
@@ -55,15 +55,20 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import gov.sandia.geotess.extensions.libcorr3d.LibCorr3DModel;
 import gov.sandia.gmp.baseobjects.Location;
 import gov.sandia.gmp.baseobjects.Receiver;
@@ -74,6 +79,7 @@ import gov.sandia.gmp.baseobjects.globals.GMPGlobals;
 import gov.sandia.gmp.baseobjects.globals.GeoAttributes;
 import gov.sandia.gmp.baseobjects.globals.SeismicPhase;
 import gov.sandia.gmp.baseobjects.interfaces.impl.Prediction;
+import gov.sandia.gmp.baseobjects.interfaces.impl.PredictionRequest;
 import gov.sandia.gmp.baseobjects.interfaces.impl.Predictor;
 import gov.sandia.gmp.baseobjects.observation.Observation;
 import gov.sandia.gmp.baseobjects.observation.ObservationComponent;
@@ -126,6 +132,20 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
    */
   protected ScreenWriterOutput logger, errorlog;
 
+  /**
+   * When this Event is located by a LockstepLocator, predictions are requested through it so that
+   * they can be batched with those of the other events in the task. Null otherwise.
+   */
+  private transient LockstepLocator lockstep;
+
+  /**
+   * Maximum number of times an originally defining observation is set back to defining by
+   * update(). Initialized from eventParameters but held here, not in the EventParameters shared by
+   * all the events in a task, because griddedResiduals() lifts the limit temporarily while other
+   * events may be located concurrently by a LockstepLocator.
+   */
+  private int observationFlipFlops;
+
   /**
    * Used to store info about observations whose defining status is changed at the start of a
    * location calculation so it can be output right after the observation table.
@@ -252,6 +272,7 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
     this.source = source;
 
     this.eventParameters = params;
+    this.observationFlipFlops = params.observationFlipFlops();
 
     this.source.setAlgorithm(eventParameters.getAlgorithm());
     this.source.setAuthor(eventParameters.getAuthor());
@@ -757,7 +778,7 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
       // don't change it from non-defining to defining any more.
       for (ObservationComponent obs : source.getObsComponents())
         if (obs.isDefiningOriginal() && !obs.isDefining()
-            && obs.incFlipFlop() < eventParameters.observationFlipFlops()) {
+            && obs.incFlipFlop() < observationFlipFlops) {
           obs.setDefining(true);
           definingChanged = true;
         }
@@ -769,8 +790,7 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
       // Update predictions.
       // Note that all observations are being sent to their predictors,
       // but predictors will only compute predictions for those that are defining.
-      ArrayList<Prediction> predictions = eventParameters.predictorFactory().computePredictions(
-          source.getObservations().values(), eventParameters.predictionsThreadPool());
+      ArrayList<Prediction> predictions = computePredictions(source.getObservations().values());
 
       // for each supported observation call setPredictions. That will update residuals.
       // Then for each ObservationComponent owned by the Observation, the observation will
@@ -850,8 +870,7 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
       obs.setRequestedAttributes(getEventParameters().needDerivatives());
 
     // update predictions
-    ArrayList<Prediction> predictions = eventParameters.predictorFactory().computePredictions(
-        source.getObservations().values(), eventParameters.predictionsThreadPool());
+    ArrayList<Prediction> predictions = computePredictions(source.getObservations().values());
 
     // for each supported observation call setPredictions. That will update residuals.
     // Then for each ObservationComponent owned by the Observation, the observation will
@@ -894,6 +913,33 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
     predictionTime += System.nanoTime() - timer;
   }
 
+  /**
+   * Compute predictions for the specified observations. If this Event is being located by a
+   * LockstepLocator, the requests are batched with those of the other events it is locating,
+   * otherwise they are sent directly to the PredictorFactory.
+   * 
+   * @param observations
+   * @return predictions
+   * @throws Exception
+   */
+  private ArrayList<Prediction> computePredictions(Collection<Observation> observations)
+      throws Exception {
+    if (lockstep != null)
+      return lockstep.computePredictions(observations);
+    return eventParameters.predictorFactory().computePredictions(observations,
+        eventParameters.predictionsThreadPool());
+  }
+
+  /**
+   * Specify the LockstepLocator through which this Event requests predictions, or null to request
+   * them directly from the PredictorFactory.
+   * 
+   * @param lockstep
+   */
+  void setLockstepLocator(LockstepLocator lockstep) {
+    this.lockstep = lockstep;
+  }
+
   private void correlatedObservations(ArrayList<ObservationComponent> definingVec)
       throws Exception {
 
@@ -1453,7 +1499,7 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
             + "Geographic region: %s (%d)    Seismic region %s (%d)%n",
         source.getSourceId(), source.getEvid(), inputLocation.getLatDegrees(),
         inputLocation.getLonDegrees(), inputLocation.getDepth(), inputLocation.getTime(),
-        GMTFormat.GMT_MS.format(GMTFormat.getDate(inputLocation.getTime())),
+        GMTFormat.formatGMT_MS(inputLocation.getTime()),
         GMTFormat.getJDate(inputLocation.getTime()),
         FlinnEngdahlCodes.getGeoRegionName(source.getLatDegrees(), source.getLonDegrees()),
         FlinnEngdahlCodes.getGeoRegionIndex(source.getLatDegrees(), source.getLonDegrees()),
@@ -1852,6 +1898,12 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
    * grid_map_height = 22 <br>
    * grid_map_depth_range = 0 <br>
    * grid_units = radians | degrees | km | meters
+   * <p>
+   * Optional parameters: <br>
+   * grid_parallel = false. If true, grid nodes are evaluated in parallel using the predictions
+   * thread pool. Ignored when observations are correlated. <br>
+   * grid_parallel_batch_size = 1000. Number of grid nodes per batch of prediction requests when
+   * grid_parallel is true.
    * 
    * @throws IOException
    * @throws Exception
@@ -1874,9 +1926,7 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
     String gridFileFormat =
         eventParameters.properties().getProperty("grid_output_file_format", "vtk").toLowerCase();
 
-    int nObservationFlipFlops = eventParameters.observationFlipFlops();
-
-    eventParameters.observationFlipFlops(Integer.MAX_VALUE);
+    observationFlipFlops = Integer.MAX_VALUE;
 
     time0 = source.getTime();
     double sswr_minimum = sourceList.get(0).getSumSQRWeightedResiduals();
@@ -2015,178 +2065,366 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
     GeoVector[][] grid =
         center.getGrid(pole, nx, width * convert / (nx - 1), ny, height * convert / (ny - 1));
 
-    double[][][] sswr = new double[ny][nx][nz];
-    double[][][] rmswr = new double[ny][nx][nz];
+    // grid node positions in the order in which they are written to the vtk file:
+    // depth varies slowest, x varies fastest.
+    GeoVector[] nodes = new GeoVector[nx * ny * nz];
+    for (int k = 0; k < nz; ++k)
+      for (int i = 0; i < ny; ++i)
+        for (int j = 0; j < nx; ++j)
+          nodes[k * nx * ny + i * nx + j] = new GeoVector(grid[i][j]).setDepth(depth0 + k * ddepth);
 
-    if (logger.getVerbosity() > 0)
-      logger.writeln("Computing gridded residuals");
-
-    double min_rmswr = Double.POSITIVE_INFINITY;
-    Location min_location = null;
+    // sswr at each node and the origin time, relative to time0, at which sswr is minimized.
+    double[] sswr = new double[nodes.length];
+    double[] dt = new double[nodes.length];
 
     int nObs = sourceList.get(0).getNobs();
-    double r, az, x, y;
-    Brents brents = new Brents();
-    double[] xbrack = new double[] {-5, 5};
 
-    long timer = System.currentTimeMillis();
-    for (int i = 0; i < ny; ++i) {
-      System.out.println("gridded residuals :" + (ny - i));
-      for (int j = 0; j < nx; ++j)
-        for (int k = 0; k < nz; ++k) {
+    GriddedResidualsVTK vtk = null;
+    if (gridFileFormat.equals("vtk")) {
+      if (logger.getVerbosity() >= 1)
+        logger.write(
+            String.format("Writing gridded residuals to file %s%n", outputFile.getCanonicalPath()));
 
-          setLocation(new Location(grid[i][j].setDepth(depth0 + k * ddepth), source.getTime()));
+      writeGriddedResidualsGrid(outputFile, grid, center, gridUnits, convert, nx, ny, nz, depth0,
+          ddepth);
 
-          xbrack = mnbrak(-20., 20.);
+      vtk = new GriddedResidualsVTK(outputFile, nodes.length, nObs, sswr_minimum);
+    }
 
-          sswr[i][j][k] = brents.minF(xbrack[0], xbrack[1], this);
+    if (logger.getVerbosity() > 0)
+      logger.writeln("Computing gridded residuals");
 
-          double t = brents.getExtremaAbscissa();
-          double xx = (t - xbrack[0]) / (xbrack[1] - xbrack[0]);
-          boolean ok = xx > 0. && xx < 1.;
+    long timer = System.currentTimeMillis();
+    try {
+      // The parallel implementation does not modify the Observations owned by this Event, which
+      // precludes correlated observations. Fall back to the serial implementation for those.
+      if (eventParameters.properties().getBoolean("grid_parallel", false)
+          && correlationMethod == CorrelationMethod.UNCORRELATED)
+        griddedResidualsParallel(nodes, sswr, dt, vtk);
+      else {
+        Brents brents = new Brents();
+        double[] xbrack = new double[] {-5, 5};
+
+        for (int i = 0; i < ny; ++i) {
+          if (logger.getVerbosity() >= 2)
+            logger.writeln("gridded residuals :" + (ny - i));
+          for (int j = 0; j < nx; ++j)
+            for (int k = 0; k < nz; ++k) {
+              int n = k * nx * ny + i * nx + j;
 
-          if (!ok)
-            System.out.printf("mnbrak: %10.3f %10.3f %10.3f %b %d%n", xbrack[0], t, xbrack[1], ok,
-                getnSSWR());
+              setLocation(new Location(nodes[n], source.getTime()));
 
+              xbrack = mnbrak(this, -20., 20.);
 
-          rmswr[i][j][k] = Math.sqrt(sswr[i][j][k] / nObs);
+              sswr[n] = brents.minF(xbrack[0], xbrack[1], this);
 
-          // System.out.println("DEBUG in Event.gridded_residuals "+rmswr[i][j][k]);
+              double t = brents.getExtremaAbscissa();
+              double xx = (t - xbrack[0]) / (xbrack[1] - xbrack[0]);
+              boolean ok = xx > 0. && xx < 1.;
 
-          if (rmswr[i][j][k] < min_rmswr) {
-            min_rmswr = rmswr[i][j][k];
-            min_location = getLocation();
-          }
+              if (!ok && logger.getVerbosity() >= 4)
+                logger.writef("mnbrak: %10.3f %10.3f %10.3f %b %d%n", xbrack[0], t, xbrack[1],
+                    ok, getnSSWR());
+
+              dt[n] = t;
+            }
         }
+        if (vtk != null)
+          vtk.write(0, sswr, sswr.length);
+      }
+    } finally {
+      if (vtk != null)
+        vtk.close();
     }
 
     timer = System.currentTimeMillis() - timer;
 
+    double min_rmswr = Double.POSITIVE_INFINITY;
+    Location min_location = null;
+    for (int n = 0; n < nodes.length; ++n) {
+      double rmswr = Math.sqrt(sswr[n] / nObs);
+      if (rmswr < min_rmswr) {
+        min_rmswr = rmswr;
+        min_location = new Location(nodes[n], time0 + dt[n]);
+      }
+    }
+
     if (logger.getVerbosity() >= 1) {
       logger.writef(String.format("Center of grid = %s%n", center.toString()));
 
-      logger.writef("Mimimum rms_wr = %1.6f found at %s %1.3f%n", min_rmswr,
-          min_location.toString(), min_location.getTime() - time0);
+      if (min_location != null)
+        logger.writef("Mimimum rms_wr = %1.6f found at %s %1.3f%n", min_rmswr,
+            min_location.toString(), min_location.getTime() - time0);
 
     }
 
-    if (gridFileFormat.equals("vtk")) {
-      if (logger.getVerbosity() >= 1)
-        logger.write(
-            String.format("Writing gridded residuals to file %s%n", outputFile.getCanonicalPath()));
+    if (vtk != null && logger != null && logger.getVerbosity() > 0)
+      logger.writeln(
+          "Time to compute gridded residuals = " + GMPGlobals.ellapsedTime(timer * .001));
+
+    observationFlipFlops = eventParameters.observationFlipFlops();
+
+    // restore the best fit location and all predictions, residuals, etc.
+    update();
+  }
 
-      DataOutputStream output =
-          new DataOutputStream(new BufferedOutputStream(new FileOutputStream(outputFile)));
+  /**
+   * Write the POINTS and CELLS sections of a gridded residuals vtk file, followed by the
+   * POINT_DATA line. The scalar arrays are written afterward by a GriddedResidualsVTK.
+   */
+  private void writeGriddedResidualsGrid(File outputFile, GeoVector[][] grid, Location center,
+      String gridUnits, double convert, int nx, int ny, int nz, double depth0, double ddepth)
+      throws IOException {
+    double r, az, x, y;
 
-      output.writeBytes(String.format("# vtk DataFile Version 2.0%n"));
-      output.writeBytes(String.format("LocOO3D_Gridded_Residuals%n"));
-      output.writeBytes(String.format("BINARY%n"));
+    DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(outputFile)));
 
-      output.writeBytes(String.format("DATASET UNSTRUCTURED_GRID%n"));
+    output.writeBytes(String.format("# vtk DataFile Version 2.0%n"));
+    output.writeBytes(String.format("LocOO3D_Gridded_Residuals%n"));
+    output.writeBytes(String.format("BINARY%n"));
 
-      output.writeBytes(String.format("POINTS %d double%n", nx * ny * nz));
+    output.writeBytes(String.format("DATASET UNSTRUCTURED_GRID%n"));
 
-      if (gridUnits.equals("km"))
-        for (int k = 0; k < nz; ++k)
-          for (int i = 0; i < ny; ++i)
-            for (int j = 0; j < nx; ++j) {
-              r = center.distance(grid[i][j]) / convert;
-              az = center.azimuth(grid[i][j], 0.);
-              x = r * Math.sin(az);
-              y = r * Math.cos(az);
-              output.writeDouble(x);
-              output.writeDouble(y);
-              output.writeDouble(-depth0 - k * ddepth);
-            }
-      else if (gridUnits.equals("degrees"))
-        for (int k = 0; k < nz; ++k)
-          for (int i = 0; i < ny; ++i)
-            for (int j = 0; j < nx; ++j) {
-              x = grid[i][j].getLonDegrees();
-              y = grid[i][j].getLatDegrees();
-              output.writeDouble(x);
-              output.writeDouble(y);
-              output.writeDouble(depth0 + k * ddepth);
-            }
+    output.writeBytes(String.format("POINTS %d double%n", nx * ny * nz));
 
-      if (nz == 1) {
-        int nCells = (nx - 1) * (ny - 1);
-        output.writeBytes(String.format("CELLS %d %d%n", nCells, nCells * 5));
+    if (gridUnits.equals("km"))
+      for (int k = 0; k < nz; ++k)
+        for (int i = 0; i < ny; ++i)
+          for (int j = 0; j < nx; ++j) {
+            r = center.distance(grid[i][j]) / convert;
+            az = center.azimuth(grid[i][j], 0.);
+            x = r * Math.sin(az);
+            y = r * Math.cos(az);
+            output.writeDouble(x);
+            output.writeDouble(y);
+            output.writeDouble(-depth0 - k * ddepth);
+          }
+    else if (gridUnits.equals("degrees"))
+      for (int k = 0; k < nz; ++k)
+        for (int i = 0; i < ny; ++i)
+          for (int j = 0; j < nx; ++j) {
+            x = grid[i][j].getLonDegrees();
+            y = grid[i][j].getLatDegrees();
+            output.writeDouble(x);
+            output.writeDouble(y);
+            output.writeDouble(depth0 + k * ddepth);
+          }
 
+    if (nz == 1) {
+      int nCells = (nx - 1) * (ny - 1);
+      output.writeBytes(String.format("CELLS %d %d%n", nCells, nCells * 5));
+
+      for (int i = 0; i < ny - 1; ++i)
+        for (int j = 0; j < nx - 1; ++j) {
+          output.writeInt(4);
+          output.writeInt(i * nx + j);
+          output.writeInt(i * nx + j + 1);
+          output.writeInt((i + 1) * nx + j + 1);
+          output.writeInt((i + 1) * nx + j);
+        }
+
+      output.writeBytes(String.format("CELL_TYPES %d%n", nCells));
+      for (int t = 0; t < nCells; ++t)
+        output.writeInt(9); // vtk_quad
+    } else {
+      int nCells = (nx - 1) * (ny - 1) * (nz - 1);
+      output.writeBytes(String.format("CELLS %d %d%n", nCells, nCells * 9));
+
+      for (int k = 0; k < nz - 1; ++k)
         for (int i = 0; i < ny - 1; ++i)
           for (int j = 0; j < nx - 1; ++j) {
-            output.writeInt(4);
-            output.writeInt(i * nx + j);
-            output.writeInt(i * nx + j + 1);
-            output.writeInt((i + 1) * nx + j + 1);
-            output.writeInt((i + 1) * nx + j);
+            output.writeInt(8);
+            output.writeInt(k * nx * ny + i * nx + j);
+            output.writeInt(k * nx * ny + i * nx + j + 1);
+            output.writeInt(k * nx * ny + (i + 1) * nx + j + 1);
+            output.writeInt(k * nx * ny + (i + 1) * nx + j);
+            output.writeInt((k + 1) * nx * ny + i * nx + j);
+            output.writeInt((k + 1) * nx * ny + i * nx + j + 1);
+            output.writeInt((k + 1) * nx * ny + (i + 1) * nx + j + 1);
+            output.writeInt((k + 1) * nx * ny + (i + 1) * nx + j);
           }
 
-        output.writeBytes(String.format("CELL_TYPES %d%n", nCells));
-        for (int t = 0; t < nCells; ++t)
-          output.writeInt(9); // vtk_quad
-      } else {
-        int nCells = (nx - 1) * (ny - 1) * (nz - 1);
-        output.writeBytes(String.format("CELLS %d %d%n", nCells, nCells * 9));
-
-        for (int k = 0; k < nz - 1; ++k)
-          for (int i = 0; i < ny - 1; ++i)
-            for (int j = 0; j < nx - 1; ++j) {
-              output.writeInt(8);
-              output.writeInt(k * nx * ny + i * nx + j);
-              output.writeInt(k * nx * ny + i * nx + j + 1);
-              output.writeInt(k * nx * ny + (i + 1) * nx + j + 1);
-              output.writeInt(k * nx * ny + (i + 1) * nx + j);
-              output.writeInt((k + 1) * nx * ny + i * nx + j);
-              output.writeInt((k + 1) * nx * ny + i * nx + j + 1);
-              output.writeInt((k + 1) * nx * ny + (i + 1) * nx + j + 1);
-              output.writeInt((k + 1) * nx * ny + (i + 1) * nx + j);
-            }
-
-        output.writeBytes(String.format("CELL_TYPES %d%n", nCells));
-        for (int t = 0; t < nCells; ++t)
-          output.writeInt(12); // vtk_hexahedron
-      }
-
-      output.writeBytes(String.format("POINT_DATA %d%n", ny * nx * nz));
+      output.writeBytes(String.format("CELL_TYPES %d%n", nCells));
+      for (int t = 0; t < nCells; ++t)
+        output.writeInt(12); // vtk_hexahedron
+    }
 
-      output.writeBytes("SCALARS Sum_Squared_Weighted_Residuals float 1\n");
-      output.writeBytes("LOOKUP_TABLE default\n");
+    output.writeBytes(String.format("POINT_DATA %d%n", ny * nx * nz));
 
-      for (int k = 0; k < nz; ++k)
-        for (int i = 0; i < ny; ++i)
-          for (int j = 0; j < nx; ++j)
-            output.writeFloat((float) sswr[i][j][k]);
+    output.close();
+  }
 
-      output.writeBytes("SCALARS Delta_Sum_Squared_Weighted_Residuals float 1\n");
-      output.writeBytes("LOOKUP_TABLE default\n");
+  /**
+   * Compute the minimum sum squared weighted residuals at each grid node in parallel. Grid nodes
+   * are processed in batches of grid_parallel_batch_size nodes (default 1000). For each batch,
+   * predictions for every observation at every node are sent to the PredictorFactory in a single
+   * call, which distributes them over the predictions thread pool. Then, since predictions do not
+   * depend on origin time, the origin time that minimizes sswr at each node is found with Brent's
+   * method, one task per group of nodes. The Observations owned by this Event are not modified.
+   * 
+   * @param nodes the grid node positions.
+   * @param sswr (output) the minimum sswr at each node.
+   * @param dt (output) the origin time, relative to time0, at which sswr is minimized.
+   * @param vtk if not null, sswr values are written to vtk as each batch completes.
+   * @throws Exception
+   */
+  private void griddedResidualsParallel(GeoVector[] nodes, double[] sswr, double[] dt,
+      GriddedResidualsVTK vtk) throws Exception {
+    int batchSize =
+        Math.max(1, eventParameters.properties().getInt("grid_parallel_batch_size", 1000));
+    ExecutorService threadPool = eventParameters.predictionsThreadPool();
+
+    // Find the observations with at least one component that contributes to sswr. Like the
+    // serial implementation, which sets observationFlipFlops to Integer.MAX_VALUE, include
+    // components that were originally defining even if they are not defining now.
+    // Requested attributes are assembled here rather than with Observation.setRequestedAttributes()
+    // so that defining status does not have to be changed.
+    ArrayList<Observation> observations = new ArrayList<>();
+    ArrayList<EnumSet<GeoAttributes>> requestedAttributes = new ArrayList<>();
+    for (Observation obs : source.getObservations().values()) {
+      EnumSet<GeoAttributes> attributes = EnumSet.noneOf(GeoAttributes.class);
+      for (ObservationComponent c : obs.getObservationComponents().values())
+        if (c.isDefining() || c.isDefiningOriginal()) {
+          attributes.add(c.getObsType());
+          attributes.add(c.getBaseModelType());
+          if (c.useModelUncertainty())
+            attributes.add(c.getModelUncertaintyType());
+          if (c.usePathCorr())
+            attributes.add(c.getPathCorrType());
+        }
+      if (!attributes.isEmpty()) {
+        observations.add(obs);
+        requestedAttributes.add(attributes);
+      }
+    }
 
-      for (int k = 0; k < nz; ++k)
-        for (int i = 0; i < ny; ++i)
-          for (int j = 0; j < nx; ++j)
-            output.writeFloat((float) (sswr[i][j][k] - sswr_minimum));
+    int nObservations = observations.size();
+
+    for (int first = 0; first < nodes.length; first += batchSize) {
+      int count = Math.min(batchSize, nodes.length - first);
+
+      // one PredictionRequest per observation per node. Request index is node * nObservations +
+      // observation.
+      ArrayList<PredictionRequest> requests = new ArrayList<>(count * nObservations);
+      Map<PredictionRequest, Integer> requestIndex = new IdentityHashMap<>(count * nObservations);
+      for (int n = 0; n < count; ++n) {
+        Source nodeSource = new Source(nodes[first + n], time0);
+        for (int o = 0; o < nObservations; ++o) {
+          Observation obs = observations.get(o);
+          PredictionRequest request = new PredictionRequest(obs.getObservationId(),
+              obs.getReceiver(), nodeSource, obs.getPhase(), requestedAttributes.get(o), true);
+          requestIndex.put(request, requests.size());
+          requests.add(request);
+        }
+      }
 
-      output.writeBytes("SCALARS Root_Mean_Squared_Weighted_Residuals float 1\n");
-      output.writeBytes("LOOKUP_TABLE default\n");
+      Prediction[] predictions = new Prediction[requests.size()];
+      for (Prediction p : eventParameters.predictorFactory().computePredictions(requests,
+          threadPool)) {
+        Integer index = requestIndex.get(p.getPredictionRequest());
+        if (index == null)
+          throw new LocOOException(
+              "PredictorFactory returned a Prediction that does not match any gridded residuals "
+                  + "PredictionRequest");
+        predictions[index] = p;
+      }
 
-      for (int k = 0; k < nz; ++k)
-        for (int i = 0; i < ny; ++i)
-          for (int j = 0; j < nx; ++j)
-            output.writeFloat((float) rmswr[i][j][k]);
+      // solve for origin time at every node in the batch.
+      final int batchFirst = first;
+      int nTasks = threadPool == null ? 1
+          : Math.min(count, 4 * Runtime.getRuntime().availableProcessors());
+      int nodesPerTask = (count + nTasks - 1) / nTasks;
+      ArrayList<Callable<Void>> tasks = new ArrayList<>(nTasks);
+      for (int taskFirst = 0; taskFirst < count; taskFirst += nodesPerTask) {
+        final int from = taskFirst;
+        final int to = Math.min(count, taskFirst + nodesPerTask);
+        tasks.add(() -> {
+          Brents brents = new Brents();
+          for (int n = from; n < to; ++n) {
+            GridNode node = new GridNode(observations, predictions, n * nObservations);
+            double[] xbrack = mnbrak(node, -20., 20.);
+            sswr[batchFirst + n] = brents.minF(xbrack[0], xbrack[1], node);
+            dt[batchFirst + n] = brents.getExtremaAbscissa();
+          }
+          return null;
+        });
+      }
 
-      output.close();
+      if (threadPool == null)
+        for (Callable<Void> task : tasks)
+          task.call();
+      else
+        for (Future<Void> f : threadPool.invokeAll(tasks))
+          f.get();
 
-      if (logger != null && logger.getVerbosity() > 0)
-        logger.writeln(
-            "Time to compute gridded residuals = " + GMPGlobals.ellapsedTime(timer * .001));
+      if (vtk != null)
+        vtk.write(first, Arrays.copyOfRange(sswr, first, first + count), count);
 
+      if (logger.getVerbosity() > 0)
+        logger.writef("Gridded residuals computed at %d of %d grid nodes%n", first + count,
+            nodes.length);
     }
+  }
 
-    eventParameters.observationFlipFlops(nObservationFlipFlops);
+  /**
+   * The sum squared weighted residuals at a single grid node, as a function of origin time
+   * relative to time0. Travel time residuals are stored at time0 and shifted by the origin time
+   * offset. Azimuth and slowness residuals do not depend on origin time so they are summed once.
+   * Weights and residuals are computed with the same ObservationComponent methods that
+   * setPrediction() uses.
+   */
+  private static class GridNode implements BrentsFunction {
+    private final double[] ttResidual;
+    private final double[] ttWeight;
+    private int nTT;
+    private double sswrConstant;
+
+    /**
+     * @param observations the observations that contribute to sswr.
+     * @param predictions predictions at this node are at predictions[offset + i] for
+     *        observations.get(i). Null and invalid predictions are ignored.
+     * @param offset index of the prediction for the first observation at this node.
+     */
+    GridNode(List<Observation> observations, Prediction[] predictions, int offset) {
+      ttResidual = new double[observations.size()];
+      ttWeight = new double[observations.size()];
+
+      for (int o = 0; o < observations.size(); ++o) {
+        Prediction p = predictions[offset + o];
+        if (p == null || !p.isValid())
+          continue;
+
+        for (ObservationComponent c : observations.get(o).getObservationComponents().values()) {
+          if (!c.isDefining() && !c.isDefiningOriginal())
+            continue;
+
+          double predicted = p.getAttribute(c.getObsType());
+          double modelUncertainty = p.getAttribute(c.getModelUncertaintyType());
+
+          if (c.getInvalidReason(predicted, modelUncertainty) != null)
+            continue;
+
+          double weight = c.computeWeight(c.applySascModelUncertainty(modelUncertainty));
+          double residual = c.computeResidual(
+              c.applySascCorrection(predicted) + c.getMasterEventCorrection());
+
+          if (c.getObsType() == GeoAttributes.TRAVEL_TIME) {
+            ttResidual[nTT] = residual;
+            ttWeight[nTT++] = weight;
+          } else
+            sswrConstant += sqr(residual * weight);
+        }
+      }
+    }
 
-    // restore the best fit location and all predictions, residuals, etc.
-    update();
+    @Override
+    public double bFunc(double originTime) {
+      double sum = sswrConstant;
+      for (int i = 0; i < nTT; ++i)
+        sum += sqr((ttResidual[i] - originTime) * ttWeight[i]);
+      return sum;
+    }
   }
 
   @Override
@@ -2197,22 +2435,23 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
   }
 
   /**
-   * Bracket a minimum of function bFunc
+   * Bracket a minimum of function func.bFunc
    * 
+   * @param func the function to be minimized
    * @param x1 initial estimate of left abscissa
    * @param x2 initial estimate of right abscissa
    * @return two abscissa values that bracket the minimum.
    * @throws Exception
    */
-  private double[] mnbrak(double x1, double x2) throws Exception {
+  private static double[] mnbrak(BrentsFunction func, double x1, double x2) throws Exception {
     double GOLD = 1.618034, GLIMIT = 100.0, TINY = 1.0e-20;
     double ulim, r, q;
 
     double[] f = new double[4];
     double[] x = new double[] {x1, x2, 0., 0.};
 
-    f[0] = bFunc(x[0]);
-    f[1] = bFunc(x[1]);
+    f[0] = func.bFunc(x[0]);
+    f[1] = func.bFunc(x[1]);
     if (f[1] > f[0]) {
       x[2] = x[0];
       x[0] = x[1];
@@ -2222,7 +2461,7 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
       f[1] = f[2];
     }
     x[2] = x[1] + GOLD * (x[1] - x[0]);
-    f[2] = bFunc(x[2]);
+    f[2] = func.bFunc(x[2]);
     while (f[1] > f[2]) {
       r = (x[1] - x[0]) * (f[1] - f[2]);
       q = (x[1] - x[2]) * (f[1] - f[0]);
@@ -2230,7 +2469,7 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
           / (2.0 * nr_sign(Math.max(abs(q - r), TINY), q - r));
       ulim = x[1] + GLIMIT * (x[2] - x[1]);
       if ((x[1] - x[3]) * (x[3] - x[2]) > 0.0) {
-        f[3] = bFunc(x[3]);
+        f[3] = func.bFunc(x[3]);
         if (f[3] < f[2]) {
           x[0] = x[1];
           x[1] = x[3];
@@ -2243,19 +2482,19 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
           return new double[] {x[0], x[2]};
         }
         x[3] = x[2] + GOLD * (x[2] - x[1]);
-        f[3] = bFunc(x[3]);
+        f[3] = func.bFunc(x[3]);
       } else if ((x[2] - x[3]) * (x[3] - ulim) > 0.0) {
-        f[3] = bFunc(x[3]);
+        f[3] = func.bFunc(x[3]);
         if (f[3] < f[2]) {
           nr_shft3(x, x[3] + GOLD * (x[3] - x[2]));
-          nr_shft3(f, bFunc(x[3]));
+          nr_shft3(f, func.bFunc(x[3]));
         }
       } else if ((x[3] - ulim) * (ulim - x[2]) >= 0.0) {
         x[3] = ulim;
-        f[3] = bFunc(x[3]);
+        f[3] = func.bFunc(x[3]);
       } else {
         x[3] = x[2] + GOLD * (x[2] - x[1]);
-        f[3] = bFunc(x[3]);
+        f[3] = func.bFunc(x[3]);
       }
       nr_shft3(x);
       nr_shft3(f);
@@ -2263,17 +2502,17 @@ public class Event implements BrentsFunction, Serializable, Cloneable {
     return new double[] {x[0], x[2]};
   }
 
-  private double nr_sign(double a, double b) {
+  private static double nr_sign(double a, double b) {
     return b >= 0 ? (a >= 0 ? a : -a) : (a >= 0 ? -a : a);
   }
 
-  private void nr_shft3(double[] a) {
+  private static void nr_shft3(double[] a) {
     a[0] = a[1];
     a[1] = a[2];
     a[2] = a[3];
   }
 
-  private void nr_shft3(double[] x, double y) {
+  private static void nr_shft3(double[] x, double y) {
     x[1] = x[2];
     x[2] = x[3];
     x[3] = y;
@@ -0,0 +1,154 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.locoo3d;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the POINT_DATA section of a gridded residuals vtk file: the sum squared weighted
+ * residuals, the sum squared weighted residuals relative to the best fit location, and the root
+ * mean squared weighted residuals at every grid node. The file must already contain the POINTS and
+ * CELLS sections and the POINT_DATA line. The space for all three scalar arrays is reserved when
+ * this object is constructed so that values can be written in any order, one batch of grid nodes
+ * at a time, as they are computed.
+ * 
+ * <p>
+ * Grid nodes are indexed in the order used by the vtk file: depth varies slowest and the x
+ * coordinate varies fastest.
+ */
+class GriddedResidualsVTK implements AutoCloseable {
+
+  private static final String[] SCALARS = new String[] {
+      "SCALARS Sum_Squared_Weighted_Residuals float 1\nLOOKUP_TABLE default\n",
+      "SCALARS Delta_Sum_Squared_Weighted_Residuals float 1\nLOOKUP_TABLE default\n",
+      "SCALARS Root_Mean_Squared_Weighted_Residuals float 1\nLOOKUP_TABLE default\n"};
+
+  private final FileChannel channel;
+
+  /**
+   * The number of grid nodes.
+   */
+  private final int nNodes;
+
+  /**
+   * The number of defining observations, used to convert sswr to rmswr.
+   */
+  private final int nObs;
+
+  /**
+   * Sum squared weighted residuals of the best fit location, subtracted from sswr to compute the
+   * delta sswr array.
+   */
+  private final double sswrMinimum;
+
+  /**
+   * File position of the first value of each of the three scalar arrays.
+   */
+  private final long[] offsets = new long[SCALARS.length];
+
+  /**
+   * Open the vtk file and reserve space for the three scalar arrays at the end of the file.
+   * 
+   * @param file vtk file that already contains everything up to and including POINT_DATA.
+   * @param nNodes the number of grid nodes.
+   * @param nObs the number of defining observations.
+   * @param sswrMinimum sum squared weighted residuals of the best fit location.
+   * @throws IOException
+   */
+  GriddedResidualsVTK(File file, int nNodes, int nObs, double sswrMinimum) throws IOException {
+    this.nNodes = nNodes;
+    this.nObs = nObs;
+    this.sswrMinimum = sswrMinimum;
+    channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE);
+
+    long position = channel.size();
+    for (int s = 0; s < SCALARS.length; ++s) {
+      ByteBuffer header = ByteBuffer.wrap(SCALARS[s].getBytes(StandardCharsets.US_ASCII));
+      while (header.hasRemaining())
+        position += channel.write(header, position);
+      offsets[s] = position;
+      position += 4L * nNodes;
+    }
+    // extend the file all the way to the end of the last array so that it has the correct size
+    // even before the last batch of grid nodes has been written.
+    if (nNodes > 0)
+      channel.write(ByteBuffer.allocate(4), position - 4);
+  }
+
+  /**
+   * Write values for a contiguous range of grid nodes.
+   * 
+   * @param first index of the first grid node in the range.
+   * @param sswr sum squared weighted residuals for each node in the range.
+   * @param count the number of grid nodes in the range.
+   * @throws IOException
+   */
+  void write(int first, double[] sswr, int count) throws IOException {
+    if (first < 0 || first + count > nNodes)
+      throw new IOException(String.format(
+          "Grid nodes %d to %d are out of range. The grid has %d nodes", first, first + count - 1,
+          nNodes));
+
+    ByteBuffer buffer = ByteBuffer.allocate(4 * count);
+    for (int s = 0; s < SCALARS.length; ++s) {
+      buffer.clear();
+      for (int n = 0; n < count; ++n)
+        switch (s) {
+          case 0:
+            buffer.putFloat((float) sswr[n]);
+            break;
+          case 1:
+            buffer.putFloat((float) (sswr[n] - sswrMinimum));
+            break;
+          default:
+            buffer.putFloat((float) Math.sqrt(sswr[n] / nObs));
+            break;
+        }
+      buffer.flip();
+      long position = offsets[s] + 4L * first;
+      while (buffer.hasRemaining())
+        position += channel.write(buffer, position);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+}
@@ -43,7 +43,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -51,13 +52,14 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import gov.sandia.gmp.baseobjects.PropertiesPlusGMP;
 import gov.sandia.gmp.baseobjects.Source;
+import gov.sandia.gmp.bender.RayCache;
 import gov.sandia.gmp.locoo3d.io.LocOO_IO;
+import gov.sandia.gmp.locoo3d.io.NativeInput;
 import gov.sandia.gmp.locoo3d.io.NativeOutput;
 import gov.sandia.gmp.parallelutils.ParallelBroker;
 import gov.sandia.gmp.parallelutils.ParallelBroker.ParallelMode;
 import gov.sandia.gmp.parallelutils.ParallelResult;
 import gov.sandia.gmp.predictorfactory.PredictorFactory;
-import gov.sandia.gmp.util.containers.arraylist.ArrayListLong;
 import gov.sandia.gmp.util.exceptions.GMPException;
 import gov.sandia.gmp.util.globals.GMTFormat;
 import gov.sandia.gmp.util.globals.Globals;
@@ -529,12 +531,15 @@ public class LocOO {
             }
           }
 
+          // a ForkJoinPool lets PredictorFactory split predictions adaptively, with work
+          // stealing, rather than in fixed size tasks.
           AtomicInteger i = new AtomicInteger(0);
-          es = Executors.newFixedThreadPool(procs, r -> {
-            Thread t = new Thread(r);
+          es = new ForkJoinPool(procs, pool -> {
+            ForkJoinWorkerThread t =
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
             t.setName(PredictorFactory.class.getSimpleName() + "-" + i.getAndIncrement());
             return t;
-          });
+          }, null, false);
 
           logger.writeln(
               "ParallelMode = sequential (locations computed in sequential mode, predictions in concurrent mode)");
@@ -547,9 +552,13 @@ public class LocOO {
           es = parallelBroker.getExecutorService();
           logger.writeln(
               "ParallelMode = concurrent (locations computed in conccurent mode, predictions in mixed concurrent/sequential mode)");
+        } else if (parallelMode == ParallelMode.MULTI_PROCESS) {
+          es = parallelBroker.getExecutorService();
+          logger.writeln(
+              "ParallelMode = multi_process (locations computed in worker JVMs, predictions in mixed concurrent/sequential mode)");
         } else
           throw new LocOOException(String.format(
-              "parallelMode = %s but must be one of sequential, concurrent, distributed, or distributed_fabric.",
+              "parallelMode = %s but must be one of sequential, concurrent, multi_process, distributed, or distributed_fabric.",
               parallelMode));
 
         if (logger.getVerbosity() > 0)
@@ -558,28 +567,24 @@ public class LocOO {
               + " of " + Runtime.getRuntime().availableProcessors() + " available processors.");
       }
 
-      // a 2D ragged array of longs. The first index spans the batches and the
-      // second spans the orids|sourceids in each batch. Each batch represents one or more
-      // sources to be located such that each batch has approximately the same number
-      // of defining observations in it. Earlier batches will have fewer,larger, sources
-      // per batch and later batches will have more, smaller, sources per batch.
-      ArrayList<ArrayListLong> srcIdLists = dio.getDataInput().readTaskSourceIds();
+      // Tasks are retrieved from the data input one at a time with nextLocOOTask(). Each task
+      // represents one or more sources to be located such that each task has approximately the
+      // same number of defining observations in it. Inputs that read all their data up front
+      // know how many tasks there will be. Streaming inputs do not, in which case taskCount is -1
+      // and the total is only known once all the tasks have been submitted.
+      final NativeInput dataInput = dio.getDataInput();
+      int taskCount = dataInput.getTaskCount();
 
       if (logger.getVerbosity() > 0)
-        logger.writeln("Number of batches to submit: " + srcIdLists.size());
+        logger.writeln("Number of batches to submit: " + (taskCount < 0 ? "unknown" : taskCount));
 
-      nSources = 0;
-      for (ArrayListLong batch : srcIdLists)
-        nSources += batch.size();
+      // the number of tasks that the results threads must wait for. Integer.MAX_VALUE until all
+      // the tasks have been submitted, if taskCount is unknown.
+      final AtomicInteger totalTasks =
+          new AtomicInteger(taskCount < 0 ? Integer.MAX_VALUE : taskCount);
 
-      if (logger.getVerbosity() > 0)
-        logger.writeln("Total number of events to process: " + nSources);
-
-      if ((nSources > 1000 && logger.getVerbosity() > 1)
-          || (nSources > 50 && logger.getVerbosity() > 2))
-        logger.writeln("\n\n\n!!! WARNING !!!\n\n"
-            + "Running LocOO with a large number of sources and high verbosity is prone to\n"
-            + "OutOfMemoryErrors! Recommend setting io_verbosity to less than 2.");
+      nSources = 0;
+      boolean warned = false;
 
       // in the while loop that follows, this is the number of batches that will be submitted to
       // the broker before any are retrieved from the broker.
@@ -623,13 +628,13 @@ public class LocOO {
       Thread resThread = new Thread(() -> {
         threadsRunning.incrementAndGet();
 
-        while (resultsCount.get() < srcIdLists.size()) {
+        while (resultsCount.get() < totalTasks.get()) {
           long t0 = System.currentTimeMillis();
 
           ParallelResult r = null;
           do {
             r = fpb.getResultWait();
-          } while (slept(r, 100) && resultsCount.get() < srcIdLists.size());
+          } while (slept(r, 100) && resultsCount.get() < totalTasks.get());
 
           if (r != null) {
             if (r.getException() != null) {
@@ -650,7 +655,7 @@ public class LocOO {
             resultsCount.incrementAndGet();
 
             executionTime.addAndGet(System.currentTimeMillis() - t0);
-            handleResult(result, fdlo, resultsCount.get(), srcIdLists.size(), fppc);
+            handleResult(result, fdlo, resultsCount.get(), totalTasks.get(), fppc);
           }
         }
 
@@ -669,8 +674,17 @@ public class LocOO {
 
       // Queue up tasks for submission, then wait on the results thread for completion:
       int submitted = 0;
-      for (int i = 0; i < srcIdLists.size(); i++) {
-        LocOOTask task = dio.getDataInput().getLocOOTask(srcIdLists.get(i));
+      LocOOTask task;
+      for (int i = 0; (task = dataInput.nextLocOOTask()) != null; i++) {
+        nSources += task.getOriginCount();
+
+        if (!warned && ((nSources > 1000 && logger.getVerbosity() > 1)
+            || (nSources > 50 && logger.getVerbosity() > 2))) {
+          logger.writeln("\n\n\n!!! WARNING !!!\n\n"
+              + "Running LocOO with a large number of sources and high verbosity is prone to\n"
+              + "OutOfMemoryErrors! Recommend setting io_verbosity to less than 2.");
+          warned = true;
+        }
 
         if (task.getOriginCount() == 1 && task.getTotalNDef() >= splitSizeNdef) {
           if (logger.getVerbosity() > 0)
@@ -704,7 +718,7 @@ public class LocOO {
                     if (logger.getVerbosity() > 0)
                       logger.writeln("Completed large ndef task, orid = " + orid + ", time = "
                           + time / 1000. + ", " + hugeTasks.size() + " remain.");
-                    handleResult(t.getResultObject(), fdlo, rId, srcIdLists.size(), fppc);
+                    handleResult(t.getResultObject(), fdlo, rId, totalTasks.get(), fppc);
                   }
                 } catch (InterruptedException e) {
                   logger.write(e);
@@ -731,15 +745,19 @@ public class LocOO {
           submitted++;
 
           if ((i + 1) % 100 == 0 && logger.getVerbosity() > 0)
-            logger.writeln("Tasks submitted: " + (i + 1) + " of " + srcIdLists.size());
+            logger.writeln("Tasks submitted: " + (i + 1) + " of "
+                + (taskCount < 0 ? "unknown" : taskCount));
         }
       }
+      totalTasks.set(submitted);
       doneSubmittingHugeTasks.set(true);
       parallelBroker.purgeBatch();
 
-      if (logger.getVerbosity() > 0)
+      if (logger.getVerbosity() > 0) {
+        logger.writeln("Total number of events to process: " + nSources);
         logger.writeln(
             "All tasks submitted (" + submitted + "), waiting for results thread to complete.");
+      }
 
       // Wait for both results threads to complete:
       List<Thread> allThreads = new LinkedList<>(hugeTaskThreads);
@@ -799,6 +817,11 @@ public class LocOO {
         logger.write(String.format("Execution time (sec) = %1.3f%nnSources = 0%n",
             executionTime.get() * 1e-3));
 
+      // Bender warm start statistics. Only rays computed in this JVM are included.
+      for (Map.Entry<String, RayCache> e : RayCache.getRayCaches().entrySet())
+        if (e.getValue().getRequestCount() > 0)
+          logger.write(String.format("%s%n  configuration = %s%n", e.getValue(), e.getKey()));
+
       logger.write(String.format("Done.%n"));
 
     }
@@ -155,8 +155,22 @@ public class LocOOTask extends ParallelTask {
 
       EventList eventList = new EventList(properties, predThreads, logger, errorlog, sources);
 
-      for (Event event : eventList.values())
-        event.locate();
+      // when predictions are computed in parallel, locate the events in lockstep so that the
+      // predictions requested by all of them are computed in large batches.
+      if (eventList.size() > 1 && properties.getBoolean("lockstep_location", predThreads != null)) {
+        int maxEvents = properties.getInt("lockstep_max_events",
+            LockstepLocator.getDefaultMaxEvents(predThreads));
+        LockstepLocator lockstep = new LockstepLocator(eventList.parameters.predictorFactory(),
+            predThreads, logger, errorlog, maxEvents);
+        lockstep.locate(eventList.values());
+
+        if (logger.getVerbosity() >= 4)
+          logger.write(String.format(
+              "LocOOTask %d located %d events in lockstep: %d prediction batches, %d requests%n",
+              index, eventList.size(), lockstep.getNBatches(), lockstep.getNRequests()));
+      } else
+        for (Event event : eventList.values())
+          event.locate();
 
       eventList.setResults(results);
 
@@ -98,7 +98,7 @@ public class LocatorResults implements Comparable<LocatorResults> {
               "  latitude longitude     depth     origin_time           origin_date_gmt       origin_jdate%n"));
           buf.append(String.format("%10.4f %9.4f %9.3f %15.3f %25s %18d%n%n",
               location.getLatDegrees(), location.getLonDegrees(), location.getDepth(),
-              location.getTime(), GMTFormat.GMT_MS.format(GMTFormat.getDate(location.getTime())),
+              location.getTime(), GMTFormat.formatGMT_MS(location.getTime()),
               GMTFormat.getJDate(location.getTime())));
 
           buf.append(String.format("  geographic region: %s (%d)   seismic region %s (%d)%n%n",
@@ -0,0 +1,340 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.locoo3d;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import gov.sandia.gmp.baseobjects.interfaces.impl.Prediction;
+import gov.sandia.gmp.baseobjects.interfaces.impl.PredictionRequest;
+import gov.sandia.gmp.predictorfactory.PredictorFactory;
+import gov.sandia.gmp.util.logmanager.ScreenWriterOutput;
+
+/**
+ * Locates a collection of events in lockstep so that the predictions requested by all of them are
+ * computed in a few large batches rather than many small ones.
+ * 
+ * <p>
+ * When events are located one after another, each iteration of SolverLSQ sends only the handful of
+ * observations of a single event to PredictorFactory.computePredictions(), so the predictions
+ * thread pool is given very small batches and spends most of its time waiting at the end of each
+ * one. Here, every event runs the unmodified location algorithm on its own thread, up to
+ * maxEvents at a time. When an event needs predictions it submits its requests and blocks. Once
+ * every event in flight is blocked, the requests of all of them are sent to the PredictorFactory
+ * in a single call and each event is resumed with its own predictions. Events that converge leave
+ * the batch and are replaced by events that have not yet been started.
+ * 
+ * <p>
+ * Every event in flight occupies a platform thread that spends nearly all its time blocked, and a
+ * LocOOTask run by a CONCURRENT ParallelBroker has its own LockstepLocator. The number of threads
+ * is therefore up to maxEvents times the number of concurrent tasks. Property lockstep_max_events
+ * defaults to getDefaultMaxEvents(), a small multiple of the size of the predictions thread pool,
+ * which is enough to keep that pool busy.
+ * 
+ * <p>
+ * Each event writes to a private log while it is being located. The logs are appended to the
+ * shared logger and error log in the order in which the events were supplied, so output is the
+ * same as when the events are located sequentially.
+ */
+public class LockstepLocator {
+
+  private final PredictorFactory predictorFactory;
+
+  private final ExecutorService predictionsThreadPool;
+
+  private final ScreenWriterOutput logger, errorlog;
+
+  /**
+   * Maximum number of events located at the same time.
+   */
+  private final int maxEvents;
+
+  /**
+   * Number of events that have been started and have not yet finished.
+   */
+  private int running;
+
+  /**
+   * Prediction requests submitted by events that are waiting for the next batch.
+   */
+  private final ArrayList<Batch> waiting = new ArrayList<>();
+
+  /**
+   * The first exception thrown by any event.
+   */
+  private Exception failure;
+
+  private long nBatches, nRequests;
+
+  /**
+   * The prediction requests submitted by one event, and the predictions computed for them.
+   */
+  private static class Batch {
+    final Collection<? extends PredictionRequest> requests;
+    ArrayList<Prediction> predictions;
+    Exception failure;
+
+    Batch(Collection<? extends PredictionRequest> requests) {
+      this.requests = requests;
+    }
+  }
+
+  /**
+   * An event being located, with the private logs it writes to while it is in flight.
+   */
+  private class Slot extends Thread {
+    final Event event;
+    final ScreenWriterOutput eventLog, eventErrorLog;
+    boolean finished;
+
+    Slot(Event event) {
+      super("LockstepLocator-" + event.getSourceId());
+      setDaemon(true);
+      this.event = event;
+      this.eventLog = privateLog(logger);
+      this.eventErrorLog = privateLog(errorlog);
+    }
+
+    @Override
+    public void run() {
+      try {
+        event.locate();
+      } catch (Exception e) {
+        fail(e);
+      } catch (Throwable t) {
+        fail(new LocOOException(t));
+      } finally {
+        synchronized (LockstepLocator.this) {
+          finished = true;
+          --running;
+          LockstepLocator.this.notifyAll();
+        }
+      }
+    }
+  }
+
+  /**
+   * @param predictorFactory the factory that computes predictions for all events.
+   * @param predictionsThreadPool passed to PredictorFactory.computePredictions(). May be null.
+   * @param logger the shared logger to which the logs of the events are appended.
+   * @param errorlog the shared error log to which the error logs of the events are appended.
+   * @param maxEvents the maximum number of events located at the same time.
+   */
+  public LockstepLocator(PredictorFactory predictorFactory, ExecutorService predictionsThreadPool,
+      ScreenWriterOutput logger, ScreenWriterOutput errorlog, int maxEvents) {
+    this.predictorFactory = predictorFactory;
+    this.predictionsThreadPool = predictionsThreadPool;
+    this.logger = logger;
+    this.errorlog = errorlog;
+    this.maxEvents = Math.max(1, maxEvents);
+  }
+
+  /**
+   * Number of events to locate at the same time when property lockstep_max_events is not
+   * specified: twice the number of threads in the predictions thread pool, so that the requests
+   * of enough events are batched to keep every thread busy.
+   * 
+   * @param predictionsThreadPool the pool passed to PredictorFactory.computePredictions(). May be
+   *        null, in which case the number of available processors is used.
+   * @return the default maximum number of events located at the same time.
+   */
+  public static int getDefaultMaxEvents(ExecutorService predictionsThreadPool) {
+    int nThreads;
+    if (predictionsThreadPool instanceof ForkJoinPool)
+      nThreads = ((ForkJoinPool) predictionsThreadPool).getParallelism();
+    else if (predictionsThreadPool instanceof ThreadPoolExecutor)
+      nThreads = ((ThreadPoolExecutor) predictionsThreadPool).getMaximumPoolSize();
+    else
+      nThreads = Runtime.getRuntime().availableProcessors();
+    return 2 * Math.max(1, nThreads);
+  }
+
+  /**
+   * Locate all the specified events. Returns when all events have been located. If any event throws
+   * an exception, no new events are started, those already started are allowed to finish, and then
+   * the first exception is thrown.
+   * 
+   * @param events
+   * @throws Exception
+   */
+  public void locate(Collection<Event> events) throws Exception {
+    Iterator<Event> it = events.iterator();
+    ArrayDeque<Slot> slots = new ArrayDeque<>();
+
+    synchronized (this) {
+      while (true) {
+        while (failure == null && running < maxEvents && it.hasNext()) {
+          Slot slot = new Slot(it.next());
+          slot.event.logger = slot.eventLog;
+          slot.event.errorlog = slot.eventErrorLog;
+          slot.event.setLockstepLocator(this);
+          slots.add(slot);
+          ++running;
+          slot.start();
+        }
+
+        // append the logs of finished events, in order.
+        while (!slots.isEmpty() && slots.peek().finished)
+          finish(slots.poll());
+
+        if (running == 0 && (failure != null || !it.hasNext()))
+          break;
+
+        if (!waiting.isEmpty() && waiting.size() == running)
+          computeBatch();
+        else
+          wait();
+      }
+    }
+
+    while (!slots.isEmpty())
+      finish(slots.poll());
+
+    if (failure != null)
+      throw failure;
+  }
+
+  /**
+   * Called by an event thread. Submit the requests to the next batch and block until the batch has
+   * been computed.
+   * 
+   * @param requests
+   * @return the predictions computed for the specified requests.
+   * @throws Exception
+   */
+  synchronized ArrayList<Prediction> computePredictions(
+      Collection<? extends PredictionRequest> requests) throws Exception {
+    Batch batch = new Batch(requests);
+    waiting.add(batch);
+    notifyAll();
+    while (batch.predictions == null && batch.failure == null)
+      wait();
+    if (batch.failure != null)
+      throw batch.failure;
+    return batch.predictions;
+  }
+
+  /**
+   * Send the requests of all waiting events to the PredictorFactory in one call and hand the
+   * predictions back to the events that requested them. Called with the lock held, when every
+   * running event is waiting.
+   */
+  private void computeBatch() {
+    int n = 0;
+    for (Batch batch : waiting)
+      n += batch.requests.size();
+
+    ArrayList<PredictionRequest> requests = new ArrayList<>(n);
+    Map<PredictionRequest, Batch> owners = new IdentityHashMap<>(n);
+    for (Batch batch : waiting) {
+      batch.predictions = new ArrayList<>(batch.requests.size());
+      for (PredictionRequest request : batch.requests) {
+        requests.add(request);
+        owners.put(request, batch);
+      }
+    }
+
+    try {
+      for (Prediction p : predictorFactory.computePredictions(requests, predictionsThreadPool)) {
+        Batch batch = owners.get(p.getPredictionRequest());
+        if (batch == null)
+          throw new LocOOException("PredictorFactory returned a Prediction that does not match any "
+              + "PredictionRequest in the batch");
+        batch.predictions.add(p);
+      }
+    } catch (Exception e) {
+      for (Batch batch : waiting)
+        batch.failure = e;
+    } catch (Throwable t) {
+      // an Error must also reach the waiting events, or they would wait forever.
+      LocOOException e = new LocOOException(t);
+      for (Batch batch : waiting)
+        batch.failure = e;
+    }
+
+    ++nBatches;
+    nRequests += n;
+    waiting.clear();
+    notifyAll();
+  }
+
+  private synchronized void fail(Exception e) {
+    if (failure == null)
+      failure = e;
+  }
+
+  /**
+   * Restore the shared logs of a finished event and append to them what it wrote to its private
+   * logs.
+   */
+  private void finish(Slot slot) {
+    slot.event.logger = logger;
+    slot.event.errorlog = errorlog;
+    slot.event.setLockstepLocator(null);
+    append(slot.eventLog, logger);
+    append(slot.eventErrorLog, errorlog);
+  }
+
+  private static ScreenWriterOutput privateLog(ScreenWriterOutput shared) {
+    ScreenWriterOutput log = new ScreenWriterOutput();
+    log.setOutputOff();
+    log.setBufferOutputOn();
+    log.setVerbosity(shared.getVerbosity());
+    return log;
+  }
+
+  private static void append(ScreenWriterOutput from, ScreenWriterOutput to) {
+    if (from.getStringBuffer().length() > 0)
+      to.write(from.getStringBuffer().toString());
+  }
+
+  /**
+   * @return the number of batches sent to the PredictorFactory.
+   */
+  public synchronized long getNBatches() {
+    return nBatches;
+  }
+
+  /**
+   * @return the total number of prediction requests sent to the PredictorFactory.
+   */
+  public synchronized long getNRequests() {
+    return nRequests;
+  }
+}
@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import gov.sandia.gmp.baseobjects.PropertiesPlusGMP;
 import gov.sandia.gmp.baseobjects.Source;
@@ -72,10 +73,10 @@ public class KBFileInput extends KBInput {
       // create input file hashmaps
       HashMap<String, File> inputFiles = new HashMap<String, File>();
       // fill up input files with any defined in the property settings
-      inputFileCheck("dataLoaderFileInputOrigins", "Origin", inputFiles);
-      inputFileCheck("dataLoaderFileInputSites", "Site", inputFiles);
-      inputFileCheck("dataLoaderFileInputArrivals", "Arrival", inputFiles);
-      inputFileCheck("dataLoaderFileInputAssocs", "Assoc", inputFiles);
+      inputFileCheck(taskProperties, "dataLoaderFileInputOrigins", "Origin", inputFiles);
+      inputFileCheck(taskProperties, "dataLoaderFileInputSites", "Site", inputFiles);
+      inputFileCheck(taskProperties, "dataLoaderFileInputArrivals", "Arrival", inputFiles);
+      inputFileCheck(taskProperties, "dataLoaderFileInputAssocs", "Assoc", inputFiles);
 
       // load data
       origins = new ArrayList<OriginExtended>(OriginExtended.readOriginExtended(inputFiles));
@@ -142,7 +143,7 @@ public class KBFileInput extends KBInput {
    * 
    * @throws IOException
    */
-  private void setLocOOOptionalTableColumns() throws IOException {
+  static void setLocOOOptionalTableColumns() throws IOException {
     gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Origin.getColumns().setColumnRequiredStatus(
         gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Origin.getColumns().getColumnNames(), false);
 
@@ -169,9 +170,9 @@ public class KBFileInput extends KBInput {
 
   }
 
-  private void inputFileCheck(String fileProp, String fileType, HashMap<String, File> inputFiles)
-      throws IOException, Exception {
-    String prop = taskProperties.getProperty(fileProp, "");
+  static void inputFileCheck(PropertiesPlusGMP properties, String fileProp, String fileType,
+      Map<String, File> inputFiles) throws IOException, Exception {
+    String prop = properties.getProperty(fileProp, "");
     if (prop.equals(""))
       throw new IOException("Error: DataLoaderFile input property \"" + fileProp
           + "\" is required to load " + fileType + "s but was not defined ...");
@@ -0,0 +1,442 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.locoo3d.io;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import gov.sandia.gmp.baseobjects.PropertiesPlusGMP;
+import gov.sandia.gmp.baseobjects.Source;
+import gov.sandia.gmp.locoo3d.LocOOTask;
+import gov.sandia.gmp.util.containers.arraylist.ArrayListLong;
+import gov.sandia.gmp.util.exceptions.GMPException;
+import gov.sandia.gnem.dbtabledefs.BaseRow;
+import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Arrival;
+import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Assoc;
+import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Origin;
+import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
+import gov.sandia.gnem.dbtabledefs.nnsa_kb_core_extended.ArrivalExtended;
+import gov.sandia.gnem.dbtabledefs.nnsa_kb_core_extended.AssocExtended;
+import gov.sandia.gnem.dbtabledefs.nnsa_kb_core_extended.NetworkExtended;
+import gov.sandia.gnem.dbtabledefs.nnsa_kb_core_extended.OriginExtended;
+import gov.sandia.gnem.dbtabledefs.nnsa_kb_core_extended.SiteExtended;
+
+/**
+ * KB flat file input that reads origins, assocs and arrivals lazily, as LocOO requests tasks,
+ * rather than loading the entire data set when it is constructed the way KBFileInput does. Only
+ * the sites are loaded up front. Memory use is proportional to the number of tasks in flight, not
+ * to the size of the input files. Selected with property dataLoaderFileInputStreaming = true.
+ * 
+ * <p>
+ * The input files must be sorted by origin:
+ * <ul>
+ * <li>the origin file must be sorted by increasing orid.
+ * <li>the assoc file must be sorted by increasing orid.
+ * <li>arrivals must appear in the arrival file in approximately the same order as the assocs that
+ * reference them. Arrivals that are read before they are needed are held in a look-ahead buffer
+ * that holds at most dataLoaderFileInputArrivalLookahead arrivals (default 100000). An assoc whose
+ * arrival is not found within that many rows is ignored, with a warning, just like an assoc with
+ * no arrival in KBFileInput.
+ * </ul>
+ * 
+ * <p>
+ * Origins are grouped into tasks in the order they are read, such that each task has
+ * approximately batchSizeNdef (default 100) time defining phases. Since origins are not sorted by
+ * ndef first, as they are by KBInput.readTaskSourceIds(), readTaskSourceIds() and
+ * getLocOOTask(ArrayListLong) are not supported. LocOO retrieves tasks with nextLocOOTask().
+ */
+public class KBFileStreamInput extends KBInput {
+
+  /**
+   * The input files, keyed by Origin, Site, Arrival and Assoc.
+   */
+  private Map<String, File> inputFiles = new LinkedHashMap<>();
+
+  /**
+   * Reads origins from the input files. Null once all origins have been read.
+   */
+  private OriginReader reader;
+
+  /**
+   * An origin that was read but did not fit in the previous task.
+   */
+  private OriginExtended pendingOrigin;
+
+  /**
+   * If not empty, only origins with these orids are processed.
+   */
+  private Set<Long> orids = new HashSet<>();
+
+  /**
+   * All the sites in the site file.
+   */
+  private NetworkExtended network = new NetworkExtended();
+
+  private int ndefMax;
+
+  private int arrivalLookahead;
+
+  public KBFileStreamInput(PropertiesPlusGMP properties) throws Exception {
+    super(properties);
+
+    // origins are added as tasks are created and removed by KBOutput as task results are
+    // written, possibly on a different thread.
+    inputOrigins = new ConcurrentHashMap<>();
+
+    if (taskProperties.getFile("dataLoaderLocooLogFile") != null)
+      throw new GMPException("Property dataLoaderLocooLogFile is not supported when "
+          + "dataLoaderFileInputStreaming = true");
+
+    KBFileInput.setLocOOOptionalTableColumns();
+
+    BaseRow.setTokenDelimiter(properties.getProperty("dataLoaderFileInputTokenDelimiter", "tab"));
+
+    KBFileInput.inputFileCheck(taskProperties, "dataLoaderFileInputOrigins", "Origin", inputFiles);
+    KBFileInput.inputFileCheck(taskProperties, "dataLoaderFileInputSites", "Site", inputFiles);
+    KBFileInput.inputFileCheck(taskProperties, "dataLoaderFileInputArrivals", "Arrival",
+        inputFiles);
+    KBFileInput.inputFileCheck(taskProperties, "dataLoaderFileInputAssocs", "Assoc", inputFiles);
+
+    ndefMax = taskProperties.getInt("batchSizeNdef", 100);
+    arrivalLookahead =
+        Math.max(1, taskProperties.getInt("dataLoaderFileInputArrivalLookahead", 100000));
+
+    for (long o : properties.getLongArray("dataLoaderFileOrids", new long[] {}))
+      orids.add(o);
+
+    for (Site site : Site.readSites(inputFiles.get("Site")))
+      try {
+        network.add(new SiteExtended(site));
+      } catch (Exception ex) {
+        errorlog.writeln(ex);
+      }
+
+    String masterEventWhereClause = properties.getProperty("masterEventWhereClause");
+    if (masterEventWhereClause != null) {
+      long masterEventOrid = Long.valueOf(masterEventWhereClause.split("=")[1].trim());
+
+      // make a separate pass through the input files to find the master event.
+      OriginExtended masterEvent = null;
+      try (OriginReader r = new OriginReader(false)) {
+        OriginExtended origin;
+        while (masterEvent == null && (origin = r.next()) != null)
+          if (origin.getOrid() == masterEventOrid)
+            masterEvent = origin;
+      }
+
+      if (masterEvent == null)
+        throw new Exception("Master event origin where orid = " + masterEventOrid
+            + " does not exist in the input data set.");
+
+      masterEventCorrections = getMasterEventCorrections(new Source(masterEvent),
+          "masterEvent with orid " + masterEvent.getOrid() + " loaded from file "
+              + inputFiles.get("Origin").getAbsolutePath());
+    }
+
+    reader = new OriginReader(true);
+  }
+
+  /**
+   * Read origins until one is found that fits the orid filter. Returns null when there are no
+   * more origins.
+   */
+  private OriginExtended nextOrigin() throws Exception {
+    OriginExtended origin = pendingOrigin;
+    pendingOrigin = null;
+    while (origin == null && reader != null) {
+      origin = reader.next();
+      if (origin == null) {
+        reader.close();
+        reader = null;
+      } else if (!orids.isEmpty() && !orids.contains(origin.getOrid()))
+        origin = null;
+    }
+    return origin;
+  }
+
+  /**
+   * Read the next batch of origins, such that the batch has approximately batchSizeNdef time
+   * defining phases, and return a LocOOTask that will locate them. Returns null when all origins
+   * have been read.
+   */
+  @Override
+  public LocOOTask nextLocOOTask() throws Exception {
+    ArrayList<OriginExtended> batch = new ArrayList<>();
+    long n = 0, ndef;
+    OriginExtended origin;
+    while ((origin = nextOrigin()) != null) {
+      ndef = origin.getNdef();
+      if (ndef <= 0)
+        ndef = 10;
+      if (batch.size() > 0 && n + ndef > ndefMax) {
+        pendingOrigin = origin;
+        break;
+      }
+      batch.add(origin);
+      n += ndef;
+    }
+
+    if (batch.isEmpty())
+      return null;
+
+    for (OriginExtended o : batch)
+      inputOrigins.put(o.getOrid(), o);
+
+    return new LocOOTask(taskProperties, convertOriginsToSources(taskProperties, batch));
+  }
+
+  /**
+   * The number of tasks is not known until all the input has been read.
+   * 
+   * @return -1
+   */
+  @Override
+  public int getTaskCount() {
+    return -1;
+  }
+
+  @Override
+  public ArrayList<ArrayListLong> readTaskSourceIds() throws GMPException {
+    throw new GMPException(
+        "KBFileStreamInput does not support readTaskSourceIds(). Call nextLocOOTask() instead.");
+  }
+
+  @Override
+  public LocOOTask getLocOOTask(ArrayListLong orids) throws Exception {
+    throw new GMPException(
+        "KBFileStreamInput does not support getLocOOTask(orids). Call nextLocOOTask() instead.");
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (reader != null) {
+      reader.close();
+      reader = null;
+    }
+    super.close();
+  }
+
+  /**
+   * Merges the origin, assoc and arrival files one origin at a time.
+   */
+  private class OriginReader implements Closeable {
+
+    private BufferedReader origins, assocs, arrivals;
+
+    private String[] savedOriginColumns, savedAssocColumns, savedArrivalColumns;
+
+    /**
+     * The next assoc, which was read but belongs to an origin that has not been read yet.
+     */
+    private Assoc pendingAssoc;
+
+    private long previousOrid = Long.MIN_VALUE;
+
+    private long previousAssocOrid = Long.MIN_VALUE;
+
+    /**
+     * If true, a warning is logged for each assoc whose arrival cannot be found. False for the
+     * master event pass, which would otherwise repeat the warnings of the main pass.
+     */
+    private boolean warnMissingArrivals;
+
+    /**
+     * Arrivals that have been read but are not yet referenced by an assoc, in the order read. The
+     * oldest are discarded once there are more than arrivalLookahead of them.
+     */
+    private LinkedHashMap<Long, Arrival> pendingArrivals =
+        new LinkedHashMap<Long, Arrival>(1024, 0.75f, false) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, Arrival> eldest) {
+            return size() > arrivalLookahead;
+          }
+        };
+
+    OriginReader(boolean warnMissingArrivals) throws IOException {
+      this.warnMissingArrivals = warnMissingArrivals;
+      savedOriginColumns = Origin.getInputColumnNames();
+      savedAssocColumns = Assoc.getInputColumnNames();
+      savedArrivalColumns = Arrival.getInputColumnNames();
+
+      origins = new BufferedReader(new FileReader(inputFiles.get("Origin")));
+      String[] columns = readHeader(origins);
+      if (columns != null)
+        Origin.setNewInputColumnNames(columns);
+
+      assocs = new BufferedReader(new FileReader(inputFiles.get("Assoc")));
+      columns = readHeader(assocs);
+      if (columns != null)
+        Assoc.setNewInputColumnNames(columns);
+
+      arrivals = new BufferedReader(new FileReader(inputFiles.get("Arrival")));
+      columns = readHeader(arrivals);
+      if (columns != null)
+        Arrival.setNewInputColumnNames(columns);
+    }
+
+    /**
+     * Read the next origin, with its assocs, arrivals and sites. Returns null when there are no
+     * more origins.
+     */
+    OriginExtended next() throws IOException {
+      String line = readRow(origins);
+      if (line == null)
+        return null;
+
+      OriginExtended origin = new OriginExtended(new Origin(new Scanner(line)));
+      if (origin.getOrid() == previousOrid)
+        throw new IOException(
+            "Found more than one origin with orid = " + origin.getOrid() + " in the input data set.");
+      if (origin.getOrid() < previousOrid)
+        throw new IOException(String.format(
+            "Origin orid = %d follows orid = %d in %s. Origins must be sorted by increasing orid "
+                + "when dataLoaderFileInputStreaming = true.",
+            origin.getOrid(), previousOrid, inputFiles.get("Origin").getPath()));
+      previousOrid = origin.getOrid();
+
+      // assocs with orid less than the current origin belong to origins that are not in the
+      // origin file and are skipped.
+      Assoc assoc;
+      while ((assoc = nextAssoc()) != null && assoc.getOrid() <= origin.getOrid())
+        if (assoc.getOrid() == origin.getOrid())
+          origin.getAssocs().put(assoc.getArid(),
+              new AssocExtended(assoc).setArrival(findArrival(assoc.getArid())));
+      pendingAssoc = assoc;
+
+      origin.setNass().setNdef();
+      return origin;
+    }
+
+    private Assoc nextAssoc() throws IOException {
+      if (pendingAssoc != null) {
+        Assoc assoc = pendingAssoc;
+        pendingAssoc = null;
+        return assoc;
+      }
+
+      String line = readRow(assocs);
+      if (line == null)
+        return null;
+
+      Assoc assoc = new Assoc(new Scanner(line));
+      if (assoc.getOrid() < previousAssocOrid)
+        throw new IOException(String.format(
+            "Assoc orid = %d follows orid = %d in %s. Assocs must be sorted by increasing orid "
+                + "when dataLoaderFileInputStreaming = true.",
+            assoc.getOrid(), previousAssocOrid, inputFiles.get("Assoc").getPath()));
+      previousAssocOrid = assoc.getOrid();
+      return assoc;
+    }
+
+    /**
+     * Find the arrival with the specified arid, either in the look-ahead buffer or by reading
+     * at most arrivalLookahead more arrivals. Returns null if not found. Arrivals stay in the
+     * look-ahead buffer after they are found, since they may be associated with more than one
+     * origin. They are discarded only when the buffer is full.
+     */
+    private ArrivalExtended findArrival(long arid) throws IOException {
+      Arrival arrival = pendingArrivals.get(arid);
+      String line;
+      int n = 0;
+      while (arrival == null && n < arrivalLookahead && (line = readRow(arrivals)) != null) {
+        Arrival a = new Arrival(new Scanner(line));
+        pendingArrivals.put(a.getArid(), a);
+        if (a.getArid() == arid)
+          arrival = a;
+        ++n;
+      }
+
+      if (arrival == null) {
+        if (!warnMissingArrivals)
+          return null;
+        String wmsg = String.format("%nKBFileStreamInput: arrival arid=%d was not found in the "
+            + "look-ahead buffer or in the next %d rows of %s. Increase "
+            + "dataLoaderFileInputArrivalLookahead if the arrival file is not sorted by orid.%n",
+            arid, n, inputFiles.get("Arrival").getPath());
+        logger.writeln(wmsg);
+        errorlog.writeln(wmsg);
+        return null;
+      }
+      return new ArrivalExtended(arrival).setSite(network);
+    }
+
+    @Override
+    public void close() throws IOException {
+      origins.close();
+      assocs.close();
+      arrivals.close();
+      Origin.setNewInputColumnNames(savedOriginColumns);
+      Assoc.setNewInputColumnNames(savedAssocColumns);
+      Arrival.setNewInputColumnNames(savedArrivalColumns);
+    }
+  }
+
+  /**
+   * If the first line of the input starts with '#', return the column names it contains. Otherwise
+   * return null and leave the input positioned at the first line.
+   */
+  private static String[] readHeader(BufferedReader input) throws IOException {
+    input.mark(1 << 16);
+    String line = input.readLine();
+    if (line != null && line.trim().startsWith("#"))
+      return line.trim().substring(1).trim().replaceAll(",", " ").split("\\s+");
+    input.reset();
+    return null;
+  }
+
+  /**
+   * Return the next line of input that is not empty and is not a comment, or null at the end of
+   * the input.
+   */
+  private static String readRow(BufferedReader input) throws IOException {
+    String line;
+    while ((line = input.readLine()) != null) {
+      line = line.trim();
+      if (line.length() > 0 && !line.startsWith("#"))
+        return line;
+    }
+    return null;
+  }
+
+}
@@ -103,7 +103,9 @@ public class LocOO_IO {
       return new NativeInput(properties);
 
     if (format.equals("kb") && type.equals("file"))
-      return new KBFileInput(properties);
+      return properties.getBoolean("dataLoaderFileInputStreaming", false)
+          ? new KBFileStreamInput(properties)
+          : new KBFileInput(properties);
 
     if (format.equals("kb") && type.equals("database"))
       return new KBDBInput(properties);
@@ -127,7 +129,9 @@ public class LocOO_IO {
     if (type.equals("file")) {
 
       if (properties.containsKey("dataLoaderFileInputOrigins"))
-        return new KBFileInput(properties);
+        return properties.getBoolean("dataLoaderFileInputStreaming", false)
+            ? new KBFileStreamInput(properties)
+            : new KBFileInput(properties);
 
       if (properties.containsKey("dataLoaderFileInputSources"))
         return new GMPFileInput(properties);
@@ -150,6 +150,47 @@ public class NativeInput {
     return batches;
   }
 
+  /**
+   * Batches of sourceids returned by readTaskSourceIds(), consumed by nextLocOOTask().
+   */
+  private ArrayList<ArrayListLong> taskSourceIds;
+
+  private int nextTask;
+
+  /**
+   * This method is called by LocOO to retrieve input data. Applications should not call this.
+   * Return the next LocOOTask, or null when there are no more. The default implementation calls
+   * readTaskSourceIds() the first time it is called and then getLocOOTask() for each batch of
+   * sourceids. Subclasses that read their input incrementally override this method so that only
+   * the tasks in flight need to be held in memory.
+   * 
+   * @return the next LocOOTask, or null if there are no more.
+   * @throws Exception
+   */
+  public LocOOTask nextLocOOTask() throws Exception {
+    if (taskSourceIds == null)
+      taskSourceIds = readTaskSourceIds();
+    if (nextTask >= taskSourceIds.size())
+      return null;
+    ArrayListLong sourceids = taskSourceIds.get(nextTask);
+    // release the sourceids so they can be garbage collected.
+    taskSourceIds.set(nextTask++, null);
+    return getLocOOTask(sourceids);
+  }
+
+  /**
+   * The total number of tasks that nextLocOOTask() will return, or -1 if that is not known in
+   * advance.
+   * 
+   * @return the number of tasks, or -1 if unknown.
+   * @throws Exception
+   */
+  public int getTaskCount() throws Exception {
+    if (taskSourceIds == null)
+      taskSourceIds = readTaskSourceIds();
+    return taskSourceIds.size();
+  }
+
   /**
    * This method is called by LocOO when it has finished retrieving data. Applications should not
    * call this. Perform any operations required to close a a data source (files, database
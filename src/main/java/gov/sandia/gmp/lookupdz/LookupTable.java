@@ -89,6 +89,20 @@ public class LookupTable {
    */
   protected double[][] uncertainties;
 
+  /**
+   * Distances that bracket the first hole in the travel time curve at the shallowest depth:
+   * {last valid distance before the hole, first valid distance after the hole}. Computed when the
+   * table is read.
+   */
+  private double[] holeDistances;
+
+  /**
+   * Lazily computed mini-tables and spline second derivatives, indexed by
+   * zbottom*distances.length+xlow, for windows of the table that contain no invalid values. See
+   * getSplineCell().
+   */
+  private SplineCell[] splineCells;
+
   static final int MAX_DIST_SAMPLES = 7;
   static final int MAX_DEPTH_SAMPLES = 4;
   static final int MIN_NUM_DIST_SAMPLES = 3;
@@ -414,6 +428,20 @@ public class LookupTable {
           modelName, phase));
     }
     input.close();
+
+    holeDistances = new double[] {181., -1.};
+    boolean ok_so_far = true;
+    for (int i = 1; i < distances.length; i++) {
+      if (values[0][i - 1] != -1. && values[0][i] == -1) {
+        holeDistances[0] = distances[i - 1];
+        ok_so_far = false;
+      } else if (!ok_so_far && values[0][i] != -1.) {
+        holeDistances[1] = distances[i];
+        break;
+      }
+    }
+
+    splineCells = new SplineCell[depths.length * distances.length];
     return this;
   }
 
@@ -543,19 +571,7 @@ public class LookupTable {
     // Required # of samples in z-direction
     nz_req = min(MAX_DEPTH_SAMPLES, depths.length);
 
-    double[] ttcsInHoleDist = new double[] {181., -1., 0.};
-
-    boolean ok_so_far = true;
-    for (i = 1; i < distances.length; i++) {
-      if (values[0][i - 1] != -1. && values[0][i] == -1) {
-        ttcsInHoleDist[0] = distances[i - 1];
-        ok_so_far = false;
-      } else if (!ok_so_far && values[0][i] != -1.) {
-        ttcsInHoleDist[1] = distances[i];
-        break;
-      }
-    }
-    boolean in_hole = distance > ttcsInHoleDist[0] && distance < ttcsInHoleDist[1];
+    boolean in_hole = distance > holeDistances[0] && distance < holeDistances[1];
 
     // ====================================================================
     // Set Depth Range
@@ -760,6 +776,18 @@ public class LookupTable {
       }
     }
 
+    // --------------------------------------------------------------------
+    // Inside the table, out of any hole, the mini-table and its spline
+    // second derivatives depend only on the window [ztop..zbottom] x
+    // [xlow..xhigh] as long as the window contains no invalid values.
+    // Those are computed once per window and reused.
+    // --------------------------------------------------------------------
+    if (!in_hole && idist == 0 && idepth == 0 && depths.length > 1) {
+      SplineCell cell = getSplineCell(xlow, ztop, zbottom, nx_req, nz_req);
+      if (cell != null)
+        return interpolate(cell, distance, depth, ttZDerivatives, shZDerivatives, results);
+    }
+
     // ====================================================================
     // Construct Mini Table
     //
@@ -1148,6 +1176,131 @@ public class LookupTable {
     return 0;
   }
 
+  /**
+   * Mini-table and spline second derivatives for a window of the table that contains no invalid
+   * values. Immutable once constructed, so cells can be shared by all threads.
+   */
+  private static final class SplineCell {
+    final int ztop;
+    final double[] dist, depth;
+
+    /**
+     * mini-table, [depth][distance], and the second derivatives of splines along distance.
+     */
+    final double[][] table, deriv2nd;
+
+    /**
+     * transposed mini-table, [distance][depth], and the second derivatives of splines along depth.
+     */
+    final double[][] tableTrans, deriv2ndTrans;
+
+    SplineCell(int ztop, double[] dist, double[] depth, double[][] table, double[][] deriv2nd,
+        double[][] tableTrans, double[][] deriv2ndTrans) {
+      this.ztop = ztop;
+      this.dist = dist;
+      this.depth = depth;
+      this.table = table;
+      this.deriv2nd = deriv2nd;
+      this.tableTrans = tableTrans;
+      this.deriv2ndTrans = deriv2ndTrans;
+    }
+  }
+
+  /**
+   * Placeholder stored in splineCells for windows that contain invalid values.
+   */
+  private static final SplineCell INVALID_CELL =
+      new SplineCell(-1, null, null, null, null, null, null);
+
+  /**
+   * Retrieve the SplineCell for the window of the table with nz_req depths starting at ztop and
+   * nx_req distances starting at xlow, computing it the first time it is requested. Returns null if
+   * any value in the window is invalid, in which case the caller must build the mini-table itself.
+   * The window is identified by zbottom and xlow, which determine ztop for a given table.
+   */
+  private SplineCell getSplineCell(int xlow, int ztop, int zbottom, int nx_req, int nz_req) {
+    if (xlow < 0 || xlow + nx_req > distances.length || ztop < 0 || zbottom >= depths.length)
+      return null;
+
+    int index = zbottom * distances.length + xlow;
+    SplineCell cell = splineCells[index];
+    if (cell == null) {
+      cell = INVALID_CELL;
+      boolean ok = true;
+      for (int k = ztop; ok && k <= zbottom; ++k)
+        for (int j = xlow; ok && j < xlow + nx_req; ++j)
+          ok = valid(values[k][j]);
+
+      if (ok) {
+        double[][] table = new double[nz_req][];
+        double[][] deriv2nd = new double[nz_req][nx_req];
+        double[][] tableTrans = new double[nx_req][nz_req];
+        double[][] deriv2ndTrans = new double[nx_req][nz_req];
+        for (int k = 0; k < nz_req; ++k) {
+          table[k] = extract(values[ztop + k], xlow, nx_req);
+          for (int j = 0; j < nx_req; ++j)
+            tableTrans[j][k] = table[k][j];
+        }
+        double[] dist = extract(distances, xlow, nx_req);
+        double[] depth = extract(depths, ztop, nz_req);
+        splie2(dist, depth, tableTrans, nx_req, nz_req, deriv2ndTrans);
+        splie2(depth, dist, table, nz_req, nx_req, deriv2nd);
+        cell = new SplineCell(ztop, dist, depth, table, deriv2nd, tableTrans, deriv2ndTrans);
+      }
+      // benign race: concurrent threads compute identical cells.
+      splineCells[index] = cell;
+    }
+    return cell == INVALID_CELL || cell.ztop != ztop ? null : cell;
+  }
+
+  /**
+   * Bi-cubic spline interpolation using a cached SplineCell. Results are the same as those computed
+   * from a freshly built mini-table, except that d2vdxdz (results[5]) is the analytic mixed
+   * derivative of the spline surface rather than a finite difference of dvdx, so that the value and
+   * all the derivatives come from a single evaluation.
+   * 
+   * @return 0, or WRN_INVALID_VALUE if the spline could not be evaluated.
+   */
+  private int interpolate(SplineCell cell, double distance, double depth, boolean ttZDerivatives,
+      boolean shZDerivatives, double[] results) {
+    int nx = cell.dist.length, nz = cell.depth.length;
+    // value and first derivative with respect to depth of the depth splines at each distance
+    double[] v = new double[nx];
+    double[] dvdz = new double[nx];
+    double[] y2 = new double[nx];
+    double[] y = new double[3];
+    try {
+      for (int j = 0; j < nx; j++) {
+        splint_deriv(cell.depth, cell.tableTrans[j], cell.deriv2ndTrans[j], nz, depth, y);
+        v[j] = y[0];
+        dvdz[j] = y[1];
+      }
+
+      // value, first and second derivatives in distance direction.
+      spline(cell.dist, v, nx, 1.0e30, 1.0e30, y2);
+      splint_deriv(cell.dist, v, y2, nx, distance, results);
+
+      if (ttZDerivatives) {
+        // interpolated value, first and second derivatives in z direction.
+        splin2(cell.depth, cell.dist, cell.table, cell.deriv2nd, nz, nx, depth, distance, y);
+        results[0] = y[0];
+        results[3] = y[1];
+        results[4] = y[2];
+      }
+
+      if (shZDerivatives) {
+        // derivative with respect to distance of dvdz.
+        spline(cell.dist, dvdz, nx, 1.0e30, 1.0e30, y2);
+        splint_deriv(cell.dist, dvdz, y2, nx, distance, y);
+        results[5] = y[1];
+      }
+    } catch (GMPException e) {
+      Arrays.fill(results, Double.NaN);
+      return WRN_INVALID_VALUE;
+    }
+    return 0;
+  }
+
   /**
    * Extract a new array from x that has size elements starting at index first. No range checking is
    * performed!
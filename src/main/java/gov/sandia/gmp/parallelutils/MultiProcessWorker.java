@@ -0,0 +1,235 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.parallelutils;
+
+import static gov.sandia.gmp.parallelutils.ParallelBrokerMultiProcess.CLEANUP;
+import static gov.sandia.gmp.parallelutils.ParallelBrokerMultiProcess.CLEANUP_DONE;
+import static gov.sandia.gmp.parallelutils.ParallelBrokerMultiProcess.CLEAR;
+import static gov.sandia.gmp.parallelutils.ParallelBrokerMultiProcess.MESSAGE;
+import static gov.sandia.gmp.parallelutils.ParallelBrokerMultiProcess.RESULT;
+import static gov.sandia.gmp.parallelutils.ParallelBrokerMultiProcess.SHARE;
+import static gov.sandia.gmp.parallelutils.ParallelBrokerMultiProcess.SHUTDOWN;
+import static gov.sandia.gmp.parallelutils.ParallelBrokerMultiProcess.SUBMIT;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import gov.sandia.gmp.parallelutils.ParallelBrokerMultiProcess.Message;
+
+/**
+ * A worker JVM of a ParallelBrokerMultiProcess. It connects to the client, runs the tasks it
+ * receives on a fixed number of threads and sends back their results. It exits when the client
+ * closes the connection or tells it to shut down.
+ */
+public final class MultiProcessWorker implements CommunicationsManager {
+
+  private final ObjectOutputStream out;
+  private final int threads;
+  private final Map<String, Object> sharedData = new ConcurrentHashMap<>();
+
+  private MultiProcessWorker(ObjectOutputStream out, int threads) {
+    this.out = out;
+    this.threads = threads;
+  }
+
+  /**
+   * @param args client host, client port, launch number and number of task threads, as passed by
+   *        ParallelBrokerMultiProcess. The token that identifies the worker to the client is read
+   *        from the first line of standard input, so that it is not visible in process listings.
+   */
+  public static void main(String[] args) {
+    if (args.length != 4) {
+      System.err.println("Usage: MultiProcessWorker <client host> <client port> <launch> <threads>"
+          + " < token");
+      System.exit(1);
+    }
+
+    try (Socket socket = new Socket(args[0], Integer.parseInt(args[1]))) {
+      String token =
+          new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)).readLine();
+      if (token == null)
+        throw new IOException("No token on standard input");
+
+      socket.setTcpNoDelay(true);
+      ObjectOutputStream out =
+          new ObjectOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      out.writeUTF(token.trim());
+      out.writeLong(Long.parseLong(args[2]));
+      out.flush();
+      ObjectInputStream in =
+          new ObjectInputStream(new BufferedInputStream(socket.getInputStream()));
+
+      new MultiProcessWorker(out, Integer.parseInt(args[3])).serve(in);
+    } catch (EOFException e) {
+      // the client has closed the connection
+    } catch (Exception e) {
+      e.printStackTrace();
+      System.exit(1);
+    }
+    System.exit(0);
+  }
+
+  /**
+   * Reads and handles messages from the client until it asks the worker to shut down.
+   */
+  private void serve(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    ParallelTask.setCommunicationsManager(this);
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      while (true) {
+        Message m = (Message) in.readObject();
+        switch (m.type) {
+          case SUBMIT:
+            pool.execute(() -> run(m.id, (ParallelTask) m.payload));
+            break;
+          case SHARE:
+            if (m.payload == null)
+              sharedData.remove(m.key);
+            else
+              sharedData.put(m.key, m.payload);
+            break;
+          case CLEAR:
+            sharedData.clear();
+            break;
+          case CLEANUP:
+            pool.execute(() -> cleanup(m.id, (StaticCleanupTask) m.payload));
+            break;
+          case SHUTDOWN:
+            return;
+          default:
+            throw new IOException("Unexpected message type " + m.type);
+        }
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Runs a task and sends its result, which is null if the task threw an exception or error. The
+   * result is always sent so that the client does not wait forever for a task that died.
+   */
+  private void run(long id, ParallelTask task) {
+    ParallelResult result = null;
+    try {
+      task.setSharedObjectProvider(new WorkerSharedObjectProvider(sharedData));
+      task.setLocalThreadCount(threads);
+      task.run();
+      task.setLocalThreadCount(null);
+      result = task.getResultObject();
+    } catch (Throwable ex) {
+      ex.printStackTrace();
+    } finally {
+      send(new Message(RESULT, id, null, result));
+    }
+  }
+
+  private void cleanup(long id, StaticCleanupTask task) {
+    try {
+      task.run();
+    } catch (Throwable e) {
+      e.printStackTrace();
+    } finally {
+      send(new Message(CLEANUP_DONE, id, null, null));
+    }
+  }
+
+  /**
+   * Sends a message to the client. If the connection has been lost there is nobody left to work
+   * for, so the worker exits.
+   */
+  private void send(Message m) {
+    synchronized (out) {
+      try {
+        out.writeObject(m);
+        out.reset();
+        out.flush();
+      } catch (IOException e) {
+        e.printStackTrace();
+        System.exit(1);
+      }
+    }
+  }
+
+  @Override
+  public void sendToClient(Object message) throws IOException {
+    send(new Message(MESSAGE, 0, null, message));
+  }
+
+  /** Gives tasks access to the data shared by the client with addSharedData(). */
+  private static class WorkerSharedObjectProvider implements SharedObjectProvider {
+    private static final long serialVersionUID = 1L;
+    private final transient Map<String, Object> sharedData;
+    private Object result;
+    private String id;
+
+    WorkerSharedObjectProvider(Map<String, Object> sharedData) {
+      this.sharedData = sharedData;
+    }
+
+    @Override
+    public String getId() {
+      return id;
+    }
+
+    @Override
+    public Object getResult() {
+      return result;
+    }
+
+    @Override
+    public Object getSharedObject(String key) {
+      return sharedData.get(key);
+    }
+
+    @Override
+    public void setId(String id) {
+      this.id = id;
+    }
+
+    @Override
+    public void setResult(Object res) {
+      result = res;
+    }
+  }
+}
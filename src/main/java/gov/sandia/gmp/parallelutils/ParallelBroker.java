@@ -52,8 +52,10 @@ import gov.sandia.gmp.parallelutils.io.LocalFileBroker;
  * for debugging purposes only or in rare cases where only one machine with one processor is
  * available for processing. The concurrent mode is used to take advantage of several processors on
  * a single machine. The last three use the Java Parallel Processing Framework (JPPF) to handle many
- * separate nodes (processors) on many distributed machines. A static factory method (create) is
- * defined that allows a user to access any of the above brokers.
+ * separate nodes (processors) on many distributed machines. The "multi_process" mode runs tasks in
+ * worker JVMs that it starts on the local machine, or on hosts listed in a file, and talks to over
+ * sockets (see ParallelBrokerMultiProcess). A static factory method (create) is defined that allows
+ * a user to access any of the above brokers.
  * 
  * <P>
  * Several functions are defined to allow the user to submit tasks, get results, and check on the
@@ -123,7 +125,7 @@ public abstract class ParallelBroker implements AutoCloseable {
   private boolean forceWait;
 
   public static enum ParallelMode {
-    SEQUENTIAL, CONCURRENT, DISTRIBUTED, DISTRIBUTED_CUDA_SP, SEQUENTIAL_FABRIC, DISTRIBUTED_CUDA_DP, CONCURRENT_FABRIC, DISTRIBUTED_FABRIC;
+    SEQUENTIAL, CONCURRENT, DISTRIBUTED, DISTRIBUTED_CUDA_SP, SEQUENTIAL_FABRIC, DISTRIBUTED_CUDA_DP, CONCURRENT_FABRIC, DISTRIBUTED_FABRIC, MULTI_PROCESS;
   }
 
   // Constructors: -------------------------------------------------------------
@@ -166,6 +168,8 @@ public abstract class ParallelBroker implements AutoCloseable {
           return new ParallelBrokerSequential();
         case CONCURRENT:
           return new ParallelBrokerConcurrent();
+        case MULTI_PROCESS:
+          return new ParallelBrokerMultiProcess();
         case DISTRIBUTED:
           c = Class.forName("gov.sandia.gmp.parallelutils.ParallelBrokerDistributedCPU");
           return (ParallelBroker) c.getDeclaredConstructor().newInstance();
@@ -206,7 +210,7 @@ public abstract class ParallelBroker implements AutoCloseable {
 
   /**
    * Creates a new ParallelBroker of kind = "type". The value of "type" must be "sequential",
-   * "concurrent", "distributed_fabric" (case insensitive). The result is returned as a base class
+   * "concurrent", "multi_process", "distributed_fabric" (case insensitive). The result is returned as a base class
    * (ParallelBroker) reference.
    * 
    * @return The new ParallelBroker object.
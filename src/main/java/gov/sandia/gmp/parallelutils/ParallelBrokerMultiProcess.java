@@ -0,0 +1,1049 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.parallelutils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.OutputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.charset.StandardCharsets;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The multi-process ParallelBroker starts a number of worker JVMs (see MultiProcessWorker), on the
+ * local host or on hosts listed in a file, and runs tasks in them. Each worker has its own heap and
+ * garbage collector, so large applications scale better than with one big CONCURRENT JVM. Tasks,
+ * results, shared data and messages travel over sockets as serialized objects, so the usual
+ * ParallelTask/ParallelResult contract applies unchanged.
+ * 
+ * <p>
+ * Workers are started on the first submission. Each worker is sent up to twice as many tasks as it
+ * has threads; the remaining tasks wait at the client. If a worker JVM exits, the tasks it was
+ * running are resubmitted and the worker is restarted, up to getMaxRestarts() times. A task that
+ * was running on getMaxTaskAttempts() workers that exited is given up on and returns a null
+ * result, as tasks that throw exceptions do in the CONCURRENT broker.
+ * 
+ * <p>
+ * Properties read by setProperties(), in addition to those of ParallelBroker:
+ * <ul>
+ * <li>multiProcessWorkers: number of local worker JVMs. Default maxProcessors/4, at least 1.</li>
+ * <li>multiProcessWorkerThreads: task threads per worker. Default maxProcessors divided by the
+ * number of local workers.</li>
+ * <li>multiProcessHostsFile: file with one line per host, <i>host [workers [threads]]</i>. Workers
+ * on hosts other than the local host are started with multiProcessRemoteShell (default ssh), with
+ * the same java installation and classpath as the client, which must therefore be on a shared file
+ * system.</li>
+ * <li>multiProcessWorkerVMArgs: JVM arguments of the workers, e.g. -Xmx16g.</li>
+ * <li>multiProcessMaxRestarts: maximum number of times each worker is restarted. Default 3.</li>
+ * <li>multiProcessSerialFilter: ObjectInputFilter patterns, separated by ';', for the classes the
+ * client accepts from workers in addition to java.** and gov.sandia.**. Results of other classes
+ * are rejected unless listed here.</li>
+ * </ul>
+ * 
+ * <p>
+ * Workers authenticate to the client with a random token that they read from their standard
+ * input, which ssh forwards to remote workers, so it does not show up in process listings.
+ * 
+ * <p>
+ * getExecutorService() returns a thread pool in the client JVM, since the Runnables submitted to
+ * an ExecutorService cannot be sent to another JVM.
+ */
+public class ParallelBrokerMultiProcess extends ParallelBroker {
+
+  // message types exchanged between the client and its workers.
+  static final int SUBMIT = 1, SHARE = 2, CLEAR = 3, CLEANUP = 4, SHUTDOWN = 5, RESULT = 6,
+      MESSAGE = 7, CLEANUP_DONE = 8;
+
+  /**
+   * A message between the client and a worker. id identifies the task or cleanup task the message
+   * refers to, key is the key of shared data, and payload is the task, result, shared object or
+   * message.
+   */
+  static final class Message implements Serializable {
+    private static final long serialVersionUID = 1L;
+    final int type;
+    final long id;
+    final String key;
+    final Object payload;
+
+    Message(int type, long id, String key, Object payload) {
+      this.type = type;
+      this.id = id;
+      this.key = key;
+      this.payload = payload;
+    }
+  }
+
+  /** A submitted task that has not yet returned a result. */
+  private static final class Pending {
+    final long id;
+    final ParallelTask task;
+    final boolean batched;
+    int attempts;
+
+    Pending(long id, ParallelTask task, boolean batched) {
+      this.id = id;
+      this.task = task;
+      this.batched = batched;
+    }
+  }
+
+  /** A completed task. result is null if the task failed. */
+  private static final class Completed {
+    final ParallelResult result;
+
+    Completed(ParallelResult result) {
+      this.result = result;
+    }
+  }
+
+  /** A worker JVM. A restarted worker keeps its Worker object and gets a new launch number. */
+  private final class Worker {
+    final String host;
+    final int threads;
+    final Map<Long, Pending> inFlight = new HashMap<>();
+    final Set<Long> cleanups = new HashSet<>();
+    Process process;
+    long launch;
+    Socket socket;
+    ObjectOutputStream out;
+    int restarts;
+    boolean dead;
+
+    Worker(String host, int threads) {
+      this.host = host;
+      this.threads = threads;
+    }
+  }
+
+  private int processorCount = Runtime.getRuntime().availableProcessors();
+  private int workerCount = -1, workerThreads = -1, maxRestarts = 3, maxTaskAttempts = 2;
+  private String hostsFile = null, workerVMArgs = "", remoteShell = "ssh";
+  private long startTimeout = 120000L;
+
+  /** Patterns of the classes accepted from workers, ahead of the java and gov.sandia defaults. */
+  private String serialFilter = "";
+
+  /** Workers identify themselves with this token, which is written to their standard input. */
+  private final String token = Long.toHexString(new SecureRandom().nextLong());
+  private ServerSocket server;
+  private String clientHost;
+  private final List<Worker> workers = new ArrayList<>();
+
+  /** Tasks that have been submitted but not yet sent to a worker. */
+  private final ArrayDeque<Pending> waiting = new ArrayDeque<>();
+  private final LinkedBlockingQueue<Completed> results = new LinkedBlockingQueue<>();
+  private final Map<String, Object> sharedData = new LinkedHashMap<>();
+  private final Map<Long, CountDownLatch> cleanups = new HashMap<>();
+
+  /**
+   * The current number of tasks for which results are or will be available, as in
+   * ParallelBrokerConcurrent.
+   */
+  private final AtomicInteger taskCount = new AtomicInteger(0);
+
+  /** Tasks submitted with submitBatched() that have not yet been queued. */
+  private List<Pending> batch = new ArrayList<>();
+  private final Semaphore batchLimiter = new Semaphore(1);
+  private volatile boolean startedBatching = false;
+
+  private long nextId = 0, nextLaunch = 0;
+  private boolean started = false, closed = false, connected = false;
+  private ExecutorService localPool = null;
+
+  /**
+   * Default constructor.
+   */
+  public ParallelBrokerMultiProcess() {
+    super();
+    resetBatchLimiter();
+  }
+
+  @Override
+  public void setProperties(Properties prop) {
+    super.setProperties(prop);
+
+    String p = prop.getProperty("multiProcessWorkers", "-1").trim();
+    setWorkerCount(Integer.valueOf(p));
+
+    p = prop.getProperty("multiProcessWorkerThreads", "-1").trim();
+    setWorkerThreads(Integer.valueOf(p));
+
+    p = prop.getProperty("multiProcessHostsFile", "").trim();
+    if (!p.equals(""))
+      setHostsFile(p);
+
+    p = prop.getProperty("multiProcessWorkerVMArgs", "").trim();
+    if (!p.equals(""))
+      setWorkerVMArgs(p);
+
+    p = prop.getProperty("multiProcessRemoteShell", "").trim();
+    if (!p.equals(""))
+      remoteShell = p;
+
+    p = prop.getProperty("multiProcessMaxRestarts", "-1").trim();
+    if (Integer.valueOf(p) >= 0)
+      setMaxRestarts(Integer.valueOf(p));
+
+    p = prop.getProperty("multiProcessSerialFilter", "").trim();
+    if (!p.equals(""))
+      setSerialFilter(p);
+  }
+
+  /**
+   * Sets the total number of task threads used to size the local workers, instead of the number
+   * returned by Runtime.getRuntime().availableProcessors().
+   */
+  @Override
+  public void setProcessorCount(int procCount) {
+    if (procCount > 0)
+      processorCount = procCount;
+  }
+
+  /** Sets the number of local worker JVMs. Ignored if a hosts file is specified. */
+  public void setWorkerCount(int n) {
+    if (n > 0)
+      workerCount = n;
+  }
+
+  /** Sets the number of task threads in each worker JVM. */
+  public void setWorkerThreads(int n) {
+    if (n > 0)
+      workerThreads = n;
+  }
+
+  /**
+   * Sets the file that lists the hosts to start workers on, one <i>host [workers [threads]]</i>
+   * per line.
+   */
+  public void setHostsFile(String hostsFile) {
+    this.hostsFile = hostsFile;
+  }
+
+  /** Sets the JVM arguments of the worker JVMs, separated by white space. */
+  public void setWorkerVMArgs(String args) {
+    workerVMArgs = args == null ? "" : args.trim();
+  }
+
+  /**
+   * Sets ObjectInputFilter patterns, separated by ';', of classes the client accepts from workers
+   * in addition to java.** and gov.sandia.**, e.g. "com.example.**". All other classes are
+   * rejected.
+   */
+  public void setSerialFilter(String patterns) {
+    serialFilter = patterns == null ? "" : patterns.trim();
+  }
+
+  /** @return the ObjectInputFilter applied to everything the client reads from workers. */
+  private ObjectInputFilter getSerialFilter() {
+    String patterns = serialFilter;
+    if (!patterns.isEmpty() && !patterns.endsWith(";"))
+      patterns += ";";
+    return ObjectInputFilter.Config.createFilter(patterns + "java.**;gov.sandia.**;!*");
+  }
+
+  /** Sets the maximum number of times each worker JVM is restarted after it exits. */
+  public void setMaxRestarts(int n) {
+    maxRestarts = n;
+  }
+
+  /** @return the maximum number of times each worker JVM is restarted after it exits. */
+  public int getMaxRestarts() {
+    return maxRestarts;
+  }
+
+  /** @return the number of worker JVMs a task may be running on when they exit before it fails. */
+  public int getMaxTaskAttempts() {
+    return maxTaskAttempts;
+  }
+
+  // Worker management: --------------------------------------------------------
+
+  /**
+   * Starts the workers, if that has not happened yet, and waits until they have all connected or
+   * exited.
+   */
+  private synchronized void start() {
+    if (closed)
+      throw new IllegalStateException(getName() + " ParallelBroker has been closed");
+    if (started)
+      return;
+    started = true;
+
+    try {
+      boolean local = true;
+      for (String[] h : getHosts()) {
+        local &= isLocalHost(h[0]);
+        for (int i = 0; i < Integer.parseInt(h[1]); ++i)
+          workers.add(new Worker(h[0], Integer.parseInt(h[2])));
+      }
+
+      if (local) {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        clientHost = InetAddress.getLoopbackAddress().getHostAddress();
+      } else {
+        server = new ServerSocket(0);
+        clientHost = InetAddress.getLocalHost().getCanonicalHostName();
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+
+    Thread acceptor = new Thread(this::accept, getClass().getSimpleName() + "-acceptor");
+    acceptor.setDaemon(true);
+    acceptor.start();
+
+    for (Worker w : workers)
+      launch(w);
+
+    long deadline = System.currentTimeMillis() + startTimeout;
+    try {
+      for (long wait = startTimeout; wait > 0; wait = deadline - System.currentTimeMillis()) {
+        boolean pending = false;
+        for (Worker w : workers)
+          pending |= !w.dead && w.out == null;
+        if (!pending)
+          break;
+        wait(wait);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (allDead())
+      throw new IllegalStateException(
+          String.format("None of the %d worker JVMs could be started", workers.size()));
+  }
+
+  /**
+   * @return the hosts to start workers on, as {host, workers, threads}.
+   */
+  private List<String[]> getHosts() throws IOException {
+    List<String[]> hosts = new ArrayList<>();
+    if (hostsFile == null) {
+      int n = workerCount > 0 ? workerCount : Math.max(1, processorCount / 4);
+      int threads = workerThreads > 0 ? workerThreads : Math.max(1, processorCount / n);
+      hosts.add(new String[] {"localhost", Integer.toString(n), Integer.toString(threads)});
+      return hosts;
+    }
+
+    try (BufferedReader input = new BufferedReader(new FileReader(new File(hostsFile)))) {
+      String line;
+      while ((line = input.readLine()) != null) {
+        line = line.replaceAll("#.*", "").trim();
+        if (line.isEmpty())
+          continue;
+        String[] tokens = line.split("\\s+");
+        hosts.add(new String[] {tokens[0], tokens.length > 1 ? tokens[1] : "1",
+            tokens.length > 2 ? tokens[2]
+                : Integer.toString(workerThreads > 0 ? workerThreads : processorCount)});
+      }
+    }
+    if (hosts.isEmpty())
+      throw new IOException("No hosts found in multiProcessHostsFile " + hostsFile);
+    return hosts;
+  }
+
+  private static boolean isLocalHost(String host) {
+    if (host.equalsIgnoreCase("localhost"))
+      return true;
+    try {
+      InetAddress address = InetAddress.getByName(host);
+      return address.isLoopbackAddress() || address.equals(InetAddress.getLocalHost());
+    } catch (UnknownHostException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Starts the JVM of a worker, and a thread that waits for it to exit.
+   */
+  private void launch(Worker w) {
+    w.launch = ++nextLaunch;
+    w.socket = null;
+    w.out = null;
+
+    List<String> command = new ArrayList<>();
+    if (!isLocalHost(w.host)) {
+      command.addAll(Arrays.asList(remoteShell.split("\\s+")));
+      command.add(w.host);
+    }
+    command.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getPath());
+    if (!workerVMArgs.isEmpty())
+      command.addAll(Arrays.asList(workerVMArgs.split("\\s+")));
+    command.addAll(Arrays.asList("-cp", System.getProperty("java.class.path"),
+        MultiProcessWorker.class.getName(), clientHost, Integer.toString(server.getLocalPort()),
+        Long.toString(w.launch), Integer.toString(w.threads)));
+
+    try {
+      w.process = new ProcessBuilder(command).redirectOutput(Redirect.INHERIT)
+          .redirectError(Redirect.INHERIT).start();
+      try (OutputStream stdin = w.process.getOutputStream()) {
+        stdin.write((token + "\n").getBytes(StandardCharsets.UTF_8));
+      }
+    } catch (IOException e) {
+      if (w.process != null)
+        w.process.destroyForcibly();
+      System.err.printf("%s failed to start a worker on %s: %s%n", getName(), w.host,
+          e.getMessage());
+      w.dead = true;
+      return;
+    }
+
+    Process process = w.process;
+    long launch = w.launch;
+    Thread watcher = new Thread(() -> {
+      while (true)
+        try {
+          process.waitFor();
+          break;
+        } catch (InterruptedException e) {
+          // keep waiting
+        }
+      exited(w, launch);
+    }, getClass().getSimpleName() + "-worker-" + launch);
+    watcher.setDaemon(true);
+    watcher.start();
+  }
+
+  /**
+   * Called when the JVM of a worker has exited. Its tasks are resubmitted and the worker is
+   * restarted unless it has already been restarted getMaxRestarts() times.
+   */
+  private synchronized void exited(Worker w, long launch) {
+    if (w.launch != launch)
+      return;
+    disconnect(w, launch);
+
+    // put the worker's tasks back at the head of the queue, in their original order.
+    List<Pending> tasks = new ArrayList<>(w.inFlight.values());
+    w.inFlight.clear();
+    tasks.sort((a, b) -> Long.compare(b.id, a.id));
+    for (Pending p : tasks)
+      if (++p.attempts < maxTaskAttempts)
+        waiting.addFirst(p);
+      else {
+        System.err.printf("%s: giving up on task %d after %d worker failures%n", getName(), p.id,
+            p.attempts);
+        complete(p, null);
+      }
+
+    for (Long id : w.cleanups)
+      countDownCleanup(id);
+    w.cleanups.clear();
+
+    if (closed)
+      w.dead = true;
+    else if (w.restarts < maxRestarts) {
+      ++w.restarts;
+      System.err.printf("%s: worker on %s exited, restarting it (%d of %d)%n", getName(), w.host,
+          w.restarts, maxRestarts);
+      launch(w);
+    } else {
+      System.err.printf("%s: worker on %s exited and will not be restarted%n", getName(), w.host);
+      w.dead = true;
+    }
+
+    if (!closed && allDead()) {
+      System.err.printf("%s: all workers have exited, %d waiting tasks failed%n", getName(),
+          waiting.size());
+      while (!waiting.isEmpty())
+        complete(waiting.poll(), null);
+    }
+
+    notifyAll();
+    dispatch();
+  }
+
+  private boolean allDead() {
+    for (Worker w : workers)
+      if (!w.dead)
+        return false;
+    return true;
+  }
+
+  /**
+   * Closes the connection to a worker and destroys its JVM, unless it has been restarted since.
+   * Its tasks are resubmitted once the JVM has exited.
+   */
+  private synchronized void disconnect(Worker w, long launch) {
+    if (w.launch != launch)
+      return;
+    try {
+      if (w.socket != null)
+        w.socket.close();
+    } catch (IOException e) {
+      // ignore
+    }
+    w.socket = null;
+    w.out = null;
+    if (w.process != null)
+      w.process.destroy();
+  }
+
+  /**
+   * Accepts connections from workers until the server socket is closed.
+   */
+  private void accept() {
+    while (!server.isClosed()) {
+      Socket socket = null;
+      try {
+        socket = server.accept();
+        socket.setTcpNoDelay(true);
+        socket.setSoTimeout((int) startTimeout);
+        ObjectOutputStream out =
+            new ObjectOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        out.flush();
+        ObjectInputStream in =
+            new ObjectInputStream(new BufferedInputStream(socket.getInputStream()));
+        in.setObjectInputFilter(getSerialFilter());
+
+        // no objects are read before the worker has identified itself.
+        if (!in.readUTF().equals(token)) {
+          socket.close();
+          continue;
+        }
+        long launch = in.readLong();
+        socket.setSoTimeout(0);
+        attach(launch, socket, out, in);
+      } catch (IOException e) {
+        try {
+          if (socket != null)
+            socket.close();
+        } catch (IOException e1) {
+          // ignore
+        }
+      }
+    }
+  }
+
+  /**
+   * Connects a worker that has identified itself to its Worker, sends it the shared data and starts
+   * a thread that reads its messages.
+   */
+  private synchronized void attach(long launch, Socket socket, ObjectOutputStream out,
+      ObjectInputStream in) throws IOException {
+    Worker worker = null;
+    for (Worker w : workers)
+      if (w.launch == launch && w.socket == null && !w.dead)
+        worker = w;
+    if (worker == null || closed) {
+      socket.close();
+      return;
+    }
+
+    worker.socket = socket;
+    worker.out = out;
+    try {
+      for (Map.Entry<String, Object> e : sharedData.entrySet())
+        send(worker, new Message(SHARE, 0, e.getKey(), e.getValue()));
+      out.flush();
+    } catch (IOException e) {
+      disconnect(worker, launch);
+      return;
+    }
+
+    Worker w = worker;
+    Thread reader = new Thread(() -> read(w, launch, in),
+        getClass().getSimpleName() + "-reader-" + launch);
+    reader.setDaemon(true);
+    reader.start();
+
+    if (!connected) {
+      connected = true;
+      super.fireConnected();
+    }
+    notifyAll();
+    dispatch();
+  }
+
+  /**
+   * Reads the messages of a worker until its connection is closed.
+   */
+  private void read(Worker w, long launch, ObjectInputStream in) {
+    try {
+      while (true) {
+        Message m = (Message) in.readObject();
+        switch (m.type) {
+          case RESULT:
+            completed(w, m.id, (ParallelResult) m.payload);
+            break;
+          case MESSAGE:
+            setMessageReceived(m.payload);
+            break;
+          case CLEANUP_DONE:
+            cleanupDone(w, m.id);
+            break;
+          default:
+            throw new IOException("Unexpected message type " + m.type);
+        }
+      }
+    } catch (IOException | ClassNotFoundException | ClassCastException e) {
+      // the worker's tasks are resubmitted when its JVM has exited.
+      if (e instanceof InvalidClassException)
+        System.err.printf("%s rejected an object from the worker on %s: %s%n", getName(), w.host,
+            e.getMessage());
+      disconnect(w, launch);
+    }
+  }
+
+  /**
+   * Sends a message to a worker without flushing the stream. The stream is reset after every
+   * message so that it does not keep references to the objects that have been sent.
+   */
+  private void send(Worker w, Message m) throws IOException {
+    w.out.writeObject(m);
+    w.out.reset();
+  }
+
+  /**
+   * Sends waiting tasks to connected workers, until each has twice as many tasks as threads.
+   */
+  private synchronized void dispatch() {
+    for (Worker w : workers) {
+      if (w.out == null || waiting.isEmpty())
+        continue;
+      try {
+        while (!waiting.isEmpty() && w.inFlight.size() < 2 * w.threads) {
+          Pending p = waiting.poll();
+          w.inFlight.put(p.id, p);
+          send(w, new Message(SUBMIT, p.id, null, p.task));
+        }
+        w.out.flush();
+      } catch (IOException e) {
+        disconnect(w, w.launch);
+      }
+    }
+  }
+
+  private synchronized void completed(Worker w, long id, ParallelResult result) {
+    Pending p = w.inFlight.remove(id);
+    if (p != null)
+      complete(p, result);
+    dispatch();
+  }
+
+  private void complete(Pending p, ParallelResult result) {
+    results.add(new Completed(result));
+    if (p.batched)
+      batchLimiter.release();
+  }
+
+  private synchronized void cleanupDone(Worker w, long id) {
+    if (w.cleanups.remove(id))
+      countDownCleanup(id);
+  }
+
+  private void countDownCleanup(long id) {
+    CountDownLatch latch = cleanups.get(id);
+    if (latch != null) {
+      latch.countDown();
+      if (latch.getCount() == 0)
+        cleanups.remove(id);
+    }
+  }
+
+  private synchronized void queue(List<Pending> tasks) {
+    if (closed)
+      throw new IllegalStateException(getName() + " ParallelBroker has been closed");
+    waiting.addAll(tasks);
+    dispatch();
+  }
+
+  private synchronized Pending pending(ParallelTask tsk, boolean batched) {
+    return new Pending(++nextId, tsk, batched);
+  }
+
+  // ParallelBroker: -------------------------------------------------------------
+
+  /**
+   * Stops the worker JVMs and the local thread pool.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed)
+      return;
+    closed = true;
+
+    for (Worker w : workers)
+      if (w.out != null)
+        try {
+          send(w, new Message(SHUTDOWN, 0, null, null));
+          w.out.flush();
+        } catch (IOException e) {
+          // the worker is destroyed below
+        }
+
+    for (Worker w : workers)
+      if (w.process != null)
+        try {
+          if (!w.process.waitFor(5, TimeUnit.SECONDS))
+            w.process.destroyForcibly();
+        } catch (InterruptedException e) {
+          w.process.destroyForcibly();
+          Thread.currentThread().interrupt();
+        }
+
+    try {
+      if (server != null)
+        server.close();
+    } catch (IOException e) {
+      // ignore
+    }
+
+    if (localPool != null)
+      localPool.shutdown();
+  }
+
+  /**
+   * Adds a data object that tasks can retrieve with getSharedObject(key). It is sent to every
+   * worker, including workers that connect or are restarted later.
+   */
+  @Override
+  public synchronized void addSharedData(String key, Object obj) {
+    sharedData.put(key, obj);
+    for (Worker w : workers)
+      if (w.out != null)
+        try {
+          send(w, new Message(SHARE, 0, key, obj));
+          w.out.flush();
+        } catch (IOException e) {
+          disconnect(w, w.launch);
+        }
+  }
+
+  @Override
+  public synchronized void clearSharedData() {
+    sharedData.clear();
+    for (Worker w : workers)
+      if (w.out != null)
+        try {
+          send(w, new Message(CLEAR, 0, null, null));
+          w.out.flush();
+        } catch (IOException e) {
+          disconnect(w, w.launch);
+        }
+  }
+
+  @Override
+  public synchronized ExecutorService getExecutorService() {
+    if (localPool == null)
+      localPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    return localPool;
+  }
+
+  @Override
+  public synchronized int getHostCount() {
+    if (!started)
+      return hostsFile == null ? 1 : getProcessorCountByHost().size();
+    Set<String> hosts = new HashSet<>();
+    for (Worker w : workers)
+      hosts.add(w.host);
+    return hosts.size();
+  }
+
+  @Override
+  public String getName() {
+    return "MultiProcess";
+  }
+
+  /**
+   * @return the number of task threads in the workers that are running.
+   */
+  @Override
+  public synchronized int getProcessorCount() {
+    if (!started)
+      return getProcessorCountEstimate();
+    int n = 0;
+    for (Worker w : workers)
+      if (!w.dead)
+        n += w.threads;
+    return n;
+  }
+
+  @Override
+  public synchronized Map<String, Integer> getProcessorCountByHost() {
+    Map<String, Integer> map = new HashMap<String, Integer>();
+    if (started) {
+      for (Worker w : workers)
+        if (!w.dead)
+          map.merge(w.host, w.threads, Integer::sum);
+    } else
+      try {
+        for (String[] h : getHosts())
+          map.merge(h[0], Integer.parseInt(h[1]) * Integer.parseInt(h[2]), Integer::sum);
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    return map;
+  }
+
+  @Override
+  public synchronized int getProcessorCountEstimate() {
+    int n = 0;
+    for (int count : getProcessorCountByHost().values())
+      n += count;
+    return Math.max(1, n);
+  }
+
+  @Override
+  public ParallelResult getResult() {
+    if (taskCount.get() == 0)
+      return null;
+
+    Completed c = results.poll();
+    if (c == null)
+      return null;
+    taskCount.decrementAndGet();
+    return c.result;
+  }
+
+  @Override
+  public ParallelResult getResultWait() {
+    if (!isForceWaitEnabled() && taskCount.get() == 0)
+      return null;
+
+    try {
+      Completed c = results.take();
+      taskCount.decrementAndGet();
+      return c.result;
+    } catch (InterruptedException ex) {
+      ex.printStackTrace();
+      Thread.currentThread().interrupt();
+      return null;
+    }
+  }
+
+  @Override
+  public List<ParallelResult> getResults() {
+    if (taskCount.get() == 0)
+      return null;
+
+    List<Completed> completed = new ArrayList<>();
+    results.drainTo(completed);
+    if (completed.isEmpty())
+      return null;
+
+    ArrayList<ParallelResult> list = new ArrayList<ParallelResult>(completed.size());
+    for (Completed c : completed) {
+      taskCount.decrementAndGet();
+      list.add(c.result);
+    }
+    return list;
+  }
+
+  @Override
+  public List<ParallelResult> getResultsWait() {
+    if (taskCount.get() == 0)
+      return null;
+
+    List<Completed> completed = new ArrayList<>();
+    try {
+      completed.add(results.take());
+    } catch (InterruptedException ex) {
+      ex.printStackTrace();
+      Thread.currentThread().interrupt();
+      return null;
+    }
+    results.drainTo(completed);
+
+    ArrayList<ParallelResult> list = new ArrayList<ParallelResult>(completed.size());
+    for (Completed c : completed) {
+      taskCount.decrementAndGet();
+      list.add(c.result);
+    }
+    return list;
+  }
+
+  @Override
+  public ParallelResult takeResult() throws InterruptedException, ExecutionException {
+    Completed c = results.take();
+    taskCount.decrementAndGet();
+    return c.result;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return taskCount.get() == 0;
+  }
+
+  @Override
+  public int size() {
+    return taskCount.get();
+  }
+
+  @Override
+  public void submit(List<? extends ParallelTask> tsks) {
+    start();
+    List<Pending> tasks = new ArrayList<>(tsks.size());
+    for (ParallelTask tsk : tsks)
+      tasks.add(pending(tsk, false));
+    taskCount.addAndGet(tasks.size());
+    queue(tasks);
+  }
+
+  @Override
+  public void submit(ParallelTask tsk) {
+    start();
+    taskCount.incrementAndGet();
+    queue(Arrays.asList(pending(tsk, false)));
+  }
+
+  @Override
+  public void submitBatched(ParallelTask tsk) {
+    start();
+    startedBatching = true;
+
+    try {
+      batchLimiter.acquire();
+    } catch (InterruptedException e) {
+      e.printStackTrace();
+      return;
+    }
+
+    taskCount.incrementAndGet();
+    List<Pending> full = null;
+    synchronized (this) {
+      batch.add(pending(tsk, true));
+      if (batch.size() >= getBatchSize()) {
+        full = batch;
+        batch = new ArrayList<>();
+      }
+    }
+    if (full != null)
+      queue(full);
+  }
+
+  @Override
+  public synchronized void purgeBatch() {
+    if (!batch.isEmpty()) {
+      List<Pending> tasks = batch;
+      batch = new ArrayList<>();
+      queue(tasks);
+    }
+  }
+
+  private void resetBatchLimiter() {
+    // Simulates batching behavior of distributed versions ParallelBroker:
+    batchLimiter.drainPermits();
+    batchLimiter.release(Math.max(1, getBatchSize() * getMaxBatches()));
+  }
+
+  @Override
+  public void setBatchSize(int s) {
+    if (startedBatching)
+      return;
+    super.setBatchSize(s);
+    resetBatchLimiter();
+  }
+
+  @Override
+  public void setMaxBatches(int m) {
+    if (startedBatching)
+      return;
+    super.setMaxBatches(m);
+    resetBatchLimiter();
+  }
+
+  /**
+   * Runs the task once in every worker that is connected, optionally waiting until they have all
+   * run it.
+   */
+  @Override
+  public void submitStaticCleanupTask(StaticCleanupTask tsk, boolean waitFor) {
+    start();
+
+    CountDownLatch latch;
+    synchronized (this) {
+      long id = ++nextId;
+      List<Worker> connectedWorkers = new ArrayList<>();
+      for (Worker w : workers)
+        if (w.out != null)
+          connectedWorkers.add(w);
+
+      latch = new CountDownLatch(connectedWorkers.size());
+      cleanups.put(id, latch);
+      for (Worker w : connectedWorkers) {
+        w.cleanups.add(id);
+        try {
+          send(w, new Message(CLEANUP, id, null, tsk));
+          w.out.flush();
+        } catch (IOException e) {
+          // the latch is counted down when the worker's JVM has exited.
+          disconnect(w, w.launch);
+        }
+      }
+      if (latch.getCount() == 0)
+        cleanups.remove(id);
+    }
+
+    if (waitFor)
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        e.printStackTrace();
+        Thread.currentThread().interrupt();
+      }
+  }
+}
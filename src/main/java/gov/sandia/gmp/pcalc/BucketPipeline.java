@@ -0,0 +1,388 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.pcalc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import gov.sandia.gmp.baseobjects.PropertiesPlusGMP;
+import gov.sandia.gmp.util.propertiesplus.PropertiesPlusException;
+
+/**
+ * Runs the DataSource -&gt; compute -&gt; DataSink loop of PCalc as overlapping stages. A reader
+ * thread pulls Buckets from the DataSource, one or more compute threads process them, and the
+ * calling thread writes them to the DataSink in the order in which they were read. Stages are
+ * connected by bounded queues and the total number of Buckets in flight is limited, so a fast
+ * reader blocks rather than buffering the whole input in memory.
+ * <p>
+ * Properties:
+ * <ul>
+ * <li>pipeline: if false, the three stages run one after the other on the calling thread, exactly
+ * as PCalc did before the pipeline existed. Default is true.
+ * <li>pipelineQueueSize: capacity of the queues between stages. Default is 2.
+ * <li>pipelineComputeThreads: number of Buckets that are computed concurrently. Default is 1,
+ * which is appropriate when the compute stage is itself multi-threaded.
+ * </ul>
+ */
+public class BucketPipeline {
+
+  /**
+   * The work performed on each Bucket between the DataSource and the DataSink.
+   */
+  public interface Stage {
+    void process(Bucket bucket) throws Exception;
+  }
+
+  /**
+   * A Bucket tagged with the order in which it was read from the DataSource.
+   */
+  private static class Item {
+    final long sequence;
+    final Bucket bucket;
+
+    Item(long sequence, Bucket bucket) {
+      this.sequence = sequence;
+      this.bucket = bucket;
+    }
+  }
+
+  /**
+   * Marks the end of the input on a queue.
+   */
+  private static final Item END = new Item(-1, null);
+
+  private final boolean sequential;
+
+  private final int queueSize;
+
+  private final int nComputeThreads;
+
+  private final StageMetrics readMetrics = new StageMetrics("read");
+
+  private final StageMetrics computeMetrics = new StageMetrics("compute");
+
+  private final StageMetrics writeMetrics = new StageMetrics("write");
+
+  private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+  private long elapsedNanos;
+
+  /**
+   * Constructor.
+   * 
+   * @param sequential if true, all stages run one after the other on the calling thread.
+   * @param queueSize capacity of the queues between stages.
+   * @param nComputeThreads number of Buckets that are computed concurrently.
+   */
+  public BucketPipeline(boolean sequential, int queueSize, int nComputeThreads) {
+    this.sequential = sequential;
+    this.queueSize = Math.max(1, queueSize);
+    this.nComputeThreads = Math.max(1, nComputeThreads);
+  }
+
+  /**
+   * Constructor that reads properties pipeline, pipelineQueueSize and pipelineComputeThreads.
+   * 
+   * @param properties
+   * @throws PropertiesPlusException
+   */
+  public BucketPipeline(PropertiesPlusGMP properties) throws PropertiesPlusException {
+    this(!properties.getBoolean("pipeline", true), properties.getInt("pipelineQueueSize", 2),
+        properties.getInt("pipelineComputeThreads", 1));
+  }
+
+  /**
+   * Read every Bucket from source, process it with compute and write it to sink. Buckets are
+   * written in the order in which they were read. If any stage throws an exception, no further
+   * Buckets are read or written, the remaining stages are allowed to drain, and the first exception
+   * is rethrown. The source and sink are not closed.
+   * 
+   * @param source
+   * @param compute
+   * @param sink
+   * @throws Exception
+   */
+  public void run(DataSource source, Stage compute, DataSink sink) throws Exception {
+    long start = System.nanoTime();
+    try {
+      if (sequential)
+        runSequential(source, compute, sink);
+      else
+        runConcurrent(source, compute, sink);
+    } finally {
+      elapsedNanos = System.nanoTime() - start;
+    }
+    if (failure.get() != null)
+      throw failure.get();
+  }
+
+  private void runSequential(DataSource source, Stage compute, DataSink sink) throws Exception {
+    while (true) {
+      long t = System.nanoTime();
+      if (!source.hasNext())
+        break;
+      Bucket bucket = source.next();
+      readMetrics.add(bucket, System.nanoTime() - t, 0);
+
+      t = System.nanoTime();
+      compute.process(bucket);
+      computeMetrics.add(bucket, System.nanoTime() - t, 0);
+
+      t = System.nanoTime();
+      sink.writeData(bucket);
+      writeMetrics.add(bucket, System.nanoTime() - t, 0);
+    }
+  }
+
+  private void runConcurrent(DataSource source, Stage compute, DataSink sink)
+      throws InterruptedException {
+    BlockingQueue<Item> computeQueue = new ArrayBlockingQueue<>(queueSize);
+    BlockingQueue<Item> writeQueue = new ArrayBlockingQueue<>(queueSize);
+
+    // limits the number of Buckets that have been read but not yet written, including Buckets
+    // that are waiting in the writer for an earlier Bucket to finish computing.
+    Semaphore inFlight = new Semaphore(2 * queueSize + nComputeThreads);
+
+    Thread reader = new Thread(() -> {
+      try {
+        long sequence = 0;
+        while (failure.get() == null) {
+          inFlight.acquire();
+          long t = System.nanoTime();
+          if (!source.hasNext())
+            break;
+          Bucket bucket = source.next();
+          readMetrics.add(bucket, System.nanoTime() - t, computeQueue.size());
+          computeQueue.put(new Item(sequence++, bucket));
+        }
+      } catch (Throwable ex) {
+        fail(ex);
+      } finally {
+        for (int i = 0; i < nComputeThreads; ++i)
+          putUninterruptibly(computeQueue, END);
+      }
+    }, "PCalc-reader");
+
+    ArrayList<Thread> workers = new ArrayList<>(nComputeThreads);
+    for (int w = 0; w < nComputeThreads; ++w)
+      workers.add(new Thread(() -> {
+        try {
+          for (Item item = computeQueue.take(); item != END; item = computeQueue.take()) {
+            int depth = computeQueue.size();
+            // after a failure, keep draining so that the reader is never blocked forever.
+            if (failure.get() == null)
+              try {
+                long t = System.nanoTime();
+                compute.process(item.bucket);
+                computeMetrics.add(item.bucket, System.nanoTime() - t, depth);
+              } catch (Throwable ex) {
+                fail(ex);
+              }
+            writeQueue.put(item);
+          }
+        } catch (Throwable ex) {
+          fail(ex);
+        } finally {
+          putUninterruptibly(writeQueue, END);
+        }
+      }, "PCalc-compute-" + w));
+
+    reader.setDaemon(true);
+    reader.start();
+    for (Thread worker : workers) {
+      worker.setDaemon(true);
+      worker.start();
+    }
+
+    // write Buckets in the order in which they were read.
+    HashMap<Long, Bucket> pending = new HashMap<>();
+    long nextSequence = 0;
+    int nFinished = 0;
+    while (nFinished < nComputeThreads) {
+      Item item = writeQueue.take();
+      if (item == END) {
+        ++nFinished;
+        continue;
+      }
+      int depth = writeQueue.size();
+      pending.put(item.sequence, item.bucket);
+      for (Bucket bucket = pending.remove(nextSequence); bucket != null; bucket =
+          pending.remove(nextSequence)) {
+        ++nextSequence;
+        if (failure.get() == null)
+          try {
+            long t = System.nanoTime();
+            sink.writeData(bucket);
+            writeMetrics.add(bucket, System.nanoTime() - t, depth);
+          } catch (Throwable ex) {
+            fail(ex);
+          }
+        inFlight.release();
+      }
+      if (failure.get() != null) {
+        // release permits held by Buckets that will never be written.
+        inFlight.release(pending.size());
+        pending.clear();
+      }
+    }
+
+    reader.join();
+    for (Thread worker : workers)
+      worker.join();
+  }
+
+  private void fail(Throwable ex) {
+    failure.compareAndSet(null, ex instanceof Exception ? (Exception) ex : new Exception(ex));
+  }
+
+  private static void putUninterruptibly(BlockingQueue<Item> queue, Item item) {
+    boolean interrupted = false;
+    while (true)
+      try {
+        queue.put(item);
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    if (interrupted)
+      Thread.currentThread().interrupt();
+  }
+
+  /**
+   * @return total time spent in the most recent call to run(), in seconds.
+   */
+  public double getElapsedTime() {
+    return elapsedNanos * 1e-9;
+  }
+
+  public StageMetrics getReadMetrics() {
+    return readMetrics;
+  }
+
+  public StageMetrics getComputeMetrics() {
+    return computeMetrics;
+  }
+
+  public StageMetrics getWriteMetrics() {
+    return writeMetrics;
+  }
+
+  /**
+   * @return a table of per-stage throughput and queue-depth statistics.
+   */
+  @Override
+  public String toString() {
+    StringBuffer buf = new StringBuffer();
+    buf.append(String.format("Pipeline %s, queueSize = %d, computeThreads = %d, elapsed %1.3f sec%n",
+        sequential ? "sequential" : "concurrent", queueSize, nComputeThreads, getElapsedTime()));
+    buf.append(String.format("%-8s %8s %10s %10s %12s %10s %10s%n", "stage", "buckets", "points",
+        "busy(s)", "points/sec", "meanQueue", "maxQueue"));
+    for (StageMetrics m : new StageMetrics[] {readMetrics, computeMetrics, writeMetrics})
+      buf.append(m.toString()).append(String.format("%n"));
+    return buf.toString();
+  }
+
+  /**
+   * Throughput and queue depth statistics for one stage of a BucketPipeline. The queue depth is
+   * the number of Buckets waiting on the queue that feeds the stage, sampled each time the stage
+   * starts on a Bucket. For the read stage it is the depth of the compute queue, which shows
+   * whether reading is ahead of computing.
+   */
+  public static class StageMetrics {
+    private final String name;
+    private long nBuckets;
+    private long nPoints;
+    private long busyNanos;
+    private long sumQueueDepth;
+    private int maxQueueDepth;
+
+    StageMetrics(String name) {
+      this.name = name;
+    }
+
+    synchronized void add(Bucket bucket, long nanos, int queueDepth) {
+      ++nBuckets;
+      nPoints += size(bucket);
+      busyNanos += nanos;
+      sumQueueDepth += queueDepth;
+      maxQueueDepth = Math.max(maxQueueDepth, queueDepth);
+    }
+
+    private static int size(Bucket bucket) {
+      if (bucket.points != null)
+        return bucket.points.size();
+      if (bucket.predictionRequests != null)
+        return bucket.predictionRequests.size();
+      return 0;
+    }
+
+    public synchronized long getNBuckets() {
+      return nBuckets;
+    }
+
+    public synchronized long getNPoints() {
+      return nPoints;
+    }
+
+    /**
+     * @return total time spent processing Buckets in this stage, in seconds, summed over threads.
+     */
+    public synchronized double getBusyTime() {
+      return busyNanos * 1e-9;
+    }
+
+    /**
+     * @return points processed per second of busy time.
+     */
+    public synchronized double getThroughput() {
+      return busyNanos == 0 ? 0. : nPoints / (busyNanos * 1e-9);
+    }
+
+    public synchronized double getMeanQueueDepth() {
+      return nBuckets == 0 ? 0. : sumQueueDepth / (double) nBuckets;
+    }
+
+    public synchronized int getMaxQueueDepth() {
+      return maxQueueDepth;
+    }
+
+    @Override
+    public synchronized String toString() {
+      return String.format("%-8s %8d %10d %10.3f %12.1f %10.2f %10d", name, nBuckets, nPoints,
+          getBusyTime(), getThroughput(), getMeanQueueDepth(), maxQueueDepth);
+    }
+  }
+}
@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Scanner;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import gov.sandia.geotess.GeoTessException;
 import gov.sandia.geotess.GeoTessModel;
@@ -475,7 +476,7 @@ public class PCalc {
 
     switch (application) {
       case MODEL_QUERY:
-        queryModel();
+        queryModel(es);
         break;
       case PREDICTIONS:
         predictions(broker, es);
@@ -573,10 +574,16 @@ public class PCalc {
       log.writef("%s - Computing %d base model predictions...%n", GMTFormat.getNow(),
           requests.size());
 
+    // predictions are streamed: only the base model travel times are kept, and the 3D model
+    // predictions are stored in the model as they are completed.
+    int maxInFlight = properties.getInt("maxPredictionsInFlight", 10000);
+
     long t = System.currentTimeMillis();
 
-    ArrayList<Prediction> baseModelPredictions =
-        baseModelPredictor.computePredictions(requests, es);
+    double[] baseTravelTimes = new double[requests.size()];
+    baseModelPredictor.computePredictions(requests.stream(), es, maxInFlight, false,
+        prediction -> baseTravelTimes[(int) prediction.getObservationId()] =
+            prediction.getAttribute(GeoAttributes.TRAVEL_TIME));
 
     if (log.isOutputOn())
       log.writef("%s - %d base model predictions computed in %s%n%n", GMTFormat.getNow(),
@@ -588,30 +595,27 @@ public class PCalc {
 
     t = System.currentTimeMillis();
 
-    ArrayList<Prediction> predictions = predictors.computePredictions(requests, es);
-
-    if (log.isOutputOn())
-      log.writef("%s - %d 3D model predictions computed in %s%n%n", GMTFormat.getNow(),
-          requests.size(), Globals.elapsedTime(t));
-
-    int nValid = 0;
-    double ttA, ttB;
-    for (int idx = 0; idx < predictions.size(); idx++) {
-      Prediction prediction = predictions.get(idx);
-      ttA = predictions.get(idx).getAttribute(GeoAttributes.TRAVEL_TIME);
+    int[] nValid = new int[1];
+    predictors.computePredictions(requests.stream(), es, maxInFlight, false, prediction -> {
+      int idx = (int) prediction.getObservationId();
+      double ttA = prediction.getAttribute(GeoAttributes.TRAVEL_TIME);
       if (!Double.isNaN(ttA) && ttA != Globals.NA_VALUE) {
-        ttB = baseModelPredictions.get(idx).getAttribute(GeoAttributes.TRAVEL_TIME);
+        double ttB = baseTravelTimes[idx];
         if (!Double.isNaN(ttB) && ttB != Globals.NA_VALUE) {
           pointMap.setPointValue(idx, 0, (float) (ttA - ttB));
           if (!pathDependentUncertainty)
             pointMap.setPointValue(idx, 1,
                 prediction.getAttribute(GeoAttributes.TT_MODEL_UNCERTAINTY));
-          ++nValid;
+          ++nValid[0];
         }
       }
-    }
+    });
 
-    int invalid = requests.size() - nValid;
+    if (log.isOutputOn())
+      log.writef("%s - %d 3D model predictions computed in %s%n%n", GMTFormat.getNow(),
+          requests.size(), Globals.elapsedTime(t));
+
+    int invalid = requests.size() - nValid[0];
     if (log.isOutputOn())
       log.writef("%d of %d (%1.2f%%) predictions were invalid%n", invalid, requests.size(),
           100.0 * invalid / requests.size());
@@ -742,195 +746,219 @@ public class PCalc {
 
       // TODO get this from ParallelBroker
 
-      while (dataSource.hasNext()) {
-        Bucket dataBucket = dataSource.next();
+      ExecutorService pool = es;
+      BucketPipeline pipeline = new BucketPipeline(properties);
+      pipeline.run(dataSource,
+          dataBucket -> computePredictions(dataBucket, predictors, pool, broker), dataSink);
 
-        if (dataSink instanceof DataSinkDB) {
-          // database output is a special case because it needs the
-          // name of the model that produced predictions.
-          // Compute and return predictions instead of modelValues.
+      if (log.isOutputOn())
+        log.write(pipeline.toString());
 
-          long t = System.currentTimeMillis();
+    } finally {
+      try {
+        if (dataSource != null)
+          dataSource.close();
+      } catch (Exception e) {
+        log.write(e);
+      }
 
-          dataBucket.predictions = predictors.computePredictions(dataBucket.predictionRequests, es);
+      try {
+        if (dataSink != null)
+          dataSink.close();
+      } catch (Exception e) {
+        log.write(e);
+      }
 
-          long dt = System.currentTimeMillis() - t;
+      try {
+        if (es != null && shutdownEs)
+          es.shutdown();
+      } catch (Exception e) {
+        log.write(e);
+      }
+    }
+  }
 
-          if (log.isOutputOn())
-            log.write(String.format("Processed %6d predictions in %s, %1.3f msec/ray%n",
-                dataBucket.predictions.size(), Globals.elapsedTime(t),
-                dt * 1e-3 / dataBucket.predictions.size()));
-        } else {
-          int npoints = dataBucket.points.size();
+  /**
+   * Compute the predictions requested by a single Bucket and store the results in the Bucket.
+   * This is the compute stage of the predictions pipeline.
+   */
+  private void computePredictions(Bucket dataBucket, PredictorFactory predictors,
+      ExecutorService es, ParallelBroker broker) throws Exception {
+    if (dataSink instanceof DataSinkDB) {
+      // database output is a special case because it needs the
+      // name of the model that produced predictions.
+      // Compute and return predictions instead of modelValues.
 
-          List<PredictionRequest> reqs = new LinkedList<>();
+      long t = System.currentTimeMillis();
 
-          for (int i = 0; i < npoints; ++i) {
-            Source s = new Source(dataBucket.points.get(i),
-                dataBucket.time.get(dataBucket.time.size() == 1 ? 0 : i));
-            Receiver r = dataBucket.receivers.get(dataBucket.receivers.size() == 1 ? 0 : i);
+      dataBucket.predictions = predictors.computePredictions(dataBucket.predictionRequests, es);
 
-            SeismicPhase phase = dataBucket.phases.get(dataBucket.phases.size() == 1 ? 0 : i);
-            reqs.add(new PredictionRequest(i, r, s, phase, predictionAttributes, true));
-          }
+      long dt = System.currentTimeMillis() - t;
 
+      if (log.isOutputOn())
+        log.write(String.format("Processed %6d predictions in %s, %1.3f msec/ray%n",
+            dataBucket.predictions.size(), Globals.elapsedTime(t),
+            dt * 1e-3 / dataBucket.predictions.size()));
+    } else {
+      int npoints = dataBucket.points.size();
 
-          if (log.isOutputOn())
-            log.writef("Computing %d predictions...%n", reqs.size());
+      List<PredictionRequest> reqs = new LinkedList<>();
 
-          long t = System.currentTimeMillis();
+      for (int i = 0; i < npoints; ++i) {
+        Source s = new Source(dataBucket.points.get(i),
+            dataBucket.time.get(dataBucket.time.size() == 1 ? 0 : i));
+        Receiver r = dataBucket.receivers.get(dataBucket.receivers.size() == 1 ? 0 : i);
 
-          ArrayList<Prediction> predictions = predictors.computePredictions(reqs, es);
+        SeismicPhase phase = dataBucket.phases.get(dataBucket.phases.size() == 1 ? 0 : i);
+        reqs.add(new PredictionRequest(i, r, s, phase, predictionAttributes, true));
+      }
 
-          // if user requested tt_delta_* the predictor will compute tt_path_correction but
-          // not tt_delta_*. As far as libcorr3d is concerned, they are the same thing so
-          // just copy tt_path_correction into tt_delta_*
-          GeoAttributes attr;
-          if (outputAttributes.contains((attr = GeoAttributes.TT_PATH_CORRECTION))) {
-            for (Prediction prediction : predictions) {
-              double ttpathcorr = prediction.getAttribute(GeoAttributes.TT_PATH_CORRECTION);
 
-              if (ttpathcorr != Globals.NA_VALUE) {
-                if (prediction.getAttribute(attr) == Globals.NA_VALUE)
-                  prediction.setAttribute(attr, ttpathcorr);
-              }
-            }
-          }
+      if (log.isOutputOn())
+        log.writef("Computing %d predictions...%n", reqs.size());
 
-          if (log.isOutputOn()) {
-            int nvalid = 0;
-            for (Prediction prediction : predictions) {
-              if (prediction.getErrorMessage().length() > 0
-                  && !prediction.getErrorMessage().contains("Extrapolated point in hole of curve")
-                  && !prediction.getErrorMessage().contains("ray diffracts along the CMB"))
-                log.writeln(prediction.getErrorMessage());
-              if (prediction.isValid())
-                ++nvalid;
-            }
+      long t = System.currentTimeMillis();
 
-            log.write(String.format("Processed %d predictions, %d valid, %d invalid, in %s%n",
-                predictions.size(), nvalid, (predictions.size() - nvalid), Globals.elapsedTime(t)));
-          }
+      ArrayList<Prediction> predictions = predictors.computePredictions(reqs, es);
 
-          if (outputAttributes.contains(GeoAttributes.RAY_PATH)) {
-            dataBucket.rayPaths = new ArrayList<ArrayList<GeoVector>>(npoints);
-            for (int i = 0; i < npoints; ++i)
-              dataBucket.rayPaths.add(null);
+      // if user requested tt_delta_* the predictor will compute tt_path_correction but
+      // not tt_delta_*. As far as libcorr3d is concerned, they are the same thing so
+      // just copy tt_path_correction into tt_delta_*
+      GeoAttributes attr;
+      if (outputAttributes.contains((attr = GeoAttributes.TT_PATH_CORRECTION))) {
+        for (Prediction prediction : predictions) {
+          double ttpathcorr = prediction.getAttribute(GeoAttributes.TT_PATH_CORRECTION);
 
-            for (Prediction prediction : predictions)
-              if (prediction instanceof RayInfo)
-                dataBucket.rayPaths.set((int) prediction.getObservationId(),
-                    ((RayInfo) prediction).getRayPath());
+          if (ttpathcorr != Globals.NA_VALUE) {
+            if (prediction.getAttribute(attr) == Globals.NA_VALUE)
+              prediction.setAttribute(attr, ttpathcorr);
+          }
+        }
+      }
 
-            dataBucket.positionParameters = bucket.positionParameters;
-          } else {
-            dataBucket.modelValues = new double[npoints][outputAttributes.size() + 1];
-            dataBucket.rayTypes = new RayType[npoints];
+      if (log.isOutputOn()) {
+        int nvalid = 0;
+        for (Prediction prediction : predictions) {
+          if (prediction.getErrorMessage().length() > 0
+              && !prediction.getErrorMessage().contains("Extrapolated point in hole of curve")
+              && !prediction.getErrorMessage().contains("ray diffracts along the CMB"))
+            log.writeln(prediction.getErrorMessage());
+          if (prediction.isValid())
+            ++nvalid;
+        }
 
-            for (Prediction prediction : predictions) {
-              double[] values = dataBucket.modelValues[(int) prediction.getObservationId()];
+        log.write(String.format("Processed %d predictions, %d valid, %d invalid, in %s%n",
+            predictions.size(), nvalid, (predictions.size() - nvalid), Globals.elapsedTime(t)));
+      }
 
-              values[0] = prediction.getSource().getDepth();
-              for (int k = 0; k < outputAttributes.size(); ++k)
-                values[k + 1] = prediction.getAttribute(outputAttributes.get(k));
+      if (outputAttributes.contains(GeoAttributes.RAY_PATH)) {
+        dataBucket.rayPaths = new ArrayList<ArrayList<GeoVector>>(npoints);
+        for (int i = 0; i < npoints; ++i)
+          dataBucket.rayPaths.add(null);
 
-              dataBucket.rayTypes[(int) prediction.getObservationId()] = prediction.getRayType();
-            }
+        for (Prediction prediction : predictions)
+          if (prediction instanceof RayInfo)
+            dataBucket.rayPaths.set((int) prediction.getObservationId(),
+                ((RayInfo) prediction).getRayPath());
 
-            // see if user requested tt_path_corrections
-            int ttid = outputAttributes.indexOf(GeoAttributes.TT_PATH_CORRECTION);
-
-            if (properties.getProperty(PROP_PREDICTORS, "").contains("lookup2d") && properties
-                .getProperty("lookup2dPathCorrectionsType", "").toLowerCase().contains("libcorr"))
-              ttid = -1;
-
-            if (ttid >= 0) {
-              // the predictions contain computed travel times, not TT_PATH_CORRECTION
-              // we need to compute ak135 travel times and subtract them from
-              // predicted travel times.
-              PredictorFactory basePredictors =
-                  new PredictorFactory(properties, PROP_BASE_MODEL_PREDICTOR);
-              // ArrayList<Prediction> ak135Predictions = ak135Predictor.computePredictions(reqs,
-              // es);
-              ArrayList<Prediction> refPredictions = basePredictors.computePredictions(predictions
-                  .stream().map(Prediction::getPredictionRequest).collect(Collectors.toList()), es);
-
-              double tta, ttb;
-              int nRays = 0, nValid = 0;
-
-              for (int idx = 0; idx < predictions.size(); idx++) {
-                Prediction prediction = predictions.get(idx);
-                double[] values = dataBucket.modelValues[(int) prediction.getObservationId()];
-
-                values[ttid + 1] = Double.NaN;
-                tta = prediction.getAttribute(GeoAttributes.TRAVEL_TIME);
-                if (!Double.isNaN(tta) && tta != Globals.NA_VALUE) {
-                  ++nRays;
-
-                  ttb = refPredictions.get(idx).getAttribute(GeoAttributes.TRAVEL_TIME);
-                  if (!Double.isNaN(ttb) && ttb != Globals.NA_VALUE) {
-                    ++nValid;
-                    values[ttid + 1] = tta - ttb;
-                  }
-                }
-              }
+        dataBucket.positionParameters = bucket.positionParameters;
+      } else {
+        dataBucket.modelValues = new double[npoints][outputAttributes.size() + 1];
+        dataBucket.rayTypes = new RayType[npoints];
 
-              if (log.isOutputOn())
-                log.writef("%nPredictions computed in %s. %d of %d predictions were valid",
-                    Globals.elapsedTime(t), nValid, nRays);
-            }
-
-            if (outputAttributes.contains(GeoAttributes.TT_MODEL_UNCERTAINTY)) {
-              // see if we are to compute path dependent uncertainties using RayUncertainty
-              String benderUncertaintyType =
-                  properties.getProperty("benderUncertaintyType", "").toLowerCase();
+        for (Prediction prediction : predictions) {
+          double[] values = dataBucket.modelValues[(int) prediction.getObservationId()];
 
-              if (benderUncertaintyType.contains("path")
-                  && benderUncertaintyType.contains("dependent")) {
-                // Set all model uncertainty values to NaN.
-                int uid = outputAttributes.indexOf(GeoAttributes.TT_MODEL_UNCERTAINTY) + 1;
-                for (int k = 0; k < dataBucket.modelValues.length; ++k)
-                  dataBucket.modelValues[k][uid] = Double.NaN;
+          values[0] = prediction.getSource().getDepth();
+          for (int k = 0; k < outputAttributes.size(); ++k)
+            values[k + 1] = prediction.getAttribute(outputAttributes.get(k));
 
-                // if (log.isOutputOn())
-                log.writeln("PCalc calling RayUncertainty...");
-
-                // compute path dependent ray uncertainty from a tomographic model
-                // covariance matrix
-                new RayUncertaintyPCalc().run(this, dataBucket, broker);
+          dataBucket.rayTypes[(int) prediction.getObservationId()] = prediction.getRayType();
+        }
 
+        // see if user requested tt_path_corrections
+        int ttid = outputAttributes.indexOf(GeoAttributes.TT_PATH_CORRECTION);
+
+        if (properties.getProperty(PROP_PREDICTORS, "").contains("lookup2d") && properties
+            .getProperty("lookup2dPathCorrectionsType", "").toLowerCase().contains("libcorr"))
+          ttid = -1;
+
+        if (ttid >= 0) {
+          // the predictions contain computed travel times, not TT_PATH_CORRECTION
+          // we need to compute ak135 travel times and subtract them from
+          // predicted travel times.
+          PredictorFactory basePredictors =
+              new PredictorFactory(properties, PROP_BASE_MODEL_PREDICTOR);
+          // ArrayList<Prediction> ak135Predictions = ak135Predictor.computePredictions(reqs,
+          // es);
+          ArrayList<Prediction> refPredictions = basePredictors.computePredictions(predictions
+              .stream().map(Prediction::getPredictionRequest).collect(Collectors.toList()), es);
+
+          double tta, ttb;
+          int nRays = 0, nValid = 0;
+
+          for (int idx = 0; idx < predictions.size(); idx++) {
+            Prediction prediction = predictions.get(idx);
+            double[] values = dataBucket.modelValues[(int) prediction.getObservationId()];
+
+            values[ttid + 1] = Double.NaN;
+            tta = prediction.getAttribute(GeoAttributes.TRAVEL_TIME);
+            if (!Double.isNaN(tta) && tta != Globals.NA_VALUE) {
+              ++nRays;
+
+              ttb = refPredictions.get(idx).getAttribute(GeoAttributes.TRAVEL_TIME);
+              if (!Double.isNaN(ttb) && ttb != Globals.NA_VALUE) {
+                ++nValid;
+                values[ttid + 1] = tta - ttb;
               }
             }
           }
+
+          if (log.isOutputOn())
+            log.writef("%nPredictions computed in %s. %d of %d predictions were valid",
+                Globals.elapsedTime(t), nValid, nRays);
         }
-        dataSink.writeData(dataBucket);
-      }
 
-    } finally {
-      try {
-        if (dataSource != null)
-          dataSource.close();
-      } catch (Exception e) {
-        log.write(e);
-      }
+        if (outputAttributes.contains(GeoAttributes.TT_MODEL_UNCERTAINTY)) {
+          // see if we are to compute path dependent uncertainties using RayUncertainty
+          String benderUncertaintyType =
+              properties.getProperty("benderUncertaintyType", "").toLowerCase();
 
-      try {
-        if (dataSink != null)
-          dataSink.close();
-      } catch (Exception e) {
-        log.write(e);
-      }
+          if (benderUncertaintyType.contains("path")
+              && benderUncertaintyType.contains("dependent")) {
+            // Set all model uncertainty values to NaN.
+            int uid = outputAttributes.indexOf(GeoAttributes.TT_MODEL_UNCERTAINTY) + 1;
+            for (int k = 0; k < dataBucket.modelValues.length; ++k)
+              dataBucket.modelValues[k][uid] = Double.NaN;
 
-      try {
-        if (es != null && shutdownEs)
-          es.shutdown();
-      } catch (Exception e) {
-        log.write(e);
+            // if (log.isOutputOn())
+            log.writeln("PCalc calling RayUncertainty...");
+
+            // compute path dependent ray uncertainty from a tomographic model
+            // covariance matrix
+            new RayUncertaintyPCalc().run(this, dataBucket, broker);
+
+          }
+        }
       }
     }
   }
 
   public void queryModel() throws Exception {
+    queryModel(null);
+  }
+
+  /**
+   * Interpolate the requested outputAttributes from the geotessModel at every point supplied by the
+   * DataSource. Each Bucket is split into contiguous chunks of points that are processed
+   * concurrently by up to maxProcessors threads, each thread reusing a single GeoTessPosition.
+   * Every chunk writes its own rows of bucket.modelValues so output order is unchanged.
+   * 
+   * @param es the ExecutorService that will process the chunks. If null, and maxProcessors is
+   *        greater than one, a thread pool is created for the duration of this call.
+   * @throws Exception
+   */
+  public void queryModel(ExecutorService es) throws Exception {
     // deal with outputAttributes
 
     boolean setLibCorr3dDefaults =
@@ -1017,43 +1045,111 @@ public class PCalc {
             requestedAttribute, geoTessModel.getMetaData().getAttributeNamesString()));
     }
 
-    bucket = new Bucket();
+    int procs = properties.getInt("maxProcessors", Runtime.getRuntime().availableProcessors());
 
-    dataSource = DataSource.getDataSource(this);
+    if (log.isOutputOn())
+      log.write(String.format("Requested %d of %d available processors%n%n", procs,
+          Runtime.getRuntime().availableProcessors()));
 
-    dataSink = DataSink.getDataSink(this);
+    boolean shutdownEs = false;
+    if (es == null && procs > 1) {
+      es = Executors.newFixedThreadPool(procs);
+      shutdownEs = true;
+    }
 
-    while (dataSource.hasNext()) {
-      long timer = System.currentTimeMillis();
+    // one GeoTessPosition per thread, reused for every chunk that the thread processes.
+    ThreadLocal<GeoTessPosition> positions = ThreadLocal.withInitial(() -> {
+      try {
+        return geoTessModel.getGeoTessPosition();
+      } catch (GeoTessException e) {
+        throw new RuntimeException(e);
+      }
+    });
 
-      Bucket bucket = dataSource.next();
+    try {
+      bucket = new Bucket();
 
-      bucket.modelValues = new double[bucket.points.size()][outputAttributes.size() + 1];
+      dataSource = DataSource.getDataSource(this);
 
-      for (int i = 0; i < bucket.points.size(); ++i) {
-        GeoVectorLayer gv = bucket.points.get(i);
-        bucket.modelValues[i][0] = gv.getDepth();
-        GeoTessPosition profile = getGeoTessModel().getGeoTessPosition();
-        profile.set(gv.getLayerIndex(), gv.getLatDegrees(), gv.getLonDegrees(), gv.getDepth());
+      dataSink = DataSink.getDataSink(this);
 
-        for (int k = 0; k < outputAttributes.size(); ++k) {
-          bucket.modelValues[i][k + 1] = profile.getValue(outputAttributesIndex[k]);
-          if (invertAttribute[k])
-            bucket.modelValues[i][k + 1] = 1. / bucket.modelValues[i][k + 1];
+      ExecutorService pool = es;
+      BucketPipeline pipeline = new BucketPipeline(properties);
+      pipeline.run(dataSource, bucket -> {
+        long timer = System.currentTimeMillis();
+
+        int n = bucket.points.size();
+        bucket.modelValues = new double[n][outputAttributes.size() + 1];
+
+        // split the bucket into a few chunks per thread so that threads that finish early can
+        // pick up remaining work.
+        int nChunks = pool == null ? 1 : Math.min(procs * 4, Math.max(1, n / 1000));
+        if (nChunks == 1)
+          queryModel(positions.get(), bucket, 0, n, outputAttributesIndex, invertAttribute);
+        else {
+          List<Future<?>> futures = new ArrayList<>(nChunks);
+          for (int c = 0; c < nChunks; ++c) {
+            int from = (int) ((long) n * c / nChunks);
+            int to = (int) ((long) n * (c + 1) / nChunks);
+            futures.add(pool.submit(() -> {
+              queryModel(positions.get(), bucket, from, to, outputAttributesIndex,
+                  invertAttribute);
+              return null;
+            }));
+          }
+          for (Future<?> f : futures)
+            f.get();
         }
-      }
 
+        if (log.isOutputOn())
+          log.write(String.format("PCalc processed %d queries in %s%n", n,
+              Globals.elapsedTime(timer)));
+      }, dataSink);
 
       if (log.isOutputOn())
-        log.write(String.format("PCalc processed %d queries in %s%n", bucket.points.size(),
-            Globals.elapsedTime(timer)));
+        log.write(pipeline.toString());
+
+      dataSource.close();
+      dataSink.close();
+    } finally {
+      if (shutdownEs)
+        es.shutdown();
+    }
+  }
 
-      dataSink.writeData(bucket);
+  /**
+   * Interpolate model values at points [from, to) of the bucket and store them in the
+   * corresponding rows of bucket.modelValues.
+   */
+  private void queryModel(GeoTessPosition position, Bucket bucket, int from, int to,
+      int[] outputAttributesIndex, boolean[] invertAttribute) throws GeoTessException {
+    int n = to - from;
+    int nAttributes = outputAttributesIndex.length;
+
+    int[] layers = new int[n];
+    double[] lats = new double[n];
+    double[] lons = new double[n];
+    double[] depths = new double[n];
+    for (int i = 0; i < n; ++i) {
+      GeoVectorLayer gv = bucket.points.get(from + i);
+      layers[i] = gv.getLayerIndex();
+      lats[i] = gv.getLatDegrees();
+      lons[i] = gv.getLonDegrees();
+      depths[i] = gv.getDepth();
     }
 
-    dataSource.close();
-    dataSink.close();
+    double[] values = new double[n * nAttributes];
+    position.getValues(layers, lats, lons, depths, outputAttributesIndex, false, values);
 
+    for (int i = 0; i < n; ++i) {
+      double[] row = bucket.modelValues[from + i];
+      row[0] = depths[i];
+      for (int k = 0; k < nAttributes; ++k) {
+        row[k + 1] = values[i * nAttributes + k];
+        if (invertAttribute[k])
+          row[k + 1] = 1. / row[k + 1];
+      }
+    }
   }
 
   /**
@@ -0,0 +1,378 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.predictorfactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import gov.sandia.gmp.baseobjects.PropertiesPlusGMP;
+import gov.sandia.gmp.baseobjects.Receiver;
+import gov.sandia.gmp.baseobjects.Source;
+import gov.sandia.gmp.baseobjects.globals.GeoAttributes;
+import gov.sandia.gmp.baseobjects.globals.RayType;
+import gov.sandia.gmp.baseobjects.globals.SeismicPhase;
+import gov.sandia.gmp.baseobjects.interfaces.PredictorType;
+import gov.sandia.gmp.baseobjects.interfaces.impl.Prediction;
+import gov.sandia.gmp.baseobjects.interfaces.impl.PredictionRequest;
+import gov.sandia.gmp.util.containers.hash.maps.HashMapIntegerDouble;
+
+/**
+ * A bounded cache of Prediction objects that allows PredictorFactory to skip calls to
+ * Predictor.getPrediction() for requests that have been computed before. Entries are keyed on
+ * <ul>
+ * <li>the receiver id, station name and position,
+ * <li>the source position, quantized to predictorFactory.predictionCachePositionTolerance km,
+ * <li>the source origin time, quantized to predictorFactory.predictionCacheTimeTolerance seconds,
+ * <li>the phase, the requested attributes, the defining flag and the period,
+ * <li>the model identity, which is the PredictorType plus the values of all properties whose keys
+ * start with the lower case name of the PredictorType (benderModel, lookup2dModel, etc.) and the
+ * earthShape.
+ * </ul>
+ * Entries are evicted in least-recently-used order once the estimated memory footprint of the
+ * cached Predictions exceeds predictorFactory.predictionCacheMaxMemory megabytes. Predictions
+ * whose RayType is ERROR are not cached, since the error may be transient.
+ * <p>
+ * If property predictorFactory.predictionCacheFile is specified, the contents of the cache are
+ * read from that file when the cache is created and written back to it by save(), which
+ * PredictorFactory.close() calls.
+ * <p>
+ * Instances are shared by all PredictorFactory objects constructed with equal properties. Use
+ * getPredictionCache(properties) to retrieve one. Like the Predictors cached by PredictorFactory,
+ * at most PredictorFactory.getMaxCacheSize() instances are retained; the least recently used
+ * ones are discarded beyond that.
+ */
+public class PredictionCache {
+
+  public static final String PROP_ENABLED = "predictorFactory.predictionCache";
+  public static final String PROP_MAX_MEMORY = "predictorFactory.predictionCacheMaxMemory";
+  public static final String PROP_POSITION_TOLERANCE =
+      "predictorFactory.predictionCachePositionTolerance";
+  public static final String PROP_TIME_TOLERANCE = "predictorFactory.predictionCacheTimeTolerance";
+  public static final String PROP_FILE = "predictorFactory.predictionCacheFile";
+
+  /**
+   * Mimics a Map from PropertiesPlusGMP object -> PredictionCache, bounded the same way as
+   * PredictorFactory's Predictor caches. Predictors may modify the properties they are given,
+   * after which an entry can no longer be found; the bound ensures that such orphaned entries,
+   * and the memory they hold, are eventually released.
+   */
+  private static final Cache<PropertiesPlusGMP, PredictionCache> instances =
+      Caffeine.newBuilder().maximumSize(PredictorFactory.getMaxCacheSize()).build();
+
+  /**
+   * Retrieve the PredictionCache associated with the specified properties, creating it if
+   * necessary. Returns null if property predictorFactory.predictionCache is false, which is the
+   * default.
+   * 
+   * @param properties
+   * @return the PredictionCache or null.
+   * @throws Exception if the cache file exists but cannot be read.
+   */
+  public static synchronized PredictionCache getPredictionCache(PropertiesPlusGMP properties)
+      throws Exception {
+    if (!properties.getBoolean(PROP_ENABLED, false))
+      return null;
+    PredictionCache cache = instances.getIfPresent(properties);
+    if (cache == null)
+      instances.put(properties, cache = new PredictionCache(properties));
+    return cache;
+  }
+
+  /**
+   * Discard all PredictionCache instances. Their contents are not saved.
+   */
+  public static synchronized void clearPredictionCaches() {
+    instances.invalidateAll();
+  }
+
+  private final PropertiesPlusGMP properties;
+
+  private final Cache<Key, Prediction> cache;
+
+  /**
+   * Quantum of source position in km. If zero, positions must match exactly.
+   */
+  private final double positionTolerance;
+
+  /**
+   * Quantum of origin time in seconds. If zero, origin time is not part of the key.
+   */
+  private final double timeTolerance;
+
+  private final File file;
+
+  /**
+   * Map from PredictorType to the String that identifies the model used by that PredictorType.
+   */
+  private final EnumMap<PredictorType, String> modelIds = new EnumMap<>(PredictorType.class);
+
+  private PredictionCache(PropertiesPlusGMP properties) throws Exception {
+    this.properties = properties;
+    this.positionTolerance = properties.getDouble(PROP_POSITION_TOLERANCE, 0.);
+    this.timeTolerance = properties.getDouble(PROP_TIME_TOLERANCE, 0.);
+    this.file = properties.getFile(PROP_FILE);
+
+    long maxBytes = (long) (properties.getDouble(PROP_MAX_MEMORY, 256.) * 1024 * 1024);
+    this.cache = Caffeine.newBuilder().maximumWeight(maxBytes)
+        .weigher((Key k, Prediction p) -> weigh(p)).recordStats().build();
+
+    if (file != null && file.exists())
+      load(file);
+  }
+
+  /**
+   * Return a copy of the cached Prediction for the specified request, or null if there is none.
+   * The copy refers to the specified request, not the request that originally produced it.
+   * 
+   * @param request
+   * @param predictorType the PredictorType that would compute the prediction.
+   * @return a copy of the cached Prediction or null.
+   */
+  public Prediction get(PredictionRequest request, PredictorType predictorType) {
+    Prediction p = cache.getIfPresent(getKey(request, predictorType));
+    return p == null ? null : p.copy(request);
+  }
+
+  /**
+   * Store a copy of the specified Prediction, which was computed for the specified request.
+   * 
+   * @param request
+   * @param predictorType the PredictorType that computed the prediction.
+   * @param prediction
+   */
+  public void put(PredictionRequest request, PredictorType predictorType, Prediction prediction) {
+    if (prediction != null && prediction.getRayType() != RayType.ERROR)
+      cache.put(getKey(request, predictorType), prediction.copy(request));
+  }
+
+  /**
+   * Write the contents of the cache to predictorFactory.predictionCacheFile. Does nothing if that
+   * property was not specified.
+   * 
+   * @throws IOException
+   */
+  public void save() throws IOException {
+    if (file == null)
+      return;
+    if (file.getParentFile() != null)
+      file.getParentFile().mkdirs();
+    Map<Key, Prediction> map = cache.asMap();
+    try (ObjectOutputStream out = new ObjectOutputStream(
+        new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeInt(map.size());
+      for (Map.Entry<Key, Prediction> e : map.entrySet()) {
+        out.writeObject(e.getKey());
+        out.writeObject(e.getValue());
+      }
+    }
+  }
+
+  private void load(File f) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in =
+        new ObjectInputStream(new BufferedInputStream(new FileInputStream(f)))) {
+      int n = in.readInt();
+      for (int i = 0; i < n; ++i) {
+        Key key = (Key) in.readObject();
+        Prediction prediction = (Prediction) in.readObject();
+        cache.put(key, prediction);
+      }
+    }
+  }
+
+  /**
+   * Discard all entries. Statistics are not reset.
+   */
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * @return the number of cached Predictions.
+   */
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  public long getHitCount() {
+    return cache.stats().hitCount();
+  }
+
+  public long getMissCount() {
+    return cache.stats().missCount();
+  }
+
+  public long getEvictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  /**
+   * @return estimated memory footprint of the cached Predictions in bytes.
+   */
+  public long getMemory() {
+    return cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+  }
+
+  @Override
+  public String toString() {
+    CacheStats s = cache.stats();
+    return String.format(
+        "PredictionCache: %d entries, %1.1f MB, %d hits, %d misses, hit rate %1.2f%%, %d evictions",
+        size(), getMemory() / (1024. * 1024.), s.hitCount(), s.missCount(), 100. * s.hitRate(),
+        s.evictionCount());
+  }
+
+  /**
+   * Rough estimate of the number of bytes of memory occupied by a Prediction.
+   */
+  private static int weigh(Prediction p) {
+    long bytes = 512 + 64L * (p.getAttributes().size() + p.getAttributesLong().size()
+        + p.getAttributesBoolean().size() + p.getAttributesString().size());
+    if (p.getRayPath() != null)
+      bytes += 96L * p.getRayPath().size();
+    for (HashMapIntegerDouble w : p.getRayWeights().values())
+      bytes += 32L * w.size();
+    return (int) Math.min(Integer.MAX_VALUE, bytes);
+  }
+
+  private synchronized String getModelId(PredictorType predictorType) {
+    String id = modelIds.get(predictorType);
+    if (id == null) {
+      String prefix = predictorType.name().toLowerCase();
+      TreeMap<String, String> relevant = new TreeMap<>();
+      for (String k : properties.stringPropertyNames())
+        if (k.toLowerCase().startsWith(prefix) || k.equals("earthShape"))
+          relevant.put(k, properties.getProperty(k));
+      modelIds.put(predictorType, id = predictorType.name() + relevant.toString());
+    }
+    return id;
+  }
+
+  private Key getKey(PredictionRequest request, PredictorType predictorType) {
+    return new Key(getModelId(predictorType), request, positionTolerance, timeTolerance);
+  }
+
+  /**
+   * The information in a PredictionRequest that determines the resulting Prediction.
+   */
+  private static class Key implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String modelId;
+    private final String sta;
+    private final long receiverId;
+    private final long rx, ry, rz, rr;
+    private final long sx, sy, sz;
+    private final long time;
+    private final SeismicPhase phase;
+    private final EnumSet<GeoAttributes> attributes;
+    private final boolean defining;
+    private final long period;
+    private final int hash;
+
+    Key(String modelId, PredictionRequest request, double positionTolerance,
+        double timeTolerance) {
+      this.modelId = modelId;
+
+      Receiver receiver = request.getReceiver();
+      this.sta = receiver.getSta();
+      this.receiverId = receiver.getReceiverId();
+      double[] u = receiver.getUnitVector();
+      rx = Double.doubleToLongBits(u[0]);
+      ry = Double.doubleToLongBits(u[1]);
+      rz = Double.doubleToLongBits(u[2]);
+      rr = Double.doubleToLongBits(receiver.getRadius());
+
+      Source source = request.getSource();
+      u = source.getUnitVector();
+      double r = source.getRadius();
+      if (positionTolerance > 0.) {
+        sx = Math.round(u[0] * r / positionTolerance);
+        sy = Math.round(u[1] * r / positionTolerance);
+        sz = Math.round(u[2] * r / positionTolerance);
+      } else {
+        // exact match on the 3D position.
+        sx = Double.doubleToLongBits(u[0] * r);
+        sy = Double.doubleToLongBits(u[1] * r);
+        sz = Double.doubleToLongBits(u[2] * r);
+      }
+      time = timeTolerance > 0. ? Math.round(source.getTime() / timeTolerance) : 0L;
+
+      phase = request.getPhase();
+      attributes = request.getRequestedAttributes().clone();
+      defining = request.isDefining();
+      period = Double.doubleToLongBits(request.getPeriod());
+
+      // use ordinals rather than enum hash codes so that hash is the same in every JVM, which
+      // matters when keys are read back from a cache file.
+      int attributeHash = 0;
+      for (GeoAttributes a : attributes)
+        attributeHash = 31 * attributeHash + a.ordinal();
+      hash = Objects.hash(modelId, sta, receiverId, rx, ry, rz, rr, sx, sy, sz, time,
+          phase == null ? -1 : phase.ordinal(), attributeHash, defining, period);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+      if (!(o instanceof Key))
+        return false;
+      Key k = (Key) o;
+      return hash == k.hash && sx == k.sx && sy == k.sy && sz == k.sz && time == k.time
+          && rx == k.rx && ry == k.ry && rz == k.rz && rr == k.rr && receiverId == k.receiverId
+          && defining == k.defining && period == k.period && phase == k.phase
+          && Objects.equals(sta, k.sta) && attributes.equals(k.attributes)
+          && modelId.equals(k.modelId);
+    }
+  }
+
+}
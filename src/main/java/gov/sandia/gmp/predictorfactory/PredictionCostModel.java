@@ -0,0 +1,166 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.predictorfactory;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import gov.sandia.gmp.baseobjects.globals.SeismicPhase;
+import gov.sandia.gmp.baseobjects.interfaces.PredictorType;
+import gov.sandia.gmp.baseobjects.interfaces.impl.PredictionRequest;
+
+/**
+ * Estimates of the time it takes a Predictor to compute a single Prediction, used by
+ * PredictorFactory to schedule the most expensive requests first and to balance the work given to
+ * each thread. Costs of ray tracing predictors such as Bender vary by orders of magnitude with
+ * phase and distance, so estimates are kept per PredictorType, SeismicPhase and 2 degree
+ * source-receiver distance bin.
+ * 
+ * <p>
+ * Estimates are learned online. Every time a Predictor computes a Prediction in this JVM, the
+ * elapsed time is folded into an exponentially weighted average for its bin. Bins that have not
+ * been measured are estimated from the nearest measured bin for the same phase, then from the
+ * average of all measured bins of the PredictorType, and finally from a prior that only increases
+ * with distance. Estimates are shared by all PredictorFactory objects and are safe to read and
+ * update from multiple threads; concurrent updates of the same bin may occasionally be lost, which
+ * is harmless.
+ */
+final class PredictionCostModel {
+
+  /**
+   * Width of the distance bins, in degrees.
+   */
+  private static final double BIN_WIDTH = 2.;
+
+  private static final int NBINS = (int) (180. / BIN_WIDTH) + 1;
+
+  private static final int NPHASES = SeismicPhase.values().length;
+
+  /**
+   * Weight given to each new measurement in the exponentially weighted averages.
+   */
+  private static final double ALPHA = 0.2;
+
+  /**
+   * For each PredictorType, indexed by ordinal, the estimated cost in nanoseconds, stored as raw
+   * long bits, of each phase and distance bin. Zero means the bin has not been measured.
+   */
+  private static final AtomicReferenceArray<AtomicLongArray> costs =
+      new AtomicReferenceArray<>(PredictorType.values().length);
+
+  private PredictionCostModel() {}
+
+  private static AtomicLongArray getCosts(PredictorType predictorType) {
+    AtomicLongArray c = costs.get(predictorType.ordinal());
+    if (c == null) {
+      costs.compareAndSet(predictorType.ordinal(), null, new AtomicLongArray(NPHASES * NBINS));
+      c = costs.get(predictorType.ordinal());
+    }
+    return c;
+  }
+
+  private static int bin(PredictionRequest request) {
+    double d = request.getDistanceDegrees();
+    if (Double.isNaN(d) || d < 0.)
+      return 0;
+    return Math.min(NBINS - 1, (int) (d / BIN_WIDTH));
+  }
+
+  /**
+   * Record the time it took to compute a Prediction for the specified request.
+   * 
+   * @param predictorType
+   * @param request
+   * @param nanoseconds
+   */
+  static void record(PredictorType predictorType, PredictionRequest request, long nanoseconds) {
+    if (nanoseconds <= 0)
+      return;
+    AtomicLongArray c = getCosts(predictorType);
+    int i = request.getPhase().ordinal() * NBINS + bin(request);
+    double old = Double.longBitsToDouble(c.get(i));
+    c.set(i, Double.doubleToRawLongBits(
+        old == 0. ? nanoseconds : old + ALPHA * (nanoseconds - old)));
+  }
+
+  /**
+   * Estimate the time, in nanoseconds, that it will take a Predictor of the specified type to
+   * compute a Prediction for each of the specified requests. Estimates are always positive.
+   * 
+   * @param predictorType
+   * @param requests
+   * @return estimated cost of each request, in nanoseconds
+   */
+  static double[] estimate(PredictorType predictorType, List<PredictionRequest> requests) {
+    AtomicLongArray c = getCosts(predictorType);
+
+    // average of all measured bins, relative to the prior, for bins of phases that have never been
+    // measured.
+    double sum = 0.;
+    int n = 0;
+    for (int i = 0; i < c.length(); ++i) {
+      double x = Double.longBitsToDouble(c.get(i));
+      if (x > 0.) {
+        sum += x / prior(i % NBINS);
+        ++n;
+      }
+    }
+    double scale = n == 0 ? 1. : sum / n;
+
+    double[] estimates = new double[requests.size()];
+    for (int r = 0; r < estimates.length; ++r) {
+      PredictionRequest request = requests.get(r);
+      int bin = bin(request);
+      int first = request.getPhase().ordinal() * NBINS;
+      estimates[r] = prior(bin) * scale;
+
+      // nearest measured bin for the same phase
+      for (int k = 0; bin - k >= 0 || bin + k < NBINS; ++k) {
+        double below = bin - k >= 0 ? Double.longBitsToDouble(c.get(first + bin - k)) : 0.;
+        double above = bin + k < NBINS ? Double.longBitsToDouble(c.get(first + bin + k)) : 0.;
+        if (below > 0. || above > 0.) {
+          estimates[r] = Math.max(below, above);
+          break;
+        }
+      }
+    }
+    return estimates;
+  }
+
+  /**
+   * Relative cost of a bin that has never been measured. Longer rays take longer to compute.
+   */
+  private static double prior(int bin) {
+    return 1. + bin * BIN_WIDTH / 30.;
+  }
+}
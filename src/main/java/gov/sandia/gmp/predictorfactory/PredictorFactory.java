@@ -39,20 +39,36 @@ import java.io.ObjectOutput;
 import java.lang.reflect.InvocationTargetException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import gov.sandia.gmp.baseobjects.PropertiesPlusGMP;
@@ -68,6 +84,7 @@ import gov.sandia.gmp.infrasoundradial2d.InfrasoundRadial2D;
 import gov.sandia.gmp.lookupdz.LookupTablesGMP;
 import gov.sandia.gmp.slbmwrapper.SLBMWrapper;
 import gov.sandia.gmp.surfacewavepredictor.SurfaceWavePredictor;
+import gov.sandia.gmp.util.containers.arraylist.ArrayListLong;
 import gov.sandia.gmp.util.exceptions.GMPException;
 import gov.sandia.gmp.util.globals.Utils;
 import gov.sandia.gmp.util.io.GlobalInputStreamProvider;
@@ -92,6 +109,11 @@ import gov.sandia.gmp.util.propertiesplus.PropertiesPlus;
  * returning all the Prediction objects in an ArrayList. Applications should remember to call
  * clearPredictionRequestQueue() in order to clear the queue after predictions have been retrieved.
  * 
+ * <p>
+ * If property predictorFactory.predictionCache is true, Predictions are memoized in a
+ * PredictionCache so that repeated requests are not recomputed. See PredictionCache for the
+ * related properties.
+ * 
  * @author sballar
  *
  */
@@ -131,6 +153,93 @@ public class PredictorFactory {
     return cache.get(properties);
   }
 
+  /**
+   * Predictor objects that are not thread safe (Bender, BenderLibCorr3D, etc.) cannot be shared by
+   * concurrent threads but are expensive to construct. Idle instances are kept in a pool that
+   * mimics a Map from PredictorType -> PropertiesPlusGMP object -> idle Predictors. A thread
+   * borrows an instance with borrowPredictor(), uses it exclusively, and hands it back with
+   * releasePredictor() so that the next batch of requests can reuse it.
+   */
+  private static Map<PredictorType, Cache<PropertiesPlusGMP, ConcurrentLinkedDeque<Predictor>>> pools =
+      new EnumMap<PredictorType, Cache<PropertiesPlusGMP, ConcurrentLinkedDeque<Predictor>>>(
+          PredictorType.class);
+
+  /**
+   * Maximum number of idle Predictors retained in the pool per PredictorType and
+   * PropertiesPlusGMP object.
+   */
+  private static int maxPoolSize = 2 * Runtime.getRuntime().availableProcessors();
+
+  private static synchronized ConcurrentLinkedDeque<Predictor> getPool(
+      PropertiesPlusGMP properties, PredictorType predictorType) {
+    Cache<PropertiesPlusGMP, ConcurrentLinkedDeque<Predictor>> cache = pools.get(predictorType);
+    if (cache == null) {
+      cache = Caffeine.newBuilder().maximumSize(maxCacheSize).build();
+      pools.put(predictorType, cache);
+    }
+    return cache.get(properties, p -> new ConcurrentLinkedDeque<>());
+  }
+
+  /**
+   * Retrieve a Predictor that the calling thread may use exclusively until it is handed back with
+   * releasePredictor(). For thread safe PredictorTypes this is the shared, cached instance. For
+   * other types an idle instance is taken from the pool, or a new one is instantiated if the pool
+   * is empty.
+   * 
+   * @param properties
+   * @param predictorType
+   * @param logger
+   * @return
+   * @throws Exception
+   */
+  private static Predictor borrowPredictor(PropertiesPlusGMP properties,
+      PredictorType predictorType, ScreenWriterOutput logger) throws Exception {
+    if (predictorType.threadSafe())
+      return getPredictor(properties, predictorType, logger);
+    Predictor predictor = getPool(properties, predictorType).pollFirst();
+    return predictor != null ? predictor
+        : PredictorFactory.instantiatePredictor(properties, predictorType, logger);
+  }
+
+  /**
+   * Return a Predictor obtained from borrowPredictor() so that it can be reused. The calling
+   * thread must not use the Predictor after it has been released.
+   * 
+   * @param properties
+   * @param predictorType
+   * @param predictor
+   */
+  private static void releasePredictor(PropertiesPlusGMP properties, PredictorType predictorType,
+      Predictor predictor) {
+    if (predictor == null || predictorType.threadSafe())
+      return;
+    ConcurrentLinkedDeque<Predictor> pool = getPool(properties, predictorType);
+    // most recently used instances are reused first since their caches are warmest.
+    if (pool.size() < maxPoolSize)
+      pool.offerFirst(predictor);
+  }
+
+  /**
+   * Maximum number of idle Predictors that are not thread safe that will be retained for reuse,
+   * per PredictorType and PropertiesPlusGMP object. Default is twice the number of available
+   * processors.
+   * 
+   * @return maximum pool size
+   */
+  public static int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  /**
+   * Set the maximum number of idle Predictors that are not thread safe that will be retained for
+   * reuse, per PredictorType and PropertiesPlusGMP object.
+   * 
+   * @param poolSize
+   */
+  public static synchronized void setMaxPoolSize(int poolSize) {
+    PredictorFactory.maxPoolSize = poolSize;
+  }
+
   /**
    * Maximum cache size per PredictorType
    */
@@ -179,10 +288,12 @@ public class PredictorFactory {
 
   /**
    * Predictor objects are cached for potential reuse with a default max cache size of 100 per
-   * PredictorType. This method will clear the current contents of the cache.
+   * PredictorType. This method will clear the current contents of the cache, including the pool
+   * of idle Predictors that are not thread safe.
    */
   public static synchronized void clearCache() {
     caches.clear();
+    pools.clear();
   }
 
   public static final String PROP_LOG_ALL_REQUESTS = "predictorFactory.logPredictionRequests";
@@ -205,6 +316,12 @@ public class PredictorFactory {
 
   private boolean logAllRequests;
 
+  /**
+   * Optional cache of previously computed Predictions. Null unless property
+   * predictorFactory.predictionCache is true.
+   */
+  private PredictionCache predictionCache;
+
   /**
    * Default PredictorFactory implements the lookup2d predictor using the default seismicBaseData
    * stored in the project/jar file.
@@ -264,6 +381,7 @@ public class PredictorFactory {
     this.properties = properties;
     this.name = propertyName;
     this.logAllRequests = properties.getBoolean(PROP_LOG_ALL_REQUESTS, false);
+    this.predictionCache = PredictionCache.getPredictionCache(properties);
     parsePredictorMap(propertyName);
   }
 
@@ -289,6 +407,7 @@ public class PredictorFactory {
     this.properties = properties;
     this.name = "";
     this.logAllRequests = properties.getBoolean(PROP_LOG_ALL_REQUESTS, false);
+    this.predictionCache = PredictionCache.getPredictionCache(properties);
     this.phaseToPredictorType = predictors;
 
     if (phaseToPredictorType.isEmpty())
@@ -375,6 +494,14 @@ public class PredictorFactory {
     return properties;
   }
 
+  /**
+   * @return the cache of previously computed Predictions used by this factory, or null if property
+   *         predictorFactory.predictionCache is false.
+   */
+  public PredictionCache getPredictionCache() {
+    return predictionCache;
+  }
+
   /**
    * @return the name of the property used to define predictor types within the Properties object
    *         returned by getProperties()
@@ -738,10 +865,17 @@ public class PredictorFactory {
    */
   public void close() throws Exception {
     for (PredictorType predictorType : getInstantiatedPredictorTypes()) {
+      if (!predictorType.threadSafe()) {
+        ConcurrentLinkedDeque<Predictor> pool = getPool(properties, predictorType);
+        for (Predictor pooled = pool.pollFirst(); pooled != null; pooled = pool.pollFirst())
+          pooled.close();
+      }
       Predictor predictor = getPredictor(predictorType);
       if (predictor != null)
         predictor.close();
     }
+    if (predictionCache != null)
+      predictionCache.save();
   }
 
   /**
@@ -770,9 +904,15 @@ public class PredictorFactory {
       return new Prediction(request, null,
           "PredictorFactory does not support predictions for phase " + request.getPhase().name());
 
+    if (predictionCache != null) {
+      Prediction cached = predictionCache.get(request, predictorType);
+      if (cached != null)
+        return cached;
+    }
+
     Predictor predictor = null;
     try {
-      predictor = getPredictor(properties, predictorType, null);
+      predictor = borrowPredictor(properties, predictorType, null);
     } catch (Exception e) {
       e.printStackTrace();
       return new Prediction(request, getPredictorType(request.getPhase()),
@@ -786,8 +926,13 @@ public class PredictorFactory {
       prediction = predictor.getPrediction(request);
     } catch (Exception e) {
       return new Prediction(request, predictor, e.getMessage());
+    } finally {
+      releasePredictor(properties, predictorType, predictor);
     }
 
+    if (predictionCache != null)
+      predictionCache.put(request, predictorType, prediction);
+
     if (logAllRequests) {
       logger.writeln("[" + new SimpleDateFormat(LOG_TIME_FORMAT).format(new Date()) + "] ["
           + Thread.currentThread().getName() + "] [" + getClass().getCanonicalName()
@@ -800,116 +945,448 @@ public class PredictorFactory {
   /**
    * Computes predictions, in parallel if the supplied ExecutorService is not null, otherwise the
    * predictions are computed in the calling thread.
+   * <p>
+   * When predictions are computed in parallel, requests are scheduled by their estimated cost (see
+   * PredictionCostModel): the most expensive requests are started first and the work is divided so
+   * that every thread gets a similar amount of it. If the ExecutorService is a ForkJoinPool, the
+   * work is split adaptively into ForkJoinTasks that idle threads steal from busy ones. Otherwise
+   * requests are grouped into Tasks of similar estimated cost, with at most
+   * Predictor.getPredictionsPerTask() requests each, which are collected as they complete.
    * 
    * @param predictionRequests requests to compute predictions for
    * @param executorService optional service to compute predictions with (null permitted)
-   * @return list of Predictions computed
+   * @param progress optional. Called in the calling thread every time a group of predictions has
+   *        been completed, with the number of predictions completed so far and the total number
+   *        of predictions.
+   * @return list of Predictions computed, in the same order as predictionRequests.
    * @throws Exception
    */
   public ArrayList<Prediction> computePredictions(
       Collection<? extends PredictionRequest> predictionRequests, ExecutorService executorService,
       BiConsumer<Integer, Integer> progress) {
+    Prediction[] predictions = new Prediction[predictionRequests.size()];
+    ObjLongConsumer<Prediction> sink =
+        (prediction, index) -> predictions[(int) index] = prediction;
+
+    Schedule schedule = new Schedule(executorService);
+    schedule.submit(predictionRequests, 0, sink);
+
+    // deliver the predictions as they are completed.
+    int total = schedule.outstanding, done = 0;
+    while (schedule.outstanding > 0) {
+      Group group = schedule.take();
+      deliver(group, sink);
+      done += group.requests.size();
+      if (progress != null)
+        progress.accept(done, total);
+    }
+    schedule.finish();
 
-    // the list of Predictions that will be returned by this method
-    ArrayList<Prediction> predictions = new ArrayList<Prediction>();
-
-    // split the prediction requests up into separated lists based on PredictorType.
-    Map<PredictorType, List<PredictionRequest>> requestsByType = new EnumMap<>(PredictorType.class);
+    return new ArrayList<Prediction>(Arrays.asList(predictions));
+  }
 
-    for (PredictionRequest request : predictionRequests) {
-      PredictorType preditorType = getPredictorType(request.getPhase());
-      if (preditorType == null)
-        predictions.add(
-            new Prediction(request, null, "PredictorFactory does not support predictions for phase "
-                + request.getPhase().name()));
-      else {
-        List<PredictionRequest> list = requestsByType.get(preditorType);
-        if (list == null)
-          requestsByType.put(preditorType, list = new ArrayList<>());
-        list.add(request);
+  /**
+   * Computes predictions for a stream of requests, handing each Prediction to consumer as soon as
+   * it is available, so that the caller can write or accumulate results while the rest are still
+   * being computed. Requests are pulled from predictionRequests in blocks of about maxInFlight/4
+   * and scheduled exactly like those of computePredictions(Collection, ExecutorService,
+   * BiConsumer). No more than maxInFlight requests are pulled that have not yet been handed to the
+   * consumer, so memory use does not depend on the number of requests.
+   * <p>
+   * If ordered is false, predictions are delivered in the order in which they are completed.
+   * Otherwise they are delivered in the order of their requests; predictions completed ahead of
+   * their turn are held back, and count against maxInFlight, until all predictions for earlier
+   * requests have been delivered.
+   * <p>
+   * consumer is always called in the calling thread. If the calling thread is interrupted, no
+   * further requests are pulled, requests still waiting on the ExecutorService get invalid
+   * predictions and the interrupt is restored before returning. If consumer throws an exception,
+   * it is propagated immediately; work that has already been scheduled is abandoned.
+   * 
+   * @param predictionRequests requests to compute predictions for
+   * @param executorService optional service to compute predictions with (null permitted)
+   * @param maxInFlight maximum number of requests that have been pulled from predictionRequests
+   *        but whose predictions have not yet been handed to consumer. Must be positive.
+   * @param ordered if true, predictions are delivered in the same order as predictionRequests.
+   * @param consumer receives every Prediction exactly once
+   */
+  public void computePredictions(Iterator<? extends PredictionRequest> predictionRequests,
+      ExecutorService executorService, int maxInFlight, boolean ordered,
+      Consumer<? super Prediction> consumer) {
+    if (maxInFlight < 1)
+      throw new IllegalArgumentException("maxInFlight must be positive but was " + maxInFlight);
+
+    // number of predictions handed to consumer, which when ordered is also the index of the next
+    // one to hand over.
+    long[] delivered = new long[1];
+    Map<Long, Prediction> early = new HashMap<>();
+    ObjLongConsumer<Prediction> sink = (prediction, index) -> {
+      if (ordered && index != delivered[0]) {
+        early.put(index, prediction);
+        return;
+      }
+      consumer.accept(prediction);
+      ++delivered[0];
+      while (!early.isEmpty() && (prediction = early.remove(delivered[0])) != null) {
+        consumer.accept(prediction);
+        ++delivered[0];
+      }
+    };
+
+    Schedule schedule = new Schedule(executorService);
+    int blockSize = Math.max(1, maxInFlight / 4);
+    List<PredictionRequest> block = new ArrayList<>(blockSize);
+    long pulled = 0;
+    while (true) {
+      // only pull whole blocks, so that the work is not scattered over many small Tasks.
+      while (!schedule.interrupted && maxInFlight - (pulled - delivered[0]) >= blockSize
+          && predictionRequests.hasNext()) {
+        while (block.size() < blockSize && predictionRequests.hasNext())
+          block.add(predictionRequests.next());
+        schedule.submit(block, pulled, sink);
+        pulled += block.size();
+        block.clear();
       }
+
+      if (schedule.outstanding == 0) {
+        // everything pulled so far has been delivered.
+        if (schedule.interrupted || !predictionRequests.hasNext())
+          break;
+      } else
+        deliver(schedule.take(), sink);
     }
+    schedule.finish();
+  }
 
-    // send all the Arrivals to the Predictor and get back a Collection of
-    // results. The predictor may be able to compute predictions in parallel.
-    Map<Future<List<Prediction>>, Task> fs = new LinkedHashMap<>();
-    for (Entry<PredictorType, List<PredictionRequest>> e : requestsByType.entrySet()) {
-      if (executorService != null) {
-        try {
-          int ppt = getPredictor(e.getKey()).getPredictionsPerTask();
-          int qsize = Math.min(e.getValue().size(), ppt);
-          ArrayList<PredictionRequest> queue = new ArrayList<>(qsize);
-          for (PredictionRequest req : e.getValue()) {
-            queue.add(req);
-            if (queue.size() >= ppt) {
-              Task t = new Task(queue, properties, name);
-              fs.put(executorService.submit(t), t);
-              queue = new ArrayList<>(qsize);
-            }
-          }
+  /**
+   * Convenience method equivalent to
+   * <code>computePredictions(predictionRequests.iterator(), ...)</code>.
+   */
+  public void computePredictions(Stream<? extends PredictionRequest> predictionRequests,
+      ExecutorService executorService, int maxInFlight, boolean ordered,
+      Consumer<? super Prediction> consumer) {
+    computePredictions(predictionRequests.iterator(), executorService, maxInFlight, ordered,
+        consumer);
+  }
 
-          if (!queue.isEmpty()) {
-            Task t = new Task(queue, properties, name);
-            fs.put(executorService.submit(t), t);
-          }
-        } catch (Exception e1) {
-          for (PredictionRequest req : e.getValue()) {
-            predictions.add(new Prediction(req, e.getKey(), e1));
+  /**
+   * Schedules requests on an ExecutorService and collects the resulting groups of predictions as
+   * they are completed. Requests may be submitted in several batches, each one in the calling
+   * thread, interleaved with calls to take().
+   */
+  private class Schedule {
+    private final ExecutorService executorService;
+    private final int parallelism;
+
+    // groups of predictions are added to this queue as they are completed. Without an
+    // ExecutorService, groups are added before they are computed and take() computes them.
+    private final BlockingQueue<Group> completed = new LinkedBlockingQueue<>();
+    private final ExecutorCompletionService<List<Prediction>> completionService;
+    private final Map<Future<List<Prediction>>, Group> submitted = new HashMap<>();
+
+    // number of requests submitted whose group has not yet been returned by take().
+    private int outstanding;
+    private boolean interrupted;
+
+    Schedule(ExecutorService executorService) {
+      this.executorService = executorService;
+      parallelism = executorService instanceof ForkJoinPool
+          ? ((ForkJoinPool) executorService).getParallelism()
+          : executorService instanceof ThreadPoolExecutor
+              ? ((ThreadPoolExecutor) executorService).getMaximumPoolSize()
+              : Runtime.getRuntime().availableProcessors();
+      completionService = executorService == null || executorService instanceof ForkJoinPool
+          ? null
+          : new ExecutorCompletionService<>(executorService);
+    }
+
+    /**
+     * Schedule predictions for requests. Predictions for unsupported phases and predictions found
+     * in the cache are handed to sink immediately; the others are returned by take() once
+     * computed. The request at position i of requests has index firstIndex+i.
+     */
+    void submit(Iterable<? extends PredictionRequest> requests, long firstIndex,
+        ObjLongConsumer<Prediction> sink) {
+
+      // split the prediction requests up into separated lists based on PredictorType,
+      // remembering the index of each request.
+      Map<PredictorType, List<PredictionRequest>> requestsByType =
+          new EnumMap<>(PredictorType.class);
+      Map<PredictorType, ArrayListLong> indexesByType = new EnumMap<>(PredictorType.class);
+
+      Prediction cached;
+      long index = firstIndex;
+      for (PredictionRequest request : requests) {
+        PredictorType preditorType = getPredictorType(request.getPhase());
+        if (preditorType == null)
+          sink.accept(new Prediction(request, null,
+              "PredictorFactory does not support predictions for phase "
+                  + request.getPhase().name()),
+              index);
+        else if (predictionCache != null
+            && (cached = predictionCache.get(request, preditorType)) != null)
+          sink.accept(cached, index);
+        else {
+          List<PredictionRequest> list = requestsByType.get(preditorType);
+          if (list == null) {
+            requestsByType.put(preditorType, list = new ArrayList<>());
+            indexesByType.put(preditorType, new ArrayListLong());
           }
-          // e1.printStackTrace();
+          list.add(request);
+          indexesByType.get(preditorType).add(index);
         }
-      } else {
+        ++index;
+      }
+
+      for (Entry<PredictorType, List<PredictionRequest>> e : requestsByType.entrySet()) {
+        PredictorType predictorType = e.getKey();
+        int n = e.getValue().size();
+        outstanding += n;
+
+        if (executorService == null) {
+          completed.add(new Group(predictorType, e.getValue(),
+              indexesByType.get(predictorType).toArray()));
+          continue;
+        }
+
+        int ppt;
         try {
-          // e is Entry<PredictorType, List<PredictionRequest>>
-          Predictor predictor = getPredictor(properties, e.getKey(), null);
-          for (PredictionRequest request : e.getValue())
-            predictions.add(predictor.getPrediction(request));
+          Predictor p = borrowPredictor(properties, predictorType, null);
+          ppt = Math.max(1, p.getPredictionsPerTask());
+          releasePredictor(properties, predictorType, p);
         } catch (Exception e1) {
-          for (PredictionRequest req : e.getValue()) {
-            predictions.add(new Prediction(req, e.getKey(), e1));
-          }
+          Group group = new Group(predictorType, e.getValue(),
+              indexesByType.get(predictorType).toArray());
+          group.failure = e1;
+          completed.add(group);
+          continue;
+        }
+
+        // order the requests from most to least expensive.
+        double[] estimates = PredictionCostModel.estimate(predictorType, e.getValue());
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; ++i)
+          order[i] = i;
+        Arrays.sort(order, (i, j) -> Double.compare(estimates[j], estimates[i]));
+
+        List<PredictionRequest> sorted = new ArrayList<>(n);
+        long[] indexes = new long[n];
+        double[] cumulativeCost = new double[n + 1];
+        for (int i = 0; i < n; ++i) {
+          sorted.add(e.getValue().get(order[i]));
+          indexes[i] = indexesByType.get(predictorType).get(order[i]);
+          cumulativeCost[i + 1] = cumulativeCost[i] + estimates[order[i]];
+        }
+
+        if (completionService == null) {
+          // fork/join: split adaptively, down to pieces of about 1/8 of a thread's share.
+          double grain = cumulativeCost[n] / (8. * parallelism);
+          ForkTask root = new ForkTask(predictorType, sorted, indexes, cumulativeCost, 0, n,
+              grain, ppt, completed);
+          ForkJoinPool pool = (ForkJoinPool) executorService;
+          if (ForkJoinTask.getPool() == pool)
+            // the calling thread is a worker in the pool. Join the computation rather than
+            // block.
+            root.invoke();
+          else
+            pool.execute(root);
+        } else {
+          // Tasks with about 1/4 of a thread's share of the work, most expensive first.
+          double target = cumulativeCost[n] / (4. * parallelism);
+          int first = 0;
+          for (int i = 1; i <= n; ++i)
+            if (i == n || i - first >= ppt
+                || cumulativeCost[i] - cumulativeCost[first] >= target) {
+              Group group = new Group(predictorType, new ArrayList<>(sorted.subList(first, i)),
+                  Arrays.copyOfRange(indexes, first, i));
+              submitted.put(completionService.submit(new Task(group.requests, properties, name)),
+                  group);
+              first = i;
+            }
         }
       }
     }
 
-    int total = fs.size();
-    int done = 0;
-    for (Future<List<Prediction>> f : fs.keySet()) {
-      Task t = fs.get(f);
-
-      if (progress != null)
-        progress.accept(done, total);
-      try {
-        List<Prediction> ps = f.get();
-        if (ps != null && !ps.isEmpty())
-          predictions.addAll(ps);
-        else {
-          System.err.println("task returned no predictions! (" + ps + ")");
-          if (t != null) {
-            if (t.requests != null)
-              t.requests.forEach(r -> System.err.println(" - " + r));
+    /**
+     * Wait for the next group of predictions to be completed and return it. Must only be called
+     * while outstanding is positive.
+     */
+    Group take() {
+      Group group = null;
+      while (group == null) {
+        try {
+          if (completed.isEmpty() && !submitted.isEmpty()) {
+            Future<List<Prediction>> f = completionService.take();
+            group = submitted.remove(f);
+            try {
+              List<Prediction> ps = f.get();
+              if (ps == null || ps.size() != group.requests.size())
+                throw new IllegalStateException(String.format(
+                    "PredictorFactory task returned %d predictions for %d requests",
+                    ps == null ? 0 : ps.size(), group.requests.size()));
+              group.predictions = ps;
+            } catch (ExecutionException ex) {
+              group.failure = ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+            } catch (IllegalStateException ex) {
+              group.failure = ex;
+            }
+          } else
+            group = completed.take();
+        } catch (InterruptedException ex) {
+          // stop waiting for Tasks; their requests get invalid predictions. ForkTasks are always
+          // allowed to finish. The interrupt is restored by finish().
+          interrupted = true;
+          for (Group g : submitted.values()) {
+            g.failure = ex;
+            completed.add(g);
           }
-          throw new IllegalStateException("PridictorFactory task returned no predictions!");
+          submitted.clear();
         }
-      } catch (Exception e) {
+      }
 
-        for (PredictionRequest pr : t.requests) {
-          Prediction prediction = new Prediction(pr, getPredictorType(pr.getPhase()), e);
-          predictions.add(prediction);
-        }
+      if (group.predictions == null && group.failure == null)
+        group.predictions = computeSerial(group.predictorType, group.requests);
+
+      outstanding -= group.requests.size();
+      return group;
+    }
 
-        // e.printStackTrace();
-        // System.err.println("task threw exception!");
-        // if (t != null) {
-        // if (t.requests != null)
-        // t.requests.forEach(r -> System.out.println(" - " + r));
-        // }
+    /**
+     * Restore the interrupt status of the calling thread if it was interrupted while waiting.
+     */
+    void finish() {
+      if (interrupted)
+        Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Compute predictions for the specified requests in the calling thread, with a single Predictor
+   * borrowed from the pool. The time taken by each prediction is recorded in the
+   * PredictionCostModel.
+   * 
+   * @param predictorType
+   * @param requests
+   * @return predictions, in the same order as requests.
+   */
+  private List<Prediction> computeSerial(PredictorType predictorType,
+      List<PredictionRequest> requests) {
+    ArrayList<Prediction> predictions = new ArrayList<>(requests.size());
+    Predictor predictor = null;
+    try {
+      predictor = borrowPredictor(properties, predictorType, null);
+      for (PredictionRequest request : requests) {
+        long timer = System.nanoTime();
+        Prediction prediction;
+        try {
+          prediction = predictor.getPrediction(request);
+        } catch (Exception e) {
+          prediction = new Prediction(request, predictorType, e);
+        }
+        PredictionCostModel.record(predictorType, request, System.nanoTime() - timer);
+        predictions.add(prediction);
       }
-      done++;
+    } catch (Exception e1) {
+      for (int i = predictions.size(); i < requests.size(); ++i)
+        predictions.add(new Prediction(requests.get(i), predictorType, e1));
+    } finally {
+      releasePredictor(properties, predictorType, predictor);
     }
     return predictions;
   }
 
+  /**
+   * Store the predictions of a completed group in the cache and hand them to sink. If the group
+   * failed, an invalid Prediction is delivered for each of its requests.
+   */
+  private void deliver(Group group, ObjLongConsumer<Prediction> sink) {
+    for (int i = 0; i < group.requests.size(); ++i) {
+      PredictionRequest request = group.requests.get(i);
+      if (group.predictions == null)
+        sink.accept(new Prediction(request, group.predictorType, group.failure), group.indexes[i]);
+      else {
+        Prediction prediction = group.predictions.get(i);
+        if (predictionCache != null)
+          predictionCache.put(request, group.predictorType, prediction);
+        sink.accept(prediction, group.indexes[i]);
+      }
+    }
+  }
+
+  /**
+   * A group of requests for the same PredictorType, the indexes of the requests in the requests
+   * passed to computePredictions(), and their predictions once computed.
+   */
+  private static class Group {
+    final PredictorType predictorType;
+    final List<PredictionRequest> requests;
+    final long[] indexes;
+    List<Prediction> predictions;
+    Exception failure;
+
+    Group(PredictorType predictorType, List<PredictionRequest> requests, long[] indexes) {
+      this.predictorType = predictorType;
+      this.requests = requests;
+      this.indexes = indexes;
+    }
+  }
+
+  /**
+   * Computes predictions for a range of requests sorted from most to least expensive. Ranges whose
+   * estimated cost exceeds grain, or that hold more than predictionsPerTask requests, are split in
+   * two halves of equal estimated cost that are computed by forked tasks, so idle threads of the
+   * ForkJoinPool can steal the expensive end of the work from busy ones. Completed ranges are added
+   * to the completed queue.
+   */
+  @SuppressWarnings("serial")
+  private class ForkTask extends RecursiveAction {
+    private final PredictorType predictorType;
+    private final List<PredictionRequest> requests;
+    private final long[] indexes;
+    private final double[] cumulativeCost;
+    private final int from, to, predictionsPerTask;
+    private final double grain;
+    private final BlockingQueue<Group> completed;
+
+    ForkTask(PredictorType predictorType, List<PredictionRequest> requests, long[] indexes,
+        double[] cumulativeCost, int from, int to, double grain, int predictionsPerTask,
+        BlockingQueue<Group> completed) {
+      this.predictorType = predictorType;
+      this.requests = requests;
+      this.indexes = indexes;
+      this.cumulativeCost = cumulativeCost;
+      this.from = from;
+      this.to = to;
+      this.grain = grain;
+      this.predictionsPerTask = predictionsPerTask;
+      this.completed = completed;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > predictionsPerTask
+          || (to - from > 1 && cumulativeCost[to] - cumulativeCost[from] > grain)) {
+        double half = 0.5 * (cumulativeCost[from] + cumulativeCost[to]);
+        int mid = from + 1;
+        while (mid < to - 1 && cumulativeCost[mid] < half)
+          ++mid;
+        invokeAll(new ForkTask(predictorType, requests, indexes, cumulativeCost, from, mid, grain,
+            predictionsPerTask, completed),
+            new ForkTask(predictorType, requests, indexes, cumulativeCost, mid, to, grain,
+                predictionsPerTask, completed));
+      } else {
+        Group group = new Group(predictorType, requests.subList(from, to),
+            Arrays.copyOfRange(indexes, from, to));
+        try {
+          group.predictions = computeSerial(predictorType, group.requests);
+        } catch (RuntimeException e) {
+          group.failure = e;
+        }
+        completed.add(group);
+      }
+    }
+  }
+
   public ArrayList<Prediction> computePredictions(Collection<? extends PredictionRequest> c,
       ExecutorService es) {
     return computePredictions(c, es, null);
@@ -969,8 +1446,11 @@ public class PredictorFactory {
     public List<Prediction> call() throws Exception {
       try {
         ArrayList<Prediction> output = new ArrayList<>(requests.size());
-        output.addAll(
-            new PredictorFactory(props, propertyName).computePredictions(requests, null, null));
+        PredictorFactory factory = new PredictorFactory(props, propertyName);
+        // the factory that submitted this task has already consulted the cache and will store
+        // the results.
+        factory.predictionCache = null;
+        output.addAll(factory.computePredictions(requests, null, null));
         return output;
       } catch (Exception e) {
         e.printStackTrace();
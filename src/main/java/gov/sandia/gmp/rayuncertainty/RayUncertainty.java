@@ -77,6 +77,7 @@ import gov.sandia.gmp.observationprediction.PredictorParallelTask;
 import gov.sandia.gmp.observationprediction.PredictorParallelTaskResult;
 import gov.sandia.gmp.parallelutils.ParallelBroker;
 import gov.sandia.gmp.parallelutils.ParallelBrokerConcurrent;
+import gov.sandia.gmp.parallelutils.ParallelBrokerSequential;
 import gov.sandia.gmp.parallelutils.ParallelResult;
 import gov.sandia.gmp.rayuncertainty.basecontainers.Observation;
 import gov.sandia.gmp.rayuncertainty.containers.FinalVariancesPhaseSiteMap;
@@ -104,6 +105,7 @@ import gov.sandia.gmp.util.globals.Globals;
 import gov.sandia.gmp.util.globals.Utils;
 import gov.sandia.gmp.util.gui.Utility;
 import gov.sandia.gmp.util.logmanager.ScreenWriterOutput;
+import gov.sandia.gmp.util.numerical.matrixblock.MatrixBlockCache;
 import gov.sandia.gmp.util.numerical.matrixblock.MatrixBlockDefinition;
 import gov.sandia.gmp.util.numerical.matrixblock.MatrixBlockFileServer;
 import gov.sandia.gmp.util.numerical.polygon.Polygon3D;
@@ -846,6 +848,13 @@ public class RayUncertainty {
    */
   private int aGCFrequency = 10;
 
+  /**
+   * RayUncertaintyTask covariance block cache memory budget (bytes) of each JVM executing tasks. If
+   * 0 each task reads and unloads its own block. If negative a quarter of the maximum heap of the
+   * executing JVM is used.
+   */
+  private long aCovBlockCacheSize = -1;
+
   /**
    * An input property setting that closes all GUI's when the solution finishes.
    */
@@ -1060,6 +1069,11 @@ public class RayUncertainty {
 
     aGCFrequency = aProps.getInt("taskGarbageCollectionFrequency", 10);
 
+    // set task covariance block cache memory budget (MB)
+
+    double cacheMB = aProps.getDouble("covarianceBlockCacheSize", -1.0);
+    aCovBlockCacheSize = (cacheMB < 0.0) ? -1 : (long) (cacheMB * 1024 * 1024);
+
     // output header
 
     if (aScrnWrtr.isOutputOn()) {
@@ -3777,6 +3791,8 @@ public class RayUncertainty {
     int totalTasksProcessed = 0;
     int proccesorCountSum = 0;
     long prcNodeCovBlkReadTime = 0;
+    int prcNodeCovBlkCacheHits = 0;
+    int prcNodeCovBlkCacheMisses = 0;
     long prcNodeBlockMapReadTime = 0;
     int prcNodeBlockMapReadCount = 0;
     long prcNodeTotalTime = 0;
@@ -3804,6 +3820,12 @@ public class RayUncertainty {
     final AtomicInteger taskCt = new AtomicInteger(0);
     final Semaphore submitted = new Semaphore(0);
     final Semaphore init = new Semaphore(0);
+    final boolean localBlockCache = (aCovBlockCacheSize != 0)
+        && ((aParallelBrkr instanceof ParallelBrokerSequential)
+            || (aParallelBrkr instanceof ParallelBrokerConcurrent));
+    if (localBlockCache)
+      MatrixBlockCache.getInstance()
+          .setMemoryBudget(RayUncertaintyTask.getBlockCacheBudget(aCovBlockCacheSize));
     // final Set<Integer> c = Collections.synchronizedSet(new TreeSet<>());
     new Thread(() -> {
       // Lazily initialize the broker's task streaming settings, based one whatever the cluster
@@ -3830,11 +3852,15 @@ public class RayUncertainty {
       aParallelBrkr.setMaxBatches(batchLimit);
       // });
 
+      // Tasks executed in this JVM announce their covariance blocks to the block cache first so
+      // that the blocks are read in the background, in task order, ahead of the tasks:
+      Consumer<RayUncertaintyTask> submit = aParallelBrkr::submitBatched;
+      if (localBlockCache)
+        submit = ((Consumer<RayUncertaintyTask>) RayUncertaintyTask::prefetchBlock).andThen(submit);
+
       // Creates all tasks and hands them one-by-one to the broker:
       try {
-        streamRayUncertaintyTasks(
-            ((Consumer<RayUncertaintyTask>) (aParallelBrkr::submitBatched))
-                .andThen(t -> t.setSubmitTime(System.currentTimeMillis())),
+        streamRayUncertaintyTasks(submit.andThen(t -> t.setSubmitTime(System.currentTimeMillis())),
             // .andThen(t -> c.add(t.getTaskId())),
             (done, total, msg) -> {
               if (taskCt.get() == 0) {
@@ -3896,6 +3922,8 @@ public class RayUncertainty {
       prcNodeOverheadTime += tskRslt.getOverheadTime();
       prcNodeParallelOvrhdTime += tskRslt.getTaskManagerOverhead();
       prcNodeCovBlkReadTime += tskRslt.getCovBlockReadTime();
+      prcNodeCovBlkCacheHits += tskRslt.getCovBlockCacheHits();
+      prcNodeCovBlkCacheMisses += tskRslt.getCovBlockCacheMisses();
       prcNodeBlockMapReadTime += tskRslt.getBlockMapReadTime();
       prcNodeBlockMapReadCount += tskRslt.getBlockMapReadCount();
       prcNodeRaysLoaded += tskRslt.getRaysLoadedCount();
@@ -3986,6 +4014,12 @@ public class RayUncertainty {
           + Globals.timeStringAbbrvUnits(prcNodeBlockMapReadTime / prcNodeBlockMapReadCount) + NL
           + "      Mean Per Task Covariance Block Read Time                  = "
           + Globals.timeStringAbbrvUnits(prcNodeCovBlkReadTime / totalTasksProcessed) + NL
+          + "      Covariance Block Cache Hits, Misses                       = "
+          + prcNodeCovBlkCacheHits + ", " + prcNodeCovBlkCacheMisses + NL
+          + "      Covariance Block Cache Hit Rate (%)                       = "
+          + (100.0 * prcNodeCovBlkCacheHits
+              / Math.max(1, prcNodeCovBlkCacheHits + prcNodeCovBlkCacheMisses))
+          + NL
           + "      Mean Per Task Process Time                                = "
           + Globals.timeStringAbbrvUnits(prcNodeProcessTime / totalTasksProcessed) + NL
           + "      Mean Per Task Garbage Collection Process Time             = "
@@ -4009,6 +4043,8 @@ public class RayUncertainty {
           + "      Mean Per Task AB Source entries Returned                  = "
           + ((double) totalSourceIdABEntries / totalTasksProcessed) + NL + NL;
       aScrnWrtr.write(s);
+      if (localBlockCache)
+        aScrnWrtr.write(MatrixBlockCache.getInstance().toString("    "));
       aScrnWrtr.write("  End Ray Uncertainty " + Globals.repeat("#", 58) + NL + NL);
     } // end if (aScrnWrtr.isOutputOn())
   }
@@ -5099,6 +5135,7 @@ public class RayUncertainty {
 
             RayUncertaintyTask tsk = new RayUncertaintyTask(taskId++, blkrow, blkcol, aRayWghtPath,
                 aCovMatrixBlockDefn, aCovMatrixServers, aGCFrequency);
+            tsk.setBlockCacheSize(aCovBlockCacheSize);
             tsk.setPhaseSiteSets(k, k);
             tsk.setDebug(aDebugRaysX);
             if (blkrow == aCovMatrixBlockDefn.blocks())
@@ -5131,6 +5168,7 @@ public class RayUncertainty {
 
             RayUncertaintyTask tsk = new RayUncertaintyTask(taskId++, blkrow, blkcol, aRayWghtPath,
                 aCovMatrixBlockDefn, aCovMatrixServers, aGCFrequency);
+            tsk.setBlockCacheSize(aCovBlockCacheSize);
             tsk.setSitePairs(pairMap);
             tsk.setDebug(aDebugRaysX);
             if (blkrow == aCovMatrixBlockDefn.blocks())
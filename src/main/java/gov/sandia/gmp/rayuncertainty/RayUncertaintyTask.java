@@ -65,6 +65,7 @@ import gov.sandia.gmp.util.globals.Globals;
 import gov.sandia.gmp.util.io.GlobalInputStreamProvider;
 import gov.sandia.gmp.util.numerical.matrix.SparseMatrixVector;
 import gov.sandia.gmp.util.numerical.matrixblock.MatrixBlock;
+import gov.sandia.gmp.util.numerical.matrixblock.MatrixBlockCache;
 import gov.sandia.gmp.util.numerical.matrixblock.MatrixBlockDefinition;
 import gov.sandia.gmp.util.numerical.matrixblock.MatrixBlockFileServer;
 import gov.sandia.gmp.util.profiler.Profiler;
@@ -273,6 +274,12 @@ public class RayUncertaintyTask extends ParallelTask {
    */
   private long aProfilerSamplePeriod = -1;
 
+  /**
+   * The memory budget (bytes) of the JVM covariance block cache. If 0 the block is read by this
+   * task and unloaded when done. If negative a quarter of the executing JVM's maximum heap is used.
+   */
+  private long aBlockCacheSize = 0;
+
   /**
    * Returned set of phase/site/source partial variances from this block for the defined start and
    * end ray weight set id's. Set to null if type AB solution is requested.
@@ -304,6 +311,11 @@ public class RayUncertaintyTask extends ParallelTask {
    */
   private transient MatrixBlock aMB = null;
 
+  /**
+   * True if aMB was acquired from the JVM covariance block cache.
+   */
+  private transient boolean aMBCached = false;
+
   /**
    * The in-core matrix block read from disk.
    */
@@ -359,6 +371,16 @@ public class RayUncertaintyTask extends ParallelTask {
    */
   private transient long aCovBlockReadTime = 0;
 
+  /**
+   * The number of covariance matrix blocks found in the JVM block cache.
+   */
+  private transient int aCovBlockCacheHits = 0;
+
+  /**
+   * The number of covariance matrix blocks read into the JVM block cache.
+   */
+  private transient int aCovBlockCacheMisses = 0;
+
   /**
    * The time spent reading the non-represented variance vector.
    */
@@ -534,6 +556,48 @@ public class RayUncertaintyTask extends ParallelTask {
     aProfilerSamplePeriod = psp;
   }
 
+  /**
+   * Sets the memory budget (bytes) of the JVM covariance block cache. If 0 (the default) the block
+   * is read by this task and unloaded when done. If negative a quarter of the executing JVM's
+   * maximum heap is used.
+   *
+   * @param bytes The memory budget (bytes) of the JVM covariance block cache.
+   */
+  public void setBlockCacheSize(long bytes) {
+    aBlockCacheSize = bytes;
+  }
+
+  /**
+   * Returns the JVM covariance block cache memory budget (bytes) for the input setting. Negative
+   * settings are replaced by a quarter of the maximum heap.
+   *
+   * @param bytes The block cache memory budget setting (bytes).
+   * @return The block cache memory budget (bytes).
+   */
+  static long getBlockCacheBudget(long bytes) {
+    return (bytes < 0) ? Runtime.getRuntime().maxMemory() / 4 : bytes;
+  }
+
+  /**
+   * Announces the covariance block of this task to the JVM block cache so that it is read in the
+   * background before this task runs. Only useful if this task is executed in the calling JVM.
+   * Nothing is done if the block cache is off or this task does not read a block.
+   */
+  public void prefetchBlock() {
+    if ((aBlockCacheSize == 0) || (aBlockRow >= aMtrxBlkDefn.blocks()))
+      return;
+
+    try {
+      convertFilePaths();
+      aMtrxBlkDefn.setSubBlockSizeToBlockSize();
+      MatrixBlock mb = new MatrixBlock(aBlockRow, aBlockCol, aMtrxBlkDefn);
+      mb.setSourcePathFileHeader(getBlockPathFileHeader("ginv"), "ginv");
+      MatrixBlockCache.getInstance().prefetch(mb);
+    } catch (IOException ex) {
+      // the task reports the error when it reads the block
+    }
+  }
+
   /**
    * Standard run method called by the ParallelUtils base class to execute a task on a processing
    * node.
@@ -598,8 +662,7 @@ public class RayUncertaintyTask extends ParallelTask {
       // done ... reset loaded variables
 
       aBlock = null;
-      aMB.unLoad();
-      aMB = null;
+      releaseBlock();
 
       // TODO PS: Remove the line below. No longer required
       aNonRepresentedVarMap = null;
@@ -610,6 +673,7 @@ public class RayUncertaintyTask extends ParallelTask {
           aGCProcTime);
       results.setCounts(aBlockRowMapReadCount, aRaysLoadedCount, aRayElementsLoadedCount,
           aNRVarReadCount);
+      results.setCovBlockCacheCounts(aCovBlockCacheHits, aCovBlockCacheMisses);
       results.setVarianceMaps(aSolutionAA, aSolutionAB);
       results.setDebugResultsMaps(aDebugAA, aDebugAB);
 
@@ -643,6 +707,12 @@ public class RayUncertaintyTask extends ParallelTask {
       results.setException(new Exception(s));
       results.setReadWriteFailErrors(aReadWriteFail);
 
+      // hand a cached block back so that it can be unloaded
+
+      aBlock = null;
+      if (aMBCached)
+        releaseBlock();
+
       outputTaskInfo(results.getHostName(), "Error", "");
     }
   }
@@ -661,13 +731,30 @@ public class RayUncertaintyTask extends ParallelTask {
     // get block path
 
     String fh = "ginv";
-    String fp = aBlockFileServers.getPath(fh, aBlockRow, aBlockCol) + File.separator + fh;
+    String fp = getBlockPathFileHeader(fh);
 
     aMB.setSourcePathFileHeader(fp, fh);
     aStateMessg = "Reading: " + fp;
-    aMB.readBlockCatch();
+    if (aBlockCacheSize != 0) {
+      // get the block from the JVM block cache ... read time is the time
+      // spent waiting for it
+
+      long strtTime = (new Date()).getTime();
+      MatrixBlockCache cache = MatrixBlockCache.getInstance();
+      cache.setMemoryBudget(getBlockCacheBudget(aBlockCacheSize));
+      MatrixBlock mb = cache.acquire(aMB);
+      if (mb == aMB)
+        ++aCovBlockCacheMisses;
+      else
+        ++aCovBlockCacheHits;
+      aMB = mb;
+      aMBCached = true;
+      aCovBlockReadTime += (new Date()).getTime() - strtTime;
+    } else {
+      aMB.readBlockCatch();
+      aCovBlockReadTime += aMB.getReadTime();
+    }
     aStateMessg = "Processing";
-    aCovBlockReadTime += aMB.getReadTime();
     //
     // // read block and save read time
     //
@@ -682,6 +769,30 @@ public class RayUncertaintyTask extends ParallelTask {
     // Matrix.transposeSymmetric(aBlock);
   }
 
+  /**
+   * Returns the path/file header of the covariance matrix block required by this task.
+   *
+   * @param fh The block file header.
+   * @return The path/file header of the covariance matrix block required by this task.
+   * @throws IOException
+   */
+  private String getBlockPathFileHeader(String fh) throws IOException {
+    return aBlockFileServers.getPath(fh, aBlockRow, aBlockCol) + File.separator + fh;
+  }
+
+  /**
+   * Hands the covariance matrix block back to the JVM block cache if it came from there, otherwise
+   * unloads it.
+   */
+  private void releaseBlock() {
+    if (aMBCached)
+      MatrixBlockCache.getInstance().release(aMB);
+    else
+      aMB.unLoad();
+    aMBCached = false;
+    aMB = null;
+  }
+
   // ***************** Site A -> Site A read and process code ******************
 
   /**
@@ -91,6 +91,16 @@ public class RayUncertaintyTaskResult extends ParallelResult {
    */
   private long aCovBlockReadTime = -1;
 
+  /**
+   * The number of covariance matrix blocks found in the executing JVM's block cache.
+   */
+  private int aCovBlockCacheHits = 0;
+
+  /**
+   * The number of covariance matrix blocks read into the executing JVM's block cache.
+   */
+  private int aCovBlockCacheMisses = 0;
+
   /**
    * Total non-represented covariance matrix read time.
    */
@@ -353,6 +363,35 @@ public class RayUncertaintyTaskResult extends ParallelResult {
     return aCovBlockReadTime;
   }
 
+  /**
+   * Sets the covariance matrix block cache hit and miss counts.
+   *
+   * @param hits The number of blocks found in the executing JVM's block cache.
+   * @param misses The number of blocks read into the executing JVM's block cache.
+   */
+  public void setCovBlockCacheCounts(int hits, int misses) {
+    aCovBlockCacheHits = hits;
+    aCovBlockCacheMisses = misses;
+  }
+
+  /**
+   * Returns the number of covariance matrix blocks found in the executing JVM's block cache.
+   *
+   * @return The number of covariance matrix blocks found in the executing JVM's block cache.
+   */
+  public int getCovBlockCacheHits() {
+    return aCovBlockCacheHits;
+  }
+
+  /**
+   * Returns the number of covariance matrix blocks read into the executing JVM's block cache.
+   *
+   * @return The number of covariance matrix blocks read into the executing JVM's block cache.
+   */
+  public int getCovBlockCacheMisses() {
+    return aCovBlockCacheMisses;
+  }
+
   /**
    * Returns the total non-represented variance array read time.
    *
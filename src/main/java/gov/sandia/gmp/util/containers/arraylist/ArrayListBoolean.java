@@ -99,6 +99,7 @@ public class ArrayListBoolean extends ArrayListIntrinsic {
    * Constructs a list from the input file name (filename).
    */
   public ArrayListBoolean(String filename) throws IOException {
+    this();
     read(filename);
   }
 
@@ -106,6 +107,7 @@ public class ArrayListBoolean extends ArrayListIntrinsic {
    * Constructs a list from the input FileInputBuffer.
    */
   public ArrayListBoolean(FileInputBuffer fib) throws IOException {
+    this();
     read(fib);
   }
 
@@ -98,6 +98,7 @@ public class ArrayListByte extends ArrayListIntrinsic {
    * Constructs a list from the input file name (filename).
    */
   public ArrayListByte(String filename) throws IOException {
+    this();
     read(filename);
   }
 
@@ -105,6 +106,7 @@ public class ArrayListByte extends ArrayListIntrinsic {
    * Constructs a list from the input FileInputBuffer.
    */
   public ArrayListByte(FileInputBuffer fib) throws IOException {
+    this();
     read(fib);
   }
 
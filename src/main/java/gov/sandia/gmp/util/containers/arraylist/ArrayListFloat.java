@@ -98,6 +98,7 @@ public class ArrayListFloat extends ArrayListIntrinsic {
    * Constructs a list from the input file name (filename).
    */
   public ArrayListFloat(String filename) throws IOException {
+    this();
     read(filename);
   }
 
@@ -105,6 +106,7 @@ public class ArrayListFloat extends ArrayListIntrinsic {
    * Constructs a list from the input FileInputBuffer.
    */
   public ArrayListFloat(FileInputBuffer fib) throws IOException {
+    this();
     read(fib);
   }
 
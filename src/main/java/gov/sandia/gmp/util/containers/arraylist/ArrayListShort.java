@@ -98,6 +98,7 @@ public class ArrayListShort extends ArrayListIntrinsic {
    * Constructs a list from the input file name (filename).
    */
   public ArrayListShort(String filename) throws IOException {
+    this();
     read(filename);
   }
 
@@ -105,6 +106,7 @@ public class ArrayListShort extends ArrayListIntrinsic {
    * Constructs a list from the input FileInputBuffer.
    */
   public ArrayListShort(FileInputBuffer fib) throws IOException {
+    this();
     read(fib);
   }
 
@@ -99,6 +99,7 @@ public class ArrayListHugeFloat extends ArrayListHugeAbstract {
    * Constructs a list from the input file name (filename).
    */
   public ArrayListHugeFloat(String filename) throws IOException {
+    this();
     read(filename);
   }
 
@@ -106,6 +107,7 @@ public class ArrayListHugeFloat extends ArrayListHugeAbstract {
    * Constructs a list from the input FileInputBuffer.
    */
   public ArrayListHugeFloat(FileInputBuffer fib) throws IOException {
+    this();
     read(fib);
   }
 
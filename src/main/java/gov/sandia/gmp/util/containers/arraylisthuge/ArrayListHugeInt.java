@@ -98,6 +98,7 @@ public class ArrayListHugeInt extends ArrayListHugeAbstract {
    * Constructs a list from the input file name (filename).
    */
   public ArrayListHugeInt(String filename) throws IOException {
+    this();
     read(filename);
   }
 
@@ -105,6 +106,7 @@ public class ArrayListHugeInt extends ArrayListHugeAbstract {
    * Constructs a list from the input FileInputBuffer.
    */
   public ArrayListHugeInt(FileInputBuffer fib) throws IOException {
+    this();
     read(fib);
   }
 
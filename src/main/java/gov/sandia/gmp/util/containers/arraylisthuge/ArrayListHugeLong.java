@@ -99,6 +99,7 @@ public class ArrayListHugeLong extends ArrayListHugeAbstract {
    * Constructs a list from the input file name (filename).
    */
   public ArrayListHugeLong(String filename) throws IOException {
+    this();
     read(filename);
   }
 
@@ -106,6 +107,7 @@ public class ArrayListHugeLong extends ArrayListHugeAbstract {
    * Constructs a list from the input FileInputBuffer.
    */
   public ArrayListHugeLong(FileInputBuffer fib) throws IOException {
+    this();
     read(fib);
   }
 
@@ -0,0 +1,529 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.util.containers.hash.maps;
+
+import java.util.Arrays;
+import gov.sandia.gmp.util.containers.hash.HashIntrinsic;
+import gov.sandia.gmp.util.containers.hash.maps.HashMapIntegerDouble.IntDoubleConsumer;
+
+/**
+ * Open addressing intrinsic integer --> double map. Unlike HashMapIntegerDouble, which allocates
+ * an Entry object for every mapping and chains collisions in linked lists, this map stores keys and
+ * values in parallel primitive arrays and resolves collisions by linear probing. Once the table
+ * has grown to its working size, put(), addTo() and remove() allocate nothing, which makes this the
+ * preferred container for accumulating ray weights and other short lived maps that are filled and
+ * cleared many times.
+ * 
+ * <p>
+ * Removal uses backward shift deletion, so there are no tombstones and lookup cost does not
+ * degrade after many removals. The load factor must be less than 1; the default is 0.75.
+ * 
+ * <p>
+ * Iteration is performed with a Cursor, which visits the occupied slots of the table without
+ * allocating an object per entry:
+ * 
+ * <pre>
+ * OpenHashMapIntegerDouble.Cursor c = map.cursor();
+ * while (c.next())
+ *   sum += c.value();
+ * </pre>
+ * 
+ * The map must not be structurally modified (put of a new key, remove) while a Cursor is in use.
+ */
+@SuppressWarnings("serial")
+public class OpenHashMapIntegerDouble extends HashIntrinsic {
+  /**
+   * The keys of the mapped entries. Only valid where used is true.
+   */
+  private int[] keys;
+
+  /**
+   * The values of the mapped entries. Only valid where used is true.
+   */
+  private double[] values;
+
+  /**
+   * True for occupied table slots.
+   */
+  private boolean[] used;
+
+  /**
+   * Constructs an empty <tt>OpenHashMapIntegerDouble</tt> with the specified initial capacity and
+   * load factor.
+   * 
+   * @param initialCapacity the initial capacity
+   * @param loadFactor the load factor, which must be less than 1.
+   * @throws IllegalArgumentException if the initial capacity is negative or the load factor is
+   *         nonpositive or not less than 1.
+   */
+  public OpenHashMapIntegerDouble(int initialCapacity, float loadFactor) {
+    super(initialCapacity, loadFactor);
+    if (loadFactor >= 1f)
+      throw new IllegalArgumentException("Illegal load factor for open addressing: " + loadFactor);
+    createTable(capMinus1 + 1);
+  }
+
+  /**
+   * Constructs an empty <tt>OpenHashMapIntegerDouble</tt> with the specified initial capacity and
+   * the default load factor (0.75).
+   * 
+   * @param initialCapacity the initial capacity.
+   * @throws IllegalArgumentException if the initial capacity is negative.
+   */
+  public OpenHashMapIntegerDouble(int initialCapacity) {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Constructs an empty <tt>OpenHashMapIntegerDouble</tt> with the default initial capacity (16)
+   * and the default load factor (0.75).
+   */
+  public OpenHashMapIntegerDouble() {
+    this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Constructs a new <tt>OpenHashMapIntegerDouble</tt> containing all the mappings of the input
+   * HashMapIntegerDouble.
+   * 
+   * @param map the map whose mappings are to be copied.
+   */
+  public OpenHashMapIntegerDouble(HashMapIntegerDouble map) {
+    this(Math.max(DEFAULT_INITIAL_CAPACITY, (int) (map.size() / DEFAULT_LOAD_FACTOR) + 1));
+    putAll(map);
+  }
+
+  /**
+   * Constructs a new <tt>OpenHashMapIntegerDouble</tt> containing all the mappings of the input
+   * map. The table is sized for the number of mappings, not the capacity of the input, so this
+   * can be used to take a compact copy of a large, reused accumulator.
+   * 
+   * @param map the map whose mappings are to be copied.
+   */
+  public OpenHashMapIntegerDouble(OpenHashMapIntegerDouble map) {
+    this(Math.max(DEFAULT_INITIAL_CAPACITY, (int) (map.size() / DEFAULT_LOAD_FACTOR) + 1));
+    putAll(map);
+  }
+
+  /**
+   * Returns the table slot in which key resides, or -(insertion slot) - 1 if key is not in the
+   * map.
+   * 
+   * @param key the key to find.
+   * @return the table slot in which key resides or -(insertion slot) - 1.
+   */
+  private int slot(int key) {
+    int i = tableIndex(key, capMinus1);
+    while (used[i]) {
+      if (keys[i] == key)
+        return i;
+      i = (i + 1) & capMinus1;
+    }
+    return -i - 1;
+  }
+
+  /**
+   * Returns true if the input key is contained in the map.
+   */
+  public final boolean contains(int key) {
+    return slot(key) >= 0;
+  }
+
+  /**
+   * Returns <tt>true</tt> if this map maps one or more keys to the specified value.
+   * 
+   * @param value value whose presence in this map is to be tested
+   * @return <tt>true</tt> if this map maps one or more keys to the specified value
+   */
+  public boolean containsValue(double value) {
+    for (int i = 0; i < used.length; ++i)
+      if (used[i] && values[i] == value)
+        return true;
+    return false;
+  }
+
+  /**
+   * Returns the value to which the specified key is mapped, or {@code Double.MIN_VALUE} if this
+   * map contains no mapping for the key. This is the same convention used by
+   * HashMapIntegerDouble.
+   */
+  public double get(int key) {
+    return get(key, Double.MIN_VALUE);
+  }
+
+  /**
+   * Returns the value to which the specified key is mapped, or defaultValue if this map contains no
+   * mapping for the key.
+   */
+  public double get(int key, double defaultValue) {
+    int i = slot(key);
+    return i < 0 ? defaultValue : values[i];
+  }
+
+  /**
+   * Associates the specified value with the specified key in this map. If the map previously
+   * contained a mapping for the key, the old value is replaced.
+   * 
+   * @param key key with which the specified value is to be associated
+   * @param value value to be associated with the specified key
+   * @return the previous value associated with <tt>key</tt>, or <tt>Double.MIN_VALUE</tt> if there
+   *         was no mapping for <tt>key</tt>.
+   */
+  public double put(int key, double value) {
+    int i = slot(key);
+    if (i >= 0) {
+      double oldValue = values[i];
+      values[i] = value;
+      return oldValue;
+    }
+
+    insert(-i - 1, key, value);
+    return Double.MIN_VALUE;
+  }
+
+  /**
+   * Adds increment to the value associated with key. If key is not in the map it is added with
+   * value equal to increment.
+   * 
+   * @param key the key whose value is to be incremented.
+   * @param increment the amount added to the value.
+   * @return the new value associated with key.
+   */
+  public double addTo(int key, double increment) {
+    int i = slot(key);
+    if (i >= 0)
+      return values[i] += increment;
+
+    insert(-i - 1, key, increment);
+    return increment;
+  }
+
+  /**
+   * Copy all the mappings of the input map into this map, replacing the values of keys that are
+   * already present.
+   * 
+   * @param map the map whose mappings are to be copied.
+   */
+  public void putAll(OpenHashMapIntegerDouble map) {
+    ensureCapacity(size + map.size);
+    for (int i = 0; i < map.used.length; ++i)
+      if (map.used[i])
+        put(map.keys[i], map.values[i]);
+  }
+
+  /**
+   * Copy all the mappings of the input map into this map, replacing the values of keys that are
+   * already present.
+   * 
+   * @param map the map whose mappings are to be copied.
+   */
+  public void putAll(HashMapIntegerDouble map) {
+    ensureCapacity(size + map.size());
+    HashMapIntegerDouble.Iterator it = map.iterator();
+    while (it.hasNext()) {
+      HashMapIntegerDouble.Entry e = it.nextEntry();
+      put(e.getKey(), e.getValue());
+    }
+  }
+
+  /**
+   * Add the values of all the mappings of the input map to the values of this map. Keys not
+   * already present are added.
+   * 
+   * @param map the map whose values are to be accumulated.
+   */
+  public void addToAll(OpenHashMapIntegerDouble map) {
+    ensureCapacity(size + map.size);
+    for (int i = 0; i < map.used.length; ++i)
+      if (map.used[i])
+        addTo(map.keys[i], map.values[i]);
+  }
+
+  /**
+   * Add the values of all the mappings of the input map to the values of this map. Keys not
+   * already present are added.
+   * 
+   * @param map the map whose values are to be accumulated.
+   */
+  public void addToAll(HashMapIntegerDouble map) {
+    ensureCapacity(size + map.size());
+    HashMapIntegerDouble.Iterator it = map.iterator();
+    while (it.hasNext()) {
+      HashMapIntegerDouble.Entry e = it.nextEntry();
+      addTo(e.getKey(), e.getValue());
+    }
+  }
+
+  /**
+   * Removes the mapping for the specified key from this map if present.
+   * 
+   * @param key The key to be removed from the map.
+   * @return the value that was associated with key, or Double.MIN_VALUE if there was no mapping
+   *         for key.
+   */
+  public double remove(int key) {
+    int i = slot(key);
+    if (i < 0)
+      return Double.MIN_VALUE;
+
+    double oldValue = values[i];
+
+    // backward shift deletion: move later members of the probe sequence into the hole
+    // so that no tombstone is needed.
+    int j = i;
+    while (true) {
+      j = (j + 1) & capMinus1;
+      if (!used[j])
+        break;
+      int k = tableIndex(keys[j], capMinus1);
+      // leave entry j where it is if its home slot k lies cyclically in (i, j]
+      if (i <= j ? (i < k && k <= j) : (i < k || k <= j))
+        continue;
+      keys[i] = keys[j];
+      values[i] = values[j];
+      i = j;
+    }
+    used[i] = false;
+    --size;
+    return oldValue;
+  }
+
+  /**
+   * Removes all of the mappings from this map. The map will be empty after this call returns. The
+   * table capacity is retained.
+   */
+  @Override
+  public void clear() {
+    if (size > 0) {
+      Arrays.fill(used, false);
+      size = 0;
+    }
+  }
+
+  /**
+   * Ensure the table can hold n mappings without being resized.
+   * 
+   * @param n the number of mappings.
+   */
+  public void ensureCapacity(int n) {
+    if (n > threshold) {
+      int capacity = capMinus1 + 1;
+      while (n > (int) (capacity * loadFactor) && capacity < MAXIMUM_CAPACITY)
+        capacity <<= 1;
+      resize(capacity);
+    }
+  }
+
+  /**
+   * Place a new mapping in the specified empty slot, resizing the table if the threshold is
+   * exceeded.
+   */
+  private void insert(int i, int key, double value) {
+    keys[i] = key;
+    values[i] = value;
+    used[i] = true;
+    if (++size > threshold)
+      resize(2 * (capMinus1 + 1));
+  }
+
+  /**
+   * Rehashes the contents of this map into new arrays with a larger capacity.
+   * 
+   * @param newCapacity the new capacity, MUST be a power of two.
+   */
+  private void resize(int newCapacity) {
+    if (newCapacity > MAXIMUM_CAPACITY)
+      newCapacity = MAXIMUM_CAPACITY;
+    if (newCapacity <= capMinus1 + 1) {
+      if (size >= capMinus1)
+        throw new IllegalStateException("OpenHashMapIntegerDouble is full");
+      threshold = capMinus1;
+      return;
+    }
+
+    int[] oldKeys = keys;
+    double[] oldValues = values;
+    boolean[] oldUsed = used;
+
+    createTable(newCapacity);
+    for (int j = 0; j < oldUsed.length; ++j)
+      if (oldUsed[j]) {
+        int i = tableIndex(oldKeys[j], capMinus1);
+        while (used[i])
+          i = (i + 1) & capMinus1;
+        keys[i] = oldKeys[j];
+        values[i] = oldValues[j];
+        used[i] = true;
+      }
+  }
+
+  /**
+   * Creates new key, value and occupancy arrays of size equal to the input capacity and resets
+   * capMinus1 and threshold.
+   * 
+   * @param capacity The size of the arrays, a power of two.
+   */
+  private void createTable(int capacity) {
+    keys = new int[capacity];
+    values = new double[capacity];
+    used = new boolean[capacity];
+    capMinus1 = capacity - 1;
+    threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+  }
+
+  /**
+   * Returns all the keys in this map, in table order.
+   * 
+   * @return all the keys in this map.
+   */
+  public int[] getKeys() {
+    int[] k = new int[size];
+    int n = 0;
+    for (int i = 0; i < used.length; ++i)
+      if (used[i])
+        k[n++] = keys[i];
+    return k;
+  }
+
+  /**
+   * Returns all the values in this map, in the same order as getKeys().
+   * 
+   * @return all the values in this map.
+   */
+  public double[] getValues() {
+    double[] v = new double[size];
+    int n = 0;
+    for (int i = 0; i < used.length; ++i)
+      if (used[i])
+        v[n++] = values[i];
+    return v;
+  }
+
+  /**
+   * Copy the contents of this map into a new HashMapIntegerDouble, for callers that require the
+   * chained implementation.
+   * 
+   * @return a new HashMapIntegerDouble containing all the mappings of this map.
+   */
+  public HashMapIntegerDouble toHashMapIntegerDouble() {
+    HashMapIntegerDouble map =
+        new HashMapIntegerDouble(Math.max(1, (int) (size / DEFAULT_LOAD_FACTOR) + 1));
+    for (int i = 0; i < used.length; ++i)
+      if (used[i])
+        map.put(keys[i], values[i]);
+    return map;
+  }
+
+  /**
+   * Returns an estimate of the bulk memory size used by this object.
+   * 
+   * @param ptrsize The pointer size set to 8 for 64-bit and 4 for 32-bit (unused; there are no
+   *        references to estimate).
+   * @return The bulk memory estimate in bytes.
+   */
+  public long memoryEstimate(int ptrsize) {
+    return (long) (capMinus1 + 1) * (Integer.SIZE + Double.SIZE + Byte.SIZE) / 8;
+  }
+
+  public void forEach(IntDoubleConsumer cons) {
+    for (int i = 0; i < used.length; ++i)
+      if (used[i])
+        cons.accept(keys[i], values[i]);
+  }
+
+  /**
+   * Returns a new Cursor positioned before the first mapping.
+   * 
+   * @return a new Cursor positioned before the first mapping.
+   */
+  public Cursor cursor() {
+    return new Cursor();
+  }
+
+  /**
+   * Iterates over the mappings of the map without allocating. Call next() to advance to the next
+   * mapping, then key() and value() to retrieve it. A Cursor can be rewound with reset() and
+   * reused.
+   */
+  public class Cursor {
+    /**
+     * The current table slot, or -1 before the first call to next().
+     */
+    private int index = -1;
+
+    /**
+     * Advance to the next mapping.
+     * 
+     * @return true if there is a current mapping, false if the cursor has passed the last mapping.
+     */
+    public boolean next() {
+      while (++index < used.length)
+        if (used[index])
+          return true;
+      return false;
+    }
+
+    /**
+     * @return the key of the current mapping.
+     */
+    public int key() {
+      return keys[index];
+    }
+
+    /**
+     * @return the value of the current mapping.
+     */
+    public double value() {
+      return values[index];
+    }
+
+    /**
+     * Replace the value of the current mapping.
+     * 
+     * @param value the new value.
+     * @return the old value.
+     */
+    public double setValue(double value) {
+      double oldValue = values[index];
+      values[index] = value;
+      return oldValue;
+    }
+
+    /**
+     * Rewind this cursor to before the first mapping.
+     */
+    public void reset() {
+      index = -1;
+    }
+  }
+}
@@ -0,0 +1,416 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.util.containers.hash.maps;
+
+import java.util.Arrays;
+import gov.sandia.gmp.util.containers.hash.HashIntrinsic;
+import gov.sandia.gmp.util.containers.hash.maps.HashMapLongKey.LongValueConsumer;
+
+/**
+ * Open addressing intrinsic long --> V map. This is the linear probing counterpart of
+ * HashMapLongKey: keys are stored in a primitive long array and values in a parallel reference
+ * array, so no Entry object is allocated per mapping. Removal uses backward shift deletion, so
+ * there are no tombstones. The load factor must be less than 1; the default is 0.75.
+ * 
+ * <p>
+ * Iteration is performed with a Cursor, which does not allocate per entry. The map must not be
+ * structurally modified (put of a new key, remove) while a Cursor is in use.
+ * 
+ * @param <V> The type of the values stored in the map.
+ */
+@SuppressWarnings("serial")
+public class OpenHashMapLongKey<V> extends HashIntrinsic {
+  /**
+   * The keys of the mapped entries. Only valid where used is true.
+   */
+  private long[] keys;
+
+  /**
+   * The values of the mapped entries. Null where used is false.
+   */
+  private Object[] values;
+
+  /**
+   * True for occupied table slots.
+   */
+  private boolean[] used;
+
+  /**
+   * Constructs an empty <tt>OpenHashMapLongKey</tt> with the specified initial capacity and load
+   * factor.
+   * 
+   * @param initialCapacity the initial capacity
+   * @param loadFactor the load factor, which must be less than 1.
+   * @throws IllegalArgumentException if the initial capacity is negative or the load factor is
+   *         nonpositive or not less than 1.
+   */
+  public OpenHashMapLongKey(int initialCapacity, float loadFactor) {
+    super(initialCapacity, loadFactor);
+    if (loadFactor >= 1f)
+      throw new IllegalArgumentException("Illegal load factor for open addressing: " + loadFactor);
+    createTable(capMinus1 + 1);
+  }
+
+  /**
+   * Constructs an empty <tt>OpenHashMapLongKey</tt> with the specified initial capacity and the
+   * default load factor (0.75).
+   * 
+   * @param initialCapacity the initial capacity.
+   * @throws IllegalArgumentException if the initial capacity is negative.
+   */
+  public OpenHashMapLongKey(int initialCapacity) {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Constructs an empty <tt>OpenHashMapLongKey</tt> with the default initial capacity (16) and the
+   * default load factor (0.75).
+   */
+  public OpenHashMapLongKey() {
+    this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Returns the table slot in which key resides, or -(insertion slot) - 1 if key is not in the
+   * map.
+   */
+  private int slot(long key) {
+    int i = tableIndex(hashCodeLong(key), capMinus1);
+    while (used[i]) {
+      if (keys[i] == key)
+        return i;
+      i = (i + 1) & capMinus1;
+    }
+    return -i - 1;
+  }
+
+  /**
+   * Returns true if the input key is contained in the map.
+   */
+  public final boolean contains(long key) {
+    return slot(key) >= 0;
+  }
+
+  /**
+   * Returns <tt>true</tt> if this map maps one or more keys to the specified value.
+   * 
+   * @param value value whose presence in this map is to be tested
+   * @return <tt>true</tt> if this map maps one or more keys to the specified value
+   */
+  public boolean containsValue(Object value) {
+    for (int i = 0; i < used.length; ++i)
+      if (used[i] && (value == null ? values[i] == null : value.equals(values[i])))
+        return true;
+    return false;
+  }
+
+  /**
+   * Returns the value to which the specified key is mapped, or {@code null} if this map contains
+   * no mapping for the key.
+   */
+  @SuppressWarnings("unchecked")
+  public V get(long key) {
+    int i = slot(key);
+    return i < 0 ? null : (V) values[i];
+  }
+
+  /**
+   * Associates the specified value with the specified key in this map. If the map previously
+   * contained a mapping for the key, the old value is replaced.
+   * 
+   * @param key key with which the specified value is to be associated
+   * @param value value to be associated with the specified key
+   * @return the previous value associated with <tt>key</tt>, or <tt>null</tt> if there was no
+   *         mapping for <tt>key</tt>.
+   */
+  @SuppressWarnings("unchecked")
+  public V put(long key, V value) {
+    int i = slot(key);
+    if (i >= 0) {
+      V oldValue = (V) values[i];
+      values[i] = value;
+      return oldValue;
+    }
+
+    insert(-i - 1, key, value);
+    return null;
+  }
+
+  /**
+   * Returns the value associated with key if there is one. Otherwise, associates key with
+   * newValue and returns newValue.
+   * 
+   * @param key the key to find.
+   * @param newValue the value to be associated with key if key is not in the map.
+   * @return the value associated with key on exit.
+   */
+  @SuppressWarnings("unchecked")
+  public V getOrPut(long key, V newValue) {
+    int i = slot(key);
+    if (i >= 0)
+      return (V) values[i];
+
+    insert(-i - 1, key, newValue);
+    return newValue;
+  }
+
+  /**
+   * Copy all the mappings of the input map into this map, replacing the values of keys that are
+   * already present.
+   * 
+   * @param map the map whose mappings are to be copied.
+   */
+  @SuppressWarnings("unchecked")
+  public void putAll(OpenHashMapLongKey<? extends V> map) {
+    ensureCapacity(size + map.size);
+    for (int i = 0; i < map.used.length; ++i)
+      if (map.used[i])
+        put(map.keys[i], (V) map.values[i]);
+  }
+
+  /**
+   * Copy all the mappings of the input map into this map, replacing the values of keys that are
+   * already present.
+   * 
+   * @param map the map whose mappings are to be copied.
+   */
+  public void putAll(HashMapLongKey<? extends V> map) {
+    ensureCapacity(size + map.size());
+    map.forEach((k, v) -> put(k, v));
+  }
+
+  /**
+   * Removes the mapping for the specified key from this map if present.
+   * 
+   * @param key The key to be removed from the map.
+   * @return the value that was associated with key, or null if there was no mapping for key.
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(long key) {
+    int i = slot(key);
+    if (i < 0)
+      return null;
+
+    V oldValue = (V) values[i];
+
+    // backward shift deletion: move later members of the probe sequence into the hole
+    // so that no tombstone is needed.
+    int j = i;
+    while (true) {
+      j = (j + 1) & capMinus1;
+      if (!used[j])
+        break;
+      int k = tableIndex(hashCodeLong(keys[j]), capMinus1);
+      // leave entry j where it is if its home slot k lies cyclically in (i, j]
+      if (i <= j ? (i < k && k <= j) : (i < k || k <= j))
+        continue;
+      keys[i] = keys[j];
+      values[i] = values[j];
+      i = j;
+    }
+    used[i] = false;
+    values[i] = null;
+    --size;
+    return oldValue;
+  }
+
+  /**
+   * Removes all of the mappings from this map. The map will be empty after this call returns. The
+   * table capacity is retained.
+   */
+  @Override
+  public void clear() {
+    if (size > 0) {
+      Arrays.fill(used, false);
+      Arrays.fill(values, null);
+      size = 0;
+    }
+  }
+
+  /**
+   * Ensure the table can hold n mappings without being resized.
+   * 
+   * @param n the number of mappings.
+   */
+  public void ensureCapacity(int n) {
+    if (n > threshold) {
+      int capacity = capMinus1 + 1;
+      while (n > (int) (capacity * loadFactor) && capacity < MAXIMUM_CAPACITY)
+        capacity <<= 1;
+      resize(capacity);
+    }
+  }
+
+  /**
+   * Place a new mapping in the specified empty slot, resizing the table if the threshold is
+   * exceeded.
+   */
+  private void insert(int i, long key, V value) {
+    keys[i] = key;
+    values[i] = value;
+    used[i] = true;
+    if (++size > threshold)
+      resize(2 * (capMinus1 + 1));
+  }
+
+  /**
+   * Rehashes the contents of this map into new arrays with a larger capacity.
+   * 
+   * @param newCapacity the new capacity, MUST be a power of two.
+   */
+  private void resize(int newCapacity) {
+    if (newCapacity > MAXIMUM_CAPACITY)
+      newCapacity = MAXIMUM_CAPACITY;
+    if (newCapacity <= capMinus1 + 1) {
+      if (size >= capMinus1)
+        throw new IllegalStateException("OpenHashMapLongKey is full");
+      threshold = capMinus1;
+      return;
+    }
+
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    boolean[] oldUsed = used;
+
+    createTable(newCapacity);
+    for (int j = 0; j < oldUsed.length; ++j)
+      if (oldUsed[j]) {
+        int i = tableIndex(hashCodeLong(oldKeys[j]), capMinus1);
+        while (used[i])
+          i = (i + 1) & capMinus1;
+        keys[i] = oldKeys[j];
+        values[i] = oldValues[j];
+        used[i] = true;
+      }
+  }
+
+  /**
+   * Creates new key, value and occupancy arrays of size equal to the input capacity and resets
+   * capMinus1 and threshold.
+   * 
+   * @param capacity The size of the arrays, a power of two.
+   */
+  private void createTable(int capacity) {
+    keys = new long[capacity];
+    values = new Object[capacity];
+    used = new boolean[capacity];
+    capMinus1 = capacity - 1;
+    threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+  }
+
+  /**
+   * Returns an estimate of the bulk memory size used by this object. The input pointer size
+   * (ptrsize) should be 8 for 64-bit and 4 for 32-bit.
+   * 
+   * @param ptrsize The pointer size set to 8 for 64-bit and 4 for 32-bit.
+   * @return The bulk memory estimate in bytes.
+   */
+  public long memoryEstimate(int ptrsize) {
+    return (long) (capMinus1 + 1) * (ptrsize + (Long.SIZE + Byte.SIZE) / 8);
+  }
+
+  @SuppressWarnings("unchecked")
+  public void forEach(LongValueConsumer<V> cons) {
+    for (int i = 0; i < used.length; ++i)
+      if (used[i])
+        cons.accept(keys[i], (V) values[i]);
+  }
+
+  /**
+   * Returns a new Cursor positioned before the first mapping.
+   * 
+   * @return a new Cursor positioned before the first mapping.
+   */
+  public Cursor cursor() {
+    return new Cursor();
+  }
+
+  /**
+   * Iterates over the mappings of the map without allocating. Call next() to advance to the next
+   * mapping, then key() and value() to retrieve it. A Cursor can be rewound with reset() and
+   * reused.
+   */
+  public class Cursor {
+    /**
+     * The current table slot, or -1 before the first call to next().
+     */
+    private int index = -1;
+
+    /**
+     * Advance to the next mapping.
+     * 
+     * @return true if there is a current mapping, false if the cursor has passed the last mapping.
+     */
+    public boolean next() {
+      while (++index < used.length)
+        if (used[index])
+          return true;
+      return false;
+    }
+
+    /**
+     * @return the key of the current mapping.
+     */
+    public long key() {
+      return keys[index];
+    }
+
+    /**
+     * @return the value of the current mapping.
+     */
+    @SuppressWarnings("unchecked")
+    public V value() {
+      return (V) values[index];
+    }
+
+    /**
+     * Replace the value of the current mapping.
+     * 
+     * @param value the new value.
+     * @return the old value.
+     */
+    @SuppressWarnings("unchecked")
+    public V setValue(V value) {
+      V oldValue = (V) values[index];
+      values[index] = value;
+      return oldValue;
+    }
+
+    /**
+     * Rewind this cursor to before the first mapping.
+     */
+    public void reset() {
+      index = -1;
+    }
+  }
+}
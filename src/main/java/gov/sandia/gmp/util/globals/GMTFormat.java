@@ -323,6 +323,19 @@ public class GMTFormat {
         : jdate >= MAX_JDATE ? MAX_EPOCH_TIME : getEpochTime(getDate(jdate)) + 86399.999;
   }
 
+  /**
+   * Format an epoch time (double seconds since 1970) with GMT_MS. SimpleDateFormat is not thread
+   * safe; this method may be called from multiple threads, calling GMT_MS.format() directly may not.
+   * 
+   * @param epochTime
+   * @return String with format "yyyy-MM-dd HH:mm:ss.SSS", GMT timezone.
+   */
+  static public String formatGMT_MS(double epochTime) {
+    synchronized (GMT_MS) {
+      return GMT_MS.format(getDate(epochTime));
+    }
+  }
+
   /**
    * Convert jdate (int yyyyddd) into a Date object.
    * 
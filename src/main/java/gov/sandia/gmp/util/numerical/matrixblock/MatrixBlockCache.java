@@ -0,0 +1,507 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.util.numerical.matrixblock;
+
+import static gov.sandia.gmp.util.globals.Globals.NL;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import gov.sandia.gmp.util.globals.Globals;
+
+/**
+ * A per-JVM cache of loaded MatrixBlocks that is shared by every task executing in the JVM. Blocks
+ * are keyed by their source path/file name and are held in-core until the memory budget is
+ * exceeded, at which point the least recently used blocks that no task is using are unloaded.
+ * 
+ * A block is obtained with acquire(MatrixBlock) and must be handed back with release(MatrixBlock)
+ * when the caller no longer needs it. A block in use is never unloaded, so the budget is exceeded
+ * if more blocks are in use at once than fit within it.
+ * 
+ * Callers that know which blocks are needed next can announce them, in the order they will be
+ * acquired, with prefetch(MatrixBlock). A single background thread reads announced blocks ahead of
+ * their use while space is available, making room only by unloading blocks that no announced
+ * requester still needs.
+ * 
+ * Hit, miss, prefetch, and eviction counts and the time requesters spent waiting for block reads
+ * are accumulated for output.
+ */
+public final class MatrixBlockCache {
+  /**
+   * The single cache instance of this JVM.
+   */
+  private static final MatrixBlockCache aCache = new MatrixBlockCache();
+
+  /**
+   * A cached block. The block is being read while aLoading is true.
+   */
+  private static final class Entry {
+    private MatrixBlock aBlock = null;
+    private boolean aLoading = true;
+    private int aRefs = 0;
+    private int aPending = 0;
+    private long aMemory = 0;
+  }
+
+  /**
+   * An announced block that has not yet been read along with the number of announced requesters.
+   */
+  private static final class Request {
+    private final MatrixBlock aBlock;
+    private int aPending = 1;
+
+    private Request(MatrixBlock mb) {
+      aBlock = mb;
+    }
+  }
+
+  /**
+   * Cached blocks in least to most recently used order.
+   */
+  private final LinkedHashMap<String, Entry> aEntries =
+      new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+  /**
+   * Announced blocks in the order they will be requested.
+   */
+  private final LinkedHashMap<String, Request> aPrefetchQueue =
+      new LinkedHashMap<String, Request>();
+
+  /**
+   * The background read-ahead thread. Started on the first announcement.
+   */
+  private Thread aPrefetcher = null;
+
+  /**
+   * The in-core memory budget (bytes). Blocks are not cached if it is zero.
+   */
+  private long aMemoryBudget = 0;
+
+  /**
+   * The in-core memory (bytes) of all cached blocks, estimated for blocks being read.
+   */
+  private long aMemoryUsed = 0;
+
+  private long aHits = 0;
+  private long aMisses = 0;
+  private long aPrefetches = 0;
+  private long aEvictions = 0;
+
+  /**
+   * The total time (msec) requesters spent waiting for blocks to be read.
+   */
+  private long aIOWaitTime = 0;
+
+  /**
+   * The total time (msec) spent reading blocks in the background.
+   */
+  private long aPrefetchReadTime = 0;
+
+  private MatrixBlockCache() {
+  }
+
+  /**
+   * Returns the block cache of this JVM.
+   * 
+   * @return The block cache of this JVM.
+   */
+  public static MatrixBlockCache getInstance() {
+    return aCache;
+  }
+
+  /**
+   * Sets the in-core memory budget (bytes) of the cache. Unused blocks are unloaded until the
+   * budget is met.
+   * 
+   * @param bytes The in-core memory budget (bytes).
+   */
+  public synchronized void setMemoryBudget(long bytes) {
+    aMemoryBudget = Math.max(bytes, 0);
+    trim(true);
+    notifyAll();
+  }
+
+  /**
+   * Returns the in-core memory budget (bytes) of the cache.
+   * 
+   * @return The in-core memory budget (bytes) of the cache.
+   */
+  public synchronized long getMemoryBudget() {
+    return aMemoryBudget;
+  }
+
+  /**
+   * Returns the loaded block with the same source path/file name as the input block. If the block
+   * is cached it is returned, waiting for it to be read if a read is in progress. Otherwise the
+   * input block is read, cached, and returned. Callers can compare the returned block to the
+   * input block to determine if it was a cache hit. The returned block must be handed back with
+   * release(MatrixBlock).
+   * 
+   * @param mb An unloaded block whose source path/file header has been set.
+   * @return The loaded block.
+   * @throws IOException If the block could not be read.
+   */
+  public MatrixBlock acquire(MatrixBlock mb) throws IOException {
+    String key = mb.getSourcePathFileName();
+    long strtTime = System.currentTimeMillis();
+    Entry e;
+    synchronized (this) {
+      // wait for any read in progress ... a failed read removes its entry
+
+      try {
+        while (((e = aEntries.get(key)) != null) && e.aLoading)
+          wait();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted waiting for block " + key + " ...", ex);
+      }
+
+      if (e != null) {
+        ++e.aRefs;
+        if (e.aPending > 0)
+          --e.aPending;
+        ++aHits;
+        aIOWaitTime += System.currentTimeMillis() - strtTime;
+        return e.aBlock;
+      }
+
+      // miss ... take over any announcement of this block and read it here
+
+      e = new Entry();
+      e.aRefs = 1;
+      Request r = aPrefetchQueue.remove(key);
+      if (r != null)
+        e.aPending = r.aPending - 1;
+      e.aMemory = estimateMemory(mb);
+      aEntries.put(key, e);
+      aMemoryUsed += e.aMemory;
+      ++aMisses;
+      trim(true);
+    }
+
+    load(key, e, mb);
+    synchronized (this) {
+      aIOWaitTime += System.currentTimeMillis() - strtTime;
+    }
+    return mb;
+  }
+
+  /**
+   * Hands back a block returned by acquire(MatrixBlock). The block remains cached until the memory
+   * budget requires its space. Blocks that are not cached are unloaded.
+   * 
+   * @param mb The block returned by acquire(MatrixBlock).
+   */
+  public synchronized void release(MatrixBlock mb) {
+    Entry e = aEntries.get(mb.getSourcePathFileName());
+    if ((e == null) || (e.aBlock != mb)) {
+      if (!mb.isLocked())
+        mb.unLoad();
+      return;
+    }
+
+    if (e.aRefs > 0)
+      --e.aRefs;
+    aMemoryUsed += mb.getMemoryAllocation() - e.aMemory;
+    e.aMemory = mb.getMemoryAllocation();
+    trim(true);
+    notifyAll();
+  }
+
+  /**
+   * Announces that the input block will be acquired. Blocks should be announced in the order they
+   * will be acquired, once for each acquire. Announced blocks are read in the background as space
+   * becomes available. Nothing is done if the memory budget is zero.
+   * 
+   * @param mb An unloaded block whose source path/file header has been set.
+   */
+  public synchronized void prefetch(MatrixBlock mb) {
+    if (aMemoryBudget == 0)
+      return;
+
+    String key = mb.getSourcePathFileName();
+    Entry e = aEntries.get(key);
+    if (e != null) {
+      ++e.aPending;
+      return;
+    }
+    Request r = aPrefetchQueue.get(key);
+    if (r != null) {
+      ++r.aPending;
+      return;
+    }
+
+    aPrefetchQueue.put(key, new Request(mb));
+    if (aPrefetcher == null) {
+      aPrefetcher = new Thread(this::prefetchLoop, "MatrixBlockCache-Prefetch");
+      aPrefetcher.setDaemon(true);
+      aPrefetcher.start();
+    }
+    notifyAll();
+  }
+
+  /**
+   * The background read-ahead loop. Reads the next announced block whenever it fits within the
+   * memory budget. Failed reads are discarded; the requester reads the block again and reports the
+   * error.
+   */
+  private void prefetchLoop() {
+    while (true) {
+      String key;
+      Entry e;
+      MatrixBlock mb;
+      synchronized (this) {
+        try {
+          while (!isPrefetchReady())
+            wait();
+        } catch (InterruptedException ex) {
+          return;
+        }
+
+        Iterator<Map.Entry<String, Request>> it = aPrefetchQueue.entrySet().iterator();
+        Map.Entry<String, Request> next = it.next();
+        it.remove();
+        key = next.getKey();
+        mb = next.getValue().aBlock;
+        e = new Entry();
+        e.aPending = next.getValue().aPending;
+        e.aMemory = estimateMemory(mb);
+        aEntries.put(key, e);
+        aMemoryUsed += e.aMemory;
+        ++aPrefetches;
+      }
+
+      long strtTime = System.currentTimeMillis();
+      try {
+        load(key, e, mb);
+      } catch (IOException | RuntimeException ex) {
+        // the requester reads the block itself
+      }
+      synchronized (this) {
+        aPrefetchReadTime += System.currentTimeMillis() - strtTime;
+      }
+    }
+  }
+
+  /**
+   * Returns true if the next announced block fits within the memory budget, unloading blocks that
+   * no announced requester still needs to make room. Announced blocks that can never fit are
+   * discarded. Must be called while holding this cache's lock.
+   * 
+   * @return True if the next announced block can be read.
+   */
+  private boolean isPrefetchReady() {
+    Iterator<Request> it = aPrefetchQueue.values().iterator();
+    while (it.hasNext()) {
+      long mem = estimateMemory(it.next().aBlock);
+      if (mem > aMemoryBudget) {
+        it.remove();
+        continue;
+      }
+
+      while ((aMemoryUsed + mem > aMemoryBudget) && evict(false))
+        ;
+      return aMemoryUsed + mem <= aMemoryBudget;
+    }
+    return false;
+  }
+
+  /**
+   * Reads the block of entry e and marks it loaded. On failure the entry is removed. Waiting
+   * requesters are notified in either case.
+   */
+  private void load(String key, Entry e, MatrixBlock mb) throws IOException {
+    try {
+      mb.readBlockCatch();
+    } catch (IOException | RuntimeException ex) {
+      synchronized (this) {
+        aEntries.remove(key);
+        aMemoryUsed -= e.aMemory;
+        notifyAll();
+      }
+      throw ex;
+    }
+
+    synchronized (this) {
+      e.aBlock = mb;
+      e.aLoading = false;
+      aMemoryUsed += mb.getMemoryAllocation() - e.aMemory;
+      e.aMemory = mb.getMemoryAllocation();
+      notifyAll();
+    }
+  }
+
+  /**
+   * Unloads unused blocks until the memory budget is met. Blocks that announced requesters still
+   * need are only unloaded if all is true. Must be called while holding this cache's lock.
+   */
+  private void trim(boolean all) {
+    while ((aMemoryUsed > aMemoryBudget) && evict(all))
+      ;
+  }
+
+  /**
+   * Unloads the least recently used block that no requester is using, preferring blocks that no
+   * announced requester still needs. Those are only considered if all is true. Must be called
+   * while holding this cache's lock.
+   * 
+   * @return True if a block was unloaded.
+   */
+  private boolean evict(boolean all) {
+    for (int pass = 0; pass < (all ? 2 : 1); ++pass) {
+      Iterator<Entry> it = aEntries.values().iterator();
+      while (it.hasNext()) {
+        Entry e = it.next();
+        if ((e.aRefs == 0) && !e.aLoading && ((pass == 1) || (e.aPending == 0))
+            && !e.aBlock.isLocked()) {
+          it.remove();
+          aMemoryUsed -= e.aMemory;
+          ++aEvictions;
+          e.aBlock.unLoad();
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the in-core memory estimate (bytes) of an unloaded block.
+   */
+  private static long estimateMemory(MatrixBlock mb) {
+    long n = mb.getMatrixBlockDefinition().blockSize();
+    return n * n * (Double.SIZE / 8);
+  }
+
+  /**
+   * Returns the number of acquires that found their block cached or being read.
+   * 
+   * @return The number of acquires that found their block cached or being read.
+   */
+  public synchronized long getHitCount() {
+    return aHits;
+  }
+
+  /**
+   * Returns the number of acquires that read their block.
+   * 
+   * @return The number of acquires that read their block.
+   */
+  public synchronized long getMissCount() {
+    return aMisses;
+  }
+
+  /**
+   * Returns the fraction of acquires that found their block cached or being read.
+   * 
+   * @return The fraction of acquires that found their block cached or being read.
+   */
+  public synchronized double getHitRate() {
+    long n = aHits + aMisses;
+    return (n == 0) ? 0.0 : (double) aHits / n;
+  }
+
+  /**
+   * Returns the number of blocks read in the background.
+   * 
+   * @return The number of blocks read in the background.
+   */
+  public synchronized long getPrefetchCount() {
+    return aPrefetches;
+  }
+
+  /**
+   * Returns the number of blocks unloaded to meet the memory budget.
+   * 
+   * @return The number of blocks unloaded to meet the memory budget.
+   */
+  public synchronized long getEvictionCount() {
+    return aEvictions;
+  }
+
+  /**
+   * Returns the total time (msec) requesters spent waiting for blocks to be read.
+   * 
+   * @return The total time (msec) requesters spent waiting for blocks to be read.
+   */
+  public synchronized long getIOWaitTime() {
+    return aIOWaitTime;
+  }
+
+  /**
+   * Returns the total time (msec) spent reading blocks in the background.
+   * 
+   * @return The total time (msec) spent reading blocks in the background.
+   */
+  public synchronized long getPrefetchReadTime() {
+    return aPrefetchReadTime;
+  }
+
+  /**
+   * Returns the in-core memory (bytes) of all cached blocks.
+   * 
+   * @return The in-core memory (bytes) of all cached blocks.
+   */
+  public synchronized long getMemoryUsed() {
+    return aMemoryUsed;
+  }
+
+  /**
+   * Return the cache settings and statistics as a string.
+   */
+  @Override
+  public String toString() {
+    return toString("");
+  }
+
+  /**
+   * Return the cache settings and statistics as a string.
+   * 
+   * @param hdr The header added to the beginning of each line
+   */
+  public synchronized String toString(String hdr) {
+    String s = hdr + "Matrix Block Cache:" + NL + hdr + "  Memory Budget (MB)             = "
+        + (aMemoryBudget / 1024 / 1024) + NL + hdr + "  Memory Used (MB)               = "
+        + (aMemoryUsed / 1024 / 1024) + NL + hdr + "  Cached Blocks                  = "
+        + aEntries.size() + NL + hdr + "  Hits                           = " + aHits + NL + hdr
+        + "  Misses                         = " + aMisses + NL + hdr
+        + "  Hit Rate (%)                   = " + (100.0 * getHitRate()) + NL + hdr
+        + "  Prefetched Blocks              = " + aPrefetches + NL + hdr
+        + "  Evicted Blocks                 = " + aEvictions + NL + hdr
+        + "  Requester I/O Wait Time        = " + Globals.timeStringAbbrvUnits(aIOWaitTime) + NL
+        + hdr + "  Prefetch Read Time             = "
+        + Globals.timeStringAbbrvUnits(aPrefetchReadTime) + NL + NL;
+
+    return s;
+  }
+}
@@ -425,6 +425,25 @@ public interface Polygon {
    */
   boolean[] contains(double[]... points) throws Exception;
 
+  /**
+   * Determine which of a large number of unit vectors are contained within this Polygon.
+   * <p>
+   * The default implementation calls contains(double[]) for each point in turn. Polygon2D and
+   * Polygon3D override it to evaluate points in parallel and, where the polygon supports it,
+   * against a precomputed grid of cells that are known to be entirely inside or outside the
+   * polygon, so that only points near the boundary require a full evaluation. No objects are
+   * allocated per point.
+   * 
+   * @param points the unit vectors to check
+   * @param contained on output, contained[i] is true if points[i] is within this Polygon. Must be
+   *        at least as long as points.
+   * @throws Exception
+   */
+  default void contains(double[][] points, boolean[] contained) throws Exception {
+    for (int i = 0; i < points.length; ++i)
+      contained[i] = contains(points[i]);
+  }
+
   /**
    * Returns true if this Polygon contains all of the supplied unit vectors
    * 
@@ -51,10 +51,12 @@ import java.util.Map.Entry;
 import java.util.Scanner;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.IntStream;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import gov.sandia.gmp.util.numerical.vector.GeoMath;
@@ -135,6 +137,20 @@ public abstract class Polygon2D implements Polygon, Serializable, Callable<Polyg
    */
   public Object attachment;
 
+  /**
+   * Cell index used by contains(double[][], boolean[]). Built the first time a large number of
+   * points is evaluated and discarded whenever the polygon is modified. cellIndexBuilt is true
+   * once an attempt has been made to build it, since not all polygons can be indexed.
+   */
+  private transient volatile PolygonCellIndex cellIndex;
+  private transient volatile boolean cellIndexBuilt;
+
+  /**
+   * contains(double[][], boolean[]) only builds a cell index when at least this many points are to
+   * be evaluated, and evaluates points in parallel in chunks of this size.
+   */
+  private static final int pointsPerChunk = 4096;
+
   private static final int pointsPerTask = 1000;
   protected int taskId;
   protected Map<double[], Boolean> taskPointMap;
@@ -225,6 +241,7 @@ public abstract class Polygon2D implements Polygon, Serializable, Callable<Polyg
   public void invert() {
     referenceIn = !referenceIn;
     hash = null;
+    clearCellIndex();
   }
 
   /**
@@ -241,6 +258,7 @@ public abstract class Polygon2D implements Polygon, Serializable, Callable<Polyg
     this.referenceIn = referenceIn;
     hash = null;
     area = Double.NaN;
+    clearCellIndex();
   }
 
   /**
@@ -261,6 +279,7 @@ public abstract class Polygon2D implements Polygon, Serializable, Callable<Polyg
     this.referenceIn = referenceIn;
     hash = null;
     area = Double.NaN;
+    clearCellIndex();
   }
 
   @Override
@@ -362,6 +381,85 @@ public abstract class Polygon2D implements Polygon, Serializable, Callable<Polyg
     return contained;
   }
 
+  /**
+   * Determine which of a large number of unit vectors are contained within this Polygon. Points are
+   * evaluated in parallel, in chunks, in the common ForkJoinPool. If the polygon and all of its
+   * holes are PolygonPoints, a PolygonCellIndex is built the first time and points that fall in
+   * cells entirely inside or outside the polygon are classified with a table lookup. Only points in
+   * cells that an edge passes through are evaluated with contains(double[]).
+   * 
+   * @param points the unit vectors to check
+   * @param contained on output, contained[i] is true if points[i] is within this Polygon.
+   * @throws Exception
+   */
+  @Override
+  public void contains(double[][] points, boolean[] contained) throws Exception {
+    if (contained.length < points.length)
+      throw new IllegalArgumentException(String.format(
+          "contained.length (%d) < points.length (%d)", contained.length, points.length));
+
+    PolygonCellIndex index = points.length < pointsPerChunk ? null : getCellIndex();
+    int nChunks = (points.length + pointsPerChunk - 1) / pointsPerChunk;
+    if (nChunks < 2) {
+      contains(points, contained, 0, points.length, index);
+      return;
+    }
+    try {
+      IntStream.range(0, nChunks).parallel().forEach(chunk -> {
+        try {
+          contains(points, contained, chunk * pointsPerChunk,
+              Math.min(points.length, (chunk + 1) * pointsPerChunk), index);
+        } catch (Exception e) {
+          throw new CompletionException(e);
+        }
+      });
+    } catch (CompletionException e) {
+      throw (Exception) e.getCause();
+    }
+  }
+
+  private void contains(double[][] points, boolean[] contained, int from, int to,
+      PolygonCellIndex index) throws Exception {
+    if (index == null)
+      for (int i = from; i < to; ++i)
+        contained[i] = contains(points[i]);
+    else
+      for (int i = from; i < to; ++i) {
+        byte state = index.getState(points[i]);
+        contained[i] =
+            state == PolygonCellIndex.BOUNDARY ? contains(points[i]) : state == PolygonCellIndex.IN;
+      }
+  }
+
+  /**
+   * Retrieve the cell index of this polygon, building it if necessary.
+   * 
+   * @return the cell index, or null if this polygon cannot be indexed.
+   * @throws Exception
+   */
+  private PolygonCellIndex getCellIndex() throws Exception {
+    if (!cellIndexBuilt)
+      synchronized (this) {
+        if (!cellIndexBuilt) {
+          cellIndex = PolygonCellIndex.build(this);
+          cellIndexBuilt = true;
+        }
+      }
+    return cellIndex;
+  }
+
+  /**
+   * Discard the cell index. Must be called whenever a change is made that could change the
+   * result of contains(double[]). Changes made to a hole after it has been added to this polygon are
+   * not detected.
+   */
+  protected void clearCellIndex() {
+    synchronized (this) {
+      cellIndex = null;
+      cellIndexBuilt = false;
+    }
+  }
+
   /**
    * Returns true if this Polygon contains all of the supplied unit vectors
    * 
@@ -780,6 +878,7 @@ public abstract class Polygon2D implements Polygon, Serializable, Callable<Polyg
       holes = new ArrayList<>();
     hole.isHole = true;
     holes.add(hole);
+    clearCellIndex();
   }
 
   public void writeGeoJSON(File fout) throws Exception {
@@ -401,6 +401,11 @@ public class Polygon3D implements Polygon {
     return polygon2d.contains(points);
   }
 
+  @Override
+  public void contains(double[][] points, boolean[] contained) throws Exception {
+    polygon2d.contains(points, contained);
+  }
+
   @Override
   public boolean containsAll(Collection<double[]> points) throws Exception {
     return polygon2d.containsAll(points);
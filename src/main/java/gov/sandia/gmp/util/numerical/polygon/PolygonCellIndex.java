@@ -0,0 +1,317 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.util.numerical.polygon;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.abs;
+import static java.lang.Math.asin;
+import static java.lang.Math.atan2;
+import static java.lang.Math.ceil;
+import static java.lang.Math.cos;
+import static java.lang.Math.floor;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import gov.sandia.gmp.util.containers.arraylist.ArrayListInt;
+import gov.sandia.gmp.util.numerical.vector.VectorUnit;
+
+/**
+ * A lat/lon grid of cells covering the unit sphere in which every cell is classified as entirely
+ * inside a Polygon2D, entirely outside it, or on its boundary. A cell is on the boundary if any
+ * edge of the polygon, or of any of its holes, passes within a small tolerance of the cell. All
+ * other cells are flood filled into connected regions and each region is classified with a single
+ * call to Polygon2D.contains(), so the classification of interior cells is exactly what
+ * contains() would return for any point in them. Points that fall in boundary cells have to be
+ * evaluated with contains().
+ * 
+ * <p>
+ * Only polygons whose boundaries, including the boundaries of all their holes, are composed of
+ * great circle edges (PolygonPoints) can be indexed.
+ */
+final class PolygonCellIndex {
+
+  /**
+   * Cell states. UNKNOWN is only used while the index is being built.
+   */
+  static final byte OUT = 0, IN = 1, BOUNDARY = 2, UNKNOWN = 3;
+
+  /**
+   * Distance in radians within which an edge is considered to touch a cell. Much larger than
+   * PolygonPoints.TOLERANCE so that points which contains() treats as being on the boundary always
+   * fall in boundary cells.
+   */
+  private static final double MARGIN = 1e-6;
+
+  private final int nLat, nLon;
+
+  private final double dLat, dLon;
+
+  private final byte[] cells;
+
+  /**
+   * Sine and cosine of the latitude of the center of each row and of the longitude of the center
+   * of each column.
+   */
+  private final double[] rowSin, rowCos, colSin, colCos;
+
+  /**
+   * Angular radius of a cap centered on the center of a cell in each row that completely contains
+   * the cell.
+   */
+  private final double[] rowRadius;
+
+  /**
+   * Build an index for the specified polygon. Returns null if the polygon, or any of its holes, is
+   * not bounded by great circle edges.
+   * 
+   * @param polygon the polygon to index
+   * @return an index, or null if the polygon cannot be indexed.
+   * @throws Exception
+   */
+  static PolygonCellIndex build(Polygon2D polygon) throws Exception {
+    List<GreatCircle> edges = new ArrayList<>();
+    if (!collectEdges(polygon, edges))
+      return null;
+    return new PolygonCellIndex(polygon, edges);
+  }
+
+  private static boolean collectEdges(Polygon2D polygon, List<GreatCircle> edges) {
+    if (!(polygon instanceof PolygonPoints))
+      return false;
+    edges.addAll(((PolygonPoints) polygon).getEdges());
+    for (Polygon2D hole : polygon.getHoles())
+      if (!collectEdges(hole, edges))
+        return false;
+    return true;
+  }
+
+  private PolygonCellIndex(Polygon2D polygon, List<GreatCircle> edges) throws Exception {
+    // resolution grows with the number of edges so that the fraction of the sphere covered
+    // by boundary cells stays small.
+    nLat = min(2048, max(64, 8 * (int) ceil(sqrt(edges.size()))));
+    nLon = 2 * nLat;
+    dLat = PI / nLat;
+    dLon = 2 * PI / nLon;
+
+    rowSin = new double[nLat];
+    rowCos = new double[nLat];
+    rowRadius = new double[nLat];
+    for (int i = 0; i < nLat; ++i) {
+      double lat = -PI / 2 + (i + 0.5) * dLat;
+      rowSin[i] = sin(lat);
+      rowCos[i] = cos(lat);
+
+      // the farthest point of a cell from its center is one of its corners or edge midpoints.
+      double[] center = vector(lat, 0.);
+      double r = 0.;
+      for (int j = -1; j <= 1; ++j)
+        for (int k = -1; k <= 1; ++k)
+          r = max(r, VectorUnit.angle(center, vector(lat + j * dLat / 2, k * dLon / 2)));
+      rowRadius[i] = r * 1.02;
+    }
+
+    colSin = new double[nLon];
+    colCos = new double[nLon];
+    for (int j = 0; j < nLon; ++j) {
+      double lon = -PI + (j + 0.5) * dLon;
+      colSin[j] = sin(lon);
+      colCos[j] = cos(lon);
+    }
+
+    cells = new byte[nLat * nLon];
+    Arrays.fill(cells, UNKNOWN);
+
+    double[] normal = new double[3];
+    for (GreatCircle edge : edges)
+      markBoundary(edge.getFirst(), edge.getLast(), normal);
+
+    classify(polygon);
+  }
+
+  /**
+   * Mark as BOUNDARY every cell that the arc from a to b passes within MARGIN of.
+   */
+  private void markBoundary(double[] a, double[] b, double[] n) {
+    // a degenerate edge is treated as the point a.
+    if (VectorUnit.crossNormal(a, b, n) == 0.)
+      n = null;
+
+    // latitude range spanned by the arc, including the extreme points of the great circle
+    // if they lie on the arc.
+    double latA = latitude(a), latB = latitude(b);
+    double latMin = min(latA, latB), latMax = max(latA, latB);
+    if (n != null && abs(n[2]) < 1.) {
+      double[] p = {-n[2] * n[0], -n[2] * n[1], 1. - n[2] * n[2]};
+      double len = sqrt(p[0] * p[0] + p[1] * p[1] + p[2] * p[2]);
+      if (len > 0.) {
+        p[0] /= len;
+        p[1] /= len;
+        p[2] /= len;
+        if (onArc(a, b, n, p))
+          latMax = max(latMax, latitude(p));
+        p[0] = -p[0];
+        p[1] = -p[1];
+        p[2] = -p[2];
+        if (onArc(a, b, n, p))
+          latMin = min(latMin, latitude(p));
+      }
+    }
+
+    double expand = rowRadius[nLat / 2] + dLat + MARGIN;
+    int row0 = max(0, (int) floor((latMin - expand + PI / 2) / dLat));
+    int row1 = min(nLat - 1, (int) floor((latMax + expand + PI / 2) / dLat));
+
+    // longitude range. Longitude varies monotonically along an arc that does not pass over a
+    // pole. If the expanded arc gets close to a pole, search all longitudes.
+    int col0 = 0, col1 = nLon - 1;
+    double maxAbsLat = max(abs(latMin), abs(latMax)) + expand;
+    if (maxAbsLat < PI / 2 - dLat) {
+      double lonA = atan2(a[1], a[0]);
+      double delta = atan2(b[1], b[0]) - lonA;
+      if (delta > PI)
+        delta -= 2 * PI;
+      else if (delta < -PI)
+        delta += 2 * PI;
+      double lonExpand = expand / cos(maxAbsLat);
+      double lonMin = min(lonA, lonA + delta) - lonExpand;
+      double lonMax = max(lonA, lonA + delta) + lonExpand;
+      if (lonMax - lonMin < 2 * PI) {
+        col0 = (int) floor((lonMin + PI) / dLon);
+        col1 = (int) floor((lonMax + PI) / dLon);
+      }
+    }
+
+    double[] c = new double[3];
+    for (int i = row0; i <= row1; ++i)
+      for (int jj = col0; jj <= col1; ++jj) {
+        int j = Math.floorMod(jj, nLon);
+        int cell = i * nLon + j;
+        if (cells[cell] == BOUNDARY)
+          continue;
+        center(i, j, c);
+        if (distance(a, b, n, c) <= rowRadius[i] + MARGIN)
+          cells[cell] = BOUNDARY;
+      }
+  }
+
+  /**
+   * Flood fill the cells that are not on the boundary. Every connected region of such cells is
+   * entirely inside or entirely outside the polygon, so only one point in each region needs to be
+   * evaluated.
+   */
+  private void classify(Polygon2D polygon) throws Exception {
+    ArrayListInt stack = new ArrayListInt();
+    double[] c = new double[3];
+    for (int start = 0; start < cells.length; ++start)
+      if (cells[start] == UNKNOWN) {
+        center(start / nLon, start % nLon, c);
+        byte state = polygon.contains(c) ? IN : OUT;
+        cells[start] = state;
+        stack.add(start);
+        while (stack.size() > 0) {
+          int cell = stack.removeLast();
+          int i = cell / nLon, j = cell % nLon;
+          fill(i * nLon + (j + 1) % nLon, state, stack);
+          fill(i * nLon + (j + nLon - 1) % nLon, state, stack);
+          if (i > 0)
+            fill(cell - nLon, state, stack);
+          if (i < nLat - 1)
+            fill(cell + nLon, state, stack);
+        }
+      }
+  }
+
+  private void fill(int cell, byte state, ArrayListInt stack) {
+    if (cells[cell] == UNKNOWN) {
+      cells[cell] = state;
+      stack.add(cell);
+    }
+  }
+
+  /**
+   * Retrieve the state of the cell that contains the specified point: IN, OUT or BOUNDARY.
+   * 
+   * @param x a unit vector
+   * @return IN, OUT or BOUNDARY
+   */
+  byte getState(double[] x) {
+    int i = (int) ((latitude(x) + PI / 2) / dLat);
+    int j = (int) ((atan2(x[1], x[0]) + PI) / dLon);
+    return cells[min(i, nLat - 1) * nLon + min(j, nLon - 1)];
+  }
+
+  /**
+   * Retrieve the number of cells in the index.
+   */
+  int size() {
+    return cells.length;
+  }
+
+  private void center(int i, int j, double[] c) {
+    c[0] = rowCos[i] * colCos[j];
+    c[1] = rowCos[i] * colSin[j];
+    c[2] = rowSin[i];
+  }
+
+  private static double[] vector(double lat, double lon) {
+    return new double[] {cos(lat) * cos(lon), cos(lat) * sin(lon), sin(lat)};
+  }
+
+  private static double latitude(double[] x) {
+    return atan2(x[2], sqrt(x[0] * x[0] + x[1] * x[1]));
+  }
+
+  /**
+   * Angular distance from unit vector c to the arc from a to b, whose unit normal is n. If n is
+   * null, the distance from c to a.
+   */
+  private static double distance(double[] a, double[] b, double[] n, double[] c) {
+    if (n != null && onArc(a, b, n, c))
+      return asin(min(1., abs(VectorUnit.dot(c, n))));
+    double da = VectorUnit.angle(a, c);
+    return n == null ? da : min(da, VectorUnit.angle(b, c));
+  }
+
+  /**
+   * Return true if the projection of c onto the great circle through a and b, with unit normal
+   * n, lies on the arc from a to b.
+   */
+  private static boolean onArc(double[] a, double[] b, double[] n, double[] c) {
+    return VectorUnit.scalarTripleProduct(a, c, n) >= 0.
+        && VectorUnit.scalarTripleProduct(c, b, n) >= 0.;
+  }
+}
@@ -285,6 +285,7 @@ public class PolygonPoints extends Polygon2D implements Serializable, Callable<P
     referenceIn = !referenceIn;
     smallSideIn = !smallSideIn;
     area = 4 * PI - area;
+    clearCellIndex();
   }
 
   /**
@@ -305,6 +306,7 @@ public class PolygonPoints extends Polygon2D implements Serializable, Callable<P
 
     this.referencePoint = referencePoint.clone();
     this.referenceIn = referenceIn;
+    clearCellIndex();
   }
 
   /**
@@ -329,6 +331,8 @@ public class PolygonPoints extends Polygon2D implements Serializable, Callable<P
     if (points.size() < 3)
       throw new Exception("Cannot create a polygon with only " + points.size() + " point(s).");
 
+    clearCellIndex();
+
     // there will be a GreatCircle edge for every vertex
     edges = new ArrayList<GreatCircle>(points.size() + 1);
 
@@ -0,0 +1,178 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ * 
+ * BSD Open Source License.
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ * 
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gmp.util.numerical.sparse;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import gov.sandia.gmp.util.containers.arraylist.ArrayListLong;
+import gov.sandia.gmp.util.filebuffer.FileInputBuffer;
+import gov.sandia.gmp.util.filebuffer.FileOutputBuffer;
+
+/**
+ * Writes a sparse matrix to disk one row at a time, in Compressed Sparse Row (CSR) form, without
+ * ever holding more than the row pointers in memory. The file written by close() has the same
+ * format as SparseMatrixHuge.write() and can be loaded with new SparseMatrixHuge(filename). This
+ * allows matrices that are assembled from very many rows, such as tomographic sensitivity
+ * matrices, to be built even if their entries do not fit in memory.
+ * 
+ * <p>
+ * While rows are being added the column indices and values are spooled to two temporary files
+ * next to the output file. close() assembles the output file from them and deletes them.
+ */
+public class SparseMatrixHugeWriter implements Closeable {
+
+  private final String filename;
+
+  private final File colsFile, valsFile;
+
+  private FileOutputBuffer cols, vals;
+
+  /**
+   * Row pointers. Row i occupies entries rowsPtrs[i] to rowsPtrs[i+1]-1.
+   */
+  private final ArrayListLong rowsPtrs = new ArrayListLong();
+
+  /**
+   * The number of columns, i.e., one more than the largest column index added so far.
+   */
+  private int nCols;
+
+  /**
+   * Create a writer that will write a sparse matrix to the specified file.
+   * 
+   * @param filename the file to which the matrix will be written when close() is called.
+   * @throws IOException
+   */
+  public SparseMatrixHugeWriter(String filename) throws IOException {
+    this.filename = filename;
+    colsFile = new File(filename + ".cols.tmp");
+    valsFile = new File(filename + ".vals.tmp");
+    cols = new FileOutputBuffer(colsFile.getPath());
+    vals = new FileOutputBuffer(valsFile.getPath());
+    rowsPtrs.add(0L);
+  }
+
+  /**
+   * Append a row to the matrix.
+   * 
+   * @param rowCols column indices of the entries of the row, in increasing order.
+   * @param rowVals values of the entries of the row.
+   * @param offset index of the first entry of the row in rowCols and rowVals.
+   * @param length number of entries in the row.
+   * @throws IOException
+   */
+  public void addRow(int[] rowCols, double[] rowVals, int offset, int length) throws IOException {
+    for (int i = offset; i < offset + length; ++i) {
+      cols.writeInt(rowCols[i]);
+      vals.writeDouble(rowVals[i]);
+      if (rowCols[i] >= nCols)
+        nCols = rowCols[i] + 1;
+    }
+    rowsPtrs.add(rowsPtrs.getLast() + length);
+  }
+
+  /**
+   * Specify the number of columns in the matrix. Only needed if the last columns of the matrix
+   * could be empty; otherwise the number of columns is one more than the largest column index
+   * added.
+   * 
+   * @param nCols the number of columns in the matrix.
+   */
+  public void setColumnCount(int nCols) {
+    this.nCols = Math.max(this.nCols, nCols);
+  }
+
+  /**
+   * @return the number of rows added so far.
+   */
+  public int getRowCount() {
+    return rowsPtrs.size() - 1;
+  }
+
+  /**
+   * @return the number of entries added so far.
+   */
+  public long getEntryCount() {
+    return rowsPtrs.getLast();
+  }
+
+  /**
+   * @return the name of the file to which the matrix is written.
+   */
+  public String getFilename() {
+    return filename;
+  }
+
+  /**
+   * Write the matrix file and delete the temporary files. Further calls have no effect.
+   * 
+   * @throws IOException
+   */
+  @Override
+  public void close() throws IOException {
+    if (cols == null)
+      return;
+    cols.close();
+    vals.close();
+    cols = vals = null;
+
+    long n = getEntryCount();
+    FileOutputBuffer fob = new FileOutputBuffer(filename);
+    try {
+      // same layout as SparseMatrixHuge.write()
+      fob.writeInt(getRowCount());
+      fob.writeInt(nCols);
+      fob.writeBoolean(false);
+      fob.writeBoolean(false);
+      fob.writeString("CSR");
+      rowsPtrs.write(fob);
+
+      FileInputBuffer fib = new FileInputBuffer(colsFile.getPath());
+      fob.writeLong(n);
+      for (long i = 0; i < n; ++i)
+        fob.writeInt(fib.readInt());
+      fib.close();
+
+      fib = new FileInputBuffer(valsFile.getPath());
+      fob.writeLong(n);
+      for (long i = 0; i < n; ++i)
+        fob.writeDouble(fib.readDouble());
+      fib.close();
+    } finally {
+      fob.close();
+      colsFile.delete();
+      valsFile.delete();
+    }
+  }
+}
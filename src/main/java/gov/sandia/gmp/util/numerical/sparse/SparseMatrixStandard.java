@@ -190,6 +190,27 @@ public class SparseMatrixStandard extends SparseMatrix {
     resetTRPEmpty();
   }
 
+  /**
+   * Creates a sparse matrix directly from a Compressed Sparse Row (CSR) representation without
+   * forming the triplet representation first. The input lists become the CSR storage of this
+   * matrix and should not be modified by the caller afterwards. The column indices of each row
+   * must be in increasing order.
+   * 
+   * @param rowsPtrs the row pointers. Row i occupies entries rowsPtrs[i] to rowsPtrs[i+1]-1 of
+   *        cols and vals. Size is the number of rows + 1.
+   * @param cols the column index of each entry.
+   * @param vals the value of each entry.
+   * @param nCols the number of columns in the matrix.
+   */
+  public SparseMatrixStandard(ArrayListInt rowsPtrs, ArrayListInt cols, ArrayListDouble vals,
+      int nCols) {
+    rowsPtrsCSR = rowsPtrs;
+    colsCSR = cols;
+    valsCSR = vals;
+    maxRowIndex = rowsPtrs.size() - 1;
+    maxColIndex = nCols;
+  }
+
   /**
    * Reads a sparse matrix from the file stored by the input name.
    * 
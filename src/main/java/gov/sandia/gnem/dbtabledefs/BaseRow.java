@@ -504,6 +504,32 @@ public abstract class BaseRow implements Cloneable, Serializable {
    */
   abstract public void setLongField(String name, String input) throws IOException;
 
+  /**
+   * Sets a Double field (column) value to the given, already parsed, input. Used by RowParser to
+   * avoid converting numeric tokens to Strings. Derived classes override this method; the default
+   * implementation defers to setDoubleField(String, String).
+   * 
+   * @param name The Double field to be assigned.
+   * @param value The value to be assigned to the given field.
+   * @throws IOException
+   */
+  public void setDoubleField(String name, double value) throws IOException {
+    setDoubleField(name, Double.toString(value));
+  }
+
+  /**
+   * Sets a Long field (column) value to the given, already parsed, input. Used by RowParser to
+   * avoid converting numeric tokens to Strings. Derived classes override this method; the default
+   * implementation defers to setLongField(String, String).
+   * 
+   * @param name The Long field to be assigned.
+   * @param value The value to be assigned to the given field.
+   * @throws IOException
+   */
+  public void setLongField(String name, long value) throws IOException {
+    setLongField(name, Long.toString(value));
+  }
+
   /**
    * Called by a constructor of each derived object that extends this base class and supports
    * Scanner line input in the derived objects constructor argument list.
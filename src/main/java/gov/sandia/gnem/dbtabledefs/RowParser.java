@@ -0,0 +1,483 @@
+/**
+ * Copyright 2026 National Technology & Engineering Solutions of Sandia, LLC (NTESS). Under the
+ * terms of Contract DE-NA0003525 with NTESS, the U.S. Government retains certain rights in this
+ * software.
+ *
+ * BSD Open Source License.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice, this list of conditions
+ * and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided with
+ * the distribution.
+ *
+ * - Neither the name of Sandia National Laboratories nor the names of its contributors may be used
+ * to endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package gov.sandia.gnem.dbtabledefs;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import gov.sandia.gnem.dbtabledefs.Columns.FieldType;
+
+/**
+ * Fast replacement for the Scanner based constructors, e.g. Arrival(Scanner), used to read rows
+ * from flat files. Tokens are located by character offset within the line, numeric columns are
+ * parsed directly from the characters and passed to setDoubleField(String, double) and
+ * setLongField(String, long), so only String columns allocate a String. The mapping from input
+ * columns to fields is taken from the table's Columns object and input column names, just as in
+ * BaseRow.setInputValues().
+ *
+ * <p>
+ * Rows are identical to those produced by the Scanner based constructors. Numbers that the fast
+ * path cannot convert exactly (more than 18 digits, large exponents, NaN, hexadecimal, etc.) are
+ * handed to BaseRow.getInputDouble() and getInputLong(). Only literal token delimiters are
+ * supported; when BaseRow.tokenDelim is a single space, tokens may be quoted strings and the
+ * Scanner based constructors must be used instead. See isSupported().
+ *
+ * <p>
+ * Files larger than 16 MB are split into chunks at line boundaries and the chunks are parsed in
+ * parallel in the common ForkJoinPool. Rows are added to the output Collection in file order.
+ *
+ * <p>
+ * A RowParser is not thread safe.
+ *
+ * @param <T> the type of row produced.
+ */
+public class RowParser<T extends BaseRow> {
+
+  /**
+   * Files smaller than this are parsed on the calling thread.
+   */
+  static final long PARALLEL_FILE_SIZE = 1L << 24;
+
+  /**
+   * Approximate size, in bytes, of the chunks of a file that are parsed in parallel.
+   */
+  static final long CHUNK_SIZE = 1L << 25;
+
+  /**
+   * Powers of ten that are exactly representable as doubles.
+   */
+  private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+      1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+  private final Columns columns;
+
+  private final Supplier<T> newRow;
+
+  private final String className;
+
+  private final char[] delim;
+
+  /**
+   * Lower case input column names, one per token.
+   */
+  private String[] names;
+
+  /**
+   * FieldType of each input column.
+   */
+  private FieldType[] types;
+
+  /**
+   * Start and end offsets of the tokens in the current line. Reused from line to line.
+   */
+  private int[] starts, ends;
+
+  /**
+   * Characters of the current line, when parsing Strings. Reused from line to line.
+   */
+  private char[] line = new char[256];
+
+  /**
+   * @param columns the table's Columns, e.g., Arrival.getColumns().
+   * @param inputColumnNames the table's input column names, e.g., Arrival.getInputColumnNames().
+   *        These are replaced if a file read with read() has a header line.
+   * @param newRow supplier of new rows populated with na_values, e.g., Arrival::new.
+   * @throws IOException if an input column name is not defined in columns.
+   */
+  public RowParser(Columns columns, String[] inputColumnNames, Supplier<T> newRow)
+      throws IOException {
+    this.columns = columns;
+    this.newRow = newRow;
+    this.className = newRow.get().getClass().getName();
+    this.delim = BaseRow.getTokenDelimiter().toCharArray();
+    mapColumns(inputColumnNames);
+  }
+
+  /**
+   * Copy constructor used to parse chunks of a file on separate threads.
+   */
+  private RowParser(RowParser<T> other) {
+    this.columns = other.columns;
+    this.newRow = other.newRow;
+    this.className = other.className;
+    this.delim = other.delim;
+    this.names = other.names;
+    this.types = other.types;
+    this.starts = new int[names.length];
+    this.ends = new int[names.length];
+  }
+
+  /**
+   * Return true if the current BaseRow token delimiter can be handled by RowParser. The delimiter
+   * must be a literal string (no regular expression meta characters) other than a single space.
+   */
+  public static boolean isSupported() {
+    String d = BaseRow.getTokenDelimiter();
+    if (d.isEmpty() || d.equals(" "))
+      return false;
+    for (int i = 0; i < d.length(); ++i)
+      if ("\\^$.|?*+()[]{}".indexOf(d.charAt(i)) >= 0)
+        return false;
+    return true;
+  }
+
+  /**
+   * Replace the input column names, validating them the same way as, for example,
+   * Arrival.setNewInputColumnNames().
+   *
+   * @param inputColumnNames
+   * @throws IOException
+   */
+  public void setInputColumnNames(String[] inputColumnNames) throws IOException {
+    columns.containsValidColumnNames(inputColumnNames);
+    columns.containsAllRequiredColumns(inputColumnNames);
+    mapColumns(inputColumnNames);
+  }
+
+  private void mapColumns(String[] inputColumnNames) throws IOException {
+    names = new String[inputColumnNames.length];
+    types = new FieldType[inputColumnNames.length];
+    for (int i = 0; i < names.length; ++i) {
+      names[i] = inputColumnNames[i].toLowerCase();
+      types[i] = columns.getColumnNameFieldType(names[i]);
+      if (types[i] == null)
+        throw new IOException("Error: Field= \"" + names[i] + "\" is not defined ...");
+    }
+    starts = new int[names.length];
+    ends = new int[names.length];
+  }
+
+  /**
+   * Parse one line of input into a new row.
+   *
+   * @param input a single line of tokens.
+   * @return a new row
+   * @throws IOException if there are too few tokens or a numeric token is invalid.
+   */
+  public T parse(String input) throws IOException {
+    if (line.length < input.length())
+      line = new char[Math.max(input.length(), 2 * line.length)];
+    input.getChars(0, input.length(), line, 0);
+    return parse(line, 0, input.length());
+  }
+
+  /**
+   * Parse the characters buf[from..to) into a new row.
+   *
+   * @param buf
+   * @param from index of the first character of the line.
+   * @param to index one past the last character of the line.
+   * @return a new row
+   * @throws IOException if there are too few tokens or a numeric token is invalid.
+   */
+  public T parse(char[] buf, int from, int to) throws IOException {
+    int n = tokenize(buf, from, to);
+    if (n < names.length) {
+      String d = delim.length == 1 && delim[0] == '\t' ? "tab"
+          : delim.length == 1 && delim[0] == ',' ? "comma" : "?";
+      throw new IOException(String.format("Error parsing line tokens for class %s.  "
+          + "Expected %d tokens but found %d.%n"
+          + "BaseRow.tokenDelim is currently '%s', use BaseRow.setTokenDelimiter(String) to set it to either 'space', 'tab', or 'comma",
+          className, names.length, n, d));
+    }
+
+    T row = newRow.get();
+    for (int i = 0; i < names.length; ++i)
+      switch (types[i]) {
+        case STRING:
+          row.setStringField(names[i], new String(buf, starts[i], ends[i] - starts[i]));
+          break;
+        case DOUBLE:
+          row.setDoubleField(names[i], parseDouble(buf, starts[i], ends[i], names[i]));
+          break;
+        case LONG:
+          row.setLongField(names[i], parseLong(buf, starts[i], ends[i], names[i]));
+          break;
+        default:
+          throw new IOException("Error: Unknow input type: \"" + types[i].name() + "\" ...");
+      }
+    return row;
+  }
+
+  /**
+   * Find the tokens in buf[from..to), stopping once names.length tokens have been found. Tokens are
+   * trimmed; tokens that are empty or consist of a single comma are skipped, as in
+   * BaseRow.getLineTokens().
+   *
+   * @return the number of tokens found.
+   */
+  private int tokenize(char[] buf, int from, int to) {
+    int n = 0, p = from;
+    while (n < names.length) {
+      int e = indexOfDelim(buf, p, to);
+      int s = p, t = e;
+      while (s < t && buf[s] <= ' ')
+        ++s;
+      while (t > s && buf[t - 1] <= ' ')
+        --t;
+      if (t > s && !(t - s == 1 && buf[s] == ',')) {
+        starts[n] = s;
+        ends[n++] = t;
+      }
+      if (e == to)
+        break;
+      p = e + delim.length;
+    }
+    return n;
+  }
+
+  private int indexOfDelim(char[] buf, int from, int to) {
+    int last = to - delim.length;
+    for (int i = from; i <= last; ++i)
+      if (buf[i] == delim[0]) {
+        int j = 1;
+        while (j < delim.length && buf[i + j] == delim[j])
+          ++j;
+        if (j == delim.length)
+          return i;
+      }
+    return to;
+  }
+
+  private long parseLong(char[] buf, int from, int to, String name) throws IOException {
+    int p = from;
+    boolean negative = buf[p] == '-';
+    if (negative || buf[p] == '+')
+      ++p;
+    if (p == to || to - p > 18)
+      return BaseRow.getInputLong(new String(buf, from, to - from), name, className);
+    long value = 0;
+    for (; p < to; ++p) {
+      int d = buf[p] - '0';
+      if (d < 0 || d > 9)
+        return BaseRow.getInputLong(new String(buf, from, to - from), name, className);
+      value = value * 10 + d;
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * Parse [+-]digits[.digits][(e|E)[+-]digits]. The result is exact when the significand fits in
+   * 53 bits and the decimal exponent is within +/- 22, since both operands of the single multiply or
+   * divide are then exact and the one rounding is the same as Double.valueOf(). Everything else is
+   * delegated to BaseRow.getInputDouble().
+   */
+  private double parseDouble(char[] buf, int from, int to, String name) throws IOException {
+    int p = from;
+    boolean negative = buf[p] == '-';
+    if (negative || buf[p] == '+')
+      ++p;
+
+    long m = 0;
+    int nDigits = 0, exponent = 0, d;
+    while (p < to && (d = buf[p] - '0') >= 0 && d <= 9) {
+      m = m * 10 + d;
+      ++nDigits;
+      ++p;
+    }
+    if (p < to && buf[p] == '.')
+      for (++p; p < to && (d = buf[p] - '0') >= 0 && d <= 9; ++p) {
+        m = m * 10 + d;
+        ++nDigits;
+        --exponent;
+      }
+
+    if (nDigits > 0 && nDigits <= 18 && p < to && (buf[p] == 'e' || buf[p] == 'E')) {
+      ++p;
+      boolean negativeExponent = p < to && buf[p] == '-';
+      if (p < to && (negativeExponent || buf[p] == '+'))
+        ++p;
+      int e = 0, nExponentDigits = 0;
+      while (p < to && nExponentDigits < 4 && (d = buf[p] - '0') >= 0 && d <= 9) {
+        e = e * 10 + d;
+        ++nExponentDigits;
+        ++p;
+      }
+      if (nExponentDigits == 0)
+        p = -1;
+      exponent += negativeExponent ? -e : e;
+    }
+
+    if (p != to || nDigits == 0 || nDigits > 18 || m > (1L << 53) || exponent < -22
+        || exponent > 22)
+      return BaseRow.getInputDouble(new String(buf, from, to - from), name, className);
+
+    double value = exponent < 0 ? m / POW10[-exponent] : m * POW10[exponent];
+    return negative ? -value : value;
+  }
+
+  /**
+   * Read rows from a BufferedReader, which is closed after all the data has been read. If the first
+   * line starts with '#' it is interpreted as the list of input column names. Other lines that
+   * start with '#' are ignored.
+   *
+   * @param input
+   * @param rows the Collection to which rows are added.
+   * @throws IOException
+   */
+  public void read(BufferedReader input, Collection<? super T> rows) throws IOException {
+    try {
+      String s;
+      int linesRead = 0;
+      while ((s = input.readLine()) != null) {
+        s = s.trim();
+        ++linesRead;
+        if (s.startsWith("#") && linesRead == 1)
+          setInputColumnNames(parseHeader(s));
+        else if (!s.startsWith("#"))
+          rows.add(parse(s));
+      }
+    } finally {
+      input.close();
+    }
+  }
+
+  /**
+   * Read rows from a file. Large files are parsed in parallel chunks. If the first line starts with
+   * '#' it is interpreted as the list of input column names. Other lines that start with '#' are
+   * ignored.
+   *
+   * @param inputFile
+   * @param rows the Collection to which rows are added, in the order they appear in the file.
+   * @throws IOException
+   */
+  public void read(File inputFile, Collection<? super T> rows) throws IOException {
+    if (inputFile.length() < PARALLEL_FILE_SIZE || ForkJoinPool.getCommonPoolParallelism() < 2) {
+      read(new BufferedReader(new FileReader(inputFile)), rows);
+      return;
+    }
+
+    Charset charset = Charset.defaultCharset();
+    try (FileChannel channel = FileChannel.open(inputFile.toPath(), StandardOpenOption.READ)) {
+      long size = channel.size();
+
+      // header line, if any.
+      long start = nextLineStart(channel, 0, size);
+      String first = charset.decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, start))
+          .toString().trim();
+      if (first.startsWith("#"))
+        setInputColumnNames(parseHeader(first));
+      else
+        start = 0;
+
+      // chunk boundaries, each at the start of a line.
+      List<Long> bounds = new ArrayList<>();
+      bounds.add(start);
+      while (start + CHUNK_SIZE < size) {
+        start = nextLineStart(channel, start + CHUNK_SIZE - 1, size);
+        bounds.add(start);
+      }
+      if (start < size)
+        bounds.add(size);
+
+      try {
+        List<List<T>> chunks = IntStream.range(0, bounds.size() - 1).parallel().mapToObj(i -> {
+          try {
+            return new RowParser<T>(this).parseChunk(charset.decode(channel.map(
+                FileChannel.MapMode.READ_ONLY, bounds.get(i), bounds.get(i + 1) - bounds.get(i))));
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }).collect(Collectors.toList());
+        for (List<T> chunk : chunks)
+          rows.addAll(chunk);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
+  }
+
+  /**
+   * Parse all the lines in a chunk of a file. Lines that start with '#' are ignored.
+   */
+  private List<T> parseChunk(CharBuffer chunk) throws IOException {
+    char[] buf = chunk.array();
+    int end = chunk.arrayOffset() + chunk.limit();
+    List<T> rows = new ArrayList<>();
+    int p = chunk.arrayOffset();
+    while (p < end) {
+      int e = p;
+      while (e < end && buf[e] != '\n' && buf[e] != '\r')
+        ++e;
+
+      int s = p, t = e;
+      while (s < t && buf[s] <= ' ')
+        ++s;
+      while (t > s && buf[t - 1] <= ' ')
+        --t;
+      if (s == t || buf[s] != '#')
+        rows.add(parse(buf, s, t));
+
+      p = e < end && buf[e] == '\r' && e + 1 < end && buf[e + 1] == '\n' ? e + 2 : e + 1;
+    }
+    return rows;
+  }
+
+  /**
+   * Return the position of the first byte after the first '\n' at or after position pos, or size if
+   * there is none.
+   */
+  private static long nextLineStart(FileChannel channel, long pos, long size) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(8192);
+    while (pos < size) {
+      buffer.clear();
+      int n = channel.read(buffer, pos);
+      if (n <= 0)
+        break;
+      for (int i = 0; i < n; ++i)
+        if (buffer.get(i) == '\n')
+          return pos + i + 1;
+      pos += n;
+    }
+    return size;
+  }
+
+  private static String[] parseHeader(String line) {
+    return line.substring(1).trim().replaceAll(",", " ").split("\\s+");
+  }
+
+}
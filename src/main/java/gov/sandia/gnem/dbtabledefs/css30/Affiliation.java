@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * affiliation
@@ -318,6 +319,10 @@ public class Affiliation extends BaseRow implements Serializable {
    */
   static public void readAffiliations(BufferedReader input, Collection<Affiliation> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Affiliation::new).read(input, rows);
+      return;
+    }
     String[] saved = Affiliation.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -344,7 +349,10 @@ public class Affiliation extends BaseRow implements Serializable {
    */
   static public void readAffiliations(File inputFile, Collection<Affiliation> rows)
       throws IOException {
-    readAffiliations(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Affiliation::new).read(inputFile, rows);
+    else
+      readAffiliations(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
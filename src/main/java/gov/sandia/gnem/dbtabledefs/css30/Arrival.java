@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * arrival
@@ -532,7 +533,11 @@ public class Arrival extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "time":
         time = value;
@@ -597,7 +602,11 @@ public class Arrival extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "arid":
         arid = value;
@@ -866,6 +875,10 @@ public class Arrival extends BaseRow implements Serializable {
    */
   static public void readArrivals(BufferedReader input, Collection<Arrival> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Arrival::new).read(input, rows);
+      return;
+    }
     String[] saved = Arrival.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -890,7 +903,10 @@ public class Arrival extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readArrivals(File inputFile, Collection<Arrival> rows) throws IOException {
-    readArrivals(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Arrival::new).read(inputFile, rows);
+    else
+      readArrivals(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * assoc
@@ -419,7 +420,11 @@ public class Assoc extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "belief":
         belief = value;
@@ -471,7 +476,11 @@ public class Assoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "arid":
         arid = value;
@@ -700,6 +709,10 @@ public class Assoc extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readAssocs(BufferedReader input, Collection<Assoc> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Assoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Assoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -724,7 +737,10 @@ public class Assoc extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readAssocs(File inputFile, Collection<Assoc> rows) throws IOException {
-    readAssocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Assoc::new).read(inputFile, rows);
+    else
+      readAssocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
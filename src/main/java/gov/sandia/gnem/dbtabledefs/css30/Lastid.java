@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * lastid
@@ -176,7 +177,11 @@ public class Lastid extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "keyvalue":
         keyvalue = value;
@@ -322,6 +327,10 @@ public class Lastid extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readLastids(BufferedReader input, Collection<Lastid> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Lastid::new).read(input, rows);
+      return;
+    }
     String[] saved = Lastid.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -346,7 +355,10 @@ public class Lastid extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readLastids(File inputFile, Collection<Lastid> rows) throws IOException {
-    readLastids(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Lastid::new).read(inputFile, rows);
+    else
+      readLastids(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * netmag
@@ -275,7 +276,11 @@ public class Netmag extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "magnitude":
         magnitude = value;
@@ -310,7 +315,11 @@ public class Netmag extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "magid":
         magid = value;
@@ -506,6 +515,10 @@ public class Netmag extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readNetmags(BufferedReader input, Collection<Netmag> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Netmag::new).read(input, rows);
+      return;
+    }
     String[] saved = Netmag.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -530,7 +543,10 @@ public class Netmag extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readNetmags(File inputFile, Collection<Netmag> rows) throws IOException {
-    readNetmags(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Netmag::new).read(inputFile, rows);
+    else
+      readNetmags(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
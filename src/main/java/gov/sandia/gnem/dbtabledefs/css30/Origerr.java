@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * origerr
@@ -455,7 +456,11 @@ public class Origerr extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "sxx":
         sxx = value;
@@ -529,7 +534,11 @@ public class Origerr extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "orid":
         orid = value;
@@ -761,6 +770,10 @@ public class Origerr extends BaseRow implements Serializable {
    */
   static public void readOrigerrs(BufferedReader input, Collection<Origerr> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Origerr::new).read(input, rows);
+      return;
+    }
     String[] saved = Origerr.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -785,7 +798,10 @@ public class Origerr extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readOrigerrs(File inputFile, Collection<Origerr> rows) throws IOException {
-    readOrigerrs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Origerr::new).read(inputFile, rows);
+    else
+      readOrigerrs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
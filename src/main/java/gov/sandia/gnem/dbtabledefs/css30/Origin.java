@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * origin
@@ -483,7 +484,11 @@ public class Origin extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -550,7 +555,11 @@ public class Origin extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "orid":
         orid = value;
@@ -833,6 +842,10 @@ public class Origin extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readOrigins(BufferedReader input, Collection<Origin> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Origin::new).read(input, rows);
+      return;
+    }
     String[] saved = Origin.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -857,7 +870,10 @@ public class Origin extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readOrigins(File inputFile, Collection<Origin> rows) throws IOException {
-    readOrigins(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Origin::new).read(inputFile, rows);
+    else
+      readOrigins(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * sensor
@@ -312,7 +313,11 @@ public class Sensor extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "time":
         time = value;
@@ -352,7 +357,11 @@ public class Sensor extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "inid":
         inid = value;
@@ -547,6 +556,10 @@ public class Sensor extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSensors(BufferedReader input, Collection<Sensor> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Sensor::new).read(input, rows);
+      return;
+    }
     String[] saved = Sensor.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -571,7 +584,10 @@ public class Sensor extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSensors(File inputFile, Collection<Sensor> rows) throws IOException {
-    readSensors(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Sensor::new).read(inputFile, rows);
+    else
+      readSensors(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * site
@@ -298,7 +299,11 @@ public class Site extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -336,7 +341,11 @@ public class Site extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ondate":
         ondate = value;
@@ -528,6 +537,10 @@ public class Site extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSites(BufferedReader input, Collection<Site> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Site::new).read(input, rows);
+      return;
+    }
     String[] saved = Site.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -552,7 +565,10 @@ public class Site extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSites(File inputFile, Collection<Site> rows) throws IOException {
-    readSites(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Site::new).read(inputFile, rows);
+    else
+      readSites(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
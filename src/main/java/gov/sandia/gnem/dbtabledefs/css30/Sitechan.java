@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * sitechan
@@ -288,7 +289,11 @@ public class Sitechan extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "edepth":
         edepth = value;
@@ -322,7 +327,11 @@ public class Sitechan extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ondate":
         ondate = value;
@@ -514,6 +523,10 @@ public class Sitechan extends BaseRow implements Serializable {
    */
   static public void readSitechans(BufferedReader input, Collection<Sitechan> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Sitechan::new).read(input, rows);
+      return;
+    }
     String[] saved = Sitechan.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -539,7 +552,10 @@ public class Sitechan extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSitechans(File inputFile, Collection<Sitechan> rows) throws IOException {
-    readSitechans(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Sitechan::new).read(inputFile, rows);
+    else
+      readSitechans(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
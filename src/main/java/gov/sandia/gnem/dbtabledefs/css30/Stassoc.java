@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * stassoc
@@ -378,7 +379,11 @@ public class Stassoc extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "dist":
         dist = value;
@@ -428,7 +433,11 @@ public class Stassoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "stassid":
         stassid = value;
@@ -640,6 +649,10 @@ public class Stassoc extends BaseRow implements Serializable {
    */
   static public void readStassocs(BufferedReader input, Collection<Stassoc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Stassoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Stassoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -664,7 +677,10 @@ public class Stassoc extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readStassocs(File inputFile, Collection<Stassoc> rows) throws IOException {
-    readStassocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Stassoc::new).read(inputFile, rows);
+    else
+      readStassocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
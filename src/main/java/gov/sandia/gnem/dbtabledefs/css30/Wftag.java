@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * wftag
@@ -188,7 +189,11 @@ public class Wftag extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "tagid":
         tagid = value;
@@ -341,6 +346,10 @@ public class Wftag extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readWftags(BufferedReader input, Collection<Wftag> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Wftag::new).read(input, rows);
+      return;
+    }
     String[] saved = Wftag.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -365,7 +374,10 @@ public class Wftag extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readWftags(File inputFile, Collection<Wftag> rows) throws IOException {
-    readWftags(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Wftag::new).read(inputFile, rows);
+    else
+      readWftags(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * wftape
@@ -467,7 +468,11 @@ public class Wftape extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "time":
         time = value;
@@ -515,7 +520,11 @@ public class Wftape extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "wfid":
         wfid = value;
@@ -769,6 +778,10 @@ public class Wftape extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readWftapes(BufferedReader input, Collection<Wftape> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Wftape::new).read(input, rows);
+      return;
+    }
     String[] saved = Wftape.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -793,7 +806,10 @@ public class Wftape extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readWftapes(File inputFile, Collection<Wftape> rows) throws IOException {
-    readWftapes(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Wftape::new).read(inputFile, rows);
+    else
+      readWftapes(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
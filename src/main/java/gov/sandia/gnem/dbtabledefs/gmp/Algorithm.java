@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -203,7 +204,11 @@ public class Algorithm extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "algorithmid":
         algorithmid = value;
@@ -359,6 +364,10 @@ public class Algorithm extends BaseRow implements Serializable {
    */
   static public void readAlgorithms(BufferedReader input, Collection<Algorithm> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Algorithm::new).read(input, rows);
+      return;
+    }
     String[] saved = Algorithm.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -384,7 +393,10 @@ public class Algorithm extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readAlgorithms(File inputFile, Collection<Algorithm> rows) throws IOException {
-    readAlgorithms(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Algorithm::new).read(inputFile, rows);
+    else
+      readAlgorithms(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -215,7 +216,11 @@ public class Cell extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "cellid":
         cellid = value;
@@ -395,6 +400,10 @@ public class Cell extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readCells(BufferedReader input, Collection<Cell> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Cell::new).read(input, rows);
+      return;
+    }
     String[] saved = Cell.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -419,7 +428,10 @@ public class Cell extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readCells(File inputFile, Collection<Cell> rows) throws IOException {
-    readCells(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Cell::new).read(inputFile, rows);
+    else
+      readCells(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
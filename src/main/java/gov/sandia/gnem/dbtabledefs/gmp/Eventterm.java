@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -180,7 +181,11 @@ public class Eventterm extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "eterm":
         eterm = value;
@@ -210,7 +215,11 @@ public class Eventterm extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "eventtermid":
         eventtermid = value;
@@ -380,6 +389,10 @@ public class Eventterm extends BaseRow implements Serializable {
    */
   static public void readEventterms(BufferedReader input, Collection<Eventterm> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Eventterm::new).read(input, rows);
+      return;
+    }
     String[] saved = Eventterm.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -405,7 +418,10 @@ public class Eventterm extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readEventterms(File inputFile, Collection<Eventterm> rows) throws IOException {
-    readEventterms(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Eventterm::new).read(inputFile, rows);
+    else
+      readEventterms(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -58,6 +58,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -231,7 +232,11 @@ public class Geomodel extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "filedate":
         filedate = value;
@@ -255,7 +260,11 @@ public class Geomodel extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "geomodelid":
         geomodelid = value;
@@ -426,6 +435,10 @@ public class Geomodel extends BaseRow implements Serializable {
    */
   static public void readGeomodels(BufferedReader input, Collection<Geomodel> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Geomodel::new).read(input, rows);
+      return;
+    }
     String[] saved = Geomodel.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -451,7 +464,10 @@ public class Geomodel extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readGeomodels(File inputFile, Collection<Geomodel> rows) throws IOException {
-    readGeomodels(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Geomodel::new).read(inputFile, rows);
+    else
+      readGeomodels(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -173,7 +174,11 @@ public class Node extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -203,7 +208,11 @@ public class Node extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "nodeid":
         nodeid = value;
@@ -358,6 +367,10 @@ public class Node extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readNodes(BufferedReader input, Collection<Node> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Node::new).read(input, rows);
+      return;
+    }
     String[] saved = Node.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -382,7 +395,10 @@ public class Node extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readNodes(File inputFile, Collection<Node> rows) throws IOException {
-    readNodes(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Node::new).read(inputFile, rows);
+    else
+      readNodes(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -61,6 +61,7 @@ import java.util.TreeMap;
 import gov.sandia.gmp.util.testingbuffer.TestBuffer;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -263,7 +264,11 @@ public class Observation extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "arrivaltime":
         arrivaltime = value;
@@ -304,7 +309,11 @@ public class Observation extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "observationid":
         observationid = value;
@@ -493,6 +502,10 @@ public class Observation extends BaseRow implements Serializable {
    */
   static public void readObservations(BufferedReader input, Collection<Observation> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Observation::new).read(input, rows);
+      return;
+    }
     String[] saved = Observation.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -519,7 +532,10 @@ public class Observation extends BaseRow implements Serializable {
    */
   static public void readObservations(File inputFile, Collection<Observation> rows)
       throws IOException {
-    readObservations(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Observation::new).read(inputFile, rows);
+    else
+      readObservations(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
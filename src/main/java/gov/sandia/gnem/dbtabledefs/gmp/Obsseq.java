@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -166,7 +167,11 @@ public class Obsseq extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "sequenceid":
         sequenceid = value;
@@ -315,6 +320,10 @@ public class Obsseq extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readObsseqs(BufferedReader input, Collection<Obsseq> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Obsseq::new).read(input, rows);
+      return;
+    }
     String[] saved = Obsseq.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -339,7 +348,10 @@ public class Obsseq extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readObsseqs(File inputFile, Collection<Obsseq> rows) throws IOException {
-    readObsseqs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Obsseq::new).read(inputFile, rows);
+    else
+      readObsseqs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
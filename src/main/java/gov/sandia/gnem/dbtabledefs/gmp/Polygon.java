@@ -58,6 +58,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -247,7 +248,11 @@ public class Polygon extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "filedate":
         filedate = value;
@@ -271,7 +276,11 @@ public class Polygon extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "polygonid":
         polygonid = value;
@@ -446,6 +455,10 @@ public class Polygon extends BaseRow implements Serializable {
    */
   static public void readPolygons(BufferedReader input, Collection<Polygon> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Polygon::new).read(input, rows);
+      return;
+    }
     String[] saved = Polygon.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -470,7 +483,10 @@ public class Polygon extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readPolygons(File inputFile, Collection<Polygon> rows) throws IOException {
-    readPolygons(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Polygon::new).read(inputFile, rows);
+    else
+      readPolygons(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
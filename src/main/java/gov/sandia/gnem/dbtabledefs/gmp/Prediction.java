@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -370,7 +371,11 @@ public class Prediction extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "activefraction":
         activefraction = value;
@@ -428,7 +433,11 @@ public class Prediction extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "predictionid":
         predictionid = value;
@@ -672,6 +681,10 @@ public class Prediction extends BaseRow implements Serializable {
    */
   static public void readPredictions(BufferedReader input, Collection<Prediction> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Prediction::new).read(input, rows);
+      return;
+    }
     String[] saved = Prediction.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -698,7 +711,10 @@ public class Prediction extends BaseRow implements Serializable {
    */
   static public void readPredictions(File inputFile, Collection<Prediction> rows)
       throws IOException {
-    readPredictions(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Prediction::new).read(inputFile, rows);
+    else
+      readPredictions(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
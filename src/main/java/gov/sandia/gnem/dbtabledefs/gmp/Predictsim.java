@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -159,7 +160,11 @@ public class Predictsim extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "similarity":
         similarity = value;
@@ -185,7 +190,11 @@ public class Predictsim extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "predictionid1":
         predictionid1 = value;
@@ -339,6 +348,10 @@ public class Predictsim extends BaseRow implements Serializable {
    */
   static public void readPredictsims(BufferedReader input, Collection<Predictsim> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Predictsim::new).read(input, rows);
+      return;
+    }
     String[] saved = Predictsim.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -365,7 +378,10 @@ public class Predictsim extends BaseRow implements Serializable {
    */
   static public void readPredictsims(File inputFile, Collection<Predictsim> rows)
       throws IOException {
-    readPredictsims(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Predictsim::new).read(inputFile, rows);
+    else
+      readPredictsims(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
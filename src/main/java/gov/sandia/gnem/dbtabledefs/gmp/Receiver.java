@@ -60,6 +60,7 @@ import java.util.TreeMap;
 import gov.sandia.gmp.util.testingbuffer.TestBuffer;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -247,7 +248,11 @@ public class Receiver extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -285,7 +290,11 @@ public class Receiver extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "receiverid":
         receiverid = value;
@@ -471,6 +480,10 @@ public class Receiver extends BaseRow implements Serializable {
    */
   static public void readReceivers(BufferedReader input, Collection<Receiver> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Receiver::new).read(input, rows);
+      return;
+    }
     String[] saved = Receiver.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -496,7 +509,10 @@ public class Receiver extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readReceivers(File inputFile, Collection<Receiver> rows) throws IOException {
-    readReceivers(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Receiver::new).read(inputFile, rows);
+    else
+      readReceivers(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -166,7 +167,11 @@ public class Receivercellassoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "receiverid":
         receiverid = value;
@@ -316,6 +321,10 @@ public class Receivercellassoc extends BaseRow implements Serializable {
    */
   static public void readReceivercellassocs(BufferedReader input,
       Collection<Receivercellassoc> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Receivercellassoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Receivercellassoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -342,7 +351,10 @@ public class Receivercellassoc extends BaseRow implements Serializable {
    */
   static public void readReceivercellassocs(File inputFile, Collection<Receivercellassoc> rows)
       throws IOException {
-    readReceivercellassocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Receivercellassoc::new).read(inputFile, rows);
+    else
+      readReceivercellassocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -180,7 +181,11 @@ public class Siteterm extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "sterm":
         sterm = value;
@@ -210,7 +215,11 @@ public class Siteterm extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "sitetermid":
         sitetermid = value;
@@ -380,6 +389,10 @@ public class Siteterm extends BaseRow implements Serializable {
    */
   static public void readSiteterms(BufferedReader input, Collection<Siteterm> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Siteterm::new).read(input, rows);
+      return;
+    }
     String[] saved = Siteterm.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -405,7 +418,10 @@ public class Siteterm extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSiteterms(File inputFile, Collection<Siteterm> rows) throws IOException {
-    readSiteterms(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Siteterm::new).read(inputFile, rows);
+    else
+      readSiteterms(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -63,6 +63,7 @@ import java.util.TreeSet;
 import gov.sandia.gmp.util.testingbuffer.TestBuffer;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -260,7 +261,11 @@ public class Source extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -302,7 +307,11 @@ public class Source extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "sourceid":
         sourceid = value;
@@ -495,6 +504,10 @@ public class Source extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSources(BufferedReader input, Collection<Source> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Source::new).read(input, rows);
+      return;
+    }
     String[] saved = Source.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -519,7 +532,10 @@ public class Source extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSources(File inputFile, Collection<Source> rows) throws IOException {
-    readSources(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Source::new).read(inputFile, rows);
+    else
+      readSources(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -166,7 +167,11 @@ public class Sourcecellassoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "sourceid":
         sourceid = value;
@@ -316,6 +321,10 @@ public class Sourcecellassoc extends BaseRow implements Serializable {
    */
   static public void readSourcecellassocs(BufferedReader input, Collection<Sourcecellassoc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Sourcecellassoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Sourcecellassoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -342,7 +351,10 @@ public class Sourcecellassoc extends BaseRow implements Serializable {
    */
   static public void readSourcecellassocs(File inputFile, Collection<Sourcecellassoc> rows)
       throws IOException {
-    readSourcecellassocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Sourcecellassoc::new).read(inputFile, rows);
+    else
+      readSourcecellassocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
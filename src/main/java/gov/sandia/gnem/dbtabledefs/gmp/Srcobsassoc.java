@@ -60,6 +60,7 @@ import java.util.TreeMap;
 import gov.sandia.gmp.util.testingbuffer.TestBuffer;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -268,7 +269,11 @@ public class Srcobsassoc extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "delta":
         delta = value;
@@ -300,7 +305,11 @@ public class Srcobsassoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "sourceid":
         sourceid = value;
@@ -489,6 +498,10 @@ public class Srcobsassoc extends BaseRow implements Serializable {
    */
   static public void readSrcobsassocs(BufferedReader input, Collection<Srcobsassoc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Srcobsassoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Srcobsassoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -515,7 +528,10 @@ public class Srcobsassoc extends BaseRow implements Serializable {
    */
   static public void readSrcobsassocs(File inputFile, Collection<Srcobsassoc> rows)
       throws IOException {
-    readSrcobsassocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Srcobsassoc::new).read(inputFile, rows);
+    else
+      readSrcobsassocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -190,7 +191,11 @@ public class Tomomodassoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "tomorunid":
         tomorunid = value;
@@ -355,6 +360,10 @@ public class Tomomodassoc extends BaseRow implements Serializable {
    */
   static public void readTomomodassocs(BufferedReader input, Collection<Tomomodassoc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Tomomodassoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Tomomodassoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -381,7 +390,10 @@ public class Tomomodassoc extends BaseRow implements Serializable {
    */
   static public void readTomomodassocs(File inputFile, Collection<Tomomodassoc> rows)
       throws IOException {
-    readTomomodassocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Tomomodassoc::new).read(inputFile, rows);
+    else
+      readTomomodassocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -197,7 +198,11 @@ public class Tomomodobsassoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "tomorunid":
         tomorunid = value;
@@ -359,6 +364,10 @@ public class Tomomodobsassoc extends BaseRow implements Serializable {
    */
   static public void readTomomodobsassocs(BufferedReader input, Collection<Tomomodobsassoc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Tomomodobsassoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Tomomodobsassoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -385,7 +394,10 @@ public class Tomomodobsassoc extends BaseRow implements Serializable {
    */
   static public void readTomomodobsassocs(File inputFile, Collection<Tomomodobsassoc> rows)
       throws IOException {
-    readTomomodobsassocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Tomomodobsassoc::new).read(inputFile, rows);
+    else
+      readTomomodobsassocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
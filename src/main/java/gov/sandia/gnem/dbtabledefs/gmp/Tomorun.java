@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -286,7 +287,11 @@ public class Tomorun extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "tomorunid":
         tomorunid = value;
@@ -484,6 +489,10 @@ public class Tomorun extends BaseRow implements Serializable {
    */
   static public void readTomoruns(BufferedReader input, Collection<Tomorun> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Tomorun::new).read(input, rows);
+      return;
+    }
     String[] saved = Tomorun.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -508,7 +517,10 @@ public class Tomorun extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readTomoruns(File inputFile, Collection<Tomorun> rows) throws IOException {
-    readTomoruns(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Tomorun::new).read(inputFile, rows);
+    else
+      readTomoruns(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ?
@@ -266,7 +267,11 @@ public class Tomostats extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "minimum":
         minimum = value;
@@ -308,7 +313,11 @@ public class Tomostats extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "tomostatsid":
         tomostatsid = value;
@@ -507,6 +516,10 @@ public class Tomostats extends BaseRow implements Serializable {
    */
   static public void readTomostatss(BufferedReader input, Collection<Tomostats> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Tomostats::new).read(input, rows);
+      return;
+    }
     String[] saved = Tomostats.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -532,7 +545,10 @@ public class Tomostats extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readTomostatss(File inputFile, Collection<Tomostats> rows) throws IOException {
-    readTomostatss(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Tomostats::new).read(inputFile, rows);
+    else
+      readTomostatss(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
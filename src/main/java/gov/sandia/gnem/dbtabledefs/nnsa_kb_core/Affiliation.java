@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * affiliation
@@ -199,7 +200,11 @@ public class Affiliation extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "time":
         time = value;
@@ -373,6 +378,10 @@ public class Affiliation extends BaseRow implements Serializable {
    */
   static public void readAffiliations(BufferedReader input, Collection<Affiliation> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Affiliation::new).read(input, rows);
+      return;
+    }
     String[] saved = Affiliation.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -399,7 +408,10 @@ public class Affiliation extends BaseRow implements Serializable {
    */
   static public void readAffiliations(File inputFile, Collection<Affiliation> rows)
       throws IOException {
-    readAffiliations(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Affiliation::new).read(inputFile, rows);
+    else
+      readAffiliations(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * amplitude
@@ -372,7 +373,11 @@ public class Amplitude extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "amp":
         amp = value;
@@ -418,7 +423,11 @@ public class Amplitude extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ampid":
         ampid = value;
@@ -638,6 +647,10 @@ public class Amplitude extends BaseRow implements Serializable {
    */
   static public void readAmplitudes(BufferedReader input, Collection<Amplitude> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Amplitude::new).read(input, rows);
+      return;
+    }
     String[] saved = Amplitude.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -663,7 +676,10 @@ public class Amplitude extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readAmplitudes(File inputFile, Collection<Amplitude> rows) throws IOException {
-    readAmplitudes(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Amplitude::new).read(inputFile, rows);
+    else
+      readAmplitudes(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
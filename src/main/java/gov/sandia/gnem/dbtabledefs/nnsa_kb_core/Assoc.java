@@ -58,6 +58,7 @@ import java.util.Set;
 import gov.sandia.gmp.util.testingbuffer.TestBuffer;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * assoc
@@ -418,7 +419,11 @@ public class Assoc extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "belief":
         belief = value;
@@ -470,7 +475,11 @@ public class Assoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "arid":
         arid = value;
@@ -699,6 +708,10 @@ public class Assoc extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readAssocs(BufferedReader input, Collection<Assoc> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Assoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Assoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -723,7 +736,10 @@ public class Assoc extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readAssocs(File inputFile, Collection<Assoc> rows) throws IOException {
-    readAssocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Assoc::new).read(inputFile, rows);
+    else
+      readAssocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
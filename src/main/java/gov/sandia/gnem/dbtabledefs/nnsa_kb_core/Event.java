@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * event
@@ -223,7 +224,11 @@ public class Event extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "evid":
         evid = value;
@@ -389,6 +394,10 @@ public class Event extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readEvents(BufferedReader input, Collection<Event> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Event::new).read(input, rows);
+      return;
+    }
     String[] saved = Event.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -413,7 +422,10 @@ public class Event extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readEvents(File inputFile, Collection<Event> rows) throws IOException {
-    readEvents(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Event::new).read(inputFile, rows);
+    else
+      readEvents(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * gregion
@@ -174,7 +175,11 @@ public class Gregion extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "grn":
         grn = value;
@@ -321,6 +326,10 @@ public class Gregion extends BaseRow implements Serializable {
    */
   static public void readGregions(BufferedReader input, Collection<Gregion> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Gregion::new).read(input, rows);
+      return;
+    }
     String[] saved = Gregion.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -345,7 +354,10 @@ public class Gregion extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readGregions(File inputFile, Collection<Gregion> rows) throws IOException {
-    readGregions(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Gregion::new).read(inputFile, rows);
+    else
+      readGregions(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * instrument
@@ -315,7 +316,11 @@ public class Instrument extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "samprate":
         samprate = value;
@@ -345,7 +350,11 @@ public class Instrument extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "inid":
         inid = value;
@@ -535,6 +544,10 @@ public class Instrument extends BaseRow implements Serializable {
    */
   static public void readInstruments(BufferedReader input, Collection<Instrument> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Instrument::new).read(input, rows);
+      return;
+    }
     String[] saved = Instrument.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -561,7 +574,10 @@ public class Instrument extends BaseRow implements Serializable {
    */
   static public void readInstruments(File inputFile, Collection<Instrument> rows)
       throws IOException {
-    readInstruments(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Instrument::new).read(inputFile, rows);
+    else
+      readInstruments(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * netmag
@@ -273,7 +274,11 @@ public class Netmag extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "magnitude":
         magnitude = value;
@@ -308,7 +313,11 @@ public class Netmag extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "magid":
         magid = value;
@@ -504,6 +513,10 @@ public class Netmag extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readNetmags(BufferedReader input, Collection<Netmag> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Netmag::new).read(input, rows);
+      return;
+    }
     String[] saved = Netmag.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -528,7 +541,10 @@ public class Netmag extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readNetmags(File inputFile, Collection<Netmag> rows) throws IOException {
-    readNetmags(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Netmag::new).read(inputFile, rows);
+    else
+      readNetmags(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * network
@@ -228,7 +229,11 @@ public class Network extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "commid":
         commid = value;
@@ -390,6 +395,10 @@ public class Network extends BaseRow implements Serializable {
    */
   static public void readNetworks(BufferedReader input, Collection<Network> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Network::new).read(input, rows);
+      return;
+    }
     String[] saved = Network.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -414,7 +423,10 @@ public class Network extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readNetworks(File inputFile, Collection<Network> rows) throws IOException {
-    readNetworks(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Network::new).read(inputFile, rows);
+    else
+      readNetworks(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -58,6 +58,7 @@ import java.util.Set;
 import gov.sandia.gmp.util.testingbuffer.TestBuffer;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * origin
@@ -507,7 +508,11 @@ public class Origin extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -574,7 +579,11 @@ public class Origin extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "orid":
         orid = value;
@@ -857,6 +866,10 @@ public class Origin extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readOrigins(BufferedReader input, Collection<Origin> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Origin::new).read(input, rows);
+      return;
+    }
     String[] saved = Origin.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -881,7 +894,10 @@ public class Origin extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readOrigins(File inputFile, Collection<Origin> rows) throws IOException {
-    readOrigins(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Origin::new).read(inputFile, rows);
+    else
+      readOrigins(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
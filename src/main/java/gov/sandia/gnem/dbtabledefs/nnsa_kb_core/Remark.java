@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * remark
@@ -191,7 +192,11 @@ public class Remark extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "commid":
         commid = value;
@@ -344,6 +349,10 @@ public class Remark extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readRemarks(BufferedReader input, Collection<Remark> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Remark::new).read(input, rows);
+      return;
+    }
     String[] saved = Remark.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -368,7 +377,10 @@ public class Remark extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readRemarks(File inputFile, Collection<Remark> rows) throws IOException {
-    readRemarks(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Remark::new).read(inputFile, rows);
+    else
+      readRemarks(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
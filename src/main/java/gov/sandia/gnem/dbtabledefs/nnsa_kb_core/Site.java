@@ -60,6 +60,7 @@ import gov.sandia.gmp.util.numerical.vector.GeoMath;
 import gov.sandia.gmp.util.testingbuffer.TestBuffer;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * site
@@ -371,7 +372,11 @@ public class Site extends BaseRow implements SiteInterface, Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -413,7 +418,11 @@ public class Site extends BaseRow implements SiteInterface, Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ondate":
         ondate = value;
@@ -605,6 +614,10 @@ public class Site extends BaseRow implements SiteInterface, Serializable {
    * @throws IOException
    */
   static public void readSites(BufferedReader input, Collection<Site> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Site::new).read(input, rows);
+      return;
+    }
     String[] saved = Site.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -634,7 +647,10 @@ public class Site extends BaseRow implements SiteInterface, Serializable {
    * @throws IOException
    */
   static public void readSites(File inputFile, Collection<Site> rows) throws IOException {
-    readSites(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Site::new).read(inputFile, rows);
+    else
+      readSites(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * sregion
@@ -174,7 +175,11 @@ public class Sregion extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "srn":
         srn = value;
@@ -321,6 +326,10 @@ public class Sregion extends BaseRow implements Serializable {
    */
   static public void readSregions(BufferedReader input, Collection<Sregion> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Sregion::new).read(input, rows);
+      return;
+    }
     String[] saved = Sregion.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -345,7 +354,10 @@ public class Sregion extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSregions(File inputFile, Collection<Sregion> rows) throws IOException {
-    readSregions(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Sregion::new).read(inputFile, rows);
+    else
+      readSregions(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * stamag
@@ -373,7 +374,11 @@ public class Stamag extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "delta":
         delta = value;
@@ -416,7 +421,11 @@ public class Stamag extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "magid":
         magid = value;
@@ -644,6 +653,10 @@ public class Stamag extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readStamags(BufferedReader input, Collection<Stamag> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Stamag::new).read(input, rows);
+      return;
+    }
     String[] saved = Stamag.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -668,7 +681,10 @@ public class Stamag extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readStamags(File inputFile, Collection<Stamag> rows) throws IOException {
-    readStamags(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Stamag::new).read(inputFile, rows);
+    else
+      readStamags(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
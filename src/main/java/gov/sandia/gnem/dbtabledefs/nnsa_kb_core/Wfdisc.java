@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * wfdisc
@@ -437,7 +438,11 @@ public class Wfdisc extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "time":
         time = value;
@@ -483,7 +488,11 @@ public class Wfdisc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "wfid":
         wfid = value;
@@ -725,6 +734,10 @@ public class Wfdisc extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readWfdiscs(BufferedReader input, Collection<Wfdisc> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Wfdisc::new).read(input, rows);
+      return;
+    }
     String[] saved = Wfdisc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -749,7 +762,10 @@ public class Wfdisc extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readWfdiscs(File inputFile, Collection<Wfdisc> rows) throws IOException {
-    readWfdiscs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Wfdisc::new).read(inputFile, rows);
+    else
+      readWfdiscs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ampkbcit_log
@@ -285,7 +286,11 @@ public class Ampkbcit_log extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lfreq":
         lfreq = value;
@@ -317,7 +322,11 @@ public class Ampkbcit_log extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ampmodid":
         ampmodid = value;
@@ -519,6 +528,10 @@ public class Ampkbcit_log extends BaseRow implements Serializable {
    */
   static public void readAmpkbcit_logs(BufferedReader input, Collection<Ampkbcit_log> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Ampkbcit_log::new).read(input, rows);
+      return;
+    }
     String[] saved = Ampkbcit_log.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -545,7 +558,10 @@ public class Ampkbcit_log extends BaseRow implements Serializable {
    */
   static public void readAmpkbcit_logs(File inputFile, Collection<Ampkbcit_log> rows)
       throws IOException {
-    readAmpkbcit_logs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Ampkbcit_log::new).read(inputFile, rows);
+    else
+      readAmpkbcit_logs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ampmod_ddata
@@ -245,7 +246,11 @@ public class Ampmod_ddata extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lfreq":
         lfreq = value;
@@ -273,7 +278,11 @@ public class Ampmod_ddata extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ampmodid":
         ampmodid = value;
@@ -454,6 +463,10 @@ public class Ampmod_ddata extends BaseRow implements Serializable {
    */
   static public void readAmpmod_ddatas(BufferedReader input, Collection<Ampmod_ddata> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Ampmod_ddata::new).read(input, rows);
+      return;
+    }
     String[] saved = Ampmod_ddata.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -480,7 +493,10 @@ public class Ampmod_ddata extends BaseRow implements Serializable {
    */
   static public void readAmpmod_ddatas(File inputFile, Collection<Ampmod_ddata> rows)
       throws IOException {
-    readAmpmod_ddatas(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Ampmod_ddata::new).read(inputFile, rows);
+    else
+      readAmpmod_ddatas(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
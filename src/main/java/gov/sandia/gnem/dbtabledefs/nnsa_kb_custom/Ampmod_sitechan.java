@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ampmod_sitechan
@@ -187,7 +188,11 @@ public class Ampmod_sitechan extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ampmodid":
         ampmodid = value;
@@ -341,6 +346,10 @@ public class Ampmod_sitechan extends BaseRow implements Serializable {
    */
   static public void readAmpmod_sitechans(BufferedReader input, Collection<Ampmod_sitechan> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Ampmod_sitechan::new).read(input, rows);
+      return;
+    }
     String[] saved = Ampmod_sitechan.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -367,7 +376,10 @@ public class Ampmod_sitechan extends BaseRow implements Serializable {
    */
   static public void readAmpmod_sitechans(File inputFile, Collection<Ampmod_sitechan> rows)
       throws IOException {
-    readAmpmod_sitechans(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Ampmod_sitechan::new).read(inputFile, rows);
+    else
+      readAmpmod_sitechans(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
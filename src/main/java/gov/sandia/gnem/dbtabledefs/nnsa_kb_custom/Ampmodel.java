@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -390,7 +391,11 @@ public class Ampmodel extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "stalat":
         stalat = value;
@@ -438,7 +443,11 @@ public class Ampmodel extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ampmodid":
         ampmodid = value;
@@ -658,6 +667,10 @@ public class Ampmodel extends BaseRow implements Serializable {
    */
   static public void readAmpmodels(BufferedReader input, Collection<Ampmodel> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Ampmodel::new).read(input, rows);
+      return;
+    }
     String[] saved = Ampmodel.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -683,7 +696,10 @@ public class Ampmodel extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readAmpmodels(File inputFile, Collection<Ampmodel> rows) throws IOException {
-    readAmpmodels(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Ampmodel::new).read(inputFile, rows);
+    else
+      readAmpmodels(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * arrival_shkey_v
@@ -227,7 +228,11 @@ public class Arrival_shkey_v extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "time":
         time = value;
@@ -256,7 +261,11 @@ public class Arrival_shkey_v extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "arid":
         arid = value;
@@ -430,6 +439,10 @@ public class Arrival_shkey_v extends BaseRow implements Serializable {
    */
   static public void readArrival_shkey_vs(BufferedReader input, Collection<Arrival_shkey_v> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Arrival_shkey_v::new).read(input, rows);
+      return;
+    }
     String[] saved = Arrival_shkey_v.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -456,7 +469,10 @@ public class Arrival_shkey_v extends BaseRow implements Serializable {
    */
   static public void readArrival_shkey_vs(File inputFile, Collection<Arrival_shkey_v> rows)
       throws IOException {
-    readArrival_shkey_vs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Arrival_shkey_v::new).read(inputFile, rows);
+    else
+      readArrival_shkey_vs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
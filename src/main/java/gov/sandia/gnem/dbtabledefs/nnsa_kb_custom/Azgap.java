@@ -59,6 +59,7 @@ import java.util.Set;
 import gov.sandia.gmp.util.testingbuffer.TestBuffer;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -227,7 +228,11 @@ public class Azgap extends BaseRow implements Serializable, Cloneable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "azgap1":
         azgap1 = value;
@@ -260,7 +265,11 @@ public class Azgap extends BaseRow implements Serializable, Cloneable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "orid":
         orid = value;
@@ -439,6 +448,10 @@ public class Azgap extends BaseRow implements Serializable, Cloneable {
    * @throws IOException
    */
   static public void readAzgaps(BufferedReader input, Collection<Azgap> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Azgap::new).read(input, rows);
+      return;
+    }
     String[] saved = Azgap.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -463,7 +476,10 @@ public class Azgap extends BaseRow implements Serializable, Cloneable {
    * @throws IOException
    */
   static public void readAzgaps(File inputFile, Collection<Azgap> rows) throws IOException {
-    readAzgaps(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Azgap::new).read(inputFile, rows);
+    else
+      readAzgaps(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
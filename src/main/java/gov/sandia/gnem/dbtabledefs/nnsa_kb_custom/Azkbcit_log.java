@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * azkbcit_log
@@ -292,7 +293,11 @@ public class Azkbcit_log extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "orid":
         orid = value;
@@ -492,6 +497,10 @@ public class Azkbcit_log extends BaseRow implements Serializable {
    */
   static public void readAzkbcit_logs(BufferedReader input, Collection<Azkbcit_log> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Azkbcit_log::new).read(input, rows);
+      return;
+    }
     String[] saved = Azkbcit_log.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -518,7 +527,10 @@ public class Azkbcit_log extends BaseRow implements Serializable {
    */
   static public void readAzkbcit_logs(File inputFile, Collection<Azkbcit_log> rows)
       throws IOException {
-    readAzkbcit_logs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Azkbcit_log::new).read(inputFile, rows);
+    else
+      readAzkbcit_logs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
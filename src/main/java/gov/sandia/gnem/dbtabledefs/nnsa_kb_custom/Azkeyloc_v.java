@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -331,7 +332,11 @@ public class Azkeyloc_v extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "stalat":
         stalat = value;
@@ -374,7 +379,11 @@ public class Azkeyloc_v extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "azmodid":
         azmodid = value;
@@ -585,6 +594,10 @@ public class Azkeyloc_v extends BaseRow implements Serializable {
    */
   static public void readAzkeyloc_vs(BufferedReader input, Collection<Azkeyloc_v> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Azkeyloc_v::new).read(input, rows);
+      return;
+    }
     String[] saved = Azkeyloc_v.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -611,7 +624,10 @@ public class Azkeyloc_v extends BaseRow implements Serializable {
    */
   static public void readAzkeyloc_vs(File inputFile, Collection<Azkeyloc_v> rows)
       throws IOException {
-    readAzkeyloc_vs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Azkeyloc_v::new).read(inputFile, rows);
+    else
+      readAzkeyloc_vs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
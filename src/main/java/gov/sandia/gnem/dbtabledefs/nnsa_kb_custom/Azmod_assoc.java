@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * azmod_assoc
@@ -247,7 +248,11 @@ public class Azmod_assoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "azmodid":
         azmodid = value;
@@ -427,6 +432,10 @@ public class Azmod_assoc extends BaseRow implements Serializable {
    */
   static public void readAzmod_assocs(BufferedReader input, Collection<Azmod_assoc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Azmod_assoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Azmod_assoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -453,7 +462,10 @@ public class Azmod_assoc extends BaseRow implements Serializable {
    */
   static public void readAzmod_assocs(File inputFile, Collection<Azmod_assoc> rows)
       throws IOException {
-    readAzmod_assocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Azmod_assoc::new).read(inputFile, rows);
+    else
+      readAzmod_assocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
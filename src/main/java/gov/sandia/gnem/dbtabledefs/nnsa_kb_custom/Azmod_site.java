@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -202,7 +203,11 @@ public class Azmod_site extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "azmodid":
         azmodid = value;
@@ -361,6 +366,10 @@ public class Azmod_site extends BaseRow implements Serializable {
    */
   static public void readAzmod_sites(BufferedReader input, Collection<Azmod_site> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Azmod_site::new).read(input, rows);
+      return;
+    }
     String[] saved = Azmod_site.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -387,7 +396,10 @@ public class Azmod_site extends BaseRow implements Serializable {
    */
   static public void readAzmod_sites(File inputFile, Collection<Azmod_site> rows)
       throws IOException {
-    readAzmod_sites(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Azmod_site::new).read(inputFile, rows);
+    else
+      readAzmod_sites(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -344,7 +345,11 @@ public class Azmodel extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "stalat":
         stalat = value;
@@ -386,7 +391,11 @@ public class Azmodel extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "azmodid":
         azmodid = value;
@@ -591,6 +600,10 @@ public class Azmodel extends BaseRow implements Serializable {
    */
   static public void readAzmodels(BufferedReader input, Collection<Azmodel> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Azmodel::new).read(input, rows);
+      return;
+    }
     String[] saved = Azmodel.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -615,7 +628,10 @@ public class Azmodel extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readAzmodels(File inputFile, Collection<Azmodel> rows) throws IOException {
-    readAzmodels(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Azmodel::new).read(inputFile, rows);
+    else
+      readAzmodels(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
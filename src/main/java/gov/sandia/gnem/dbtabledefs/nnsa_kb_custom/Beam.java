@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * beam
@@ -173,7 +174,11 @@ public class Beam extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "beamid":
         beamid = value;
@@ -319,6 +324,10 @@ public class Beam extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readBeams(BufferedReader input, Collection<Beam> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Beam::new).read(input, rows);
+      return;
+    }
     String[] saved = Beam.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -343,7 +352,10 @@ public class Beam extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readBeams(File inputFile, Collection<Beam> rows) throws IOException {
-    readBeams(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Beam::new).read(inputFile, rows);
+    else
+      readBeams(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * box_smooth
@@ -200,7 +201,11 @@ public class Box_smooth extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "hwide":
         hwide = value;
@@ -226,7 +231,11 @@ public class Box_smooth extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "smooid":
         smooid = value;
@@ -390,6 +399,10 @@ public class Box_smooth extends BaseRow implements Serializable {
    */
   static public void readBox_smooths(BufferedReader input, Collection<Box_smooth> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Box_smooth::new).read(input, rows);
+      return;
+    }
     String[] saved = Box_smooth.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -416,7 +429,10 @@ public class Box_smooth extends BaseRow implements Serializable {
    */
   static public void readBox_smooths(File inputFile, Collection<Box_smooth> rows)
       throws IOException {
-    readBox_smooths(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Box_smooth::new).read(inputFile, rows);
+    else
+      readBox_smooths(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
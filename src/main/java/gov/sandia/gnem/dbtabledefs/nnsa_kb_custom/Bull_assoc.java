@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * bull_assoc
@@ -231,7 +232,11 @@ public class Bull_assoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "bullid":
         bullid = value;
@@ -403,6 +408,10 @@ public class Bull_assoc extends BaseRow implements Serializable {
    */
   static public void readBull_assocs(BufferedReader input, Collection<Bull_assoc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Bull_assoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Bull_assoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -429,7 +438,10 @@ public class Bull_assoc extends BaseRow implements Serializable {
    */
   static public void readBull_assocs(File inputFile, Collection<Bull_assoc> rows)
       throws IOException {
-    readBull_assocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Bull_assoc::new).read(inputFile, rows);
+    else
+      readBull_assocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * bulletin
@@ -370,7 +371,11 @@ public class Bulletin extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "time":
         time = value;
@@ -401,7 +406,11 @@ public class Bulletin extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "bullid":
         bullid = value;
@@ -621,6 +630,10 @@ public class Bulletin extends BaseRow implements Serializable {
    */
   static public void readBulletins(BufferedReader input, Collection<Bulletin> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Bulletin::new).read(input, rows);
+      return;
+    }
     String[] saved = Bulletin.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -646,7 +659,10 @@ public class Bulletin extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readBulletins(File inputFile, Collection<Bulletin> rows) throws IOException {
-    readBulletins(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Bulletin::new).read(inputFile, rows);
+    else
+      readBulletins(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * bw_filter
@@ -242,7 +243,11 @@ public class Bw_filter extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "corner1":
         corner1 = value;
@@ -273,7 +278,11 @@ public class Bw_filter extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "bwfilterid":
         bwfilterid = value;
@@ -454,6 +463,10 @@ public class Bw_filter extends BaseRow implements Serializable {
    */
   static public void readBw_filters(BufferedReader input, Collection<Bw_filter> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Bw_filter::new).read(input, rows);
+      return;
+    }
     String[] saved = Bw_filter.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -479,7 +492,10 @@ public class Bw_filter extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readBw_filters(File inputFile, Collection<Bw_filter> rows) throws IOException {
-    readBw_filters(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Bw_filter::new).read(inputFile, rows);
+    else
+      readBw_filters(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * cal_origin
@@ -253,7 +254,11 @@ public class Cal_origin extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "orid":
         orid = value;
@@ -443,6 +448,10 @@ public class Cal_origin extends BaseRow implements Serializable {
    */
   static public void readCal_origins(BufferedReader input, Collection<Cal_origin> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Cal_origin::new).read(input, rows);
+      return;
+    }
     String[] saved = Cal_origin.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -469,7 +478,10 @@ public class Cal_origin extends BaseRow implements Serializable {
    */
   static public void readCal_origins(File inputFile, Collection<Cal_origin> rows)
       throws IOException {
-    readCal_origins(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Cal_origin::new).read(inputFile, rows);
+    else
+      readCal_origins(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * coda_shape
@@ -458,7 +459,11 @@ public class Coda_shape extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "tmeas":
         tmeas = value;
@@ -536,7 +541,11 @@ public class Coda_shape extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "magyieldid":
         magyieldid = value;
@@ -788,6 +797,10 @@ public class Coda_shape extends BaseRow implements Serializable {
    */
   static public void readCoda_shapes(BufferedReader input, Collection<Coda_shape> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Coda_shape::new).read(input, rows);
+      return;
+    }
     String[] saved = Coda_shape.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -814,7 +827,10 @@ public class Coda_shape extends BaseRow implements Serializable {
    */
   static public void readCoda_shapes(File inputFile, Collection<Coda_shape> rows)
       throws IOException {
-    readCoda_shapes(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Coda_shape::new).read(inputFile, rows);
+    else
+      readCoda_shapes(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
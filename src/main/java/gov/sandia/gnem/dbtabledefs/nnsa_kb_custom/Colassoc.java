@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * colassoc
@@ -291,7 +292,11 @@ public class Colassoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "column_position":
         column_position = value;
@@ -472,6 +477,10 @@ public class Colassoc extends BaseRow implements Serializable {
    */
   static public void readColassocs(BufferedReader input, Collection<Colassoc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Colassoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Colassoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -497,7 +506,10 @@ public class Colassoc extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readColassocs(File inputFile, Collection<Colassoc> rows) throws IOException {
-    readColassocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Colassoc::new).read(inputFile, rows);
+    else
+      readColassocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
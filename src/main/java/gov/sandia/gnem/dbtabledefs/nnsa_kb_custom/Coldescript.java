@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * coldescript
@@ -533,7 +534,11 @@ public class Coldescript extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "nmin":
         nmin = value;
@@ -566,7 +571,11 @@ public class Coldescript extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "external_width":
         external_width = value;
@@ -825,6 +834,10 @@ public class Coldescript extends BaseRow implements Serializable {
    */
   static public void readColdescripts(BufferedReader input, Collection<Coldescript> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Coldescript::new).read(input, rows);
+      return;
+    }
     String[] saved = Coldescript.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -851,7 +864,10 @@ public class Coldescript extends BaseRow implements Serializable {
    */
   static public void readColdescripts(File inputFile, Collection<Coldescript> rows)
       throws IOException {
-    readColdescripts(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Coldescript::new).read(inputFile, rows);
+    else
+      readColdescripts(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
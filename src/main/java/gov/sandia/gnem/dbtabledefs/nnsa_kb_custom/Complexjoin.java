@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * complexjoin
@@ -380,7 +381,11 @@ public class Complexjoin extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "joinid":
         joinid = value;
@@ -592,6 +597,10 @@ public class Complexjoin extends BaseRow implements Serializable {
    */
   static public void readComplexjoins(BufferedReader input, Collection<Complexjoin> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Complexjoin::new).read(input, rows);
+      return;
+    }
     String[] saved = Complexjoin.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -618,7 +627,10 @@ public class Complexjoin extends BaseRow implements Serializable {
    */
   static public void readComplexjoins(File inputFile, Collection<Complexjoin> rows)
       throws IOException {
-    readComplexjoins(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Complexjoin::new).read(inputFile, rows);
+    else
+      readComplexjoins(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * csd_2d_corr
@@ -154,7 +155,11 @@ public class Csd_2d_corr extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "b2dcorid":
         b2dcorid = value;
@@ -297,6 +302,10 @@ public class Csd_2d_corr extends BaseRow implements Serializable {
    */
   static public void readCsd_2d_corrs(BufferedReader input, Collection<Csd_2d_corr> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Csd_2d_corr::new).read(input, rows);
+      return;
+    }
     String[] saved = Csd_2d_corr.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -323,7 +332,10 @@ public class Csd_2d_corr extends BaseRow implements Serializable {
    */
   static public void readCsd_2d_corrs(File inputFile, Collection<Csd_2d_corr> rows)
       throws IOException {
-    readCsd_2d_corrs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Csd_2d_corr::new).read(inputFile, rows);
+    else
+      readCsd_2d_corrs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -233,7 +234,11 @@ public class Custom_affiliation extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "time":
         time = value;
@@ -266,7 +271,11 @@ public class Custom_affiliation extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "netid":
         netid = value;
@@ -450,6 +459,10 @@ public class Custom_affiliation extends BaseRow implements Serializable {
    */
   static public void readCustom_affiliations(BufferedReader input,
       Collection<Custom_affiliation> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Custom_affiliation::new).read(input, rows);
+      return;
+    }
     String[] saved = Custom_affiliation.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -476,7 +489,10 @@ public class Custom_affiliation extends BaseRow implements Serializable {
    */
   static public void readCustom_affiliations(File inputFile, Collection<Custom_affiliation> rows)
       throws IOException {
-    readCustom_affiliations(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Custom_affiliation::new).read(inputFile, rows);
+    else
+      readCustom_affiliations(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
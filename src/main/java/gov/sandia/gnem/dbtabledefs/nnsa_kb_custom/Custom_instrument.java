@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * custom_instrument
@@ -315,7 +316,11 @@ public class Custom_instrument extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "samprate":
         samprate = value;
@@ -345,7 +350,11 @@ public class Custom_instrument extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "inid":
         inid = value;
@@ -535,6 +544,10 @@ public class Custom_instrument extends BaseRow implements Serializable {
    */
   static public void readCustom_instruments(BufferedReader input,
       Collection<Custom_instrument> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Custom_instrument::new).read(input, rows);
+      return;
+    }
     String[] saved = Custom_instrument.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -561,7 +574,10 @@ public class Custom_instrument extends BaseRow implements Serializable {
    */
   static public void readCustom_instruments(File inputFile, Collection<Custom_instrument> rows)
       throws IOException {
-    readCustom_instruments(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Custom_instrument::new).read(inputFile, rows);
+    else
+      readCustom_instruments(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
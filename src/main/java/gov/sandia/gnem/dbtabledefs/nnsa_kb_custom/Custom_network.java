@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * custom_network
@@ -238,7 +239,11 @@ public class Custom_network extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "commid":
         commid = value;
@@ -407,6 +412,10 @@ public class Custom_network extends BaseRow implements Serializable {
    */
   static public void readCustom_networks(BufferedReader input, Collection<Custom_network> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Custom_network::new).read(input, rows);
+      return;
+    }
     String[] saved = Custom_network.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -433,7 +442,10 @@ public class Custom_network extends BaseRow implements Serializable {
    */
   static public void readCustom_networks(File inputFile, Collection<Custom_network> rows)
       throws IOException {
-    readCustom_networks(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Custom_network::new).read(inputFile, rows);
+    else
+      readCustom_networks(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
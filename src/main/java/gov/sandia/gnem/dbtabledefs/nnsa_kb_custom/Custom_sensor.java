@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -312,7 +313,11 @@ public class Custom_sensor extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "time":
         time = value;
@@ -354,7 +359,11 @@ public class Custom_sensor extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "inid":
         inid = value;
@@ -557,6 +566,10 @@ public class Custom_sensor extends BaseRow implements Serializable {
    */
   static public void readCustom_sensors(BufferedReader input, Collection<Custom_sensor> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Custom_sensor::new).read(input, rows);
+      return;
+    }
     String[] saved = Custom_sensor.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -583,7 +596,10 @@ public class Custom_sensor extends BaseRow implements Serializable {
    */
   static public void readCustom_sensors(File inputFile, Collection<Custom_sensor> rows)
       throws IOException {
-    readCustom_sensors(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Custom_sensor::new).read(inputFile, rows);
+    else
+      readCustom_sensors(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
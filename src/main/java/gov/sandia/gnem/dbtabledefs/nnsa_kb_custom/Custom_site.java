@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -305,7 +306,11 @@ public class Custom_site extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -345,7 +350,11 @@ public class Custom_site extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ondate":
         ondate = value;
@@ -545,6 +554,10 @@ public class Custom_site extends BaseRow implements Serializable {
    */
   static public void readCustom_sites(BufferedReader input, Collection<Custom_site> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Custom_site::new).read(input, rows);
+      return;
+    }
     String[] saved = Custom_site.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -571,7 +584,10 @@ public class Custom_site extends BaseRow implements Serializable {
    */
   static public void readCustom_sites(File inputFile, Collection<Custom_site> rows)
       throws IOException {
-    readCustom_sites(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Custom_site::new).read(inputFile, rows);
+    else
+      readCustom_sites(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
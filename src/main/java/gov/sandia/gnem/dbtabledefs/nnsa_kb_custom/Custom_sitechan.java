@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -296,7 +297,11 @@ public class Custom_sitechan extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "edepth":
         edepth = value;
@@ -332,7 +337,11 @@ public class Custom_sitechan extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ondate":
         ondate = value;
@@ -531,6 +540,10 @@ public class Custom_sitechan extends BaseRow implements Serializable {
    */
   static public void readCustom_sitechans(BufferedReader input, Collection<Custom_sitechan> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Custom_sitechan::new).read(input, rows);
+      return;
+    }
     String[] saved = Custom_sitechan.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -557,7 +570,10 @@ public class Custom_sitechan extends BaseRow implements Serializable {
    */
   static public void readCustom_sitechans(File inputFile, Collection<Custom_sitechan> rows)
       throws IOException {
-    readCustom_sitechans(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Custom_sitechan::new).read(inputFile, rows);
+    else
+      readCustom_sitechans(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
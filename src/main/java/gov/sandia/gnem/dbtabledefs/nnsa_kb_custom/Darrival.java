@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -350,7 +351,11 @@ public class Darrival extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "dtime":
         dtime = value;
@@ -392,7 +397,11 @@ public class Darrival extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "darid":
         darid = value;
@@ -606,6 +615,10 @@ public class Darrival extends BaseRow implements Serializable {
    */
   static public void readDarrivals(BufferedReader input, Collection<Darrival> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Darrival::new).read(input, rows);
+      return;
+    }
     String[] saved = Darrival.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -631,7 +644,10 @@ public class Darrival extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readDarrivals(File inputFile, Collection<Darrival> rows) throws IOException {
-    readDarrivals(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Darrival::new).read(inputFile, rows);
+    else
+      readDarrivals(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
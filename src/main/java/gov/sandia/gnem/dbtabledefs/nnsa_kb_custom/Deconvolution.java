@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * deconvolution
@@ -280,7 +281,11 @@ public class Deconvolution extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lowcutfrac":
         lowcutfrac = value;
@@ -323,7 +328,11 @@ public class Deconvolution extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "deconid":
         deconid = value;
@@ -515,6 +524,10 @@ public class Deconvolution extends BaseRow implements Serializable {
    */
   static public void readDeconvolutions(BufferedReader input, Collection<Deconvolution> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Deconvolution::new).read(input, rows);
+      return;
+    }
     String[] saved = Deconvolution.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -541,7 +554,10 @@ public class Deconvolution extends BaseRow implements Serializable {
    */
   static public void readDeconvolutions(File inputFile, Collection<Deconvolution> rows)
       throws IOException {
-    readDeconvolutions(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Deconvolution::new).read(inputFile, rows);
+    else
+      readDeconvolutions(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
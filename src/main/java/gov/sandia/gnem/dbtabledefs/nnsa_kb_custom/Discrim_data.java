@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -646,7 +647,11 @@ public class Discrim_data extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -742,7 +747,11 @@ public class Discrim_data extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "evid":
         evid = value;
@@ -1078,6 +1087,10 @@ public class Discrim_data extends BaseRow implements Serializable {
    */
   static public void readDiscrim_datas(BufferedReader input, Collection<Discrim_data> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Discrim_data::new).read(input, rows);
+      return;
+    }
     String[] saved = Discrim_data.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -1104,7 +1117,10 @@ public class Discrim_data extends BaseRow implements Serializable {
    */
   static public void readDiscrim_datas(File inputFile, Collection<Discrim_data> rows)
       throws IOException {
-    readDiscrim_datas(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Discrim_data::new).read(inputFile, rows);
+    else
+      readDiscrim_datas(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
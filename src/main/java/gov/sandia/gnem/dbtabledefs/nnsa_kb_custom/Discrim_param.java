@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -477,7 +478,11 @@ public class Discrim_param extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lowcutfrac":
         lowcutfrac = value;
@@ -556,7 +561,11 @@ public class Discrim_param extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "paramsetid":
         paramsetid = value;
@@ -814,6 +823,10 @@ public class Discrim_param extends BaseRow implements Serializable {
    */
   static public void readDiscrim_params(BufferedReader input, Collection<Discrim_param> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Discrim_param::new).read(input, rows);
+      return;
+    }
     String[] saved = Discrim_param.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -840,7 +853,10 @@ public class Discrim_param extends BaseRow implements Serializable {
    */
   static public void readDiscrim_params(File inputFile, Collection<Discrim_param> rows)
       throws IOException {
-    readDiscrim_params(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Discrim_param::new).read(inputFile, rows);
+    else
+      readDiscrim_params(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * env_amp
@@ -489,7 +490,11 @@ public class Env_amp extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "distance":
         distance = value;
@@ -566,7 +571,11 @@ public class Env_amp extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "envampid":
         envampid = value;
@@ -835,6 +844,10 @@ public class Env_amp extends BaseRow implements Serializable {
    */
   static public void readEnv_amps(BufferedReader input, Collection<Env_amp> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Env_amp::new).read(input, rows);
+      return;
+    }
     String[] saved = Env_amp.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -859,7 +872,10 @@ public class Env_amp extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readEnv_amps(File inputFile, Collection<Env_amp> rows) throws IOException {
-    readEnv_amps(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Env_amp::new).read(inputFile, rows);
+    else
+      readEnv_amps(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
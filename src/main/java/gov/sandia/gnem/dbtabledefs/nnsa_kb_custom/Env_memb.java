@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * env_memb
@@ -209,7 +210,11 @@ public class Env_memb extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "presite":
         presite = value;
@@ -240,7 +245,11 @@ public class Env_memb extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "magyieldid":
         magyieldid = value;
@@ -412,6 +421,10 @@ public class Env_memb extends BaseRow implements Serializable {
    */
   static public void readEnv_membs(BufferedReader input, Collection<Env_memb> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Env_memb::new).read(input, rows);
+      return;
+    }
     String[] saved = Env_memb.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -437,7 +450,10 @@ public class Env_memb extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readEnv_membs(File inputFile, Collection<Env_memb> rows) throws IOException {
-    readEnv_membs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Env_memb::new).read(inputFile, rows);
+    else
+      readEnv_membs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * env_peak
@@ -342,7 +343,11 @@ public class Env_peak extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "vg0":
         vg0 = value;
@@ -397,7 +402,11 @@ public class Env_peak extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "magyieldid":
         magyieldid = value;
@@ -608,6 +617,10 @@ public class Env_peak extends BaseRow implements Serializable {
    */
   static public void readEnv_peaks(BufferedReader input, Collection<Env_peak> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Env_peak::new).read(input, rows);
+      return;
+    }
     String[] saved = Env_peak.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -633,7 +646,10 @@ public class Env_peak extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readEnv_peaks(File inputFile, Collection<Env_peak> rows) throws IOException {
-    readEnv_peaks(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Env_peak::new).read(inputFile, rows);
+    else
+      readEnv_peaks(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
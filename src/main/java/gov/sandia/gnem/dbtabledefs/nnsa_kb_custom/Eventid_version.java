@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * eventid_version
@@ -224,7 +225,11 @@ public class Eventid_version extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "versionid":
         versionid = value;
@@ -386,6 +391,10 @@ public class Eventid_version extends BaseRow implements Serializable {
    */
   static public void readEventid_versions(BufferedReader input, Collection<Eventid_version> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Eventid_version::new).read(input, rows);
+      return;
+    }
     String[] saved = Eventid_version.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -412,7 +421,10 @@ public class Eventid_version extends BaseRow implements Serializable {
    */
   static public void readEventid_versions(File inputFile, Collection<Eventid_version> rows)
       throws IOException {
-    readEventid_versions(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Eventid_version::new).read(inputFile, rows);
+    else
+      readEventid_versions(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * geomodel
@@ -208,7 +209,11 @@ public class Geomodel extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lon":
         lon = value;
@@ -239,7 +244,11 @@ public class Geomodel extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "cellnum":
         cellnum = value;
@@ -411,6 +420,10 @@ public class Geomodel extends BaseRow implements Serializable {
    */
   static public void readGeomodels(BufferedReader input, Collection<Geomodel> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Geomodel::new).read(input, rows);
+      return;
+    }
     String[] saved = Geomodel.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -436,7 +449,10 @@ public class Geomodel extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readGeomodels(File inputFile, Collection<Geomodel> rows) throws IOException {
-    readGeomodels(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Geomodel::new).read(inputFile, rows);
+    else
+      readGeomodels(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * geomodel_lookup
@@ -301,7 +302,11 @@ public class Geomodel_lookup extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "depth1":
         depth1 = value;
@@ -352,7 +357,11 @@ public class Geomodel_lookup extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "layerid":
         layerid = value;
@@ -546,6 +555,10 @@ public class Geomodel_lookup extends BaseRow implements Serializable {
    */
   static public void readGeomodel_lookups(BufferedReader input, Collection<Geomodel_lookup> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Geomodel_lookup::new).read(input, rows);
+      return;
+    }
     String[] saved = Geomodel_lookup.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -572,7 +585,10 @@ public class Geomodel_lookup extends BaseRow implements Serializable {
    */
   static public void readGeomodel_lookups(File inputFile, Collection<Geomodel_lookup> rows)
       throws IOException {
-    readGeomodel_lookups(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Geomodel_lookup::new).read(inputFile, rows);
+    else
+      readGeomodel_lookups(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
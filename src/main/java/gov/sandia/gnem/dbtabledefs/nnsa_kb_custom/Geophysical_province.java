@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * geophysical_province
@@ -173,7 +174,11 @@ public class Geophysical_province extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "provid":
         provid = value;
@@ -320,6 +325,10 @@ public class Geophysical_province extends BaseRow implements Serializable {
    */
   static public void readGeophysical_provinces(BufferedReader input,
       Collection<Geophysical_province> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Geophysical_province::new).read(input, rows);
+      return;
+    }
     String[] saved = Geophysical_province.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -346,7 +355,10 @@ public class Geophysical_province extends BaseRow implements Serializable {
    */
   static public void readGeophysical_provinces(File inputFile,
       Collection<Geophysical_province> rows) throws IOException {
-    readGeophysical_provinces(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Geophysical_province::new).read(inputFile, rows);
+    else
+      readGeophysical_provinces(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
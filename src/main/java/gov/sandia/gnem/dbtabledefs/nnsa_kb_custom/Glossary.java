@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * glossary
@@ -282,7 +283,11 @@ public class Glossary extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "glossid":
         glossid = value;
@@ -465,6 +470,10 @@ public class Glossary extends BaseRow implements Serializable {
    */
   static public void readGlossarys(BufferedReader input, Collection<Glossary> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Glossary::new).read(input, rows);
+      return;
+    }
     String[] saved = Glossary.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -490,7 +499,10 @@ public class Glossary extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readGlossarys(File inputFile, Collection<Glossary> rows) throws IOException {
-    readGlossarys(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Glossary::new).read(inputFile, rows);
+    else
+      readGlossarys(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * gt_depth
@@ -270,7 +271,11 @@ public class Gt_depth extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "depth":
         depth = value;
@@ -304,7 +309,11 @@ public class Gt_depth extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "depthid":
         depthid = value;
@@ -496,6 +505,10 @@ public class Gt_depth extends BaseRow implements Serializable {
    */
   static public void readGt_depths(BufferedReader input, Collection<Gt_depth> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Gt_depth::new).read(input, rows);
+      return;
+    }
     String[] saved = Gt_depth.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -521,7 +534,10 @@ public class Gt_depth extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readGt_depths(File inputFile, Collection<Gt_depth> rows) throws IOException {
-    readGt_depths(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Gt_depth::new).read(inputFile, rows);
+    else
+      readGt_depths(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
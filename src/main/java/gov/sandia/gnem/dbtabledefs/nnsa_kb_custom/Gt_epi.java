@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * gt_epi
@@ -285,7 +286,11 @@ public class Gt_epi extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -322,7 +327,11 @@ public class Gt_epi extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "epicenterid":
         epicenterid = value;
@@ -517,6 +526,10 @@ public class Gt_epi extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readGt_epis(BufferedReader input, Collection<Gt_epi> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Gt_epi::new).read(input, rows);
+      return;
+    }
     String[] saved = Gt_epi.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -541,7 +554,10 @@ public class Gt_epi extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readGt_epis(File inputFile, Collection<Gt_epi> rows) throws IOException {
-    readGt_epis(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Gt_epi::new).read(inputFile, rows);
+    else
+      readGt_epis(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * gt_etype
@@ -261,7 +262,11 @@ public class Gt_etype extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "confidence":
         confidence = value;
@@ -289,7 +294,11 @@ public class Gt_etype extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "etypeid":
         etypeid = value;
@@ -475,6 +484,10 @@ public class Gt_etype extends BaseRow implements Serializable {
    */
   static public void readGt_etypes(BufferedReader input, Collection<Gt_etype> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Gt_etype::new).read(input, rows);
+      return;
+    }
     String[] saved = Gt_etype.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -500,7 +513,10 @@ public class Gt_etype extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readGt_etypes(File inputFile, Collection<Gt_etype> rows) throws IOException {
-    readGt_etypes(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Gt_etype::new).read(inputFile, rows);
+    else
+      readGt_etypes(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * gt_time
@@ -269,7 +270,11 @@ public class Gt_time extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "time":
         time = value;
@@ -303,7 +308,11 @@ public class Gt_time extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "timeid":
         timeid = value;
@@ -495,6 +504,10 @@ public class Gt_time extends BaseRow implements Serializable {
    */
   static public void readGt_times(BufferedReader input, Collection<Gt_time> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Gt_time::new).read(input, rows);
+      return;
+    }
     String[] saved = Gt_time.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -519,7 +532,10 @@ public class Gt_time extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readGt_times(File inputFile, Collection<Gt_time> rows) throws IOException {
-    readGt_times(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Gt_time::new).read(inputFile, rows);
+    else
+      readGt_times(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * gttable
@@ -348,7 +349,11 @@ public class Gttable extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "gtEpicenter":
         gtEpicenter = value;
@@ -390,7 +395,11 @@ public class Gttable extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "gtsid":
         gtsid = value;
@@ -622,6 +631,10 @@ public class Gttable extends BaseRow implements Serializable {
    */
   static public void readGttables(BufferedReader input, Collection<Gttable> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Gttable::new).read(input, rows);
+      return;
+    }
     String[] saved = Gttable.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -646,7 +659,10 @@ public class Gttable extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readGttables(File inputFile, Collection<Gttable> rows) throws IOException {
-    readGttables(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Gttable::new).read(inputFile, rows);
+    else
+      readGttables(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
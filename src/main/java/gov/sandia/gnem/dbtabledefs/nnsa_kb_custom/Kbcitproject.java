@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * kbcitproject
@@ -238,7 +239,11 @@ public class Kbcitproject extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "kbcitid":
         kbcitid = value;
@@ -404,6 +409,10 @@ public class Kbcitproject extends BaseRow implements Serializable {
    */
   static public void readKbcitprojects(BufferedReader input, Collection<Kbcitproject> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Kbcitproject::new).read(input, rows);
+      return;
+    }
     String[] saved = Kbcitproject.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -430,7 +439,10 @@ public class Kbcitproject extends BaseRow implements Serializable {
    */
   static public void readKbcitprojects(File inputFile, Collection<Kbcitproject> rows)
       throws IOException {
-    readKbcitprojects(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Kbcitproject::new).read(inputFile, rows);
+    else
+      readKbcitprojects(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
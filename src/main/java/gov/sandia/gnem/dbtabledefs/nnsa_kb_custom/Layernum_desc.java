@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * layernum_desc
@@ -173,7 +174,11 @@ public class Layernum_desc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "layernum":
         layernum = value;
@@ -320,6 +325,10 @@ public class Layernum_desc extends BaseRow implements Serializable {
    */
   static public void readLayernum_descs(BufferedReader input, Collection<Layernum_desc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Layernum_desc::new).read(input, rows);
+      return;
+    }
     String[] saved = Layernum_desc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -346,7 +355,10 @@ public class Layernum_desc extends BaseRow implements Serializable {
    */
   static public void readLayernum_descs(File inputFile, Collection<Layernum_desc> rows)
       throws IOException {
-    readLayernum_descs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Layernum_desc::new).read(inputFile, rows);
+    else
+      readLayernum_descs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
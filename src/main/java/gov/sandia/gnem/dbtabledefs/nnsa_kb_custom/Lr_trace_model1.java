@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * lr_trace_model1
@@ -187,7 +188,11 @@ public class Lr_trace_model1 extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lon":
         lon = value;
@@ -214,7 +219,11 @@ public class Lr_trace_model1 extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "model":
         model = value;
@@ -370,6 +379,10 @@ public class Lr_trace_model1 extends BaseRow implements Serializable {
    */
   static public void readLr_trace_model1s(BufferedReader input, Collection<Lr_trace_model1> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Lr_trace_model1::new).read(input, rows);
+      return;
+    }
     String[] saved = Lr_trace_model1.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -396,7 +409,10 @@ public class Lr_trace_model1 extends BaseRow implements Serializable {
    */
   static public void readLr_trace_model1s(File inputFile, Collection<Lr_trace_model1> rows)
       throws IOException {
-    readLr_trace_model1s(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Lr_trace_model1::new).read(inputFile, rows);
+    else
+      readLr_trace_model1s(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
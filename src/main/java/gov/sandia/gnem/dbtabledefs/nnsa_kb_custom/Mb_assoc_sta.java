@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -265,7 +266,11 @@ public class Mb_assoc_sta extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "data_weight":
         data_weight = value;
@@ -297,7 +302,11 @@ public class Mb_assoc_sta extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "magid":
         magid = value;
@@ -494,6 +503,10 @@ public class Mb_assoc_sta extends BaseRow implements Serializable {
    */
   static public void readMb_assoc_stas(BufferedReader input, Collection<Mb_assoc_sta> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Mb_assoc_sta::new).read(input, rows);
+      return;
+    }
     String[] saved = Mb_assoc_sta.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -520,7 +533,10 @@ public class Mb_assoc_sta extends BaseRow implements Serializable {
    */
   static public void readMb_assoc_stas(File inputFile, Collection<Mb_assoc_sta> rows)
       throws IOException {
-    readMb_assoc_stas(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Mb_assoc_sta::new).read(inputFile, rows);
+    else
+      readMb_assoc_stas(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
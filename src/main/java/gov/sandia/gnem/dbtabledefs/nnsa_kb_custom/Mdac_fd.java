@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -320,7 +321,11 @@ public class Mdac_fd extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lfreq":
         lfreq = value;
@@ -366,7 +371,11 @@ public class Mdac_fd extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "fdid":
         fdid = value;
@@ -586,6 +595,10 @@ public class Mdac_fd extends BaseRow implements Serializable {
    */
   static public void readMdac_fds(BufferedReader input, Collection<Mdac_fd> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Mdac_fd::new).read(input, rows);
+      return;
+    }
     String[] saved = Mdac_fd.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -610,7 +623,10 @@ public class Mdac_fd extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readMdac_fds(File inputFile, Collection<Mdac_fd> rows) throws IOException {
-    readMdac_fds(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Mdac_fd::new).read(inputFile, rows);
+    else
+      readMdac_fds(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -621,7 +622,11 @@ public class Mdac_fi extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "sigma":
         sigma = value;
@@ -722,7 +727,11 @@ public class Mdac_fi extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "corrid":
         corrid = value;
@@ -1044,6 +1053,10 @@ public class Mdac_fi extends BaseRow implements Serializable {
    */
   static public void readMdac_fis(BufferedReader input, Collection<Mdac_fi> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Mdac_fi::new).read(input, rows);
+      return;
+    }
     String[] saved = Mdac_fi.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -1068,7 +1081,10 @@ public class Mdac_fi extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readMdac_fis(File inputFile, Collection<Mdac_fi> rows) throws IOException {
-    readMdac_fis(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Mdac_fi::new).read(inputFile, rows);
+    else
+      readMdac_fis(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * modcompaz
@@ -371,7 +372,11 @@ public class Modcompaz extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "model_az":
         model_az = value;
@@ -433,7 +438,11 @@ public class Modcompaz extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "mcazid":
         mcazid = value;
@@ -655,6 +664,10 @@ public class Modcompaz extends BaseRow implements Serializable {
    */
   static public void readModcompazs(BufferedReader input, Collection<Modcompaz> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Modcompaz::new).read(input, rows);
+      return;
+    }
     String[] saved = Modcompaz.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -680,7 +693,10 @@ public class Modcompaz extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readModcompazs(File inputFile, Collection<Modcompaz> rows) throws IOException {
-    readModcompazs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Modcompaz::new).read(inputFile, rows);
+    else
+      readModcompazs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * modcompsh
@@ -371,7 +372,11 @@ public class Modcompsh extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "model_sh":
         model_sh = value;
@@ -433,7 +438,11 @@ public class Modcompsh extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "mcshid":
         mcshid = value;
@@ -655,6 +664,10 @@ public class Modcompsh extends BaseRow implements Serializable {
    */
   static public void readModcompshs(BufferedReader input, Collection<Modcompsh> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Modcompsh::new).read(input, rows);
+      return;
+    }
     String[] saved = Modcompsh.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -680,7 +693,10 @@ public class Modcompsh extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readModcompshs(File inputFile, Collection<Modcompsh> rows) throws IOException {
-    readModcompshs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Modcompsh::new).read(inputFile, rows);
+    else
+      readModcompshs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * modcomptt
@@ -403,7 +404,11 @@ public class Modcomptt extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "model_tt":
         model_tt = value;
@@ -471,7 +476,11 @@ public class Modcomptt extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "mcttid":
         mcttid = value;
@@ -703,6 +712,10 @@ public class Modcomptt extends BaseRow implements Serializable {
    */
   static public void readModcomptts(BufferedReader input, Collection<Modcomptt> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Modcomptt::new).read(input, rows);
+      return;
+    }
     String[] saved = Modcomptt.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -728,7 +741,10 @@ public class Modcomptt extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readModcomptts(File inputFile, Collection<Modcomptt> rows) throws IOException {
-    readModcomptts(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Modcomptt::new).read(inputFile, rows);
+    else
+      readModcomptts(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
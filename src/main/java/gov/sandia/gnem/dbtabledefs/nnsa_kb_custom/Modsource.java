@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * modsource
@@ -251,7 +252,11 @@ public class Modsource extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "modsrcid":
         modsrcid = value;
@@ -425,6 +430,10 @@ public class Modsource extends BaseRow implements Serializable {
    */
   static public void readModsources(BufferedReader input, Collection<Modsource> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Modsource::new).read(input, rows);
+      return;
+    }
     String[] saved = Modsource.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -450,7 +459,10 @@ public class Modsource extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readModsources(File inputFile, Collection<Modsource> rows) throws IOException {
-    readModsources(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Modsource::new).read(inputFile, rows);
+    else
+      readModsources(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * mw_assoc_net
@@ -220,7 +221,11 @@ public class Mw_assoc_net extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "data_weight":
         data_weight = value;
@@ -250,7 +255,11 @@ public class Mw_assoc_net extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "magid":
         magid = value;
@@ -430,6 +439,10 @@ public class Mw_assoc_net extends BaseRow implements Serializable {
    */
   static public void readMw_assoc_nets(BufferedReader input, Collection<Mw_assoc_net> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Mw_assoc_net::new).read(input, rows);
+      return;
+    }
     String[] saved = Mw_assoc_net.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -456,7 +469,10 @@ public class Mw_assoc_net extends BaseRow implements Serializable {
    */
   static public void readMw_assoc_nets(File inputFile, Collection<Mw_assoc_net> rows)
       throws IOException {
-    readMw_assoc_nets(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Mw_assoc_net::new).read(inputFile, rows);
+    else
+      readMw_assoc_nets(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
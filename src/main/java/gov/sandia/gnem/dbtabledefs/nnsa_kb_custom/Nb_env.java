@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * nb_env
@@ -352,7 +353,11 @@ public class Nb_env extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "slowness":
         slowness = value;
@@ -387,7 +392,11 @@ public class Nb_env extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "magyieldid":
         magyieldid = value;
@@ -607,6 +616,10 @@ public class Nb_env extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readNb_envs(BufferedReader input, Collection<Nb_env> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Nb_env::new).read(input, rows);
+      return;
+    }
     String[] saved = Nb_env.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -631,7 +644,10 @@ public class Nb_env extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readNb_envs(File inputFile, Collection<Nb_env> rows) throws IOException {
-    readNb_envs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Nb_env::new).read(inputFile, rows);
+    else
+      readNb_envs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * nb_env_arch
@@ -318,7 +319,11 @@ public class Nb_env_arch extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "presite":
         presite = value;
@@ -368,7 +373,11 @@ public class Nb_env_arch extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "envwfid":
         envwfid = value;
@@ -593,6 +602,10 @@ public class Nb_env_arch extends BaseRow implements Serializable {
    */
   static public void readNb_env_archs(BufferedReader input, Collection<Nb_env_arch> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Nb_env_arch::new).read(input, rows);
+      return;
+    }
     String[] saved = Nb_env_arch.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -619,7 +632,10 @@ public class Nb_env_arch extends BaseRow implements Serializable {
    */
   static public void readNb_env_archs(File inputFile, Collection<Nb_env_arch> rows)
       throws IOException {
-    readNb_env_archs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Nb_env_arch::new).read(inputFile, rows);
+    else
+      readNb_env_archs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
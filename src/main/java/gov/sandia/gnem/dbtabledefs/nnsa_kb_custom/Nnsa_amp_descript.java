@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -397,7 +398,11 @@ public class Nnsa_amp_descript extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "delta":
         delta = value;
@@ -454,7 +459,11 @@ public class Nnsa_amp_descript extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "windowid":
         windowid = value;
@@ -700,6 +709,10 @@ public class Nnsa_amp_descript extends BaseRow implements Serializable {
    */
   static public void readNnsa_amp_descripts(BufferedReader input,
       Collection<Nnsa_amp_descript> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Nnsa_amp_descript::new).read(input, rows);
+      return;
+    }
     String[] saved = Nnsa_amp_descript.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -726,7 +739,10 @@ public class Nnsa_amp_descript extends BaseRow implements Serializable {
    */
   static public void readNnsa_amp_descripts(File inputFile, Collection<Nnsa_amp_descript> rows)
       throws IOException {
-    readNnsa_amp_descripts(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Nnsa_amp_descript::new).read(inputFile, rows);
+    else
+      readNnsa_amp_descripts(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * nnsa_amplitude
@@ -343,7 +344,11 @@ public class Nnsa_amplitude extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "amp":
         amp = value;
@@ -386,7 +391,11 @@ public class Nnsa_amplitude extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ampid":
         ampid = value;
@@ -597,6 +606,10 @@ public class Nnsa_amplitude extends BaseRow implements Serializable {
    */
   static public void readNnsa_amplitudes(BufferedReader input, Collection<Nnsa_amplitude> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Nnsa_amplitude::new).read(input, rows);
+      return;
+    }
     String[] saved = Nnsa_amplitude.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -623,7 +636,10 @@ public class Nnsa_amplitude extends BaseRow implements Serializable {
    */
   static public void readNnsa_amplitudes(File inputFile, Collection<Nnsa_amplitude> rows)
       throws IOException {
-    readNnsa_amplitudes(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Nnsa_amplitude::new).read(inputFile, rows);
+    else
+      readNnsa_amplitudes(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * origin_authors_rank
@@ -177,7 +178,11 @@ public class Origin_authors_rank extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "rank":
         rank = value;
@@ -324,6 +329,10 @@ public class Origin_authors_rank extends BaseRow implements Serializable {
    */
   static public void readOrigin_authors_ranks(BufferedReader input,
       Collection<Origin_authors_rank> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Origin_authors_rank::new).read(input, rows);
+      return;
+    }
     String[] saved = Origin_authors_rank.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -350,7 +359,10 @@ public class Origin_authors_rank extends BaseRow implements Serializable {
    */
   static public void readOrigin_authors_ranks(File inputFile, Collection<Origin_authors_rank> rows)
       throws IOException {
-    readOrigin_authors_ranks(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Origin_authors_rank::new).read(inputFile, rows);
+    else
+      readOrigin_authors_ranks(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ormodsrc
@@ -168,7 +169,11 @@ public class Ormodsrc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "orid":
         orid = value;
@@ -318,6 +323,10 @@ public class Ormodsrc extends BaseRow implements Serializable {
    */
   static public void readOrmodsrcs(BufferedReader input, Collection<Ormodsrc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Ormodsrc::new).read(input, rows);
+      return;
+    }
     String[] saved = Ormodsrc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -343,7 +352,10 @@ public class Ormodsrc extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readOrmodsrcs(File inputFile, Collection<Ormodsrc> rows) throws IOException {
-    readOrmodsrcs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Ormodsrc::new).read(inputFile, rows);
+    else
+      readOrmodsrcs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
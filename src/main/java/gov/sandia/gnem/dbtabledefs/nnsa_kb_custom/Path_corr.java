@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * path_corr
@@ -380,7 +381,11 @@ public class Path_corr extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "pspread1":
         pspread1 = value;
@@ -447,7 +452,11 @@ public class Path_corr extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "magyieldid":
         magyieldid = value;
@@ -677,6 +686,10 @@ public class Path_corr extends BaseRow implements Serializable {
    */
   static public void readPath_corrs(BufferedReader input, Collection<Path_corr> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Path_corr::new).read(input, rows);
+      return;
+    }
     String[] saved = Path_corr.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -702,7 +715,10 @@ public class Path_corr extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readPath_corrs(File inputFile, Collection<Path_corr> rows) throws IOException {
-    readPath_corrs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Path_corr::new).read(inputFile, rows);
+    else
+      readPath_corrs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
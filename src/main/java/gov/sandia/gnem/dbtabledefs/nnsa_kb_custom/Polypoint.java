@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * polypoint
@@ -175,7 +176,11 @@ public class Polypoint extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -204,7 +209,11 @@ public class Polypoint extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "polyid":
         polyid = value;
@@ -363,6 +372,10 @@ public class Polypoint extends BaseRow implements Serializable {
    */
   static public void readPolypoints(BufferedReader input, Collection<Polypoint> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Polypoint::new).read(input, rows);
+      return;
+    }
     String[] saved = Polypoint.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -388,7 +401,10 @@ public class Polypoint extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readPolypoints(File inputFile, Collection<Polypoint> rows) throws IOException {
-    readPolypoints(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Polypoint::new).read(inputFile, rows);
+    else
+      readPolypoints(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
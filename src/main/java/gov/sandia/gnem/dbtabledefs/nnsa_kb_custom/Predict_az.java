@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * predict_az
@@ -442,7 +443,11 @@ public class Predict_az extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "model_az":
         model_az = value;
@@ -514,7 +519,11 @@ public class Predict_az extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "predazid":
         predazid = value;
@@ -767,6 +776,10 @@ public class Predict_az extends BaseRow implements Serializable {
    */
   static public void readPredict_azs(BufferedReader input, Collection<Predict_az> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Predict_az::new).read(input, rows);
+      return;
+    }
     String[] saved = Predict_az.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -793,7 +806,10 @@ public class Predict_az extends BaseRow implements Serializable {
    */
   static public void readPredict_azs(File inputFile, Collection<Predict_az> rows)
       throws IOException {
-    readPredict_azs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Predict_az::new).read(inputFile, rows);
+    else
+      readPredict_azs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * predict_sh
@@ -442,7 +443,11 @@ public class Predict_sh extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "model_sh":
         model_sh = value;
@@ -514,7 +519,11 @@ public class Predict_sh extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "predshid":
         predshid = value;
@@ -767,6 +776,10 @@ public class Predict_sh extends BaseRow implements Serializable {
    */
   static public void readPredict_shs(BufferedReader input, Collection<Predict_sh> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Predict_sh::new).read(input, rows);
+      return;
+    }
     String[] saved = Predict_sh.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -793,7 +806,10 @@ public class Predict_sh extends BaseRow implements Serializable {
    */
   static public void readPredict_shs(File inputFile, Collection<Predict_sh> rows)
       throws IOException {
-    readPredict_shs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Predict_sh::new).read(inputFile, rows);
+    else
+      readPredict_shs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
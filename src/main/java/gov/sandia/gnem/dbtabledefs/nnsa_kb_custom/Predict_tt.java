@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * predict_tt
@@ -473,7 +474,11 @@ public class Predict_tt extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "model_tt":
         model_tt = value;
@@ -551,7 +556,11 @@ public class Predict_tt extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "predttid":
         predttid = value;
@@ -812,6 +821,10 @@ public class Predict_tt extends BaseRow implements Serializable {
    */
   static public void readPredict_tts(BufferedReader input, Collection<Predict_tt> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Predict_tt::new).read(input, rows);
+      return;
+    }
     String[] saved = Predict_tt.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -838,7 +851,10 @@ public class Predict_tt extends BaseRow implements Serializable {
    */
   static public void readPredict_tts(File inputFile, Collection<Predict_tt> rows)
       throws IOException {
-    readPredict_tts(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Predict_tt::new).read(inputFile, rows);
+    else
+      readPredict_tts(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -242,7 +243,11 @@ public class Pref_eventid_ver extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "prefvid":
         prefvid = value;
@@ -411,6 +416,10 @@ public class Pref_eventid_ver extends BaseRow implements Serializable {
    */
   static public void readPref_eventid_vers(BufferedReader input, Collection<Pref_eventid_ver> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Pref_eventid_ver::new).read(input, rows);
+      return;
+    }
     String[] saved = Pref_eventid_ver.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -437,7 +446,10 @@ public class Pref_eventid_ver extends BaseRow implements Serializable {
    */
   static public void readPref_eventid_vers(File inputFile, Collection<Pref_eventid_ver> rows)
       throws IOException {
-    readPref_eventid_vers(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Pref_eventid_ver::new).read(inputFile, rows);
+    else
+      readPref_eventid_vers(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * province_assoc
@@ -166,7 +167,11 @@ public class Province_assoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "cellnum":
         cellnum = value;
@@ -316,6 +321,10 @@ public class Province_assoc extends BaseRow implements Serializable {
    */
   static public void readProvince_assocs(BufferedReader input, Collection<Province_assoc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Province_assoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Province_assoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -342,7 +351,10 @@ public class Province_assoc extends BaseRow implements Serializable {
    */
   static public void readProvince_assocs(File inputFile, Collection<Province_assoc> rows)
       throws IOException {
-    readProvince_assocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Province_assoc::new).read(inputFile, rows);
+    else
+      readProvince_assocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
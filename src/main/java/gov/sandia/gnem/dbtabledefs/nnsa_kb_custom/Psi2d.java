@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * psi2d
@@ -154,7 +155,11 @@ public class Psi2d extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "psi2did":
         psi2did = value;
@@ -296,6 +301,10 @@ public class Psi2d extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readPsi2ds(BufferedReader input, Collection<Psi2d> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Psi2d::new).read(input, rows);
+      return;
+    }
     String[] saved = Psi2d.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -320,7 +329,10 @@ public class Psi2d extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readPsi2ds(File inputFile, Collection<Psi2d> rows) throws IOException {
-    readPsi2ds(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Psi2d::new).read(inputFile, rows);
+    else
+      readPsi2ds(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
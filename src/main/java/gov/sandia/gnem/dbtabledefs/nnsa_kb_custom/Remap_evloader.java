@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * remap_evloader
@@ -200,7 +201,11 @@ public class Remap_evloader extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "original_id":
         original_id = value;
@@ -359,6 +364,10 @@ public class Remap_evloader extends BaseRow implements Serializable {
    */
   static public void readRemap_evloaders(BufferedReader input, Collection<Remap_evloader> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Remap_evloader::new).read(input, rows);
+      return;
+    }
     String[] saved = Remap_evloader.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -385,7 +394,10 @@ public class Remap_evloader extends BaseRow implements Serializable {
    */
   static public void readRemap_evloaders(File inputFile, Collection<Remap_evloader> rows)
       throws IOException {
-    readRemap_evloaders(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Remap_evloader::new).read(inputFile, rows);
+    else
+      readRemap_evloaders(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
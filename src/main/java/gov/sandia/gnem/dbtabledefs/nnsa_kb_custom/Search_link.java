@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -395,7 +396,11 @@ public class Search_link extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "olat":
         olat = value;
@@ -458,7 +463,11 @@ public class Search_link extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "evid":
         evid = value;
@@ -696,6 +705,10 @@ public class Search_link extends BaseRow implements Serializable {
    */
   static public void readSearch_links(BufferedReader input, Collection<Search_link> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Search_link::new).read(input, rows);
+      return;
+    }
     String[] saved = Search_link.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -722,7 +735,10 @@ public class Search_link extends BaseRow implements Serializable {
    */
   static public void readSearch_links(File inputFile, Collection<Search_link> rows)
       throws IOException {
-    readSearch_links(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Search_link::new).read(inputFile, rows);
+    else
+      readSearch_links(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
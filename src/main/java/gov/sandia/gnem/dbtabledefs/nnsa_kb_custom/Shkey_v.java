@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -293,7 +294,11 @@ public class Shkey_v extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "time":
         time = value;
@@ -328,7 +333,11 @@ public class Shkey_v extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "shmodid":
         shmodid = value;
@@ -534,6 +543,10 @@ public class Shkey_v extends BaseRow implements Serializable {
    */
   static public void readShkey_vs(BufferedReader input, Collection<Shkey_v> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Shkey_v::new).read(input, rows);
+      return;
+    }
     String[] saved = Shkey_v.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -558,7 +571,10 @@ public class Shkey_v extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readShkey_vs(File inputFile, Collection<Shkey_v> rows) throws IOException {
-    readShkey_vs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Shkey_v::new).read(inputFile, rows);
+    else
+      readShkey_vs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
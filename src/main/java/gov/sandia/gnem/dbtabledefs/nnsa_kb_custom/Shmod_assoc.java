@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * shmod_assoc
@@ -247,7 +248,11 @@ public class Shmod_assoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "shmodid":
         shmodid = value;
@@ -427,6 +432,10 @@ public class Shmod_assoc extends BaseRow implements Serializable {
    */
   static public void readShmod_assocs(BufferedReader input, Collection<Shmod_assoc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Shmod_assoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Shmod_assoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -453,7 +462,10 @@ public class Shmod_assoc extends BaseRow implements Serializable {
    */
   static public void readShmod_assocs(File inputFile, Collection<Shmod_assoc> rows)
       throws IOException {
-    readShmod_assocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Shmod_assoc::new).read(inputFile, rows);
+    else
+      readShmod_assocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * sig2d
@@ -154,7 +155,11 @@ public class Sig2d extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "sig2did":
         sig2did = value;
@@ -296,6 +301,10 @@ public class Sig2d extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSig2ds(BufferedReader input, Collection<Sig2d> rows) throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Sig2d::new).read(input, rows);
+      return;
+    }
     String[] saved = Sig2d.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -320,7 +329,10 @@ public class Sig2d extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSig2ds(File inputFile, Collection<Sig2d> rows) throws IOException {
-    readSig2ds(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Sig2d::new).read(inputFile, rows);
+    else
+      readSig2ds(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
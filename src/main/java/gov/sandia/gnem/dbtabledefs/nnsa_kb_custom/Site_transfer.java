@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * site_transfer
@@ -229,7 +230,11 @@ public class Site_transfer extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "sitecor":
         sitecor = value;
@@ -260,7 +265,11 @@ public class Site_transfer extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "magyieldid":
         magyieldid = value;
@@ -437,6 +446,10 @@ public class Site_transfer extends BaseRow implements Serializable {
    */
   static public void readSite_transfers(BufferedReader input, Collection<Site_transfer> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Site_transfer::new).read(input, rows);
+      return;
+    }
     String[] saved = Site_transfer.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -463,7 +476,10 @@ public class Site_transfer extends BaseRow implements Serializable {
    */
   static public void readSite_transfers(File inputFile, Collection<Site_transfer> rows)
       throws IOException {
-    readSite_transfers(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Site_transfer::new).read(inputFile, rows);
+    else
+      readSite_transfers(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * specfall2d
@@ -154,7 +155,11 @@ public class Specfall2d extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "specfall2did":
         specfall2did = value;
@@ -297,6 +302,10 @@ public class Specfall2d extends BaseRow implements Serializable {
    */
   static public void readSpecfall2ds(BufferedReader input, Collection<Specfall2d> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Specfall2d::new).read(input, rows);
+      return;
+    }
     String[] saved = Specfall2d.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -323,7 +332,10 @@ public class Specfall2d extends BaseRow implements Serializable {
    */
   static public void readSpecfall2ds(File inputFile, Collection<Specfall2d> rows)
       throws IOException {
-    readSpecfall2ds(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Specfall2d::new).read(inputFile, rows);
+    else
+      readSpecfall2ds(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
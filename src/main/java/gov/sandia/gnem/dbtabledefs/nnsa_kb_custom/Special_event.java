@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * special_event
@@ -311,7 +312,11 @@ public class Special_event extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat":
         lat = value;
@@ -358,7 +363,11 @@ public class Special_event extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "sevid":
         sevid = value;
@@ -583,6 +592,10 @@ public class Special_event extends BaseRow implements Serializable {
    */
   static public void readSpecial_events(BufferedReader input, Collection<Special_event> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Special_event::new).read(input, rows);
+      return;
+    }
     String[] saved = Special_event.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -609,7 +622,10 @@ public class Special_event extends BaseRow implements Serializable {
    */
   static public void readSpecial_events(File inputFile, Collection<Special_event> rows)
       throws IOException {
-    readSpecial_events(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Special_event::new).read(inputFile, rows);
+    else
+      readSpecial_events(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
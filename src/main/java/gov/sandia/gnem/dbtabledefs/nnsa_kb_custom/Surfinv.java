@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * surfinv
@@ -249,7 +250,11 @@ public class Surfinv extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "period":
         period = value;
@@ -285,7 +290,11 @@ public class Surfinv extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "algoid":
         algoid = value;
@@ -460,6 +469,10 @@ public class Surfinv extends BaseRow implements Serializable {
    */
   static public void readSurfinvs(BufferedReader input, Collection<Surfinv> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Surfinv::new).read(input, rows);
+      return;
+    }
     String[] saved = Surfinv.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -484,7 +497,10 @@ public class Surfinv extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSurfinvs(File inputFile, Collection<Surfinv> rows) throws IOException {
-    readSurfinvs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Surfinv::new).read(inputFile, rows);
+    else
+      readSurfinvs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
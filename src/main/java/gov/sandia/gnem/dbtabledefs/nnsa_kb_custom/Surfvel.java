@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -481,7 +482,11 @@ public class Surfvel extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "iper":
         iper = value;
@@ -547,7 +552,11 @@ public class Surfvel extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "velid":
         velid = value;
@@ -822,6 +831,10 @@ public class Surfvel extends BaseRow implements Serializable {
    */
   static public void readSurfvels(BufferedReader input, Collection<Surfvel> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Surfvel::new).read(input, rows);
+      return;
+    }
     String[] saved = Surfvel.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -846,7 +859,10 @@ public class Surfvel extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readSurfvels(File inputFile, Collection<Surfvel> rows) throws IOException {
-    readSurfvels(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Surfvel::new).read(inputFile, rows);
+    else
+      readSurfvels(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * tabdescript
@@ -358,6 +359,10 @@ public class Tabdescript extends BaseRow implements Serializable {
    */
   static public void readTabdescripts(BufferedReader input, Collection<Tabdescript> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Tabdescript::new).read(input, rows);
+      return;
+    }
     String[] saved = Tabdescript.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -384,7 +389,10 @@ public class Tabdescript extends BaseRow implements Serializable {
    */
   static public void readTabdescripts(File inputFile, Collection<Tabdescript> rows)
       throws IOException {
-    readTabdescripts(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Tabdescript::new).read(inputFile, rows);
+    else
+      readTabdescripts(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * table_defs_view
@@ -345,7 +346,11 @@ public class Table_defs_view extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "column_position":
         column_position = value;
@@ -542,6 +547,10 @@ public class Table_defs_view extends BaseRow implements Serializable {
    */
   static public void readTable_defs_views(BufferedReader input, Collection<Table_defs_view> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Table_defs_view::new).read(input, rows);
+      return;
+    }
     String[] saved = Table_defs_view.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -568,7 +577,10 @@ public class Table_defs_view extends BaseRow implements Serializable {
    */
   static public void readTable_defs_views(File inputFile, Collection<Table_defs_view> rows)
       throws IOException {
-    readTable_defs_views(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Table_defs_view::new).read(inputFile, rows);
+    else
+      readTable_defs_views(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * tomo_info
@@ -305,7 +306,11 @@ public class Tomo_info extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "lat1":
         lat1 = value;
@@ -346,7 +351,11 @@ public class Tomo_info extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "tomoid":
         tomoid = value;
@@ -543,6 +552,10 @@ public class Tomo_info extends BaseRow implements Serializable {
    */
   static public void readTomo_infos(BufferedReader input, Collection<Tomo_info> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Tomo_info::new).read(input, rows);
+      return;
+    }
     String[] saved = Tomo_info.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -568,7 +581,10 @@ public class Tomo_info extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readTomo_infos(File inputFile, Collection<Tomo_info> rows) throws IOException {
-    readTomo_infos(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Tomo_info::new).read(inputFile, rows);
+    else
+      readTomo_infos(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ttcorrsurf
@@ -222,7 +223,11 @@ public class Ttcorrsurf extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "resid_tol":
         resid_tol = value;
@@ -250,7 +255,11 @@ public class Ttcorrsurf extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ttcorrsurfid":
         ttcorrsurfid = value;
@@ -427,6 +436,10 @@ public class Ttcorrsurf extends BaseRow implements Serializable {
    */
   static public void readTtcorrsurfs(BufferedReader input, Collection<Ttcorrsurf> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Ttcorrsurf::new).read(input, rows);
+      return;
+    }
     String[] saved = Ttcorrsurf.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -453,7 +466,10 @@ public class Ttcorrsurf extends BaseRow implements Serializable {
    */
   static public void readTtcorrsurfs(File inputFile, Collection<Ttcorrsurf> rows)
       throws IOException {
-    readTtcorrsurfs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Ttcorrsurf::new).read(inputFile, rows);
+    else
+      readTtcorrsurfs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ttkbcit_log
@@ -292,7 +293,11 @@ public class Ttkbcit_log extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "orid":
         orid = value;
@@ -492,6 +497,10 @@ public class Ttkbcit_log extends BaseRow implements Serializable {
    */
   static public void readTtkbcit_logs(BufferedReader input, Collection<Ttkbcit_log> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Ttkbcit_log::new).read(input, rows);
+      return;
+    }
     String[] saved = Ttkbcit_log.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -518,7 +527,10 @@ public class Ttkbcit_log extends BaseRow implements Serializable {
    */
   static public void readTtkbcit_logs(File inputFile, Collection<Ttkbcit_log> rows)
       throws IOException {
-    readTtkbcit_logs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Ttkbcit_log::new).read(inputFile, rows);
+    else
+      readTtkbcit_logs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
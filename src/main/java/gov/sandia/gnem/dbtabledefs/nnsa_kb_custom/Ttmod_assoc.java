@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ttmod_assoc
@@ -247,7 +248,11 @@ public class Ttmod_assoc extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ttmodid":
         ttmodid = value;
@@ -427,6 +432,10 @@ public class Ttmod_assoc extends BaseRow implements Serializable {
    */
   static public void readTtmod_assocs(BufferedReader input, Collection<Ttmod_assoc> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Ttmod_assoc::new).read(input, rows);
+      return;
+    }
     String[] saved = Ttmod_assoc.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -453,7 +462,10 @@ public class Ttmod_assoc extends BaseRow implements Serializable {
    */
   static public void readTtmod_assocs(File inputFile, Collection<Ttmod_assoc> rows)
       throws IOException {
-    readTtmod_assocs(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Ttmod_assoc::new).read(inputFile, rows);
+    else
+      readTtmod_assocs(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * ttmod_kbcit
@@ -212,7 +213,11 @@ public class Ttmod_kbcit extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "gtfilter_km":
         gtfilter_km = value;
@@ -238,7 +243,11 @@ public class Ttmod_kbcit extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ttmodid":
         ttmodid = value;
@@ -407,6 +416,10 @@ public class Ttmod_kbcit extends BaseRow implements Serializable {
    */
   static public void readTtmod_kbcits(BufferedReader input, Collection<Ttmod_kbcit> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Ttmod_kbcit::new).read(input, rows);
+      return;
+    }
     String[] saved = Ttmod_kbcit.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -433,7 +446,10 @@ public class Ttmod_kbcit extends BaseRow implements Serializable {
    */
   static public void readTtmod_kbcits(File inputFile, Collection<Ttmod_kbcit> rows)
       throws IOException {
-    readTtmod_kbcits(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Ttmod_kbcit::new).read(inputFile, rows);
+    else
+      readTtmod_kbcits(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -202,7 +203,11 @@ public class Ttmod_site extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ttmodid":
         ttmodid = value;
@@ -361,6 +366,10 @@ public class Ttmod_site extends BaseRow implements Serializable {
    */
   static public void readTtmod_sites(BufferedReader input, Collection<Ttmod_site> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Ttmod_site::new).read(input, rows);
+      return;
+    }
     String[] saved = Ttmod_site.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -387,7 +396,10 @@ public class Ttmod_site extends BaseRow implements Serializable {
    */
   static public void readTtmod_sites(File inputFile, Collection<Ttmod_site> rows)
       throws IOException {
-    readTtmod_sites(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Ttmod_site::new).read(inputFile, rows);
+    else
+      readTtmod_sites(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 import gov.sandia.gnem.dbtabledefs.nnsa_kb_core.Site;
 
 /**
@@ -375,7 +376,11 @@ public class Ttmodel extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "stalat":
         stalat = value;
@@ -420,7 +425,11 @@ public class Ttmodel extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "ttmodid":
         ttmodid = value;
@@ -634,6 +643,10 @@ public class Ttmodel extends BaseRow implements Serializable {
    */
   static public void readTtmodels(BufferedReader input, Collection<Ttmodel> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Ttmodel::new).read(input, rows);
+      return;
+    }
     String[] saved = Ttmodel.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -658,7 +671,10 @@ public class Ttmodel extends BaseRow implements Serializable {
    * @throws IOException
    */
   static public void readTtmodels(File inputFile, Collection<Ttmodel> rows) throws IOException {
-    readTtmodels(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Ttmodel::new).read(inputFile, rows);
+    else
+      readTtmodels(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**
@@ -57,6 +57,7 @@ import java.util.Scanner;
 import java.util.Set;
 import gov.sandia.gnem.dbtabledefs.BaseRow;
 import gov.sandia.gnem.dbtabledefs.Columns;
+import gov.sandia.gnem.dbtabledefs.RowParser;
 
 /**
  * wiggins_interp
@@ -199,7 +200,11 @@ public class Wiggins_interp extends BaseRow implements Serializable {
 
   @Override
   public void setDoubleField(String name, String input) throws IOException {
-    double value = getInputDouble(input, name, this.getClass().getName());
+    setDoubleField(name, getInputDouble(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setDoubleField(String name, double value) throws IOException {
     switch (name) {
       case "interpeps":
         interpeps = value;
@@ -228,7 +233,11 @@ public class Wiggins_interp extends BaseRow implements Serializable {
 
   @Override
   public void setLongField(String name, String input) throws IOException {
-    long value = getInputLong(input, name, this.getClass().getName());
+    setLongField(name, getInputLong(input, name, this.getClass().getName()));
+  }
+
+  @Override
+  public void setLongField(String name, long value) throws IOException {
     switch (name) {
       case "wigintid":
         wigintid = value;
@@ -392,6 +401,10 @@ public class Wiggins_interp extends BaseRow implements Serializable {
    */
   static public void readWiggins_interps(BufferedReader input, Collection<Wiggins_interp> rows)
       throws IOException {
+    if (RowParser.isSupported()) {
+      new RowParser<>(columns, inputColumnNames, Wiggins_interp::new).read(input, rows);
+      return;
+    }
     String[] saved = Wiggins_interp.getInputColumnNames();
     String line;
     int linesRead = 0;
@@ -418,7 +431,10 @@ public class Wiggins_interp extends BaseRow implements Serializable {
    */
   static public void readWiggins_interps(File inputFile, Collection<Wiggins_interp> rows)
       throws IOException {
-    readWiggins_interps(new BufferedReader(new FileReader(inputFile)), rows);
+    if (RowParser.isSupported())
+      new RowParser<>(columns, inputColumnNames, Wiggins_interp::new).read(inputFile, rows);
+    else
+      readWiggins_interps(new BufferedReader(new FileReader(inputFile)), rows);
   }
 
   /**